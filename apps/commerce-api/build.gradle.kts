@@ -2,6 +2,7 @@ dependencies {
     // add-ons
     implementation(project(":modules:jpa"))
     implementation(project(":modules:redis"))
+    implementation(project(":modules:kafka"))
     implementation(project(":supports:jackson"))
     implementation(project(":supports:logging"))
     implementation(project(":supports:monitoring"))
@@ -12,6 +13,15 @@ dependencies {
     implementation("org.springdoc:springdoc-openapi-starter-webmvc-ui:${project.properties["springDocOpenApiVersion"]}")
 
 
+    // cache
+    implementation("com.github.ben-manes.caffeine:caffeine")
+    implementation("com.fasterxml.jackson.dataformat:jackson-dataformat-smile")
+    implementation("org.lz4:lz4-java:${project.properties["lz4Version"]}")
+
+    // search
+    implementation("org.apache.lucene:lucene-core:${project.properties["luceneVersion"]}")
+    implementation("org.apache.lucene:lucene-analysis-common:${project.properties["luceneVersion"]}")
+
     // faker
     implementation("net.datafaker:datafaker:2.0.2")
 
@@ -23,4 +33,5 @@ dependencies {
     // test-fixtures
     testImplementation(testFixtures(project(":modules:jpa")))
     testImplementation(testFixtures(project(":modules:redis")))
+    testImplementation(testFixtures(project(":modules:kafka")))
 }
@@ -0,0 +1,34 @@
+package com.loopers.application.like;
+
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import com.loopers.domain.like.LikeChangedEvent;
+import com.loopers.domain.like.LikedProductService;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 좋아요 변경을 사용자 좋아요 상품 집합에 반영하는 리스너
+ *
+ * 커밋된 좋아요 변경만 반영하기 위해 트랜잭션 커밋 이후에 실행됩니다.
+ *
+ * @author hyunjikoh
+ * @since 2025. 12. 8.
+ */
+@Component
+@RequiredArgsConstructor
+public class LikedProductSetEventListener {
+
+    private final LikedProductService likedProductService;
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onLikeChanged(LikeChangedEvent event) {
+        if (event.isLiked()) {
+            likedProductService.add(event.userId(), event.productId());
+        } else {
+            likedProductService.remove(event.userId(), event.productId());
+        }
+    }
+}
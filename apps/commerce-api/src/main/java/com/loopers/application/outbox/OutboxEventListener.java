@@ -0,0 +1,61 @@
+package com.loopers.application.outbox;
+
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import com.loopers.domain.like.LikeChangedEvent;
+import com.loopers.domain.order.OrderChangedEvent;
+import com.loopers.domain.outbox.OutboxEventService;
+import com.loopers.domain.point.PointChangedEvent;
+import com.loopers.domain.product.ProductChangedEvent;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 도메인 이벤트를 아웃박스에 기록하는 리스너
+ *
+ * 커밋 직전(BEFORE_COMMIT)에 도메인 변경과 같은 트랜잭션으로 기록하므로,
+ * 롤백된 변경의 이벤트는 남지 않고 커밋된 변경의 이벤트는 유실되지 않습니다.
+ * 기록에 실패하면 도메인 변경도 함께 롤백됩니다.
+ *
+ * 토픽은 집계별로 나누고, 집계 ID를 메시지 키로 사용합니다.
+ *
+ * @author hyunjikoh
+ * @since 2025. 12. 10.
+ */
+@Component
+@RequiredArgsConstructor
+public class OutboxEventListener {
+
+    public static final String ORDER_TOPIC = "order-events-v1";
+    public static final String LIKE_TOPIC = "like-events-v1";
+    public static final String POINT_TOPIC = "point-events-v1";
+    public static final String STOCK_TOPIC = "stock-events-v1";
+
+    private final OutboxEventService outboxEventService;
+
+    @TransactionalEventListener(phase = TransactionPhase.BEFORE_COMMIT)
+    public void onOrderChanged(OrderChangedEvent event) {
+        outboxEventService.append("order", event.orderId(),
+                "ORDER_" + event.status().name(), ORDER_TOPIC, event);
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.BEFORE_COMMIT)
+    public void onLikeChanged(LikeChangedEvent event) {
+        outboxEventService.append("product", event.productId(),
+                event.isLiked() ? "PRODUCT_LIKED" : "PRODUCT_UNLIKED", LIKE_TOPIC, event);
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.BEFORE_COMMIT)
+    public void onPointChanged(PointChangedEvent event) {
+        outboxEventService.append("user", event.userId(),
+                "POINT_" + event.transactionType().name(), POINT_TOPIC, event);
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.BEFORE_COMMIT)
+    public void onProductChanged(ProductChangedEvent event) {
+        outboxEventService.append("product", event.productId(),
+                "PRODUCT_STOCK_CHANGED", STOCK_TOPIC, event);
+    }
+}
@@ -3,6 +3,7 @@ package com.loopers.application.point;
 import org.springframework.stereotype.Component;
 import org.springframework.transaction.annotation.Transactional;
 
+import com.loopers.config.jpa.ReplicaRoutingContext;
 import com.loopers.domain.point.PointService;
 import com.loopers.domain.user.UserEntity;
 import com.loopers.domain.user.UserService;
@@ -23,15 +24,20 @@ public class PointFacade {
     private final PointService pointService;
     private final UserService userService;
 
+    /**
+     * 충전 직후 잔액을 확인하는 흐름이므로 replica 지연과 무관하게 main 에서 읽는다.
+     */
     @Transactional(readOnly = true)
     public PointV1Dtos.PointInfo getPointInfo(String username) {
-        UserEntity user = userService.getUserByUsername(username);
-
-        // 포인트 정보가 없는 경우를 사용자 없는 정보로 간주.
-        if (user == null) {
-            throw new CoreException(ErrorType.NOT_FOUND_USER);
-        }
-        return PointV1Dtos.PointInfo.from(user);
+        return ReplicaRoutingContext.readFromPrimary(() -> {
+            UserEntity user = userService.getUserByUsername(username);
+
+            // 포인트 정보가 없는 경우를 사용자 없는 정보로 간주.
+            if (user == null) {
+                throw new CoreException(ErrorType.NOT_FOUND_USER);
+            }
+            return PointV1Dtos.PointInfo.from(user);
+        });
     }
 
     @Transactional
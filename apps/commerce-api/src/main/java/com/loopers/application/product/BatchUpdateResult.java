@@ -2,6 +2,7 @@ package com.loopers.application.product;
 
 import java.util.Collections;
 import java.util.HashSet;
+import java.util.Map;
 import java.util.Set;
 
 import lombok.Getter;
@@ -22,9 +23,12 @@ public class BatchUpdateResult {
     // 변경된 상품 ID 목록 (생성 또는 갱신된 상품)
     private final Set<Long> changedProductIds;
 
-    // 변경된 상품들이 속한 브랜드 ID 목록
+    // 목록이 바뀐 브랜드 ID 목록 (신규 생성, 목록에 보이는 값이 바뀐 상품, 랭킹이 꺼진 경우 좋아요 수가 바뀐 상품의 이전/현재 브랜드)
     private final Set<Long> affectedBrandIds;
 
+    // 브랜드별 신규 생성 건수 (목록 전체 개수 캐시 증분 반영용)
+    private final Map<Long, Long> createdCountByBrand;
+
     private BatchUpdateResult(
             boolean success,
             int createdCount,
@@ -32,7 +36,8 @@ public class BatchUpdateResult {
             long durationMs,
             String errorMessage,
             Set<Long> changedProductIds,
-            Set<Long> affectedBrandIds
+            Set<Long> affectedBrandIds,
+            Map<Long, Long> createdCountByBrand
     ) {
         this.success = success;
         this.createdCount = createdCount;
@@ -45,6 +50,9 @@ public class BatchUpdateResult {
         this.affectedBrandIds = affectedBrandIds != null
                 ? Set.copyOf(affectedBrandIds)
                 : Collections.emptySet();
+        this.createdCountByBrand = createdCountByBrand != null
+                ? Map.copyOf(createdCountByBrand)
+                : Collections.emptyMap();
     }
 
     /**
@@ -55,7 +63,8 @@ public class BatchUpdateResult {
             int updatedCount,
             long durationMs,
             Set<Long> changedProductIds,
-            Set<Long> affectedBrandIds
+            Set<Long> affectedBrandIds,
+            Map<Long, Long> createdCountByBrand
     ) {
         return new BatchUpdateResult(
                 true,
@@ -64,10 +73,24 @@ public class BatchUpdateResult {
                 durationMs,
                 null,
                 changedProductIds,
-                affectedBrandIds
+                affectedBrandIds,
+                createdCountByBrand
         );
     }
 
+    /**
+     * 성공 결과 생성 (브랜드별 생성 건수 없음)
+     */
+    public static BatchUpdateResult success(
+            int createdCount,
+            int updatedCount,
+            long durationMs,
+            Set<Long> changedProductIds,
+            Set<Long> affectedBrandIds
+    ) {
+        return success(createdCount, updatedCount, durationMs, changedProductIds, affectedBrandIds, Collections.emptyMap());
+    }
+
     /**
      * 성공 결과 생성 (변경 추적 없음)
      */
@@ -86,7 +109,8 @@ public class BatchUpdateResult {
                 durationMs,
                 errorMessage,
                 Collections.emptySet(),
-                Collections.emptySet()
+                Collections.emptySet(),
+                Collections.emptyMap()
         );
     }
 
@@ -1,5 +1,7 @@
 package com.loopers.application.product;
 
+import java.time.ZonedDateTime;
+
 import com.loopers.application.brand.BrandInfo;
 import com.loopers.domain.brand.BrandEntity;
 import com.loopers.domain.product.ProductEntity;
@@ -10,6 +12,10 @@ import com.loopers.domain.product.ProductMaterializedViewEntity;
  *
  * MV 테이블 우선 사용 (성능 최적화)
  * isLiked: 비로그인 false, 로그인 사용자의 좋아요 여부
+ *
+ * 캐시에는 사용자와 무관한 형태(isLiked = null)로만 저장하고,
+ * 사용자별 좋아요 여부는 응답 시점에 fromWithSyncLike로 합성합니다.
+ * lastUpdatedAt: MV 최종 갱신 시각 (HTTP ETag 생성용, 응답 본문에는 포함하지 않음)
  */
 public record ProductDetailInfo(
         Long id,
@@ -19,9 +25,17 @@ public record ProductDetailInfo(
         Integer stockQuantity,
         ProductPriceInfo price,
         BrandInfo brand,
+        ZonedDateTime lastUpdatedAt,
         Boolean isLiked  // 사용자 좋아요 여부
 ) {
 
+    /**
+     * MV 엔티티로 사용자 무관 상세 생성 (캐시 저장용)
+     */
+    public static ProductDetailInfo from(ProductMaterializedViewEntity mv) {
+        return from(mv, null);
+    }
+
     /**
      * MV 엔티티와 좋아요 여부로 생성 (권장)
      */
@@ -44,6 +58,7 @@ public record ProductDetailInfo(
                         mv.getBrandId(),
                         mv.getBrandName()
                 ),
+                mv.getLastUpdatedAt(),
                 isLiked
         );
     }
@@ -74,6 +89,7 @@ public record ProductDetailInfo(
                         brand.getId(),
                         brand.getName()
                 ),
+                product.getUpdatedAt(),
                 isLiked
         );
     }
@@ -87,7 +103,15 @@ public record ProductDetailInfo(
                 productDetailInfo.stockQuantity(),
                 productDetailInfo.price(),
                 productDetailInfo.brand(),
+                productDetailInfo.lastUpdatedAt(),
                 isLiked
         );
     }
+
+    /**
+     * 사용자별 상태(isLiked)를 제거한 공유 캐시용 상세를 반환합니다.
+     */
+    public ProductDetailInfo withoutUserState() {
+        return isLiked == null ? this : fromWithSyncLike(this, null);
+    }
 }
@@ -1,16 +1,25 @@
 package com.loopers.application.product;
 
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
 
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Slice;
 import org.springframework.stereotype.Component;
 import org.springframework.transaction.annotation.Transactional;
 
-import com.loopers.domain.like.LikeService;
+import com.loopers.domain.like.LikedProductService;
 import com.loopers.domain.product.*;
+import com.loopers.domain.product.dto.CursorPage;
 import com.loopers.domain.product.dto.ProductSearchFilter;
 import com.loopers.domain.user.UserService;
+import com.loopers.infrastructure.cache.CacheKeyGenerator;
+import com.loopers.infrastructure.cache.CacheLoadCoordinator;
 import com.loopers.infrastructure.cache.CacheStrategy;
+import com.loopers.support.concurrent.FanOutExecutor;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -29,64 +38,150 @@ public class ProductFacade {
     private final ProductService productService;
     private final ProductMVService mvService;
     private final ProductCacheService productCacheService;
-    private final LikeService likeService;
+    private final ProductLikeRankingService rankingService;
+    private final LikedProductService likedProductService;
     private final UserService userService;
+    private final CacheLoadCoordinator cacheLoadCoordinator;
+    private final CacheKeyGenerator cacheKeyGenerator;
+    private final FanOutExecutor fanOutExecutor;
 
     /**
-     * 도메인 서비스에서 MV 엔티티를 조회하고, Facade에서 DTO로 변환합니다.
+     * 캐시 전략을 결정하고 상품 목록을 조회합니다.
      *
      * @param productSearchFilter 검색 조건
      * @return 상품 목록
      */
     @Transactional(readOnly = true)
     public Page<ProductInfo> getProducts(ProductSearchFilter productSearchFilter) {
-        // 1. 캐시 전략 결정
-        CacheStrategy strategy = productCacheService.determineCacheStrategy(productSearchFilter);
+        // 1. 캐시 전략 결정 (요청 빈도 기록 포함)
+        CacheStrategy strategy = productCacheService.resolveCacheStrategy(productSearchFilter);
 
-        // 2. 도메인 서비스에서 MV 엔티티 조회
-        Page<ProductMaterializedViewEntity> mvEntities =
-                mvService.getMVEntitiesByStrategy(productSearchFilter, strategy);
+        // 2. 캐시 전략에 따라 목록 조회 (Hot/Warm 히트 시 캐시된 목록 행 사용)
+        return mvService.getProductsByStrategy(productSearchFilter, strategy);
+    }
+
+    /**
+     * 상품 목록을 Slice로 조회합니다. (무한 스크롤용, 전체 개수 없음)
+     * <p>
+     * Hot/Warm은 기존 캐시 경로를 그대로 사용하고(캐시된 전체 개수로 다음 페이지 판단),
+     * Cold는 페이지 크기 + 1건 조회 한 번으로 응답합니다.
+     *
+     * @param productSearchFilter 검색 조건
+     * @return 상품 목록 Slice
+     */
+    @Transactional(readOnly = true)
+    public Slice<ProductInfo> getProductSlice(ProductSearchFilter productSearchFilter) {
+        CacheStrategy strategy = productCacheService.resolveCacheStrategy(productSearchFilter);
+
+        if (strategy == CacheStrategy.COLD) {
+            return mvService.findSliceBySearchFilter(productSearchFilter);
+        }
+        return mvService.getProductsByStrategy(productSearchFilter, strategy);
+    }
+
+    /**
+     * 커서 기반으로 상품 목록을 조회합니다.
+     * 깊은 페이지 탐색용이며 캐시 전략을 거치지 않고 MV 인덱스를 직접 탐색합니다.
+     *
+     * @param productSearchFilter 검색 조건
+     * @param cursor              이전 응답의 다음 커서 (첫 페이지는 null)
+     * @param size                페이지 크기
+     * @return 커서 기반 상품 목록
+     */
+    @Transactional(readOnly = true)
+    public CursorPage<ProductInfo> getProductsByCursor(ProductSearchFilter productSearchFilter, String cursor, int size) {
+        return mvService.findByCursor(productSearchFilter, cursor, size);
+    }
+
+    /**
+     * 목록 조회에 적용되는 캐시 전략을 반환합니다. (HTTP 캐시 헤더 결정용)
+     */
+    public CacheStrategy getCacheStrategy(ProductSearchFilter productSearchFilter) {
+        return productCacheService.determineCacheStrategy(productSearchFilter);
+    }
 
-        // 4. DTO 변환
-        return mvEntities.map(ProductInfo::from);
+    /**
+     * 목록 조회를 거치지 않고 응답한 요청(렌더링 응답 캐시 히트)을 요청 빈도에 기록합니다.
+     */
+    public void recordListAccess(ProductSearchFilter productSearchFilter) {
+        productCacheService.resolveCacheStrategy(productSearchFilter);
+    }
+
+    /**
+     * 목록의 현재 세대 번호를 반환합니다. (HTTP ETag 생성용)
+     *
+     * @param brandId 브랜드 ID (null이면 전체 목록)
+     */
+    public long getListGeneration(Long brandId) {
+        return productCacheService.getListGeneration(brandId);
     }
 
     /**
      * 도메인 서비스에서 엔티티를 조회하고, Facade에서 DTO로 변환합니다.
+     * <p>
+     * 상품 상세는 사용자와 무관한 공유 캐시 항목을 사용하고, 사용자 좋아요 여부는 응답 시점에 합성합니다.
+     * 비로그인 요청은 사용자/좋아요 조회 없이 캐시(또는 MV)만 조회합니다.
+     * 로그인 요청은 상품 상세(캐시 → 미스 시 MV)와 좋아요 여부가 서로 독립적이므로 병렬로 조회합니다.
+     * 각 조회는 가상 스레드에서 자체 트랜잭션으로 실행되므로 이 메서드는 트랜잭션을 열지 않습니다.
      *
      * @param productId 상품 ID
      * @param username  사용자명 (nullable)
      * @return 상품 상세 정보
      */
-    @Transactional(readOnly = true)
     public ProductDetailInfo getProductDetail(Long productId, String username) {
-        // 1. 캐시 조회
-        Optional<ProductDetailInfo> cachedDetail = productCacheService.getProductDetailFromCache(productId);
+        if (username == null) {
+            return ProductDetailInfo.fromWithSyncLike(loadProductDetail(productId), false);
+        }
 
-        Boolean isLiked = username != null
-                ? likeService.findLike(userService.getUserByUsername(username).getId(), productId)
-                .map(like -> like.getDeletedAt() == null)
-                .orElse(false)
-                : false;
+        FanOutExecutor.Scope scope = fanOutExecutor.scope();
 
-        // 캐시 히트 시 사용자 좋아요 상태 동기화 후 반환
+        // 1. 상품 상세와 사용자 좋아요 여부 병렬 조회
+        CompletableFuture<ProductDetailInfo> productDetail = scope.fork(() -> loadProductDetail(productId));
+        CompletableFuture<Boolean> isLiked = scope.fork(() -> isLikedBy(username, productId));
+
+        // 2. 공유 상세에 사용자 좋아요 상태 합성
+        return ProductDetailInfo.fromWithSyncLike(scope.join(productDetail), scope.join(isLiked));
+    }
+
+    private ProductDetailInfo loadProductDetail(Long productId) {
+        Optional<ProductDetailInfo> cachedDetail = productCacheService.getProductDetailFromCache(productId);
         if (cachedDetail.isPresent()) {
             log.debug("상품 상세 캐시 히트 - productId: {}", productId);
-            return ProductDetailInfo.fromWithSyncLike(cachedDetail.get(), isLiked);
+            return cachedDetail.get();
         }
 
         log.debug("상품 상세 캐시 미스 - productId: {}", productId);
 
-        // 2. MV 엔티티 조회
-        ProductMaterializedViewEntity productMaterializedViewEntity = mvService.getById(productId);
-
-        ProductDetailInfo productDetail = ProductDetailInfo.from(productMaterializedViewEntity, isLiked);
+        // MV 조회 및 캐시 저장 (동시 미스는 키당 한 번만 조회, 사용자 상태 없이 저장)
+        return cacheLoadCoordinator.load(
+                cacheKeyGenerator.generateProductDetailKey(productId),
+                () -> productCacheService.getProductDetailFromCache(productId),
+                () -> {
+                    long startTime = System.nanoTime();
+                    ProductDetailInfo loaded = ProductDetailInfo.from(mvService.getById(productId));
+                    productCacheService.cacheProductDetail(productId, loaded, Duration.ofNanos(System.nanoTime() - startTime));
+                    return loaded;
+                }
+        );
+    }
 
-        // 3. 캐시 저장
-        productCacheService.cacheProductDetail(productId, productDetail);
+    private boolean isLikedBy(String username, Long productId) {
+        return getLikedStatus(username, List.of(productId)).getOrDefault(productId, false);
+    }
 
-        // 5. 사용자 좋아요 상태 적용
-        return productDetail;
+    /**
+     * 사용자의 상품별 좋아요 여부를 한 번에 조회합니다. (목록 응답용)
+     *
+     * @param username   사용자명 (nullable)
+     * @param productIds 상품 ID 목록
+     * @return 상품 ID → 좋아요 여부 (비로그인 시 빈 Map)
+     */
+    public Map<Long, Boolean> getLikedStatus(String username, List<Long> productIds) {
+        if (username == null || productIds.isEmpty()) {
+            return Map.of();
+        }
+        Long userId = userService.getUserByUsername(username).getId();
+        return likedProductService.isLiked(userId, productIds);
     }
 
     /**
@@ -104,6 +199,9 @@ public class ProductFacade {
 
         // 2. MV 동기화
         mvService.deleteById(productId);
+        productCacheService.adjustTotalCounts(Map.of(product.getBrandId(), -1L));
+        rankingService.remove(productId, product.getBrandId());
+        productCacheService.evictListCaches(product.getBrandId());
 
         // 3. 캐시 무효화
         productCacheService.getProductDetailFromCache(productId)
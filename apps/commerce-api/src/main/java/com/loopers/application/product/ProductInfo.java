@@ -4,11 +4,13 @@ import java.time.ZonedDateTime;
 
 import com.loopers.domain.product.ProductEntity;
 import com.loopers.domain.product.ProductMaterializedViewEntity;
+import com.loopers.domain.product.dto.ProductListRow;
 
 /**
  * 상품 목록 정보 DTO
  *
  * MV 테이블 우선 사용 (성능 최적화)
+ * 목록에 표시하는 필드만 포함합니다. (재고 등 상세 필드는 ProductDetailInfo)
  */
 public record ProductInfo(
         Long id,
@@ -41,6 +43,31 @@ public record ProductInfo(
         );
     }
 
+    /**
+     * 목록 행 프로젝션으로 생성 (목록 조회)
+     */
+    public static ProductInfo from(ProductListRow row) {
+        return new ProductInfo(
+                row.productId(),
+                row.name(),
+                row.description(),
+                row.likeCount(),
+                new ProductPriceInfo(row.originPrice(), row.discountPrice()),
+                row.brandId(),
+                row.createdAt()
+        );
+    }
+
+    /**
+     * 좋아요 수만 교체한 사본을 반환합니다. (랭킹의 실시간 좋아요 수 반영용)
+     */
+    public ProductInfo withLikeCount(Long likeCount) {
+        if (likeCount == null) {
+            return this;
+        }
+        return new ProductInfo(id, name, description, likeCount, price, brandId, createdAt);
+    }
+
     /**
      * ProductEntity + 좋아요수로 생성 (레거시, MV 사용 권장)
      */
@@ -0,0 +1,30 @@
+package com.loopers.application.product;
+
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import com.loopers.domain.like.LikeChangedEvent;
+import com.loopers.domain.product.ProductLikeRankingService;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 좋아요 변경을 좋아요 수 랭킹에 반영하는 리스너
+ *
+ * 커밋된 좋아요 변경만 반영하기 위해 트랜잭션 커밋 이후에 실행됩니다.
+ *
+ * @author hyunjikoh
+ * @since 2025. 12. 4.
+ */
+@Component
+@RequiredArgsConstructor
+public class ProductLikeRankingEventListener {
+
+    private final ProductLikeRankingService rankingService;
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onLikeChanged(LikeChangedEvent event) {
+        rankingService.increment(event.productId(), event.brandId(), event.delta());
+    }
+}
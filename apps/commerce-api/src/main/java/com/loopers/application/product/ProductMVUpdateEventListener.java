@@ -0,0 +1,131 @@
+package com.loopers.application.product;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import com.loopers.domain.like.LikeChangedEvent;
+import com.loopers.domain.product.ProductChangedEvent;
+import com.loopers.domain.product.ProductMVService;
+import com.loopers.infrastructure.product.ProductMVSyncProperties;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 상품/좋아요 변경을 MV에 증분 반영하는 리스너
+ *
+ * 커밋된 변경의 상품 ID만 모아 두었다가 flushInterval마다 해당 상품의 MV만 PK 조회로 동기화합니다.
+ * 같은 상품의 연속 변경(인기 상품 좋아요 폭주 등)은 한 번의 갱신으로 합쳐집니다.
+ * 반영에 실패한 상품은 다음 주기에 다시 시도하며, 인스턴스 종료로 유실된 변경은 대조 동기화 배치가 보정합니다.
+ *
+ * 좋아요 수를 commerce-streamer가 관리하면(like-count-from-stream: true) 좋아요 변경으로는 MV를 갱신하지 않고,
+ * 스트리머가 반영할 시간을 한 주기 더 준 뒤 해당 상품의 검색 색인과 상세/행 캐시만 다시 맞춥니다.
+ *
+ * @author hyunjikoh
+ * @since 2025. 12. 10.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class ProductMVUpdateEventListener {
+
+    private final ProductMVService mvService;
+    private final ProductMVSyncProperties properties;
+    private final Set<Long> pendingProductIds = ConcurrentHashMap.newKeySet();
+    private final Set<Long> likeChangedProductIds = ConcurrentHashMap.newKeySet();
+    private List<Long> likeRefreshDue = List.of();
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onProductChanged(ProductChangedEvent event) {
+        enqueue(pendingProductIds, event.productId());
+    }
+
+    /**
+     * 좋아요 수를 commerce-streamer가 관리하면 좋아요 변경으로는 MV를 갱신하지 않고, 캐시/색인 재반영 대상으로만 모읍니다.
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onLikeChanged(LikeChangedEvent event) {
+        if (properties.likeCountFromStream()) {
+            enqueue(likeChangedProductIds, event.productId());
+        } else {
+            enqueue(pendingProductIds, event.productId());
+        }
+    }
+
+    /**
+     * 모아 둔 변경 상품의 MV를 갱신합니다.
+     */
+    @Scheduled(fixedDelayString = "${product-mv-sync.flush-interval:1s}")
+    public void flush() {
+        refreshLikeChanged();
+
+        if (pendingProductIds.isEmpty()) {
+            return;
+        }
+
+        List<Long> productIds = drain(pendingProductIds, properties.maxBatchSize());
+        BatchUpdateResult result = mvService.syncProducts(productIds);
+
+        if (!result.isSuccess()) {
+            pendingProductIds.addAll(productIds);
+            log.warn("MV 증분 갱신 실패, 다음 주기에 재시도 - 상품: {}개, error: {}",
+                    productIds.size(), result.getErrorMessage());
+            return;
+        }
+
+        try {
+            mvService.refreshAfterSync(result, true);
+        } catch (Exception e) {
+            log.warn("MV 증분 갱신 후 캐시/색인 반영 실패 - error: {}", e.getMessage());
+        }
+
+        log.debug("MV 증분 갱신 - 요청: {}개, 생성: {}건, 갱신: {}건, 소요: {}ms",
+                productIds.size(), result.getCreatedCount(), result.getUpdatedCount(), result.getDurationMs());
+    }
+
+    /**
+     * 지난 주기에 모은 좋아요 변경 상품의 검색 색인과 상세/행 캐시를 다시 맞추고, 이번 주기에 모은 상품은 다음 주기로 넘깁니다.
+     * 스트리머 반영 전에 무효화하면 이전 좋아요 수가 다시 캐시되므로 한 주기 늦춰 반영합니다.
+     */
+    private void refreshLikeChanged() {
+        List<Long> due = likeRefreshDue;
+        likeRefreshDue = drain(likeChangedProductIds, properties.maxBatchSize());
+        if (due.isEmpty()) {
+            return;
+        }
+
+        try {
+            mvService.refreshAfterLikeCountChanges(due);
+        } catch (Exception e) {
+            log.warn("좋아요 변경 상품 캐시/색인 반영 실패 - 상품: {}개, error: {}", due.size(), e.getMessage());
+        }
+    }
+
+    int pendingCount() {
+        return pendingProductIds.size();
+    }
+
+    private void enqueue(Set<Long> target, Long productId) {
+        if (properties.eventEnabled() && productId != null) {
+            target.add(productId);
+        }
+    }
+
+    private List<Long> drain(Set<Long> source, int limit) {
+        List<Long> drained = new ArrayList<>(Math.min(limit, source.size()));
+        Iterator<Long> iterator = source.iterator();
+        while (iterator.hasNext() && drained.size() < limit) {
+            drained.add(iterator.next());
+            iterator.remove();
+        }
+        return drained;
+    }
+}
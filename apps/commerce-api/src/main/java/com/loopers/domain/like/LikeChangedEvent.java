@@ -0,0 +1,34 @@
+package com.loopers.domain.like;
+
+/**
+ * 좋아요 변경 이벤트
+ *
+ * 좋아요 등록/복원(+1) 또는 취소(-1)로 상품의 좋아요 수가 실제로 바뀐 경우에만 발행됩니다.
+ * 트랜잭션 커밋 이후 랭킹, 사용자 좋아요 집합 등 파생 데이터 갱신에 사용됩니다.
+ *
+ * @param userId    사용자 ID
+ * @param productId 상품 ID
+ * @param brandId   브랜드 ID
+ * @param delta     좋아요 수 변화량 (+1 / -1)
+ * @author hyunjikoh
+ * @since 2025. 12. 4.
+ */
+public record LikeChangedEvent(
+        Long userId,
+        Long productId,
+        Long brandId,
+        long delta
+) {
+
+    public static LikeChangedEvent liked(Long userId, Long productId, Long brandId) {
+        return new LikeChangedEvent(userId, productId, brandId, 1L);
+    }
+
+    public static LikeChangedEvent unliked(Long userId, Long productId, Long brandId) {
+        return new LikeChangedEvent(userId, productId, brandId, -1L);
+    }
+
+    public boolean isLiked() {
+        return delta > 0;
+    }
+}
@@ -1,5 +1,6 @@
 package com.loopers.domain.like;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -25,4 +26,14 @@ public interface LikeRepository {
      * 배치 동기화 시 사용됩니다.
      */
     List<Long> findDistinctProductIds();
+
+    /**
+     * 사용자가 좋아요한(활성) 상품 ID를 모두 조회한다.
+     */
+    List<Long> findActiveProductIdsByUserId(Long userId);
+
+    /**
+     * 주어진 상품 중 사용자가 좋아요한(활성) 상품 ID를 조회한다.
+     */
+    List<Long> findActiveProductIdsByUserIdAndProductIdIn(Long userId, Collection<Long> productIds);
 }
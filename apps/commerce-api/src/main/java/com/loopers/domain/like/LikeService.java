@@ -2,6 +2,7 @@ package com.loopers.domain.like;
 
 import java.util.Optional;
 
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Component;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -15,6 +16,7 @@ import lombok.RequiredArgsConstructor;
  * 
  * 좋아요 도메인의 비즈니스 로직을 처리합니다.
  * 좋아요와 상품 간의 협력을 통해 좋아요 카운트를 관리합니다.
+ * 좋아요 수가 실제로 바뀐 경우 LikeChangedEvent를 발행합니다.
  *
  * @author hyunjikoh
  * @since 2025. 11. 11.
@@ -23,6 +25,7 @@ import lombok.RequiredArgsConstructor;
 @RequiredArgsConstructor
 public class LikeService {
     private final LikeRepository likeRepository;
+    private final ApplicationEventPublisher eventPublisher;
 
     /**
      * 사용자와 상품의 좋아요 관계를 조회합니다.
@@ -60,6 +63,7 @@ public class LikeService {
             // 삭제된 좋아요인 경우만 복원 및 카운트 증가
             if (like.getDeletedAt() != null) {
                 like.restore();
+                eventPublisher.publishEvent(LikeChangedEvent.liked(user.getId(), product.getId(), product.getBrandId()));
                 return new LikeResult(like, true); // 복원됨 - 통계 업데이트 필요
             }
             // 활성 좋아요인 경우: 카운트 변경 없음 (중복 방지)
@@ -68,6 +72,7 @@ public class LikeService {
 
         // 좋아요가 없는 경우 새로 생성
         LikeEntity newLike = likeRepository.save(LikeEntity.createEntity(user.getId(), product.getId()));
+        eventPublisher.publishEvent(LikeChangedEvent.liked(user.getId(), product.getId(), product.getBrandId()));
         return new LikeResult(newLike, true); // 새로 생성됨 - 통계 업데이트 필요
     }
 
@@ -97,6 +102,7 @@ public class LikeService {
         }
 
         like.delete();
+        eventPublisher.publishEvent(LikeChangedEvent.unliked(user.getId(), product.getId(), product.getBrandId()));
         return true; // 삭제됨 - 통계 업데이트 필요
     }
 
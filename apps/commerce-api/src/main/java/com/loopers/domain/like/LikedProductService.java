@@ -0,0 +1,220 @@
+package com.loopers.domain.like;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.springframework.data.redis.core.RedisOperations;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.SessionCallback;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Service;
+
+import com.loopers.config.jpa.ReplicaRoutingContext;
+import com.loopers.infrastructure.cache.CacheKeyGenerator;
+import com.loopers.infrastructure.cache.LikeCacheProperties;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 사용자 좋아요 상품 집합 서비스 (Redis SET)
+ *
+ * 사용자별로 좋아요한 상품 ID 집합을 유지하여, 상세/목록의 좋아요 여부를
+ * 상품 수와 무관하게 SMISMEMBER 한 번으로 조회합니다.
+ *
+ * - 좋아요/취소 커밋 후: SADD / SREM (TTL 연장)
+ * - 집합이 없거나 만료된 경우: 좋아요 테이블에서 재구성
+ *
+ * 집합에는 재구성 완료 표식(EMPTY_MARKER)을 함께 저장합니다.
+ * 좋아요한 상품이 없는 사용자도 키가 유지되고, 표식이 없으면(증분 갱신만 적용된 키) 재구성 대상입니다.
+ *
+ * 좋아요 취소는 버전 키를 올린 뒤 SREM 합니다. 재구성은 DB 조회 전에 읽은 버전이 그대로일 때만 반영하므로(Lua),
+ * 조회 이후 커밋된 취소가 재구성으로 되살아나지 않습니다.
+ *
+ * @author hyunjikoh
+ * @since 2025. 12. 8.
+ */
+@Service
+@Slf4j
+public class LikedProductService {
+
+    private static final String EMPTY_MARKER = "0"; // 상품 ID는 1부터 시작
+    private static final int REBUILD_SADD_BATCH_SIZE = 1000;
+
+    private static final RedisScript<Long> REBUILD_IF_UNCHANGED_SCRIPT = RedisScript.of("""
+            if (redis.call('GET', KEYS[2]) or '') ~= ARGV[1] then
+              return 0
+            end
+            for i = 3, #ARGV, %d do
+              redis.call('SADD', KEYS[1], unpack(ARGV, i, math.min(i + %d, #ARGV)))
+            end
+            redis.call('EXPIRE', KEYS[1], ARGV[2])
+            return 1
+            """.formatted(REBUILD_SADD_BATCH_SIZE, REBUILD_SADD_BATCH_SIZE - 1), Long.class);
+
+    private final RedisTemplate<String, String> redisTemplate;
+    private final CacheKeyGenerator cacheKeyGenerator;
+    private final LikeRepository likeRepository;
+    private final boolean enabled;
+    private final Duration ttl;
+
+    public LikedProductService(
+            RedisTemplate<String, String> redisTemplate,
+            CacheKeyGenerator cacheKeyGenerator,
+            LikeRepository likeRepository,
+            LikeCacheProperties properties
+    ) {
+        this.redisTemplate = redisTemplate;
+        this.cacheKeyGenerator = cacheKeyGenerator;
+        this.likeRepository = likeRepository;
+        this.enabled = properties.enabled();
+        this.ttl = properties.ttl();
+    }
+
+    /**
+     * 주어진 상품들에 대한 사용자의 좋아요 여부를 한 번에 조회합니다.
+     *
+     * @param userId     사용자 ID
+     * @param productIds 상품 ID 목록
+     * @return 상품 ID → 좋아요 여부 (요청 순서 유지)
+     */
+    public Map<Long, Boolean> isLiked(Long userId, Collection<Long> productIds) {
+        Map<Long, Boolean> result = new LinkedHashMap<>();
+        if (userId == null || productIds == null || productIds.isEmpty()) {
+            return result;
+        }
+
+        Set<Long> likedProductIds = findLikedProductIds(userId, productIds);
+        productIds.forEach(productId -> result.put(productId, likedProductIds.contains(productId)));
+        return result;
+    }
+
+    /**
+     * 좋아요를 집합에 반영합니다. (커밋 이후 호출)
+     */
+    public void add(Long userId, Long productId) {
+        if (!enabled) {
+            return;
+        }
+
+        String key = cacheKeyGenerator.generateUserLikedProductsKey(userId);
+        try {
+            redisTemplate.executePipelined(new SessionCallback<Object>() {
+                @Override
+                @SuppressWarnings("unchecked")
+                public <K, V> Object execute(RedisOperations<K, V> operations) {
+                    RedisOperations<String, String> stringOperations = (RedisOperations<String, String>) operations;
+                    stringOperations.opsForSet().add(key, String.valueOf(productId));
+                    stringOperations.expire(key, ttl);
+                    return null;
+                }
+            });
+        } catch (Exception e) {
+            // 반영에 실패하면 다음 조회에서 잘못된 값이 보일 수 있으므로 집합을 버리고 재구성
+            log.warn("좋아요 집합 추가 실패 - userId: {}, productId: {}, error: {}", userId, productId, e.getMessage());
+            evict(key);
+        }
+    }
+
+    /**
+     * 좋아요 취소를 집합에 반영합니다. (커밋 이후 호출)
+     */
+    public void remove(Long userId, Long productId) {
+        if (!enabled) {
+            return;
+        }
+
+        String key = cacheKeyGenerator.generateUserLikedProductsKey(userId);
+        String versionKey = cacheKeyGenerator.generateUserLikedProductsVersionKey(userId);
+        try {
+            // 진행 중인 재구성이 취소 전 DB 값을 반영하지 않도록 SREM 보다 먼저 버전을 올림
+            redisTemplate.executePipelined(new SessionCallback<Object>() {
+                @Override
+                @SuppressWarnings("unchecked")
+                public <K, V> Object execute(RedisOperations<K, V> operations) {
+                    RedisOperations<String, String> stringOperations = (RedisOperations<String, String>) operations;
+                    stringOperations.opsForValue().increment(versionKey);
+                    stringOperations.expire(versionKey, ttl);
+                    stringOperations.opsForSet().remove(key, String.valueOf(productId));
+                    return null;
+                }
+            });
+        } catch (Exception e) {
+            log.warn("좋아요 집합 삭제 실패 - userId: {}, productId: {}, error: {}", userId, productId, e.getMessage());
+            evict(key);
+        }
+    }
+
+    private Set<Long> findLikedProductIds(Long userId, Collection<Long> productIds) {
+        if (!enabled) {
+            return new HashSet<>(likeRepository.findActiveProductIdsByUserIdAndProductIdIn(userId, productIds));
+        }
+
+        String key = cacheKeyGenerator.generateUserLikedProductsKey(userId);
+        try {
+            List<Object> members = new ArrayList<>(productIds.size() + 1);
+            members.add(EMPTY_MARKER);
+            productIds.forEach(productId -> members.add(String.valueOf(productId)));
+
+            Map<Object, Boolean> memberships = redisTemplate.opsForSet().isMember(key, members.toArray());
+            if (memberships == null || !Boolean.TRUE.equals(memberships.get(EMPTY_MARKER))) {
+                Set<Long> rebuilt = rebuild(userId, key);
+                rebuilt.retainAll(productIds);
+                return rebuilt;
+            }
+
+            Set<Long> liked = new HashSet<>();
+            for (Long productId : productIds) {
+                if (Boolean.TRUE.equals(memberships.get(String.valueOf(productId)))) {
+                    liked.add(productId);
+                }
+            }
+            return liked;
+        } catch (Exception e) {
+            log.warn("좋아요 집합 조회 실패, DB 조회로 대체 - userId: {}, error: {}", userId, e.getMessage());
+            return new HashSet<>(likeRepository.findActiveProductIdsByUserIdAndProductIdIn(userId, productIds));
+        }
+    }
+
+    /**
+     * 좋아요 테이블에서 사용자의 좋아요 집합을 재구성합니다.
+     * 기존 키를 지우지 않고 합치므로, 재구성 중 반영된 증분 추가는 유지됩니다.
+     * <p>
+     * 조회 이후 좋아요 취소가 반영되었으면(버전 변경) 집합에 반영하지 않고, 다음 조회에서 다시 재구성합니다.
+     * 버전은 replica 에서 읽을 수 있으나, 지연된 값은 반영을 건너뛰게 할 뿐 취소를 되살리지는 않습니다.
+     * 방금 커밋된 좋아요/취소를 놓치지 않도록 DB는 main 에서 조회합니다.
+     */
+    private Set<Long> rebuild(Long userId, String key) {
+        String versionKey = cacheKeyGenerator.generateUserLikedProductsVersionKey(userId);
+        String version = redisTemplate.opsForValue().get(versionKey);
+        List<Long> likedProductIds = ReplicaRoutingContext.readFromPrimary(
+                () -> likeRepository.findActiveProductIdsByUserId(userId));
+
+        List<String> args = new ArrayList<>(likedProductIds.size() + 3);
+        args.add(version != null ? version : "");
+        args.add(String.valueOf(ttl.toSeconds()));
+        args.add(EMPTY_MARKER);
+        likedProductIds.forEach(productId -> args.add(String.valueOf(productId)));
+
+        Long applied = redisTemplate.execute(REBUILD_IF_UNCHANGED_SCRIPT, List.of(key, versionKey), args.toArray());
+        if (Long.valueOf(1L).equals(applied)) {
+            log.debug("좋아요 집합 재구성 - userId: {}, 상품: {}개", userId, likedProductIds.size());
+        } else {
+            log.debug("좋아요 집합 재구성 건너뜀 (조회 중 좋아요 취소 반영) - userId: {}", userId);
+        }
+        return new HashSet<>(likedProductIds);
+    }
+
+    private void evict(String key) {
+        try {
+            redisTemplate.delete(key);
+        } catch (Exception e) {
+            log.warn("좋아요 집합 삭제 실패 - key: {}, error: {}", key, e.getMessage());
+        }
+    }
+}
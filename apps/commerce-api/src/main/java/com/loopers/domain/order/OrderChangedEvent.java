@@ -0,0 +1,42 @@
+package com.loopers.domain.order;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+/**
+ * 주문 변경 이벤트
+ *
+ * 주문 생성(PENDING), 취소(CANCELLED) 시 발행됩니다.
+ * 같은 트랜잭션에서 아웃박스에 기록되어 커밋 후 Kafka로 전달됩니다.
+ *
+ * @param orderId          주문 ID
+ * @param userId           사용자 ID
+ * @param status           변경 후 주문 상태
+ * @param finalTotalAmount 최종 결제 금액
+ * @param items            주문 항목 (상품 ID, 수량)
+ * @author hyunjikoh
+ * @since 2025. 12. 10.
+ */
+public record OrderChangedEvent(
+        Long orderId,
+        Long userId,
+        OrderStatus status,
+        BigDecimal finalTotalAmount,
+        List<Item> items
+) {
+
+    public static OrderChangedEvent of(OrderEntity order, List<OrderItemEntity> orderItems) {
+        return new OrderChangedEvent(
+                order.getId(),
+                order.getUserId(),
+                order.getStatus(),
+                order.getFinalTotalAmount(),
+                orderItems.stream()
+                        .map(item -> new Item(item.getProductId(), item.getQuantity()))
+                        .toList()
+        );
+    }
+
+    public record Item(Long productId, Integer quantity) {
+    }
+}
@@ -5,6 +5,7 @@ import java.util.ArrayList;
 import java.util.Comparator;
 import java.util.List;
 
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Component;
@@ -27,6 +28,7 @@ import lombok.RequiredArgsConstructor;
  * 주문 도메인 서비스
  *
  * 주문과 주문 항목에 대한 핵심 비즈니스 로직을 처리합니다.
+ * 주문 생성/취소 시 OrderChangedEvent를 발행합니다.
  *
  * @author hyunjikoh
  * @since 2025. 11. 14.
@@ -39,6 +41,7 @@ public class OrderService {
     private final OrderRepository orderRepository;
     private final OrderItemRepository orderItemRepository;
     private final UserService userService;
+    private final ApplicationEventPublisher eventPublisher;
 
     /**
      * 주문을 생성합니다.
@@ -134,6 +137,7 @@ public class OrderService {
                 ))
                 .toList();
 
+        eventPublisher.publishEvent(OrderChangedEvent.of(order, orderItems));
         return new OrderCreationResult(order, orderItems);
     }
 
@@ -151,10 +155,13 @@ public class OrderService {
         order.cancelOrder();
 
         // 주문 항목 조회 및 정렬 (교착 상태 방지)
-        return getOrderItemsByOrderId(order.getId())
+        List<OrderItemEntity> orderItems = getOrderItemsByOrderId(order.getId())
                 .stream()
                 .sorted(Comparator.comparing(OrderItemEntity::getProductId))
                 .toList();
+
+        eventPublisher.publishEvent(OrderChangedEvent.of(order, orderItems));
+        return orderItems;
     }
 
     /**
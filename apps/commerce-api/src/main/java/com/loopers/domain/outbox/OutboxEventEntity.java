@@ -0,0 +1,139 @@
+package com.loopers.domain.outbox;
+
+import static java.util.Objects.requireNonNull;
+import java.time.ZonedDateTime;
+import java.util.UUID;
+
+import com.loopers.domain.BaseEntity;
+
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import jakarta.persistence.*;
+
+/**
+ * 트랜잭션 아웃박스 이벤트
+ *
+ * 도메인 변경과 같은 트랜잭션에서 기록되고, 릴레이가 커밋된 이벤트를 id 순서대로 Kafka에 발행합니다.
+ * 릴레이는 이벤트를 짧은 트랜잭션에서 IN_FLIGHT로 점유(relayOwner, leaseUntil)한 뒤 트랜잭션 밖에서 발행하고,
+ * 다른 짧은 트랜잭션에서 결과를 기록합니다.
+ * eventId는 소비자가 중복 수신(at-least-once)을 걸러내는 데 사용합니다.
+ *
+ * @author hyunjikoh
+ * @since 2025. 12. 10.
+ */
+@Entity
+@Table(name = "outbox_events",
+        uniqueConstraints = {
+                @UniqueConstraint(name = "uk_outbox_event_id", columnNames = {"event_id"})
+        },
+        indexes = {
+                @Index(name = "idx_outbox_status_id", columnList = "status, id")
+        })
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class OutboxEventEntity extends BaseEntity {
+
+    @Column(name = "event_id", nullable = false, length = 36)
+    private String eventId;
+
+    @Column(name = "aggregate_type", nullable = false, length = 50)
+    private String aggregateType;
+
+    @Column(name = "aggregate_id", nullable = false, length = 100)
+    private String aggregateId;
+
+    @Column(name = "event_type", nullable = false, length = 100)
+    private String eventType;
+
+    @Column(name = "topic", nullable = false, length = 200)
+    private String topic;
+
+    @Column(name = "payload", nullable = false, columnDefinition = "TEXT")
+    private String payload;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "status", nullable = false, length = 20)
+    private OutboxStatus status;
+
+    @Column(name = "attempt_count", nullable = false)
+    private int attemptCount;
+
+    @Column(name = "published_at")
+    private ZonedDateTime publishedAt;
+
+    @Column(name = "relay_owner", length = 36)
+    private String relayOwner;
+
+    @Column(name = "lease_until")
+    private ZonedDateTime leaseUntil;
+
+    private OutboxEventEntity(String aggregateType, String aggregateId, String eventType, String topic, String payload) {
+        requireNonNull(aggregateType, "집계 유형은 필수입니다.");
+        requireNonNull(aggregateId, "집계 ID는 필수입니다.");
+        requireNonNull(eventType, "이벤트 유형은 필수입니다.");
+        requireNonNull(topic, "토픽은 필수입니다.");
+        requireNonNull(payload, "페이로드는 필수입니다.");
+
+        this.eventId = UUID.randomUUID().toString();
+        this.aggregateType = aggregateType;
+        this.aggregateId = aggregateId;
+        this.eventType = eventType;
+        this.topic = topic;
+        this.payload = payload;
+        this.status = OutboxStatus.PENDING;
+        this.attemptCount = 0;
+    }
+
+    public static OutboxEventEntity create(String aggregateType, String aggregateId, String eventType,
+                                           String topic, String payload) {
+        return new OutboxEventEntity(aggregateType, aggregateId, eventType, topic, payload);
+    }
+
+    /**
+     * 릴레이가 발행하기 위해 이벤트를 점유합니다.
+     *
+     * @param relayOwner 점유한 릴레이 ID
+     * @param leaseUntil 점유 만료 시각 (이후에는 다른 릴레이가 다시 점유할 수 있음)
+     */
+    public void claim(String relayOwner, ZonedDateTime leaseUntil) {
+        this.status = OutboxStatus.IN_FLIGHT;
+        this.relayOwner = relayOwner;
+        this.leaseUntil = leaseUntil;
+    }
+
+    public boolean isClaimedBy(String relayOwner) {
+        return status == OutboxStatus.IN_FLIGHT && relayOwner.equals(this.relayOwner);
+    }
+
+    public void markPublished(ZonedDateTime publishedAt) {
+        this.status = OutboxStatus.PUBLISHED;
+        this.publishedAt = publishedAt;
+        this.attemptCount++;
+        releaseClaim();
+    }
+
+    /**
+     * 발행 실패(또는 보류)를 기록하고 다시 발행 대기로 되돌립니다.
+     */
+    public void recordFailure() {
+        this.status = OutboxStatus.PENDING;
+        this.attemptCount++;
+        releaseClaim();
+    }
+
+    public boolean hasExhaustedAttempts(int maxAttempts) {
+        return attemptCount >= maxAttempts;
+    }
+
+    public void markFailed() {
+        this.status = OutboxStatus.FAILED;
+        releaseClaim();
+    }
+
+    private void releaseClaim() {
+        this.relayOwner = null;
+        this.leaseUntil = null;
+    }
+}
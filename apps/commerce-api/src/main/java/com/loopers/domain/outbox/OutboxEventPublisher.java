@@ -0,0 +1,23 @@
+package com.loopers.domain.outbox;
+
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * 아웃박스 이벤트를 메시지 브로커로 발행하는 포트
+ *
+ * 실제 구현은 Infrastructure 계층(Kafka)에서 제공됩니다.
+ *
+ * @author hyunjikoh
+ * @since 2025. 12. 10.
+ */
+public interface OutboxEventPublisher {
+
+    /**
+     * 이벤트를 비동기로 발행합니다.
+     * 같은 토픽/집계 ID의 이벤트는 호출 순서대로 같은 파티션에 기록되어야 합니다.
+     *
+     * @param event 아웃박스 이벤트
+     * @return 브로커 확인 시 완료되는 Future
+     */
+    CompletableFuture<Void> publish(OutboxEventEntity event);
+}
@@ -0,0 +1,58 @@
+package com.loopers.domain.outbox;
+
+import java.time.ZonedDateTime;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * 아웃박스 이벤트 리포지토리
+ *
+ * @author hyunjikoh
+ * @since 2025. 12. 10.
+ */
+public interface OutboxEventRepository {
+
+    OutboxEventEntity save(OutboxEventEntity entity);
+
+    /**
+     * 점유할 이벤트(발행 대기 또는 점유가 만료된 이벤트)를 id 순서대로 조회하며 행 잠금을 겁니다. (NOWAIT)
+     *
+     * 다른 인스턴스의 릴레이가 같은 행을 점유 중이면 기다리지 않고 예외가 발생합니다.
+     * 잠금은 점유 트랜잭션(수 ms) 동안만 유지되며, 발행은 잠금 없이 진행됩니다.
+     *
+     * @param limit 최대 조회 수
+     * @param now   현재 시각 (점유 만료 판단 기준)
+     * @return 점유 대상 이벤트 (id 오름차순)
+     */
+    List<OutboxEventEntity> findRelayCandidates(int limit, ZonedDateTime now);
+
+    /**
+     * 점유가 유효한(임대 만료 전) 이벤트가 있는지 최신 커밋 기준으로 확인합니다.
+     * 릴레이를 한 번에 하나만 실행하여 집계별 발행 순서를 보장하기 위함입니다.
+     */
+    boolean existsActiveClaim(ZonedDateTime now);
+
+    /**
+     * 발행 결과를 기록할 이벤트를 잠금과 함께 다시 조회합니다.
+     *
+     * @param ids 이벤트 ID 목록
+     */
+    List<OutboxEventEntity> findByIdInForUpdate(List<Long> ids);
+
+    /**
+     * 발행 대기 이벤트 수 (발행 중 포함)
+     */
+    long countPending();
+
+    /**
+     * 가장 오래된 발행 대기 이벤트의 생성 시각 (발행 중 포함)
+     */
+    Optional<ZonedDateTime> findOldestPendingCreatedAt();
+
+    /**
+     * 기준 시각 이전에 발행된 이벤트를 삭제합니다.
+     *
+     * @return 삭제된 건수
+     */
+    long deletePublishedBefore(ZonedDateTime time);
+}
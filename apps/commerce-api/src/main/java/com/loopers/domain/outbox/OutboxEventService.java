@@ -0,0 +1,244 @@
+package com.loopers.domain.outbox;
+
+import java.time.Duration;
+import java.time.ZonedDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.loopers.support.error.CoreException;
+import com.loopers.support.error.ErrorType;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 트랜잭션 아웃박스 서비스
+ *
+ * - append: 도메인 변경 트랜잭션 안에서 이벤트를 기록합니다. (트랜잭션 필수)
+ * - relay: 발행 대기 이벤트를 id 순서대로 발행하고, 브로커가 확인한 이벤트만 발행 완료로 표시합니다.
+ *
+ * 릴레이는 트랜잭션을 둘로 나눕니다.
+ * 1. 점유: 대상 행을 잠그고 IN_FLIGHT(relayOwner, leaseUntil)로 바꾼 뒤 바로 커밋
+ * 2. 발행: 트랜잭션 없이 Kafka 발행 후 확인(ack)을 기다림
+ * 3. 기록: 아직 자신이 점유한 행만 다시 잠가 PUBLISHED/실패를 기록하고 바로 커밋
+ * 브로커 확인을 기다리는 동안 잠금을 쥐지 않으므로, 새 아웃박스 행을 기록하는 도메인 트랜잭션이
+ * 릴레이의 next-key 잠금에 막히지 않습니다.
+ * 유효한 점유가 남아 있으면 다른 인스턴스는 점유하지 않으므로 릴레이는 한 번에 하나만 실행됩니다.
+ * 점유한 인스턴스가 죽으면 임대(sendTimeout의 3배)가 만료된 뒤 다른 릴레이가 다시 점유합니다.
+ *
+ * 같은 토픽/집계 ID의 이벤트 중 하나가 실패하면, 같은 배치의 이후 이벤트는 발행되었더라도 완료로 표시하지 않습니다.
+ * 다음 릴레이에서 실패한 이벤트부터 다시 발행하므로 소비자는 eventId로 중복을 걸러야 합니다. (at-least-once)
+ *
+ * 자신의 발행이 최대 시도 횟수만큼 실패한 이벤트는 FAILED로 옮겨 더 이상 발행하지 않습니다.
+ * 발행할 수 없는 이벤트 하나가 같은 집계의 이후 이벤트와 릴레이 배치를 계속 막지 않게 하기 위함이며,
+ * 이후 이벤트는 FAILED 이벤트를 건너뛰고 발행됩니다. (해당 집계의 순서는 FAILED 이벤트를 재처리할 때 확인 필요)
+ *
+ * @author hyunjikoh
+ * @since 2025. 12. 10.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class OutboxEventService {
+
+    // 점유 임대 = 브로커 확인 대기 시간 × 3 (기록 트랜잭션까지 끝낼 여유)
+    private static final int LEASE_MULTIPLIER = 3;
+
+    private final OutboxEventRepository outboxEventRepository;
+    private final OutboxEventPublisher outboxEventPublisher;
+    private final ObjectMapper objectMapper;
+    private final TransactionTemplate transactionTemplate;
+    private final String relayOwner = UUID.randomUUID().toString();
+
+    /**
+     * 현재 트랜잭션에 아웃박스 이벤트를 기록합니다.
+     *
+     * @param aggregateType 집계 유형 (order, like, point, product)
+     * @param aggregateId   집계 ID (파티션 키)
+     * @param eventType     이벤트 유형
+     * @param topic         발행 토픽
+     * @param payload       이벤트 본문 (JSON 직렬화)
+     * @return 기록된 이벤트
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public OutboxEventEntity append(String aggregateType, Object aggregateId, String eventType,
+                                   String topic, Object payload) {
+        return outboxEventRepository.save(OutboxEventEntity.create(
+                aggregateType, String.valueOf(aggregateId), eventType, topic, serialize(payload)));
+    }
+
+    /**
+     * 발행 대기 이벤트를 한 배치 발행합니다.
+     *
+     * 다른 인스턴스가 점유 중인 행을 잠그고 있으면 잠금 예외가 발생하고, 유효한 점유가 있으면 빈 결과를 반환합니다.
+     *
+     * @param batchSize   최대 발행 수
+     * @param sendTimeout 배치 전체의 브로커 확인 대기 시간
+     * @param maxAttempts 이벤트별 최대 발행 시도 횟수 (초과하면 FAILED)
+     * @return 릴레이 결과
+     */
+    public OutboxRelayResult relay(int batchSize, Duration sendTimeout, int maxAttempts) {
+        // 1. 짧은 트랜잭션에서 점유
+        List<OutboxEventEntity> events = transactionTemplate.execute(status -> claim(batchSize, sendTimeout));
+        if (events == null || events.isEmpty()) {
+            return OutboxRelayResult.empty();
+        }
+
+        // 2. 트랜잭션 밖에서 id 순서대로 발행 요청 (같은 키는 같은 파티션에 순서대로 기록됨) 후 확인 대기
+        List<CompletableFuture<Void>> futures = new ArrayList<>(events.size());
+        for (OutboxEventEntity event : events) {
+            futures.add(sendSafely(event));
+        }
+
+        long deadline = System.nanoTime() + sendTimeout.toNanos();
+        List<Boolean> acknowledged = new ArrayList<>(events.size());
+        for (int i = 0; i < events.size(); i++) {
+            acknowledged.add(await(futures.get(i), deadline, events.get(i)));
+        }
+
+        // 3. 짧은 트랜잭션에서 결과 기록
+        return transactionTemplate.execute(status -> complete(events, acknowledged, maxAttempts));
+    }
+
+    private List<OutboxEventEntity> claim(int batchSize, Duration sendTimeout) {
+        ZonedDateTime now = ZonedDateTime.now();
+        List<OutboxEventEntity> candidates = outboxEventRepository.findRelayCandidates(batchSize, now);
+        if (candidates.isEmpty() || outboxEventRepository.existsActiveClaim(now)) {
+            return List.of();
+        }
+
+        ZonedDateTime leaseUntil = now.plus(sendTimeout.multipliedBy(LEASE_MULTIPLIER));
+        candidates.forEach(event -> event.claim(relayOwner, leaseUntil));
+        return candidates;
+    }
+
+    /**
+     * 키별로 첫 실패 이전 이벤트만 발행 완료 처리합니다.
+     * 임대가 만료되어 다른 릴레이가 다시 점유한 이벤트는 건드리지 않습니다.
+     */
+    private OutboxRelayResult complete(List<OutboxEventEntity> events, List<Boolean> acknowledged,
+                                       int maxAttempts) {
+        Map<Long, OutboxEventEntity> claimed = new HashMap<>();
+        for (OutboxEventEntity event : outboxEventRepository.findByIdInForUpdate(
+                events.stream().map(OutboxEventEntity::getId).toList())) {
+            if (event.isClaimedBy(relayOwner)) {
+                claimed.put(event.getId(), event);
+            }
+        }
+
+        ZonedDateTime now = ZonedDateTime.now();
+        Set<String> failedKeys = new HashSet<>();
+        List<OutboxRelayResult.Published> published = new ArrayList<>();
+        int failed = 0;
+        int deadLettered = 0;
+
+        for (int i = 0; i < events.size(); i++) {
+            OutboxEventEntity sent = events.get(i);
+            String key = sent.getTopic() + ":" + sent.getAggregateId();
+            OutboxEventEntity event = claimed.get(sent.getId());
+            if (event == null) {
+                // 점유를 잃었으므로 이후 같은 키 이벤트도 완료로 표시하지 않음 (다시 점유한 릴레이가 처리)
+                failedKeys.add(key);
+                log.warn("아웃박스 이벤트 점유 만료 - id: {}, topic: {}, key: {}",
+                        sent.getId(), sent.getTopic(), sent.getAggregateId());
+                continue;
+            }
+
+            boolean ack = acknowledged.get(i);
+            if (!ack || failedKeys.contains(key)) {
+                failedKeys.add(key);
+                event.recordFailure();
+                failed++;
+
+                // 앞선 실패로 보류된 이벤트는 자신의 실패가 아니므로 중단하지 않음
+                if (!ack && event.hasExhaustedAttempts(maxAttempts)) {
+                    event.markFailed();
+                    deadLettered++;
+                    log.error("아웃박스 이벤트 발행 중단 - id: {}, eventId: {}, topic: {}, key: {}, 시도: {}회",
+                            event.getId(), event.getEventId(), event.getTopic(), event.getAggregateId(),
+                            event.getAttemptCount());
+                }
+                continue;
+            }
+
+            event.markPublished(now);
+            published.add(new OutboxRelayResult.Published(
+                    event.getTopic(), Duration.between(event.getCreatedAt(), now)));
+        }
+
+        return new OutboxRelayResult(events.size(), published, failed, deadLettered);
+    }
+
+    /**
+     * 발행 대기 이벤트 수
+     */
+    @Transactional(readOnly = true)
+    public long countPending() {
+        return outboxEventRepository.countPending();
+    }
+
+    /**
+     * 가장 오래된 발행 대기 이벤트가 기록된 지 지난 시간 (대기 이벤트가 없으면 0)
+     */
+    @Transactional(readOnly = true)
+    public Duration oldestPendingAge() {
+        return outboxEventRepository.findOldestPendingCreatedAt()
+                .map(createdAt -> Duration.between(createdAt, ZonedDateTime.now()))
+                .orElse(Duration.ZERO);
+    }
+
+    /**
+     * 보관 기간이 지난 발행 완료 이벤트를 삭제합니다.
+     *
+     * @param retention 보관 기간
+     * @return 삭제된 건수
+     */
+    @Transactional
+    public long purgePublished(Duration retention) {
+        return outboxEventRepository.deletePublishedBefore(ZonedDateTime.now().minus(retention));
+    }
+
+    private CompletableFuture<Void> sendSafely(OutboxEventEntity event) {
+        try {
+            return outboxEventPublisher.publish(event);
+        } catch (Exception e) {
+            return CompletableFuture.failedFuture(e);
+        }
+    }
+
+    private boolean await(CompletableFuture<Void> future, long deadline, OutboxEventEntity event) {
+        try {
+            future.get(Math.max(0, deadline - System.nanoTime()), TimeUnit.NANOSECONDS);
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        } catch (Exception e) {
+            log.warn("아웃박스 이벤트 발행 실패 - id: {}, topic: {}, key: {}, error: {}",
+                    event.getId(), event.getTopic(), event.getAggregateId(), e.getMessage());
+            return false;
+        }
+    }
+
+    private String serialize(Object payload) {
+        try {
+            return objectMapper.writeValueAsString(payload);
+        } catch (JsonProcessingException e) {
+            throw new CoreException(ErrorType.INTERNAL_ERROR, "아웃박스 이벤트 직렬화에 실패했습니다.");
+        }
+    }
+}
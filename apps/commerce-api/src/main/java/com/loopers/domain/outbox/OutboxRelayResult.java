@@ -0,0 +1,33 @@
+package com.loopers.domain.outbox;
+
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * 아웃박스 릴레이 1회 실행 결과
+ *
+ * @param fetched   조회한 발행 대기 이벤트 수
+ * @param published 발행 완료 처리한 이벤트
+ * @param failed    발행 실패 또는 같은 집계의 앞선 실패로 보류한 이벤트 수
+ * @param deadLettered 실패 중 최대 시도 횟수를 넘겨 FAILED로 옮긴 이벤트 수
+ * @author hyunjikoh
+ * @since 2025. 12. 10.
+ */
+public record OutboxRelayResult(
+        int fetched,
+        List<Published> published,
+        int failed,
+        int deadLettered
+) {
+
+    public static OutboxRelayResult empty() {
+        return new OutboxRelayResult(0, List.of(), 0, 0);
+    }
+
+    /**
+     * @param topic 발행 토픽
+     * @param lag   아웃박스 기록부터 발행 완료까지 걸린 시간
+     */
+    public record Published(String topic, Duration lag) {
+    }
+}
@@ -0,0 +1,14 @@
+package com.loopers.domain.outbox;
+
+/**
+ * 아웃박스 이벤트 상태
+ *
+ * @author hyunjikoh
+ * @since 2025. 12. 10.
+ */
+public enum OutboxStatus {
+    PENDING,   // 발행 대기
+    IN_FLIGHT, // 릴레이가 점유하여 발행 중 (임대 만료 시 다른 릴레이가 다시 점유)
+    PUBLISHED, // 발행 완료
+    FAILED     // 최대 시도 횟수 초과로 발행 중단 (확인 후 PENDING으로 되돌리면 다시 발행)
+}
@@ -0,0 +1,33 @@
+package com.loopers.domain.point;
+
+import java.math.BigDecimal;
+
+/**
+ * 포인트 변경 이벤트
+ *
+ * 포인트 충전/사용/환불 이력이 생성될 때 발행됩니다.
+ * 같은 트랜잭션에서 아웃박스에 기록되어 커밋 후 Kafka로 전달됩니다.
+ *
+ * @param userId          사용자 ID
+ * @param transactionType 거래 유형
+ * @param amount          거래 금액
+ * @param balanceAfter    거래 후 잔액
+ * @author hyunjikoh
+ * @since 2025. 12. 10.
+ */
+public record PointChangedEvent(
+        Long userId,
+        PointTransactionType transactionType,
+        BigDecimal amount,
+        BigDecimal balanceAfter
+) {
+
+    public static PointChangedEvent of(PointHistoryEntity history) {
+        return new PointChangedEvent(
+                history.getUser().getId(),
+                history.getTransactionType(),
+                history.getAmount(),
+                history.getBalanceAfter()
+        );
+    }
+}
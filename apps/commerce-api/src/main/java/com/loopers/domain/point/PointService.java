@@ -3,6 +3,7 @@ package com.loopers.domain.point;
 import java.math.BigDecimal;
 import java.util.List;
 
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Component;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -14,6 +15,8 @@ import com.loopers.support.error.ErrorType;
 import lombok.RequiredArgsConstructor;
 
 /**
+ * 포인트 충전/사용/환불 시 PointChangedEvent를 발행합니다.
+ *
  * @author hyunjikoh
  * @since 2025. 10. 29.
  */
@@ -22,6 +25,7 @@ import lombok.RequiredArgsConstructor;
 public class PointService {
     private final UserRepository userRepository;
     private final PointHistoryRepository pointHistoryRepository;
+    private final ApplicationEventPublisher eventPublisher;
 
     /**
      * 사용자의 포인트 이력을 조회합니다.
@@ -55,6 +59,7 @@ public class PointService {
         // 포인트 이력 생성
         PointHistoryEntity history = PointHistoryEntity.createChargeHistory(user, amount, user.getPointAmount());
         pointHistoryRepository.save(history);
+        eventPublisher.publishEvent(PointChangedEvent.of(history));
 
         userRepository.save(user);
 
@@ -78,6 +83,7 @@ public class PointService {
         // 포인트 이력 생성
         PointHistoryEntity history = PointHistoryEntity.createRefundHistory(user, amount, user.getPointAmount());
         pointHistoryRepository.save(history);
+        eventPublisher.publishEvent(PointChangedEvent.of(history));
 
         userRepository.save(user);
 
@@ -98,6 +104,7 @@ public class PointService {
         // 포인트 이력 생성 (사용)
         PointHistoryEntity history = PointHistoryEntity.createUseHistory(user, amount, user.getPointAmount());
         pointHistoryRepository.save(history);
+        eventPublisher.publishEvent(PointChangedEvent.of(history));
 
         userRepository.save(user);
 
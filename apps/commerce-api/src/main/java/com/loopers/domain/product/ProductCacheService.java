@@ -1,23 +1,46 @@
 package com.loopers.domain.product;
 
+import java.io.IOException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
 import java.util.concurrent.TimeUnit;
 
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.redis.core.Cursor;
+import org.springframework.data.redis.core.RedisOperations;
 import org.springframework.data.redis.core.RedisTemplate;
 import org.springframework.data.redis.core.ScanOptions;
+import org.springframework.data.redis.core.SessionCallback;
+import org.springframework.data.redis.core.script.RedisScript;
 import org.springframework.stereotype.Service;
 
 import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JavaType;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.type.TypeFactory;
 import com.loopers.application.product.ProductDetailInfo;
+import com.loopers.application.product.ProductInfo;
 import com.loopers.domain.product.dto.ProductSearchFilter;
+import com.loopers.infrastructure.cache.AdaptiveCacheStrategyPolicy;
+import com.loopers.infrastructure.cache.CacheEntry;
+import com.loopers.infrastructure.cache.CacheExpirationPolicy;
+import com.loopers.infrastructure.cache.CacheInvalidationMessage;
+import com.loopers.infrastructure.cache.CacheInvalidationPublisher;
 import com.loopers.infrastructure.cache.CacheKeyGenerator;
+import com.loopers.infrastructure.cache.CacheMetrics;
 import com.loopers.infrastructure.cache.CacheStrategy;
+import com.loopers.infrastructure.cache.CacheValueCodec;
+import com.loopers.infrastructure.cache.ProductLocalCache;
+
+import io.micrometer.core.instrument.Timer;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -25,6 +48,7 @@ import lombok.extern.slf4j.Slf4j;
 /**
  * 상품 캐시 서비스 구현체
  * Hot/Warm/Cold 전략별로 Redis 캐싱 관리
+ * 2단계 캐시: L1(JVM, Caffeine) → L2(Redis), 무효화는 pub/sub으로 전 노드에 전파
  * 캐시 실패 시 로깅만 하고 서비스는 계속 동작
  */
 @Service
@@ -33,28 +57,54 @@ import lombok.extern.slf4j.Slf4j;
 public class ProductCacheService {
 
     private final RedisTemplate<String, String> redisTemplate;
+    private final RedisTemplate<String, byte[]> binaryRedisTemplate;
+    private final CacheValueCodec cacheValueCodec;
     private final CacheKeyGenerator cacheKeyGenerator;
     private final ObjectMapper objectMapper;
-
-    // TTL 상수 - Hot/Warm/Cold 전략별 차별화
-    private static final long HOT_DATA_TTL = 30; // Hot: 30분 (배치 갱신)
-    private static final long WARM_DATA_TTL = 10; // Warm: 10분 (Cache-Aside)
+    private final ProductLocalCache localCache;
+    private final CacheInvalidationPublisher invalidationPublisher;
+    private final CacheMetrics cacheMetrics;
+    private final CacheExpirationPolicy expirationPolicy;
+    private final AdaptiveCacheStrategyPolicy adaptiveStrategyPolicy;
+
+    // Hot/Warm TTL은 product-cache.expiration 설정 (지터 + 조기 갱신)
+    private static final long TOTAL_COUNT_TTL = 60; // 전체 개수: 60분 (증분 갱신 + Hot 캐시 갱신 시 재계산)
     private static final TimeUnit TTL_UNIT = TimeUnit.MINUTES;
 
-    // ========== Hot: 상품 상세 (배치 갱신, TTL 60분) ==========
+    private static final RedisScript<Long> INCREMENT_IF_PRESENT_SCRIPT = RedisScript.of(
+            "if redis.call('EXISTS', KEYS[1]) == 1 then return redis.call('INCRBY', KEYS[1], ARGV[1]) end return nil",
+            Long.class
+    );
+
+    // ========== Hot: 상품 상세 (배치 갱신, TTL 30분 + 지터) ==========
 
     public void cacheProductDetail(Long productId, ProductDetailInfo productDetail) {
+        cacheProductDetail(productId, productDetail, Duration.ZERO);
+    }
+
+    /**
+     * 상품 상세를 캐시합니다.
+     * 모든 사용자가 같은 항목을 공유하도록 사용자별 상태(isLiked)는 제거하고 저장합니다.
+     *
+     * @param computeTime 상세 조회에 걸린 시간 (조기 갱신 시점 계산용)
+     */
+    public void cacheProductDetail(Long productId, ProductDetailInfo productDetail, Duration computeTime) {
         try {
             String key = cacheKeyGenerator.generateProductDetailKey(productId);
-            String value = objectMapper.writeValueAsString(productDetail);
+            ProductDetailInfo sharedDetail = productDetail.withoutUserState();
+            CacheEntry<ProductDetailInfo> entry = expirationPolicy.entry(sharedDetail, CacheStrategy.HOT, computeTime);
+            byte[] value = encode(entry, CacheMetrics.FAMILY_DETAIL, CacheStrategy.HOT);
 
-            redisTemplate.opsForValue().set(key, value, HOT_DATA_TTL, TTL_UNIT);
+            redisSet(key, value, expirationPolicy.remainingTtl(entry), CacheMetrics.FAMILY_DETAIL, CacheStrategy.HOT);
+            localCache.putDetail(productId, sharedDetail);
 
             log.debug("상품 상세 캐시 저장 - productId: {}", productId);
-        } catch (JsonProcessingException e) {
-            log.warn("상품 상세 캐시 저장 실패 (JSON 직렬화 오류) - productId: {}, error: {}",
+        } catch (IOException e) {
+            cacheMetrics.error(CacheMetrics.FAMILY_DETAIL, CacheStrategy.HOT, CacheMetrics.OPERATION_ENCODE);
+            log.warn("상품 상세 캐시 저장 실패 (직렬화 오류) - productId: {}, error: {}",
                     productId, e.getMessage());
         } catch (Exception e) {
+            cacheMetrics.error(CacheMetrics.FAMILY_DETAIL, CacheStrategy.HOT, CacheMetrics.OPERATION_SET);
             log.warn("상품 상세 캐시 저장 실패 - productId: {}, error: {}",
                     productId, e.getMessage());
         }
@@ -85,23 +135,49 @@ public class ProductCacheService {
 
 
     public Optional<ProductDetailInfo> getProductDetailFromCache(Long productId) {
+        Optional<ProductDetailInfo> localDetail = localCache.getDetail(productId);
+        if (localDetail.isPresent()) {
+            cacheMetrics.hit(CacheMetrics.LEVEL_LOCAL, CacheMetrics.FAMILY_DETAIL, CacheStrategy.HOT);
+            return localDetail;
+        }
+        cacheMetrics.miss(CacheMetrics.LEVEL_LOCAL, CacheMetrics.FAMILY_DETAIL, CacheStrategy.HOT);
+
         try {
             String key = cacheKeyGenerator.generateProductDetailKey(productId);
-            String value = redisTemplate.opsForValue().get(key);
+            byte[] value = redisGet(key, CacheMetrics.FAMILY_DETAIL, CacheStrategy.HOT);
 
             if (value == null) {
+                cacheMetrics.miss(CacheMetrics.LEVEL_REDIS, CacheMetrics.FAMILY_DETAIL, CacheStrategy.HOT);
                 log.debug("캐시 미스 - productId: {}", productId);
                 return Optional.empty();
             }
 
-            ProductDetailInfo productDetail = objectMapper.readValue(value, ProductDetailInfo.class);
+            CacheEntry<ProductDetailInfo> entry = decode(value,
+                    objectMapper.getTypeFactory().constructParametricType(CacheEntry.class, ProductDetailInfo.class),
+                    CacheMetrics.FAMILY_DETAIL, CacheStrategy.HOT);
+            if (entry.value() == null) {
+                cacheMetrics.miss(CacheMetrics.LEVEL_REDIS, CacheMetrics.FAMILY_DETAIL, CacheStrategy.HOT);
+                return Optional.empty();
+            }
+            if (expirationPolicy.shouldRefreshEarly(entry)) {
+                cacheMetrics.earlyRefresh(CacheMetrics.LEVEL_REDIS, CacheMetrics.FAMILY_DETAIL, CacheStrategy.HOT);
+                log.debug("캐시 조기 갱신 - productId: {}", productId);
+                return Optional.empty();
+            }
+
+            // 이전 형식 항목에 남아 있는 사용자 상태는 버림
+            ProductDetailInfo productDetail = entry.value().withoutUserState();
+            cacheMetrics.hit(CacheMetrics.LEVEL_REDIS, CacheMetrics.FAMILY_DETAIL, CacheStrategy.HOT);
+            localCache.putDetail(productId, productDetail);
             log.debug("캐시 히트 - productId: {}", productId);
 
             return Optional.of(productDetail);
-        } catch (JsonProcessingException e) {
-            log.warn("캐시 조회 실패 (JSON 역직렬화) - productId: {}", productId);
+        } catch (IOException e) {
+            cacheMetrics.error(CacheMetrics.FAMILY_DETAIL, CacheStrategy.HOT, CacheMetrics.OPERATION_DECODE);
+            log.warn("캐시 조회 실패 (역직렬화) - productId: {}", productId);
             return Optional.empty();
         } catch (Exception e) {
+            cacheMetrics.error(CacheMetrics.FAMILY_DETAIL, CacheStrategy.HOT, CacheMetrics.OPERATION_GET);
             log.warn("캐시 조회 실패 - productId: {}", productId);
             return Optional.empty();
         }
@@ -110,63 +186,281 @@ public class ProductCacheService {
 
     public void evictProductDetail(Long productId) {
         try {
-            String key = cacheKeyGenerator.generateProductDetailKey(productId);
-            redisTemplate.delete(key);
+            redisTemplate.delete(List.of(
+                    cacheKeyGenerator.generateProductDetailKey(productId),
+                    cacheKeyGenerator.generateProductRowKey(productId)
+            ));
 
             log.debug("캐시 삭제 - productId: {}", productId);
         } catch (Exception e) {
             log.warn("캐시 삭제 실패 - productId: {}", productId);
         }
+
+        localCache.evictDetails(List.of(productId));
+        invalidationPublisher.publish(CacheInvalidationMessage.ofProducts(List.of(productId)));
+    }
+
+    // ========== Hot/Warm: 상품 목록 행 (상품 단위, TTL 30분 + 지터) ==========
+
+    /**
+     * 목록 행을 한 번의 MGET으로 조회합니다.
+     *
+     * @return 캐시에 존재하는 행만 담은 Map (productId → 행)
+     */
+    public Map<Long, ProductInfo> getProductRowsFromCache(List<Long> productIds) {
+        Map<Long, ProductInfo> rows = new HashMap<>();
+        if (productIds == null || productIds.isEmpty()) {
+            return rows;
+        }
+
+        try {
+            List<String> keys = productIds.stream()
+                    .map(cacheKeyGenerator::generateProductRowKey)
+                    .toList();
+            Timer.Sample sample = cacheMetrics.start();
+            List<byte[]> values = binaryRedisTemplate.opsForValue().multiGet(keys);
+            cacheMetrics.stopRedis(sample, CacheMetrics.FAMILY_ROW, CacheStrategy.HOT, CacheMetrics.OPERATION_MGET);
+
+            if (values == null) {
+                return rows;
+            }
+
+            JavaType rowType = objectMapper.constructType(ProductInfo.class);
+            for (int i = 0; i < productIds.size(); i++) {
+                byte[] value = values.get(i);
+                if (value != null) {
+                    rows.put(productIds.get(i), decode(value, rowType, CacheMetrics.FAMILY_ROW, CacheStrategy.HOT));
+                    cacheMetrics.hit(CacheMetrics.LEVEL_REDIS, CacheMetrics.FAMILY_ROW, CacheStrategy.HOT);
+                } else {
+                    cacheMetrics.miss(CacheMetrics.LEVEL_REDIS, CacheMetrics.FAMILY_ROW, CacheStrategy.HOT);
+                }
+            }
+
+            log.debug("목록 행 캐시 조회 - 요청: {}개, 히트: {}개", productIds.size(), rows.size());
+        } catch (Exception e) {
+            cacheMetrics.error(CacheMetrics.FAMILY_ROW, CacheStrategy.HOT, CacheMetrics.OPERATION_MGET);
+            log.warn("목록 행 캐시 조회 실패 - 요청: {}개, error: {}", productIds.size(), e.getMessage());
+        }
+
+        return rows;
+    }
+
+    /**
+     * 목록 행을 파이프라인으로 일괄 저장합니다.
+     */
+    public void cacheProductRows(List<ProductInfo> rows) {
+        if (rows == null || rows.isEmpty()) {
+            return;
+        }
+
+        try {
+            Map<String, byte[]> entries = new HashMap<>();
+            for (ProductInfo row : rows) {
+                entries.put(cacheKeyGenerator.generateProductRowKey(row.id()),
+                        encode(row, CacheMetrics.FAMILY_ROW, CacheStrategy.HOT));
+            }
+
+            Timer.Sample sample = cacheMetrics.start();
+            binaryRedisTemplate.executePipelined(new SessionCallback<Object>() {
+                @Override
+                @SuppressWarnings("unchecked")
+                public <K, V> Object execute(RedisOperations<K, V> operations) {
+                    RedisOperations<String, byte[]> binaryOperations = (RedisOperations<String, byte[]>) operations;
+                    entries.forEach((key, value) -> binaryOperations.opsForValue()
+                            .set(key, value, expirationPolicy.ttl(CacheStrategy.HOT)));
+                    return null;
+                }
+            });
+            cacheMetrics.stopRedis(sample, CacheMetrics.FAMILY_ROW, CacheStrategy.HOT, CacheMetrics.OPERATION_SET);
+
+            log.debug("목록 행 캐시 저장 - {}개", rows.size());
+        } catch (IOException e) {
+            cacheMetrics.error(CacheMetrics.FAMILY_ROW, CacheStrategy.HOT, CacheMetrics.OPERATION_ENCODE);
+            log.warn("목록 행 캐시 저장 실패 (직렬화) - {}개", rows.size());
+        } catch (Exception e) {
+            cacheMetrics.error(CacheMetrics.FAMILY_ROW, CacheStrategy.HOT, CacheMetrics.OPERATION_SET);
+            log.warn("목록 행 캐시 저장 실패 - {}개, error: {}", rows.size(), e.getMessage());
+        }
     }
 
-    // ========== Hot/Warm: 상품 ID 리스트 (Hot: 60분, Warm: 10분) ==========
+    // ========== Hot/Warm: 상품 ID 리스트 (Hot: 30분, Warm: 10분, 지터 적용) ==========
 
 
+    /**
+     * 현재 목록 세대 번호를 포함한 상품 ID 리스트 캐시 키를 반환합니다.
+     * <p>
+     * 조회 후 적재하는 경우 적재 전에 키를 고정해야 합니다.
+     * 적재 중 무효화(세대 증가)가 일어나면 이전 데이터가 이전 세대 키에 저장되어 조회되지 않습니다.
+     */
+    public String productIdsKey(CacheStrategy strategy, Long brandId, Pageable pageable) {
+        return cacheKeyGenerator.generateProductIdsKey(strategy, brandId, currentGeneration(brandId), pageable);
+    }
+
+    /**
+     * 검색 조건(상품명 검색 포함)의 상품 ID 리스트 캐시 키를 반환합니다.
+     * 상품명 검색은 검색어가 키에 포함되어 일반 목록과 섞이지 않습니다.
+     */
+    public String productIdsKey(CacheStrategy strategy, ProductSearchFilter filter) {
+        Long brandId = filter.brandId();
+        return cacheKeyGenerator.generateProductIdsKey(
+                strategy, brandId, currentGeneration(brandId), filter.pageable(), filter.productName());
+    }
+
     public void cacheProductIds(CacheStrategy strategy, Long brandId,
                                 Pageable pageable,
                                 List<Long> productIds) {
+        cacheProductIds(productIdsKey(strategy, brandId, pageable), strategy, productIds, Duration.ZERO);
+    }
+
+    /**
+     * 상품 ID 리스트를 캐시합니다.
+     *
+     * @param key         {@link #productIdsKey}로 얻은 캐시 키
+     * @param computeTime 목록 조회에 걸린 시간 (조기 갱신 시점 계산용)
+     */
+    public void cacheProductIds(String key, CacheStrategy strategy,
+                                List<Long> productIds,
+                                Duration computeTime) {
         try {
-            String key = cacheKeyGenerator.generateProductIdsKey(strategy, brandId, pageable);
-            String value = objectMapper.writeValueAsString(productIds);
+            CacheEntry<List<Long>> entry = expirationPolicy.entry(productIds, strategy, computeTime);
+            byte[] value = encode(entry, CacheMetrics.FAMILY_IDS, strategy);
 
-            long ttl = strategy == CacheStrategy.HOT ? HOT_DATA_TTL : WARM_DATA_TTL;
-            redisTemplate.opsForValue().set(key, value, ttl, TTL_UNIT);
+            redisSet(key, value, expirationPolicy.remainingTtl(entry), CacheMetrics.FAMILY_IDS, strategy);
+            localCache.putIds(key, productIds);
 
-            log.debug("상품 ID 리스트 캐시 저장 - strategy: {}, brandId: {}", strategy, brandId);
-        } catch (JsonProcessingException e) {
-            log.warn("상품 ID 리스트 캐시 저장 실패 (JSON 직렬화) - strategy: {}", strategy);
+            log.debug("상품 ID 리스트 캐시 저장 - key: {}", key);
+        } catch (IOException e) {
+            cacheMetrics.error(CacheMetrics.FAMILY_IDS, strategy, CacheMetrics.OPERATION_ENCODE);
+            log.warn("상품 ID 리스트 캐시 저장 실패 (직렬화) - key: {}", key);
         } catch (Exception e) {
-            log.warn("상품 ID 리스트 캐시 저장 실패 - strategy: {}", strategy);
+            cacheMetrics.error(CacheMetrics.FAMILY_IDS, strategy, CacheMetrics.OPERATION_SET);
+            log.warn("상품 ID 리스트 캐시 저장 실패 - key: {}", key);
         }
     }
 
 
     public Optional<List<Long>> getProductIdsFromCache(CacheStrategy strategy, Long brandId,
                                                        Pageable pageable) {
+        return getProductIdsFromCache(strategy, productIdsKey(strategy, brandId, pageable));
+    }
+
+    /**
+     * 상품 ID 리스트를 조회합니다.
+     *
+     * @param strategy 키를 만든 캐시 전략 (지표 태그용)
+     * @param key      {@link #productIdsKey}로 얻은 캐시 키
+     */
+    public Optional<List<Long>> getProductIdsFromCache(CacheStrategy strategy, String key) {
         try {
-            String key = cacheKeyGenerator.generateProductIdsKey(strategy, brandId, pageable);
-            String value = redisTemplate.opsForValue().get(key);
+            Optional<List<Long>> localIds = localCache.getIds(key);
+            if (localIds.isPresent()) {
+                cacheMetrics.hit(CacheMetrics.LEVEL_LOCAL, CacheMetrics.FAMILY_IDS, strategy);
+                return localIds;
+            }
+            cacheMetrics.miss(CacheMetrics.LEVEL_LOCAL, CacheMetrics.FAMILY_IDS, strategy);
+
+            byte[] value = redisGet(key, CacheMetrics.FAMILY_IDS, strategy);
 
             if (value == null) {
-                log.debug("캐시 미스 - strategy: {}, brandId: {}", strategy, brandId);
+                cacheMetrics.miss(CacheMetrics.LEVEL_REDIS, CacheMetrics.FAMILY_IDS, strategy);
+                log.debug("캐시 미스 - key: {}", key);
                 return Optional.empty();
             }
 
-            List<Long> productIds = objectMapper.readValue(value,
-                    objectMapper.getTypeFactory().constructCollectionType(List.class, Long.class));
+            TypeFactory typeFactory = objectMapper.getTypeFactory();
+            CacheEntry<List<Long>> entry = decode(value, typeFactory.constructParametricType(
+                    CacheEntry.class, typeFactory.constructCollectionType(List.class, Long.class)),
+                    CacheMetrics.FAMILY_IDS, strategy);
+            if (entry.value() == null) {
+                cacheMetrics.miss(CacheMetrics.LEVEL_REDIS, CacheMetrics.FAMILY_IDS, strategy);
+                return Optional.empty();
+            }
+            if (expirationPolicy.shouldRefreshEarly(entry)) {
+                cacheMetrics.earlyRefresh(CacheMetrics.LEVEL_REDIS, CacheMetrics.FAMILY_IDS, strategy);
+                log.debug("캐시 조기 갱신 - key: {}", key);
+                return Optional.empty();
+            }
 
-            log.debug("캐시 히트 - strategy: {}, brandId: {}", strategy, brandId);
+            List<Long> productIds = entry.value();
+            cacheMetrics.hit(CacheMetrics.LEVEL_REDIS, CacheMetrics.FAMILY_IDS, strategy);
+            localCache.putIds(key, productIds);
+            log.debug("캐시 히트 - key: {}", key);
 
             return Optional.of(productIds);
-        } catch (JsonProcessingException e) {
-            log.warn("캐시 조회 실패 (JSON 역직렬화) - strategy: {}", strategy);
+        } catch (IOException e) {
+            cacheMetrics.error(CacheMetrics.FAMILY_IDS, strategy, CacheMetrics.OPERATION_DECODE);
+            log.warn("캐시 조회 실패 (역직렬화) - key: {}", key);
             return Optional.empty();
         } catch (Exception e) {
-            log.warn("캐시 조회 실패 - strategy: {}", strategy);
+            cacheMetrics.error(CacheMetrics.FAMILY_IDS, strategy, CacheMetrics.OPERATION_GET);
+            log.warn("캐시 조회 실패 - key: {}", key);
             return Optional.empty();
         }
     }
 
+    // ========== 목록 세대 번호 (브랜드별/전체) ==========
+
+    /**
+     * 목록의 현재 세대 번호를 반환합니다. (HTTP ETag 생성용)
+     * 해당 목록의 ID 리스트 캐시가 무효화될 때마다 증가합니다.
+     *
+     * @param brandId 브랜드 ID (null이면 전체 목록)
+     */
+    public long getListGeneration(Long brandId) {
+        return currentGeneration(brandId);
+    }
+
+    /**
+     * 목록 세대 번호를 조회합니다. (L1 → Redis, 키가 없으면 0)
+     * 조회 실패 시 0을 사용하며, 이 경우 ID 리스트 캐시 저장/조회도 대부분 함께 실패합니다.
+     */
+    private long currentGeneration(Long brandId) {
+        String generationKey = cacheKeyGenerator.generateListGenerationKey(brandId);
+
+        Optional<Long> localGeneration = localCache.getGeneration(generationKey);
+        if (localGeneration.isPresent()) {
+            return localGeneration.get();
+        }
+
+        try {
+            String value = redisTemplate.opsForValue().get(generationKey);
+            long generation = value != null ? Long.parseLong(value) : 0L;
+            localCache.putGeneration(generationKey, generation);
+            return generation;
+        } catch (Exception e) {
+            log.warn("목록 세대 번호 조회 실패 - key: {}, error: {}", generationKey, e.getMessage());
+            return 0L;
+        }
+    }
+
+    /**
+     * 목록 세대 번호를 파이프라인 INCR로 올려 해당 목록의 ID 리스트 캐시를 한 번에 무효화합니다.
+     * 이전 세대 키는 더 이상 조회되지 않고 TTL로 만료됩니다.
+     *
+     * @param brandIds 브랜드 ID 목록 (null 원소는 전체 목록)
+     */
+    private void incrementGenerations(List<Long> brandIds) {
+        List<String> generationKeys = brandIds.stream()
+                .map(cacheKeyGenerator::generateListGenerationKey)
+                .toList();
+
+        List<Object> generations = redisTemplate.executePipelined(new SessionCallback<Object>() {
+            @Override
+            @SuppressWarnings("unchecked")
+            public <K, V> Object execute(RedisOperations<K, V> operations) {
+                RedisOperations<String, String> stringOperations = (RedisOperations<String, String>) operations;
+                generationKeys.forEach(key -> stringOperations.opsForValue().increment(key));
+                return null;
+            }
+        });
+
+        for (int i = 0; i < generationKeys.size(); i++) {
+            if (generations.get(i) instanceof Long generation) {
+                localCache.putGeneration(generationKeys.get(i), generation);
+            }
+        }
+    }
+
 
     public void evictProductIdsByStrategy(CacheStrategy strategy) {
         try {
@@ -177,6 +471,77 @@ public class ProductCacheService {
         } catch (Exception e) {
             log.warn("전략별 캐시 삭제 실패 - strategy: {}", strategy);
         }
+
+        String prefix = cacheKeyGenerator.generateProductIdsPrefix(strategy);
+        localCache.evictIdsByPrefix(prefix);
+        invalidationPublisher.publish(CacheInvalidationMessage.ofIdKeyPrefixes(List.of(prefix)));
+    }
+
+    // ========== 목록 전체 개수 (브랜드별/전체, 증분 갱신, TTL 60분) ==========
+
+    /**
+     * 캐시된 목록 전체 개수를 조회합니다.
+     * 목록 조회 시 COUNT 쿼리를 생략하기 위해 사용합니다.
+     *
+     * @param brandId 브랜드 ID (null이면 전체)
+     * @return 전체 개수 (캐시 미스 시 Optional.empty())
+     */
+    public Optional<Long> getTotalCount(Long brandId) {
+        try {
+            String value = redisTemplate.opsForValue().get(cacheKeyGenerator.generateProductTotalKey(brandId));
+            return Optional.ofNullable(value).map(Long::valueOf);
+        } catch (Exception e) {
+            log.warn("전체 개수 캐시 조회 실패 - brandId: {}, error: {}", brandId, e.getMessage());
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * 목록 전체 개수를 캐시합니다.
+     *
+     * @param brandId 브랜드 ID (null이면 전체)
+     * @param total   전체 개수
+     */
+    public void cacheTotalCount(Long brandId, long total) {
+        try {
+            String key = cacheKeyGenerator.generateProductTotalKey(brandId);
+            redisTemplate.opsForValue().set(key, String.valueOf(total), TOTAL_COUNT_TTL, TTL_UNIT);
+        } catch (Exception e) {
+            log.warn("전체 개수 캐시 저장 실패 - brandId: {}, error: {}", brandId, e.getMessage());
+        }
+    }
+
+    /**
+     * MV 동기화/삭제로 생긴 증감분을 캐시된 전체 개수에 반영합니다.
+     * <p>
+     * 키가 있을 때만 INCRBY 하므로(Lua) 캐시되지 않은 개수를 부분 값으로 만들지 않습니다.
+     * 캐시 미스 시에는 다음 조회에서 COUNT로 다시 채워집니다.
+     *
+     * @param deltasByBrand 브랜드 ID → 증감분
+     */
+    public void adjustTotalCounts(Map<Long, Long> deltasByBrand) {
+        if (deltasByBrand == null || deltasByBrand.isEmpty()) {
+            return;
+        }
+
+        try {
+            long totalDelta = 0;
+            for (Map.Entry<Long, Long> entry : deltasByBrand.entrySet()) {
+                incrementIfPresent(cacheKeyGenerator.generateProductTotalKey(entry.getKey()), entry.getValue());
+                totalDelta += entry.getValue();
+            }
+            incrementIfPresent(cacheKeyGenerator.generateProductTotalKey(null), totalDelta);
+
+            log.debug("전체 개수 캐시 증분 반영 - 브랜드: {}개, 합계: {}", deltasByBrand.size(), totalDelta);
+        } catch (Exception e) {
+            log.warn("전체 개수 캐시 증분 반영 실패 - error: {}", e.getMessage());
+        }
+    }
+
+    private void incrementIfPresent(String key, long delta) {
+        if (delta != 0) {
+            redisTemplate.execute(INCREMENT_IF_PRESENT_SCRIPT, List.of(key), String.valueOf(delta));
+        }
     }
 
     // ========== Cold: 전체 Page 객체 (레거시, TTL 5분) ==========
@@ -234,25 +599,35 @@ public class ProductCacheService {
 
     public void deleteByPattern(String pattern) {
         try {
-            ScanOptions options = ScanOptions.scanOptions()
-                    .match(pattern)
-                    .count(100)
-                    .build();
-
-            Set<String> keys = new HashSet<>();
-            try (Cursor<String> cursor = redisTemplate.scan(options)) {
-                cursor.forEachRemaining(keys::add);
-            }
-
-            if (!keys.isEmpty()) {
-                redisTemplate.delete(keys);
-                log.debug("패턴 캐시 삭제 - pattern: {}, count: {}", pattern, keys.size());
+            int deletedCount = deleteKeysByPattern(pattern);
+            if (deletedCount > 0) {
+                log.debug("패턴 캐시 삭제 - pattern: {}, count: {}", pattern, deletedCount);
             }
         } catch (Exception e) {
             log.warn("패턴 캐시 삭제 실패 - pattern: {}", pattern, e);
         }
     }
 
+    /**
+     * SCAN으로 패턴에 매칭되는 키를 찾아 삭제하고 삭제한 키 개수를 반환합니다.
+     */
+    private int deleteKeysByPattern(String pattern) {
+        ScanOptions options = ScanOptions.scanOptions()
+                .match(pattern)
+                .count(100)
+                .build();
+
+        Set<String> keys = new HashSet<>();
+        try (Cursor<String> cursor = redisTemplate.scan(options)) {
+            cursor.forEachRemaining(keys::add);
+        }
+
+        if (!keys.isEmpty()) {
+            redisTemplate.delete(keys);
+        }
+        return keys.size();
+    }
+
     // ========== 세밀한 캐시 무효화 (Incremental Invalidation) ==========
 
 
@@ -264,18 +639,25 @@ public class ProductCacheService {
 
         log.info("상품 캐시 무효화 - 대상: {}개", productIds.size());
 
-        int deletedCount = 0;
-
+        List<String> keys = new ArrayList<>();
         for (Long productId : productIds) {
-            try {
-                evictProductDetail(productId);
-                deletedCount++;
-            } catch (Exception e) {
-                log.warn("상품 캐시 무효화 실패 - productId: {}", productId);
-            }
+            keys.add(cacheKeyGenerator.generateProductDetailKey(productId));
+            keys.add(cacheKeyGenerator.generateProductRowKey(productId));
         }
 
-        log.info("상품 캐시 무효화 완료 - 삭제: {}개", deletedCount);
+        try {
+            Timer.Sample sample = cacheMetrics.start();
+            Long deletedCount = redisTemplate.delete(keys);
+            cacheMetrics.stopRedis(sample, CacheMetrics.FAMILY_DETAIL, CacheStrategy.HOT, CacheMetrics.OPERATION_DELETE);
+            log.info("상품 캐시 무효화 완료 - 삭제: {}개", deletedCount);
+        } catch (Exception e) {
+            cacheMetrics.error(CacheMetrics.FAMILY_DETAIL, CacheStrategy.HOT, CacheMetrics.OPERATION_DELETE);
+            log.warn("상품 캐시 무효화 실패 - 대상: {}개", productIds.size());
+        }
+
+        List<Long> targetIds = List.copyOf(productIds);
+        localCache.evictDetails(targetIds);
+        invalidationPublisher.publish(CacheInvalidationMessage.ofProducts(targetIds));
     }
 
 
@@ -287,41 +669,40 @@ public class ProductCacheService {
 
         log.info("브랜드 캐시 무효화 - 대상: {}개", brandIds.size());
 
-        int deletedKeyCount = 0;
+        evictListGenerations(List.copyOf(brandIds));
 
-        for (Long brandId : brandIds) {
-            try {
-                // Hot 캐시 삭제
-                String hotPattern = String.format("product:ids:hot:brand:%d:*", brandId);
-                Set<String> hotKeys = new HashSet<>();
-                try (Cursor<String> cursor = redisTemplate.scan(ScanOptions.scanOptions().match(hotPattern).count(100).build())) {
-                    cursor.forEachRemaining(hotKeys::add);
-                }
-                if (!hotKeys.isEmpty()) {
-                    redisTemplate.delete(hotKeys);
-                    deletedKeyCount += hotKeys.size();
-                }
+        log.info("브랜드 캐시 무효화 완료 - 세대 증가: {}개", brandIds.size());
+    }
 
-                // Warm 캐시 삭제
-                String warmPattern = String.format("product:ids:warm:brand:%d:*", brandId);
-                Set<String> warmKeys = new HashSet<>();
-                try (Cursor<String> cursor = redisTemplate.scan(ScanOptions.scanOptions().match(warmPattern).count(100).build())) {
-                    cursor.forEachRemaining(warmKeys::add);
-                }
-                if (!warmKeys.isEmpty()) {
-                    redisTemplate.delete(warmKeys);
-                    deletedKeyCount += warmKeys.size();
-                }
+    /**
+     * 브랜드 목록과 전체 목록의 세대 번호를 올립니다. (상품 삭제 등 MV 동기화를 거치지 않는 변경용)
+     */
+    public void evictListCaches(Long brandId) {
+        evictListGenerations(Arrays.asList(brandId, null));
+    }
 
-                // 레거시 캐시 삭제
-                evictProductListByBrand(brandId);
+    /**
+     * 목록 세대 번호를 올리고 L1(자신 + 다른 노드)의 해당 목록 ID 리스트를 제거합니다.
+     *
+     * @param brandIds 브랜드 ID 목록 (null 원소는 전체 목록)
+     */
+    private void evictListGenerations(List<Long> brandIds) {
+        try {
+            // Hot / Warm 공통 세대: 브랜드당 INCR 한 번
+            incrementGenerations(brandIds);
+        } catch (Exception e) {
+            log.warn("목록 세대 증가 실패 - 대상: {}개, error: {}", brandIds.size(), e.getMessage());
+        }
 
-            } catch (Exception e) {
-                log.warn("브랜드 캐시 무효화 실패 - brandId: {}", brandId);
+        List<String> invalidatedPrefixes = new ArrayList<>();
+        for (Long brandId : brandIds) {
+            for (CacheStrategy strategy : List.of(CacheStrategy.HOT, CacheStrategy.WARM)) {
+                invalidatedPrefixes.add(cacheKeyGenerator.generateProductIdsPrefixByBrand(strategy, brandId));
             }
         }
 
-        log.info("브랜드 캐시 무효화 완료 - 삭제 키: {}개", deletedKeyCount);
+        invalidatedPrefixes.forEach(localCache::evictIdsByPrefix);
+        invalidationPublisher.publish(CacheInvalidationMessage.ofIdKeyPrefixes(invalidatedPrefixes));
     }
 
 
@@ -332,16 +713,15 @@ public class ProductCacheService {
         long startTime = System.currentTimeMillis();
 
         try {
-            // 1. 변경된 상품 상세 캐시 무효화
+            // 1. 변경된 상품 상세/행 캐시 무효화
             evictProductCaches(changedProductIds);
 
-            // 2. 영향받은 브랜드 목록 캐시 무효화
+            // 2. 목록이 바뀐 브랜드 목록 캐시 무효화 (재고만 바뀐 상품은 대상 아님, 좋아요는 랭킹이 꺼진 경우만 대상)
             evictBrandCaches(affectedBrandIds);
 
-            // 3. 전체 상품 목록 캐시 무효화
-            if (!changedProductIds.isEmpty()) {
-                deleteByPattern("product:ids:hot:brand:null:*");
-                deleteByPattern("product:ids:warm:brand:null:*");
+            // 3. 전체 상품 목록 캐시 무효화 (목록이 바뀐 브랜드가 있을 때만)
+            if (!affectedBrandIds.isEmpty()) {
+                evictListGenerations(Collections.singletonList(null));
             }
 
             long duration = System.currentTimeMillis() - startTime;
@@ -353,21 +733,76 @@ public class ProductCacheService {
         }
     }
 
+    // ========== 계측 (Redis 지연, 직렬화 시간/크기) ==========
+
+    private byte[] redisGet(String key, String family, CacheStrategy strategy) {
+        Timer.Sample sample = cacheMetrics.start();
+        try {
+            return binaryRedisTemplate.opsForValue().get(key);
+        } finally {
+            cacheMetrics.stopRedis(sample, family, strategy, CacheMetrics.OPERATION_GET);
+        }
+    }
+
+    private void redisSet(String key, byte[] value, Duration ttl, String family, CacheStrategy strategy) {
+        Timer.Sample sample = cacheMetrics.start();
+        try {
+            binaryRedisTemplate.opsForValue().set(key, value, ttl);
+        } finally {
+            cacheMetrics.stopRedis(sample, family, strategy, CacheMetrics.OPERATION_SET);
+        }
+    }
+
+    private byte[] encode(Object value, String family, CacheStrategy strategy) throws IOException {
+        long startTime = System.nanoTime();
+        byte[] bytes = cacheValueCodec.encode(value);
+        cacheMetrics.serialization(family, strategy, CacheMetrics.OPERATION_ENCODE,
+                System.nanoTime() - startTime, bytes.length);
+        return bytes;
+    }
+
+    private <T> T decode(byte[] bytes, JavaType type, String family, CacheStrategy strategy) throws IOException {
+        long startTime = System.nanoTime();
+        T value = cacheValueCodec.decode(bytes, type);
+        cacheMetrics.serialization(family, strategy, CacheMetrics.OPERATION_DECODE,
+                System.nanoTime() - startTime, bytes.length);
+        return value;
+    }
+
     /**
-     * 캐시 전략 결정
+     * 목록 요청을 빈도 집계에 기록하고 이번 조회에 적용할 캐시 전략을 결정합니다. (목록 조회당 한 번)
+     */
+    public CacheStrategy resolveCacheStrategy(ProductSearchFilter filter) {
+        return adaptiveStrategyPolicy.recordAndAdjust(listAccessKey(filter), staticCacheStrategy(filter));
+    }
+
+    /**
+     * 캐시 전략 결정 (기록 없음, HTTP 캐시 헤더/렌더링 응답 캐시 판단용)
+     * 정적 규칙을 최근 요청 빈도로 보정하며, 빈도 기반 조정이 꺼져 있으면 정적 규칙을 그대로 사용합니다.
      */
     public CacheStrategy determineCacheStrategy(ProductSearchFilter filter) {
-        if (filter.pageable().getPageNumber() == 0)
-            return CacheStrategy.HOT;
+        return adaptiveStrategyPolicy.adjust(listAccessKey(filter), staticCacheStrategy(filter));
+    }
 
-        if (filter.pageable().getPageNumber() > 2)
-            return CacheStrategy.COLD;
+    private String listAccessKey(ProductSearchFilter filter) {
+        return cacheKeyGenerator.generateListAccessKey(filter.brandId(), filter.productName(), filter.pageable());
+    }
 
+    /**
+     * 정적 규칙: 상품명 검색/4페이지 이상 Cold, 1페이지 Hot, 그 외 Warm (브랜드 인기순은 Hot)
+     */
+    private CacheStrategy staticCacheStrategy(ProductSearchFilter filter) {
         if (filter.productName() != null && !filter.productName().trim().isEmpty()) {
             log.debug("Cold 전략 선택 - 상품명 검색: {}", filter.productName());
             return CacheStrategy.COLD;
         }
 
+        if (filter.pageable().getPageNumber() == 0)
+            return CacheStrategy.HOT;
+
+        if (filter.pageable().getPageNumber() > 2)
+            return CacheStrategy.COLD;
+
         if (filter.brandId() != null) {
             if (isPopularitySort(filter.pageable())) {
                 log.debug("Hot 전략 선택 - 브랜드: {}, 인기순 정렬", filter.brandId());
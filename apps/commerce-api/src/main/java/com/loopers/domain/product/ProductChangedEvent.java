@@ -0,0 +1,24 @@
+package com.loopers.domain.product;
+
+/**
+ * 상품 변경 이벤트
+ *
+ * 상품 등록, 재고 차감/원복 등 MV에 반영되는 상품 컬럼이 바뀐 경우 발행됩니다.
+ * 트랜잭션 커밋 이후 MV 증분 갱신에 사용됩니다.
+ *
+ * @param productId     상품 ID
+ * @param brandId       브랜드 ID
+ * @param stockQuantity 변경 후 재고
+ * @author hyunjikoh
+ * @since 2025. 12. 10.
+ */
+public record ProductChangedEvent(
+        Long productId,
+        Long brandId,
+        Integer stockQuantity
+) {
+
+    public static ProductChangedEvent of(ProductEntity product) {
+        return new ProductChangedEvent(product.getId(), product.getBrandId(), product.getStockQuantity());
+    }
+}
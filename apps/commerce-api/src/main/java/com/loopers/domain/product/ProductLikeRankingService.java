@@ -0,0 +1,296 @@
+package com.loopers.domain.product;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+import org.springframework.data.redis.core.Cursor;
+import org.springframework.data.redis.core.RedisOperations;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ScanOptions;
+import org.springframework.data.redis.core.SessionCallback;
+import org.springframework.data.redis.core.ZSetOperations;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Service;
+
+import com.loopers.domain.product.dto.ProductRankingPage;
+import com.loopers.infrastructure.cache.CacheKeyGenerator;
+import com.loopers.infrastructure.cache.ProductCacheProperties;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 상품 좋아요 수 랭킹 서비스 (Redis ZSET)
+ *
+ * 전체/브랜드별 ZSET(member: 상품 ID, score: 좋아요 수)을 유지하여
+ * 좋아요순 목록을 페이지 깊이와 무관하게 ZREVRANGE 한 번으로 조회합니다.
+ *
+ * - 좋아요/취소 커밋 후: ZINCRBY (실시간 반영)
+ * - MV 동기화 후: 변경된 상품의 좋아요 수로 ZADD (보정)
+ * - Hot 캐시 갱신 배치: MV 전체로 재구축 후 RENAME으로 교체
+ *
+ * 증분 갱신은 랭킹 키가 있을 때만 적용하므로(Lua), 재구축 전에는 부분 랭킹이 만들어지지 않습니다.
+ *
+ * @author hyunjikoh
+ * @since 2025. 12. 4.
+ */
+@Service
+@Slf4j
+public class ProductLikeRankingService {
+
+    private static final int REBUILD_BATCH_SIZE = 1000;
+    private static final Duration REBUILD_TEMP_TTL = Duration.ofMinutes(10);
+    private static final String REBUILD_TEMP_INFIX = ":rebuild:";
+
+    private static final RedisScript<Long> INCREMENT_IF_PRESENT_SCRIPT = RedisScript.of("""
+            local applied = 0
+            for _, key in ipairs(KEYS) do
+              if redis.call('EXISTS', key) == 1 then
+                redis.call('ZINCRBY', key, ARGV[1], ARGV[2])
+                applied = applied + 1
+              end
+            end
+            return applied
+            """, Long.class);
+
+    private static final RedisScript<Long> SET_IF_PRESENT_SCRIPT = RedisScript.of("""
+            local applied = 0
+            for _, key in ipairs(KEYS) do
+              if redis.call('EXISTS', key) == 1 then
+                redis.call('ZADD', key, ARGV[1], ARGV[2])
+                applied = applied + 1
+              end
+            end
+            return applied
+            """, Long.class);
+
+    private final RedisTemplate<String, String> redisTemplate;
+    private final CacheKeyGenerator cacheKeyGenerator;
+    private final ProductMVRepository mvRepository;
+    private final boolean enabled;
+
+    public ProductLikeRankingService(
+            RedisTemplate<String, String> redisTemplate,
+            CacheKeyGenerator cacheKeyGenerator,
+            ProductMVRepository mvRepository,
+            ProductCacheProperties properties
+    ) {
+        this.redisTemplate = redisTemplate;
+        this.cacheKeyGenerator = cacheKeyGenerator;
+        this.mvRepository = mvRepository;
+        this.enabled = properties.ranking().enabled();
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * 좋아요 수 내림차순으로 한 페이지를 조회합니다.
+     *
+     * @param brandId 브랜드 ID (null이면 전체)
+     * @param offset  시작 위치
+     * @param size    페이지 크기
+     * @return 랭킹 페이지 (랭킹이 없거나 비활성화된 경우 Optional.empty())
+     */
+    public Optional<ProductRankingPage> getRankingPage(Long brandId, long offset, int size) {
+        if (!enabled) {
+            return Optional.empty();
+        }
+
+        try {
+            String key = cacheKeyGenerator.generateLikeRankingKey(brandId);
+            Long total = redisTemplate.opsForZSet().zCard(key);
+            if (total == null || total == 0) {
+                return Optional.empty();
+            }
+
+            Map<Long, Long> likeCounts = new LinkedHashMap<>();
+            if (offset < total) {
+                Set<ZSetOperations.TypedTuple<String>> tuples =
+                        redisTemplate.opsForZSet().reverseRangeWithScores(key, offset, offset + size - 1);
+                if (tuples != null) {
+                    for (ZSetOperations.TypedTuple<String> tuple : tuples) {
+                        long score = tuple.getScore() != null ? Math.max(0L, tuple.getScore().longValue()) : 0L;
+                        likeCounts.put(Long.valueOf(tuple.getValue()), score);
+                    }
+                }
+            }
+
+            return Optional.of(new ProductRankingPage(List.copyOf(likeCounts.keySet()), likeCounts, total));
+        } catch (Exception e) {
+            log.warn("좋아요 랭킹 조회 실패 - brandId: {}, error: {}", brandId, e.getMessage());
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * 좋아요 수 변화량을 전체/브랜드 랭킹에 반영합니다.
+     *
+     * @param productId 상품 ID
+     * @param brandId   브랜드 ID
+     * @param delta     변화량
+     */
+    public void increment(Long productId, Long brandId, long delta) {
+        if (!enabled) {
+            return;
+        }
+
+        try {
+            redisTemplate.execute(INCREMENT_IF_PRESENT_SCRIPT, rankingKeys(brandId),
+                    String.valueOf(delta), String.valueOf(productId));
+        } catch (Exception e) {
+            log.warn("좋아요 랭킹 증분 반영 실패 - productId: {}, error: {}", productId, e.getMessage());
+        }
+    }
+
+    /**
+     * MV 기준 좋아요 수로 랭킹 점수를 보정합니다.
+     * MV 동기화로 변경된 상품(신규 포함)에 대해 호출됩니다.
+     *
+     * @param products 변경된 상품 MV 목록
+     */
+    public void reconcile(Collection<ProductMaterializedViewEntity> products) {
+        if (!enabled || products == null || products.isEmpty()) {
+            return;
+        }
+
+        try {
+            for (ProductMaterializedViewEntity product : products) {
+                redisTemplate.execute(SET_IF_PRESENT_SCRIPT, rankingKeys(product.getBrandId()),
+                        String.valueOf(product.getLikeCount()), String.valueOf(product.getProductId()));
+            }
+            log.debug("좋아요 랭킹 보정 - {}개", products.size());
+        } catch (Exception e) {
+            log.warn("좋아요 랭킹 보정 실패 - {}개, error: {}", products.size(), e.getMessage());
+        }
+    }
+
+    /**
+     * 삭제된 상품을 랭킹에서 제거합니다.
+     *
+     * @param productId 상품 ID
+     * @param brandId   브랜드 ID
+     */
+    public void remove(Long productId, Long brandId) {
+        if (!enabled) {
+            return;
+        }
+
+        try {
+            String member = String.valueOf(productId);
+            for (String key : rankingKeys(brandId)) {
+                redisTemplate.opsForZSet().remove(key, member);
+            }
+        } catch (Exception e) {
+            log.warn("좋아요 랭킹 삭제 실패 - productId: {}, error: {}", productId, e.getMessage());
+        }
+    }
+
+    /**
+     * MV 전체로 전체/브랜드별 랭킹을 재구축합니다.
+     * <p>
+     * 임시 키에 채운 뒤 RENAME으로 교체하므로 재구축 중에도 기존 랭킹으로 조회됩니다.
+     * 임시 키는 TTL을 두어 중간 실패 시 자동 정리됩니다.
+     * 교체 후에는 재구축 결과에 없는 랭킹 키(상품이 모두 삭제된 브랜드 등)를 삭제합니다.
+     *
+     * @return 랭킹에 포함된 상품 수
+     */
+    public int rebuild() {
+        if (!enabled) {
+            return 0;
+        }
+
+        String tempSuffix = REBUILD_TEMP_INFIX + System.currentTimeMillis();
+        Set<String> rankingKeys = new HashSet<>();
+        long lastProductId = 0L;
+        int rankedCount = 0;
+
+        while (true) {
+            List<ProductMaterializedViewEntity> batch = mvRepository.findAllAfterProductId(lastProductId, REBUILD_BATCH_SIZE);
+            if (batch.isEmpty()) {
+                break;
+            }
+
+            Map<String, Set<ZSetOperations.TypedTuple<String>>> tuplesByKey = new HashMap<>();
+            for (ProductMaterializedViewEntity product : batch) {
+                ZSetOperations.TypedTuple<String> tuple = ZSetOperations.TypedTuple.of(
+                        String.valueOf(product.getProductId()), product.getLikeCount().doubleValue());
+                for (String key : rankingKeys(product.getBrandId())) {
+                    tuplesByKey.computeIfAbsent(key, k -> new HashSet<>()).add(tuple);
+                }
+            }
+            rankingKeys.addAll(tuplesByKey.keySet());
+
+            redisTemplate.executePipelined(new SessionCallback<Object>() {
+                @Override
+                @SuppressWarnings("unchecked")
+                public <K, V> Object execute(RedisOperations<K, V> operations) {
+                    RedisOperations<String, String> stringOperations = (RedisOperations<String, String>) operations;
+                    tuplesByKey.forEach((key, tuples) -> {
+                        stringOperations.opsForZSet().add(key + tempSuffix, tuples);
+                        stringOperations.expire(key + tempSuffix, REBUILD_TEMP_TTL);
+                    });
+                    return null;
+                }
+            });
+
+            rankedCount += batch.size();
+            lastProductId = batch.get(batch.size() - 1).getProductId();
+        }
+
+        for (String key : rankingKeys) {
+            redisTemplate.rename(key + tempSuffix, key);
+            redisTemplate.persist(key);
+        }
+        int staleCount = deleteStaleRankingKeys(rankingKeys);
+
+        log.info("좋아요 랭킹 재구축 완료 - 상품: {}개, 랭킹 키: {}개, 삭제된 랭킹 키: {}개",
+                rankedCount, rankingKeys.size(), staleCount);
+        return rankedCount;
+    }
+
+    /**
+     * 재구축 결과에 없는 랭킹 키를 삭제합니다.
+     * 다른 재구축이 채우는 중인 임시 키는 TTL로 정리되므로 제외합니다.
+     *
+     * @param rebuiltKeys 재구축된 랭킹 키
+     * @return 삭제한 키 수
+     */
+    private int deleteStaleRankingKeys(Set<String> rebuiltKeys) {
+        ScanOptions options = ScanOptions.scanOptions()
+                .match(cacheKeyGenerator.generateLikeRankingPattern())
+                .count(100)
+                .build();
+
+        Set<String> staleKeys = new HashSet<>();
+        try (Cursor<String> cursor = redisTemplate.scan(options)) {
+            cursor.forEachRemaining(key -> {
+                if (!rebuiltKeys.contains(key) && !key.contains(REBUILD_TEMP_INFIX)) {
+                    staleKeys.add(key);
+                }
+            });
+        }
+
+        if (!staleKeys.isEmpty()) {
+            redisTemplate.delete(staleKeys);
+        }
+        return staleKeys.size();
+    }
+
+    private List<String> rankingKeys(Long brandId) {
+        List<String> keys = new ArrayList<>(2);
+        keys.add(cacheKeyGenerator.generateLikeRankingKey(null));
+        if (brandId != null) {
+            keys.add(cacheKeyGenerator.generateLikeRankingKey(brandId));
+        }
+        return keys;
+    }
+}
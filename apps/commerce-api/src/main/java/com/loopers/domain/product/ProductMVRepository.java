@@ -1,12 +1,14 @@
 package com.loopers.domain.product;
 
 import java.time.ZonedDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
-import org.springframework.data.domain.Page;
-import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 
+import com.loopers.domain.product.dto.ProductCursor;
+import com.loopers.domain.product.dto.ProductListRow;
 import com.loopers.domain.product.dto.ProductSearchFilter;
 
 /**
@@ -27,31 +29,32 @@ public interface ProductMVRepository {
      * @return 상품 MV (존재하지 않으면 Optional.empty())
      */
     Optional<ProductMaterializedViewEntity> findById(Long productId);
+
     /**
-     * 브랜드별 상품 MV를 페이징 조회합니다.
+     * 여러 상품 ID로 MV를 일괄 조회합니다.
      *
-     * @param brandId  브랜드 ID
-     * @param pageable 페이징 정보
-     * @return 페이징된 상품 MV 목록
+     * @param productIds 상품 ID 목록
+     * @return 상품 MV 목록
      */
-    Page<ProductMaterializedViewEntity> findByBrandId(Long brandId, Pageable pageable);
+    List<ProductMaterializedViewEntity> findByIdIn(List<Long> productIds);
 
     /**
-     * 상품명으로 검색하여 MV를 페이징 조회합니다.
+     * 여러 상품 ID로 목록 행만 일괄 조회합니다. (엔티티 대신 목록 컬럼 프로젝션)
      *
-     * @param keyword  검색 키워드 (상품명에 포함된 문자열)
-     * @param pageable 페이징 정보
-     * @return 페이징된 상품 MV 목록
+     * @param productIds 상품 ID 목록
+     * @return 상품 목록 행
      */
-    Page<ProductMaterializedViewEntity> findByNameContaining(String keyword, Pageable pageable);
+    List<ProductListRow> findListRowsByIdIn(List<Long> productIds);
 
     /**
-     * 여러 상품 ID로 MV를 일괄 조회합니다.
+     * 상품 ID 오름차순으로 지정된 ID 이후의 MV를 조회합니다.
+     * 검색 색인 구축 등 전체 MV를 나누어 순회할 때 사용합니다.
      *
-     * @param productIds 상품 ID 목록
-     * @return 상품 MV 목록
+     * @param lastProductId 마지막으로 조회한 상품 ID (처음이면 0)
+     * @param limit         조회 개수
+     * @return MV 목록
      */
-    List<ProductMaterializedViewEntity> findByIdIn(List<Long> productIds);
+    List<ProductMaterializedViewEntity> findAllAfterProductId(Long lastProductId, int limit);
 
     /**
      * 지정된 시간 이전에 업데이트된 MV를 조회합니다.
@@ -103,20 +106,59 @@ public interface ProductMVRepository {
     long count();
 
     /**
-     * 검색 필터를 기반으로 상품 MV를 페이징 조회합니다.
+     * 검색 필터를 기반으로 상품 목록 행만 조회합니다. (COUNT 쿼리 없음)
+     *
+     * @param searchFilter 검색 필터 (브랜드 ID, 상품명, 페이징 정보)
+     * @return 상품 목록 행
+     */
+    List<ProductListRow> findContentBySearchFilter(ProductSearchFilter searchFilter);
+
+    /**
+     * 검색 필터를 기반으로 상품 목록 행을 Slice로 조회합니다.
+     * 다음 페이지 존재 여부만 판단하며 COUNT 쿼리를 실행하지 않습니다.
      *
      * @param searchFilter 검색 필터 (브랜드 ID, 상품명, 페이징 정보)
-     * @return 페이징된 상품 MV 목록
+     * @return 상품 목록 행 Slice
+     */
+    Slice<ProductListRow> findSliceBySearchFilter(ProductSearchFilter searchFilter);
+
+    /**
+     * 검색 필터 조건에 해당하는 상품 MV 개수를 조회합니다.
+     *
+     * @param searchFilter 검색 필터 (브랜드 ID, 상품명)
+     * @return 상품 MV 개수
+     */
+    long countBySearchFilter(ProductSearchFilter searchFilter);
+
+    /**
+     * 검색 필터와 커서를 기반으로 상품 목록 행을 keyset 방식으로 조회합니다.
+     * OFFSET/COUNT 없이 커서 이후 행만 조회합니다.
+     *
+     * @param searchFilter 검색 필터 (브랜드 ID, 상품명)
+     * @param cursor       커서
+     * @param limit        조회 개수
+     * @return 상품 목록 행
      */
-    Page<ProductMaterializedViewEntity> findBySearchFilter(ProductSearchFilter searchFilter);
+    List<ProductListRow> findBySearchFilterAfter(ProductSearchFilter searchFilter, ProductCursor cursor, int limit);
 
 
     /**
-     * 지정된 시간 이후에 변경된 상품 MV를 동기화용 DTO로 조회합니다.
-     * 배치 동기화 작업에 사용됩니다.
+     * 지정된 시간 이후에 변경된 상품을 상품 ID 오름차순으로 지정된 ID 이후부터 동기화용 DTO로 조회합니다.
+     * 배치 동기화 작업에서 청크 단위로 나누어 조회할 때 사용됩니다.
      *
      * @param lastBatchTime 마지막 배치 처리 시간
-     * @return 변경된 상품 MV DTO 목록
+     * @param lastProductId 직전 청크의 마지막 상품 ID (처음이면 0)
+     * @param limit         조회 개수 (청크 크기)
+     * @return 변경된 상품 MV DTO 목록 (상품 ID 오름차순)
+     */
+    List<ProductMVSyncDto> findChangedProductsForSync(ZonedDateTime lastBatchTime, Long lastProductId, int limit);
+
+    /**
+     * 지정된 상품들의 최신 데이터를 동기화용 DTO로 조회합니다.
+     * 변경 이벤트 기반 증분 동기화에 사용됩니다.
+     *
+     * @param productIds 상품 ID 목록
+     * @return 상품 DTO 목록 (삭제된 상품 제외)
      */
-    List<ProductMVSyncDto> findChangedProductsForSync(ZonedDateTime lastBatchTime);
+    List<ProductMVSyncDto> findProductsForSync(Collection<Long> productIds);
 }
@@ -1,23 +1,41 @@
 package com.loopers.domain.product;
 
+import java.time.Duration;
 import java.time.ZonedDateTime;
 import java.util.*;
-import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BiConsumer;
 import java.util.stream.Collectors;
 
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.support.PageableExecutionUtils;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import com.loopers.application.product.BatchUpdateResult;
+import com.loopers.application.product.ProductInfo;
+import com.loopers.config.jpa.ReplicaRoutingContext;
 import com.loopers.domain.brand.BrandEntity;
+import com.loopers.domain.product.dto.CursorPage;
+import com.loopers.domain.product.dto.ProductCursor;
+import com.loopers.domain.product.dto.ProductListRow;
 import com.loopers.domain.product.dto.ProductSearchFilter;
+import com.loopers.domain.product.dto.ProductSearchResult;
+import com.loopers.infrastructure.cache.CacheLoadCoordinator;
+import com.loopers.infrastructure.cache.CacheMetrics;
 import com.loopers.infrastructure.cache.CacheStrategy;
+import com.loopers.infrastructure.product.ProductMVSyncProperties;
 import com.loopers.support.error.CoreException;
 import com.loopers.support.error.ErrorType;
 
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 
@@ -38,8 +56,15 @@ public class ProductMVService {
 
     private final ProductMVRepository mvRepository;
     private final ProductCacheService productCacheService;
-    private final AtomicReference<ZonedDateTime> lastBatchTime =
-                       new AtomicReference<>(ZonedDateTime.now().minusYears(1)); // 초기값
+    private final ProductSearchIndex searchIndex;
+    private final ProductLikeRankingService rankingService;
+    private final CacheLoadCoordinator cacheLoadCoordinator;
+    private final CacheMetrics cacheMetrics;
+    private final ProductMVSyncProperties syncProperties;
+    private final TransactionTemplate transactionTemplate;
+    private final MeterRegistry meterRegistry;
+    private final ProductMVSyncStateRepository syncStateRepository;
+
     /**
      * 상품 ID로 MV를 조회합니다.
      *
@@ -55,185 +80,579 @@ public class ProductMVService {
     }
 
     /**
-     * 브랜드별 상품 MV를 페이징 조회합니다.
+     * 캐시된 ID 순서대로 목록 행을 조회합니다.
+     * <p>
+     * 행 캐시(MGET 1회)에서 먼저 찾고, 없는 상품만 MV에서 한 번에 조회한 뒤 캐시에 채워 넣습니다.
+     * 모든 행이 캐시에 있으면 DB를 조회하지 않습니다.
+     *
+     * 전체 개수는 ID 리스트와 함께 캐시된 브랜드별/전체 개수를 사용합니다.
      *
-     * @param brandId  브랜드 ID
-     * @param pageable 페이징 정보
-     * @return 페이징된 상품 MV 목록
+     * @param productIds 상품 ID 목록 (정렬 순서 유지)
+     * @param filter     검색 조건 (페이징 정보, 전체 개수 조회 기준)
+     * @return 페이징된 상품 목록
      */
-    public Page<ProductMaterializedViewEntity> findByBrandId(Long brandId, Pageable pageable) {
-        return mvRepository.findByBrandId(brandId, pageable);
+    public Page<ProductInfo> findByIdsAsPage(List<Long> productIds, ProductSearchFilter filter) {
+        List<ProductInfo> content = loadRowsInOrder(productIds);
+        return PageableExecutionUtils.getPage(content, filter.pageable(), () -> resolveTotalCount(filter));
     }
 
     /**
-     * @param productIds 상품 ID 목록
-     * @param pageable   페이징 정보
-     * @return 페이징된 상품 MV 목록
+     * ID 순서대로 목록 행을 채웁니다. (행 캐시 → 미스분만 MV 조회)
+     *
+     * @param productIds 상품 ID 목록 (정렬 순서 유지)
+     * @return 목록 행 (삭제된 상품 제외)
      */
-    public Page<ProductMaterializedViewEntity> findByIdsAsPage(List<Long> productIds, Pageable pageable) {
-        List<ProductMaterializedViewEntity> mvEntities = mvRepository.findByIdIn(productIds);
-        return new PageImpl<>(mvEntities, pageable, mvEntities.size());
+    private List<ProductInfo> loadRowsInOrder(List<Long> productIds) {
+        Map<Long, ProductInfo> rows = productCacheService.getProductRowsFromCache(productIds);
+
+        List<Long> missingIds = productIds.stream()
+                .filter(id -> !rows.containsKey(id))
+                .toList();
+
+        if (!missingIds.isEmpty()) {
+            List<ProductInfo> loadedRows = mvRepository.findListRowsByIdIn(missingIds).stream()
+                    .map(ProductInfo::from)
+                    .toList();
+            loadedRows.forEach(row -> rows.put(row.id(), row));
+            productCacheService.cacheProductRows(loadedRows);
+
+            log.debug("목록 행 캐시 보충 - 미스: {}개, 로드: {}개", missingIds.size(), loadedRows.size());
+        }
+
+        // 캐시된 ID 순서(정렬 순서) 유지, 삭제된 상품은 제외
+        return productIds.stream()
+                .map(rows::get)
+                .filter(Objects::nonNull)
+                .toList();
     }
 
-    // ========== MV 엔티티 조회 (캐시 전략 포함) ==========
+    // ========== 상품 목록 조회 (캐시 전략 포함) ==========
 
     /**
-     * 캐시 전략에 따라 MV 엔티티 목록을 조회합니다.
+     * 캐시 전략에 따라 상품 목록을 조회합니다.
+     * <p>
+     * Hot/Warm 캐시 히트 시 엔티티 없이 캐시된 목록 행으로 응답하므로 ProductInfo 페이지를 반환합니다.
      * <p>
-     * 도메인 엔티티만 반환하며, DTO 변환은 Facade에서 수행합니다.
+     * 상품명 검색은 전략(빈도 기반 승격 포함)과 관계없이 색인이 준비되어 있으면 색인으로 처리하고,
+     * ID 리스트 캐시와 DB LIKE 검색은 색인을 쓸 수 없을 때만 사용합니다.
      *
      * @param filter   검색 조건
      * @param strategy 캐시 전략
-     * @return MV 엔티티 페이지
+     * @return 상품 목록 페이지
      */
     @Transactional(readOnly = true)
-    public Page<ProductMaterializedViewEntity> getMVEntitiesByStrategy(
+    public Page<ProductInfo> getProductsByStrategy(
             ProductSearchFilter filter,
             CacheStrategy strategy
     ) {
+        Optional<Page<ProductInfo>> indexed = findByLikeRanking(filter).or(() -> searchByIndex(filter));
+        if (indexed.isPresent()) {
+            return indexed.get();
+        }
+
+        // 랭킹을 쓰면 좋아요 변경으로 목록 세대를 올리지 않으므로, 랭킹이 응답하지 못한 좋아요 정렬 목록은 ID 리스트를 캐시하지 않음
+        if (rankingService.isEnabled() && sortsByLikeCount(filter.pageable().getSort())) {
+            strategy = CacheStrategy.COLD;
+        }
+
         return switch (strategy) {
             case HOT -> getProductsWithCache(filter, CacheStrategy.HOT);
             case WARM -> getProductsWithCache(filter, CacheStrategy.WARM);
-            default -> findBySearchFilter(filter);
+            default -> {
+                cacheMetrics.bypass(CacheMetrics.FAMILY_IDS, CacheStrategy.COLD);
+                yield findBySearchFilter(filter);
+            }
         };
     }
 
-    public Page<ProductMaterializedViewEntity> findBySearchFilter(ProductSearchFilter filter) {
-        return mvRepository.findBySearchFilter(filter);
+    /**
+     * 상품명 검색을 검색 색인으로 처리합니다.
+     * <p>
+     * 색인이 정렬/페이징된 상품 ID와 전체 건수를 반환하고, 행은 행 캐시/MV로 채웁니다.
+     * 상품명 검색이 아니거나 색인이 준비되지 않았으면 Optional.empty()를 반환하여 DB 검색으로 대체합니다.
+     *
+     * @param filter 검색 조건
+     * @return 상품 목록 페이지
+     */
+    private Optional<Page<ProductInfo>> searchByIndex(ProductSearchFilter filter) {
+        if (!isNameSearch(filter)) {
+            return Optional.empty();
+        }
+
+        return searchIndex.search(filter)
+                .map(result -> new PageImpl<>(loadRowsInOrder(result.productIds()), filter.pageable(), result.totalHits()));
+    }
+
+    /**
+     * 좋아요순(기본 정렬) 목록을 랭킹 ZSET으로 조회합니다.
+     * <p>
+     * 어떤 페이지든 ZREVRANGE 한 번으로 ID를 얻고 행은 행 캐시/MV로 채우며,
+     * 좋아요 수는 랭킹 점수(실시간 값)로 덮어씁니다.
+     * 상품명 검색, 다른 정렬, 랭킹 미구축 시에는 Optional.empty()를 반환합니다.
+     *
+     * @param filter 검색 조건
+     * @return 상품 목록 페이지
+     */
+    private Optional<Page<ProductInfo>> findByLikeRanking(ProductSearchFilter filter) {
+        if (isNameSearch(filter) || !isLikeCountDesc(filter.pageable().getSort())) {
+            return Optional.empty();
+        }
+
+        Pageable pageable = filter.pageable();
+        return rankingService.getRankingPage(filter.brandId(), pageable.getOffset(), pageable.getPageSize())
+                .map(ranking -> {
+                    List<ProductInfo> content = loadRowsInOrder(ranking.productIds()).stream()
+                            .map(row -> row.withLikeCount(ranking.likeCounts().get(row.id())))
+                            .toList();
+                    return new PageImpl<>(content, pageable, ranking.total());
+                });
+    }
+
+    /**
+     * 좋아요 수가 정렬 키에 포함되는지 확인합니다. (기본 정렬 포함)
+     */
+    private boolean sortsByLikeCount(Sort sort) {
+        return sort.isUnsorted() || sort.stream().anyMatch(order -> "likeCount".equals(order.getProperty()));
+    }
+
+    private boolean isLikeCountDesc(Sort sort) {
+        if (sort.isUnsorted()) {
+            return true; // 기본 정렬: 좋아요 수 내림차순
+        }
+        List<Sort.Order> orders = sort.toList();
+        return orders.size() == 1
+                && "likeCount".equals(orders.get(0).getProperty())
+                && orders.get(0).isDescending();
+    }
+
+    /**
+     * MV 동기화로 변경된 상품을 검색 색인과 좋아요 랭킹에 반영합니다.
+     * MV 동기화 커밋 후 배치 스케줄러에서 호출됩니다.
+     * <p>
+     * 방금 커밋한 MV를 읽으므로 replica 지연으로 누락되지 않도록 main 에서 조회합니다.
+     *
+     * @param productIds 변경된 상품 ID 목록
+     */
+    public void refreshDerivedIndexes(Collection<Long> productIds) {
+        if (productIds == null || productIds.isEmpty()) {
+            return;
+        }
+
+        List<ProductMaterializedViewEntity> products = ReplicaRoutingContext.readFromPrimary(
+                () -> mvRepository.findByIdIn(List.copyOf(productIds)));
+        searchIndex.index(products);
+        rankingService.reconcile(products);
+    }
+
+    /**
+     * commerce-streamer가 좋아요 수를 갱신한 상품의 검색 색인을 다시 쓰고 상세/행 캐시를 무효화합니다.
+     * <p>
+     * 랭킹은 좋아요 시점의 증분 반영을 그대로 둡니다. (스트리머 반영 전의 MV 값으로 랭킹을 되돌리지 않기 위함)
+     * 랭킹이 꺼져 있으면 좋아요순 목록도 ID 리스트 캐시로 응답하므로 해당 브랜드/전체 목록 세대를 올립니다.
+     *
+     * @param productIds 좋아요가 변경된 상품 ID 목록
+     */
+    public void refreshAfterLikeCountChanges(Collection<Long> productIds) {
+        if (productIds == null || productIds.isEmpty()) {
+            return;
+        }
+
+        List<ProductMaterializedViewEntity> products = ReplicaRoutingContext.readFromPrimary(
+                () -> mvRepository.findByIdIn(List.copyOf(productIds)));
+        searchIndex.index(products);
+
+        Set<Long> affectedBrandIds = rankingService.isEnabled()
+                ? Set.of()
+                : products.stream().map(ProductMaterializedViewEntity::getBrandId).collect(Collectors.toSet());
+        productCacheService.evictCachesAfterMVSync(Set.copyOf(productIds), affectedBrandIds);
+    }
+
+    /**
+     * 검색 조건으로 상품 목록을 페이징 조회합니다.
+     * <p>
+     * 목록 쿼리만 실행하고(목록 컬럼 프로젝션), 전체 개수는 캐시된 값을 사용합니다.
+     *
+     * @param filter 검색 조건
+     * @return 페이징된 상품 목록
+     */
+    public Page<ProductInfo> findBySearchFilter(ProductSearchFilter filter) {
+        List<ProductInfo> content = mvRepository.findContentBySearchFilter(filter).stream()
+                .map(ProductInfo::from)
+                .toList();
+        return PageableExecutionUtils.getPage(content, filter.pageable(), () -> resolveTotalCount(filter));
+    }
+
+    /**
+     * 검색 조건으로 상품 목록을 Slice로 조회합니다.
+     * 무한 스크롤용으로 다음 페이지 존재 여부만 제공하며 COUNT 쿼리를 실행하지 않습니다.
+     *
+     * @param filter 검색 조건
+     * @return 상품 목록 Slice
+     */
+    public Slice<ProductInfo> findSliceBySearchFilter(ProductSearchFilter filter) {
+        Optional<Page<ProductInfo>> indexed = findByLikeRanking(filter).or(() -> searchByIndex(filter));
+        if (indexed.isPresent()) {
+            return indexed.get();
+        }
+        return mvRepository.findSliceBySearchFilter(filter).map(ProductInfo::from);
+    }
+
+    /**
+     * 브랜드별/전체 개수를 다시 계산하여 캐시합니다.
+     * 증분 갱신 누락을 보정하기 위해 Hot 캐시 갱신 배치에서 호출됩니다.
+     *
+     * @param brandId 브랜드 ID (null이면 전체)
+     * @return 전체 개수
+     */
+    public long refreshTotalCount(Long brandId) {
+        long total = mvRepository.countBySearchFilter(new ProductSearchFilter(brandId, null, Pageable.unpaged()));
+        productCacheService.cacheTotalCount(brandId, total);
+        return total;
+    }
+
+    /**
+     * 검색 조건의 전체 개수를 조회합니다.
+     * <p>
+     * 상품명 검색이 없으면 브랜드별/전체 개수 캐시를 사용하고, 미스 시에만 COUNT 후 캐시합니다.
+     * 상품명 검색은 색인의 검색 건수를 사용하고, 색인을 쓸 수 없을 때만 COUNT를 실행합니다. (Slice 모드 권장)
+     */
+    private long resolveTotalCount(ProductSearchFilter filter) {
+        if (isNameSearch(filter)) {
+            return searchIndex.search(filter)
+                    .map(ProductSearchResult::totalHits)
+                    .orElseGet(() -> mvRepository.countBySearchFilter(filter));
+        }
+
+        return productCacheService.getTotalCount(filter.brandId())
+                .orElseGet(() -> refreshTotalCount(filter.brandId()));
+    }
+
+    private boolean isNameSearch(ProductSearchFilter filter) {
+        return filter.productName() != null && !filter.productName().isBlank();
+    }
+
+    /**
+     * 커서 기반(keyset)으로 상품 목록을 조회합니다.
+     * <p>
+     * 깊은 페이지도 OFFSET 스캔 없이 인덱스 탐색으로 조회합니다.
+     * 커서가 없으면 요청 정렬 조건으로 첫 페이지를 조회하고, 커서가 있으면 커서의 정렬 조건을 따릅니다.
+     * 다음 페이지 존재 여부는 size + 1건을 조회하여 판단합니다.
+     *
+     * @param filter      검색 조건 (정렬은 첫 페이지에만 사용)
+     * @param cursorToken 이전 응답의 nextCursor (첫 페이지는 null)
+     * @param size        페이지 크기
+     * @return 커서 페이지
+     */
+    public CursorPage<ProductInfo> findByCursor(ProductSearchFilter filter, String cursorToken, int size) {
+        ProductCursor cursor = cursorToken == null || cursorToken.isBlank()
+                ? ProductCursor.first(filter.pageable().getSort())
+                : ProductCursor.decode(cursorToken);
+
+        List<ProductListRow> rows = mvRepository.findBySearchFilterAfter(filter, cursor, size + 1);
+
+        boolean hasNext = rows.size() > size;
+        List<ProductListRow> content = hasNext ? rows.subList(0, size) : rows;
+        String nextCursor = hasNext ? cursor.next(content.get(content.size() - 1)).encode() : null;
+
+        return new CursorPage<>(content, size, nextCursor, hasNext).map(ProductInfo::from);
     }
 
     /**
-     * 캐시를 사용하여 MV 엔티티를 조회합니다.
+     * 캐시를 사용하여 상품 목록을 조회합니다.
      */
-    private Page<ProductMaterializedViewEntity> getProductsWithCache(
+    private Page<ProductInfo> getProductsWithCache(
             ProductSearchFilter filter,
             CacheStrategy strategy
     ) {
         Long brandId = filter.brandId();
         Pageable pageable = filter.pageable();
 
-        // 1. 캐시에서 ID 리스트 조회
-        Optional<List<Long>> cachedIds = productCacheService.getProductIdsFromCache(
-                strategy, brandId, pageable
-        );
+        // 1. 캐시에서 ID 리스트 조회 (키는 현재 목록 세대 기준으로 적재까지 고정)
+        String idsKey = productCacheService.productIdsKey(strategy, filter);
+        Optional<List<Long>> cachedIds = productCacheService.getProductIdsFromCache(strategy, idsKey);
 
         if (cachedIds.isPresent() && ! cachedIds.get().isEmpty()) {
             log.debug("{} 캐시 히트 - brandId: {}, page: {}", strategy, brandId, pageable.getPageNumber());
-            return findByIdsAsPage(cachedIds.get(), pageable);
+            return findByIdsAsPage(cachedIds.get(), filter);
         }
 
         log.debug("{} 캐시 미스 - brandId: {}, page: {}", strategy, brandId, pageable.getPageNumber());
 
-        // 2. 통합된 searchFilter 기반 조회로 변경
-        Page<ProductMaterializedViewEntity> mvProducts = mvRepository.findBySearchFilter(filter);
+        // 2. 동시 미스는 키당 한 번만 조회 (나머지는 적재 결과 또는 채워진 캐시 사용)
+        return cacheLoadCoordinator.load(
+                idsKey,
+                () -> productCacheService.getProductIdsFromCache(strategy, idsKey)
+                        .filter(ids -> !ids.isEmpty())
+                        .map(ids -> findByIdsAsPage(ids, filter)),
+                () -> loadProductsAndCache(filter, strategy, idsKey)
+        );
+    }
+
+    private Page<ProductInfo> loadProductsAndCache(ProductSearchFilter filter, CacheStrategy strategy, String idsKey) {
+        long startTime = System.nanoTime();
+        Page<ProductInfo> products = findBySearchFilter(filter);
+        Duration computeTime = Duration.ofNanos(System.nanoTime() - startTime);
 
-        // 3. ID 리스트 캐싱
-        List<Long> productIds = mvProducts.getContent().stream()
-                .map(ProductMaterializedViewEntity::getProductId)
+        // ID 리스트 및 목록 행 캐싱
+        List<Long> productIds = products.getContent().stream()
+                .map(ProductInfo::id)
                 .toList();
 
-        productCacheService.cacheProductIds(strategy, brandId, pageable, productIds);
+        productCacheService.cacheProductIds(idsKey, strategy, productIds, computeTime);
+        productCacheService.cacheProductRows(products.getContent());
 
-        return mvProducts;
+        return products;
     }
 
     /**
-     * MV 테이블을 원본 테이블과 동기화합니다.
-     * 배치 스케줄러에서 주기적으로 호출됩니다.
+     * MV 테이블을 원본 테이블과 동기화합니다. (스케줄 락 없이 실행, 수동/테스트용)
      *
-     * @return 배치 업데이트 결과
+     * @return 배치 업데이트 결과 (건수/소요 시간 합계)
+     * @see #syncMaterializedView(Long, BiConsumer)
      */
-    @Transactional
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public BatchUpdateResult syncMaterializedView() {
+        return syncMaterializedView(null, (chunkResult, initialLoad) -> {
+        });
+    }
+
+    /**
+     * MV 테이블을 원본 테이블과 청크 단위로 동기화합니다.
+     * 배치 스케줄러에서 주기적으로 호출됩니다. (이벤트 기반 갱신 누락 보정)
+     * <p>
+     * 마지막 동기화 이후 변경된 상품을 상품 ID 오름차순 keyset(ID 이후 N건)으로 나누어 조회하고,
+     * 청크마다 별도 트랜잭션으로 커밋합니다. 한 번에 메모리에 올리는 행과 트랜잭션 길이가 청크 크기로 제한되므로
+     * 전체 상품이 변경 대상이어도 힙 사용량과 락 유지 시간이 일정합니다.
+     * <p>
+     * 진행 상태({@link ProductMVSyncCheckpoint})는 청크와 같은 트랜잭션으로 DB에 저장됩니다.
+     * 청크가 실패하거나 인스턴스가 재시작되어도 다음 실행은 같은 기준 시간으로 마지막 커밋 위치부터 이어서 처리하고,
+     * 모든 청크가 끝나야 기준 시간을 이번 동기화 시작 시각으로 갱신합니다. (진행 중 변경분은 다음 동기화에서 반영)
+     *
+     * @param fencingToken  스케줄 락 fencing token (더 새로운 락 보유자가 기록했으면 청크를 롤백하고 중단, null 이면 확인 생략)
+     * @param chunkCallback 청크 커밋 후 호출 (청크 결과, 최초 적재 여부), 변경 ID를 청크 단위로만 보관
+     * @return 배치 업데이트 결과 (건수/소요 시간 합계, 변경 ID는 청크 결과로만 전달)
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public BatchUpdateResult syncMaterializedView(Long fencingToken, BiConsumer<BatchUpdateResult, Boolean> chunkCallback) {
         long startTime = System.currentTimeMillis();
-        int updatedCount = 0;
+        int chunkSize = syncProperties.chunkSize();
+        int chunkCount = 0;
         int createdCount = 0;
-
-        // 변경 추적용
-        Set<Long> changedProductIds = new HashSet<>();
-        Set<Long> affectedBrandIds = new HashSet<>();
+        int updatedCount = 0;
+        ProductMVSyncCheckpoint current = null;
 
         try {
-            log.info("MV 배치 동기화 시작 - 마지막 배치 시간: {}", lastBatchTime);
+            current = syncStateRepository.findCheckpoint().begin(ZonedDateTime.now());
+            log.info("MV 배치 동기화 시작 - 기준 시간: {}, 시작 상품 ID: {}, 청크 크기: {}",
+                    current.since(), current.lastProductId(), chunkSize);
+
+            while (true) {
+                ProductMVSyncCheckpoint position = current;
+                long chunkStart = System.nanoTime();
+                ChunkResult chunk = transactionTemplate.execute(status -> syncChunk(position, chunkSize, fencingToken));
+                long chunkNanos = System.nanoTime() - chunkStart;
+
+                if (chunk.fetched() == 0) {
+                    break;
+                }
 
-            List<ProductMVSyncDto> changedProducts = mvRepository.findChangedProductsForSync(lastBatchTime.get());
+                chunkCount++;
+                createdCount += chunk.result().getCreatedCount();
+                updatedCount += chunk.result().getUpdatedCount();
+                current = current.advance(chunk.lastProductId());
+                recordChunk(chunk, chunkNanos);
 
-            if (changedProducts.isEmpty()) {
-                log.info("변경된 상품이 없습니다.");
-                long duration = System.currentTimeMillis() - startTime;
-                lastBatchTime.set(ZonedDateTime.now()); // 배치 시간 갱신
-                return BatchUpdateResult.success(0, 0, duration, changedProductIds, affectedBrandIds);
-            }
+                log.info("MV 동기화 청크 {} 완료 - 조회: {}건, 생성: {}건, 갱신: {}건, 마지막 상품 ID: {}, 소요: {}ms",
+                        chunkCount, chunk.fetched(), chunk.result().getCreatedCount(),
+                        chunk.result().getUpdatedCount(), chunk.lastProductId(), TimeUnit.NANOSECONDS.toMillis(chunkNanos));
 
-            log.info("변경 감지: {}건", changedProducts.size());
+                chunkCallback.accept(chunk.result(), current.isInitialLoad());
 
-            // 2. 변경된 상품 ID 목록 추출
-            List<Long> productIds = changedProducts.stream()
-                    .map(ProductMVSyncDto::getProductId)
-                    .collect(Collectors.toList());
+                if (chunk.fetched() < chunkSize) {
+                    break;
+                }
+            }
 
-            // 3. 기존 MV 조회 (변경된 상품만)
-            Map<Long, ProductMaterializedViewEntity> existingMVMap = mvRepository.findByIdIn(productIds).stream()
-                    .collect(Collectors.toMap(ProductMaterializedViewEntity::getProductId, mv -> mv));
+            // 전체 완료 시에만 기준 시간 갱신 (동기화 시작 이후 변경분은 다음 실행에서 다시 조회)
+            saveCheckpoint(current.complete(), fencingToken);
 
-            // 4. MV 생성 또는 업데이트
-            List<ProductMaterializedViewEntity> toSave = new ArrayList<>();
+            long duration = System.currentTimeMillis() - startTime;
+            log.info("MV 배치 동기화 완료 - 청크: {}개, 생성: {}건, 갱신: {}건, 소요: {}ms",
+                    chunkCount, createdCount, updatedCount, duration);
+            return BatchUpdateResult.success(createdCount, updatedCount, duration);
 
-            for (ProductMVSyncDto dto : changedProducts) {
-                ProductMaterializedViewEntity existingMV = existingMVMap.get(dto.getProductId());
+        } catch (Exception e) {
+            long duration = System.currentTimeMillis() - startTime;
+            log.error("MV 배치 동기화 실패 - 완료 청크: {}개, 재개 상품 ID: {}, 소요: {}ms",
+                    chunkCount, current != null ? current.lastProductId() : null, duration, e);
+            return BatchUpdateResult.failure(e.getMessage(), duration);
+        }
+    }
 
-                if (existingMV == null) {
-                    // 신규 생성
-                    ProductMaterializedViewEntity newMV = ProductMaterializedViewEntity.fromDto(dto);
-                    toSave.add(newMV);
-                    createdCount++;
+    /**
+     * 진행 위치 이후 변경된 상품 한 청크를 MV에 반영하고 진행 상태를 저장합니다. (청크 트랜잭션 안에서 호출)
+     */
+    private ChunkResult syncChunk(ProductMVSyncCheckpoint position, int chunkSize, Long fencingToken) {
+        long startTime = System.currentTimeMillis();
+        List<ProductMVSyncDto> changedProducts =
+                mvRepository.findChangedProductsForSync(position.since(), position.lastProductId(), chunkSize);
+        if (changedProducts.isEmpty()) {
+            return new ChunkResult(0, position.lastProductId(), BatchUpdateResult.success(0, 0, 0));
+        }
 
-                    // 변경 추적
-                    changedProductIds.add(dto.getProductId());
-                    affectedBrandIds.add(dto.getBrandId());
-                } else {
-                    // 기존 MV와 비교하여 실제 변경이 있는 경우만 업데이트
-                    boolean hasChanges = ProductMaterializedViewEntity.hasActualChangesFromDto(existingMV, dto);
-
-                    if (hasChanges) {
-                        syncMVFromDto(existingMV, dto);
-                        toSave.add(existingMV);
-                        updatedCount++;
-
-                        // 변경 추적
-                        changedProductIds.add(dto.getProductId());
-                        affectedBrandIds.add(dto.getBrandId());
-                    }
-                }
-            }
+        long lastProductId = changedProducts.get(changedProducts.size() - 1).getProductId();
+        BatchUpdateResult result = applySync(changedProducts, startTime);
+        saveCheckpoint(position.advance(lastProductId), fencingToken);
+        return new ChunkResult(changedProducts.size(), lastProductId, result);
+    }
 
-            // 5. 일괄 저장
-            if (!toSave.isEmpty()) {
-                mvRepository.saveAll(toSave);
-            }
+    private void saveCheckpoint(ProductMVSyncCheckpoint checkpoint, Long fencingToken) {
+        if (!syncStateRepository.saveCheckpoint(checkpoint, fencingToken)) {
+            throw new IllegalStateException("다른 노드가 MV 동기화를 이어받아 진행 상태를 기록할 수 없습니다. (fencing token: "
+                    + fencingToken + ")");
+        }
+    }
 
-            // 6. 배치 시간 갱신
-            lastBatchTime.set(ZonedDateTime.now());
+    private void recordChunk(ChunkResult chunk, long nanos) {
+        Timer.builder("product.mv.sync.chunk")
+                .description("MV 대조 동기화 청크 처리 시간 (조회 + 반영 + 커밋)")
+                .register(meterRegistry)
+                .record(nanos, TimeUnit.NANOSECONDS);
+        meterRegistry.counter("product.mv.sync.rows").increment(chunk.fetched());
+    }
 
-            long duration = System.currentTimeMillis() - startTime;
-            log.info("MV 배치 동기화 완료 - 생성: {}건, 갱신: {}건, 변경된 상품: {}개, 영향받은 브랜드: {}개, 소요: {}ms",
-                    createdCount, updatedCount, changedProductIds.size(), affectedBrandIds.size(), duration);
-
-            return BatchUpdateResult.success(
-                    createdCount,
-                    updatedCount,
-                    duration,
-                    changedProductIds,
-                    affectedBrandIds
-            );
+    /**
+     * 지정된 상품들의 MV만 원본 테이블과 동기화합니다.
+     * 상품/좋아요 변경 이벤트를 모아 주기적으로 호출됩니다.
+     *
+     * @param productIds 변경된 상품 ID 목록
+     * @return 배치 업데이트 결과
+     */
+    @Transactional
+    public BatchUpdateResult syncProducts(Collection<Long> productIds) {
+        long startTime = System.currentTimeMillis();
 
+        try {
+            return applySync(mvRepository.findProductsForSync(productIds), startTime);
         } catch (Exception e) {
             long duration = System.currentTimeMillis() - startTime;
-            log.error("MV 배치 동기화 실패 - 소요: {}ms", duration, e);
+            log.error("MV 증분 동기화 실패 - 상품: {}개, 소요: {}ms", productIds.size(), duration, e);
             return BatchUpdateResult.failure(e.getMessage(), duration);
         }
     }
 
+    /**
+     * 동기화 결과를 캐시, 검색 색인, 좋아요 랭킹에 반영합니다.
+     * MV 동기화 커밋 후 호출됩니다.
+     *
+     * @param result      동기화 결과
+     * @param evictCaches 변경된 상품/브랜드 캐시 무효화 여부
+     */
+    public void refreshAfterSync(BatchUpdateResult result, boolean evictCaches) {
+        // 신규 MV 건수를 캐시된 목록 전체 개수에 반영 (COUNT 쿼리 생략용)
+        productCacheService.adjustTotalCounts(result.getCreatedCountByBrand());
+        // 변경된 상품을 상품명 검색 색인과 좋아요 랭킹에 반영
+        refreshDerivedIndexes(result.getChangedProductIds());
+
+        if (evictCaches && result.hasChanges()) {
+            productCacheService.evictCachesAfterMVSync(
+                    result.getChangedProductIds(),
+                    result.getAffectedBrandIds()
+            );
+        }
+    }
+
+    /**
+     * 조회한 원본 데이터로 MV를 생성하거나, 실제로 바뀐 MV만 갱신합니다.
+     */
+    private BatchUpdateResult applySync(List<ProductMVSyncDto> changedProducts, long startTime) {
+        int updatedCount = 0;
+        int createdCount = 0;
+
+        // 변경 추적용
+        Set<Long> changedProductIds = new HashSet<>();
+        Set<Long> affectedBrandIds = new HashSet<>();
+        Map<Long, Long> createdCountByBrand = new HashMap<>();
+
+        if (changedProducts.isEmpty()) {
+            log.info("변경된 상품이 없습니다.");
+            long duration = System.currentTimeMillis() - startTime;
+            return BatchUpdateResult.success(0, 0, duration, changedProductIds, affectedBrandIds);
+        }
+
+        log.info("변경 감지: {}건", changedProducts.size());
+
+        // 1. 변경된 상품 ID 목록 추출
+        List<Long> productIds = changedProducts.stream()
+                .map(ProductMVSyncDto::getProductId)
+                .collect(Collectors.toList());
+
+        // 2. 기존 MV 조회 (변경된 상품만)
+        Map<Long, ProductMaterializedViewEntity> existingMVMap = mvRepository.findByIdIn(productIds).stream()
+                .collect(Collectors.toMap(ProductMaterializedViewEntity::getProductId, mv -> mv));
+
+        // 3. MV 생성 또는 업데이트
+        List<ProductMaterializedViewEntity> toSave = new ArrayList<>();
+
+        for (ProductMVSyncDto changed : changedProducts) {
+            ProductMaterializedViewEntity existingMV = existingMVMap.get(changed.getProductId());
+            // 좋아요 수를 스트림 집계가 관리하면 기존 MV 값을 유지 (집계 중인 증분과 충돌 방지)
+            ProductMVSyncDto dto = existingMV != null && syncProperties.likeCountFromStream()
+                    ? changed.withLikes(existingMV.getLikeCount(), existingMV.getLikeUpdatedAt())
+                    : changed;
+
+            if (existingMV == null) {
+                // 신규 생성
+                ProductMaterializedViewEntity newMV = ProductMaterializedViewEntity.fromDto(dto);
+                toSave.add(newMV);
+                createdCount++;
+                createdCountByBrand.merge(dto.getBrandId(), 1L, Long::sum);
+
+                // 변경 추적
+                changedProductIds.add(dto.getProductId());
+                affectedBrandIds.add(dto.getBrandId());
+            } else {
+                // 기존 MV와 비교하여 실제 변경이 있는 경우만 업데이트
+                ProductMaterializedViewEntity.SyncChanges changes =
+                        ProductMaterializedViewEntity.changesFromDto(existingMV, dto);
+
+                if (changes.hasChanges()) {
+                    // 목록 세대는 목록에 보이는 값이 바뀐 경우만 올림 (재고만 바뀌면 상세/행 캐시만 무효화)
+                    // 좋아요 수 변경은 랭킹이 꺼져 있어 좋아요순 목록도 ID 리스트 캐시로 응답할 때만 올림
+                    if (changes.listChanged() || changes.likeCountChanged() && !rankingService.isEnabled()) {
+                        affectedBrandIds.add(existingMV.getBrandId());
+                        affectedBrandIds.add(dto.getBrandId());
+                    }
+
+                    syncMVFromDto(existingMV, dto);
+                    toSave.add(existingMV);
+                    updatedCount++;
+
+                    // 변경 추적
+                    changedProductIds.add(dto.getProductId());
+                }
+            }
+        }
+
+        // 4. 일괄 저장
+        if (!toSave.isEmpty()) {
+            mvRepository.saveAll(toSave);
+        }
+
+        long duration = System.currentTimeMillis() - startTime;
+        log.info("MV 동기화 완료 - 생성: {}건, 갱신: {}건, 변경된 상품: {}개, 영향받은 브랜드: {}개, 소요: {}ms",
+                createdCount, updatedCount, changedProductIds.size(), affectedBrandIds.size(), duration);
+
+        return BatchUpdateResult.success(
+                createdCount,
+                updatedCount,
+                duration,
+                changedProductIds,
+                affectedBrandIds,
+                createdCountByBrand
+        );
+    }
+
 
     /**
      * DTO로부터 기존 MV를 동기화합니다.
@@ -257,5 +676,14 @@ public class ProductMVService {
     @Transactional
     public void deleteById(Long productId) {
         mvRepository.deleteByProductIdIn(List.of(productId));
+        searchIndex.delete(List.of(productId));
+    }
+
+    /**
+     * @param fetched       조회한 상품 수 (청크 크기보다 작으면 마지막 청크)
+     * @param lastProductId 청크의 마지막 상품 ID
+     * @param result        청크 반영 결과
+     */
+    private record ChunkResult(int fetched, long lastProductId, BatchUpdateResult result) {
     }
 }
@@ -0,0 +1,62 @@
+package com.loopers.domain.product;
+
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+
+/**
+ * MV 대조 동기화 진행 상태
+ *
+ * 재시작 후에도 이어서 처리할 수 있도록 DB에 저장됩니다.
+ *
+ * @param watermark     마지막으로 완료한 동기화의 시작 시각 (이 시각 이후 변경분이 다음 대상, 한 번도 완료하지 않았으면 null)
+ * @param passStartedAt 진행 중인 동기화의 시작 시각 (진행 중이 아니면 null)
+ * @param lastProductId 진행 중인 동기화에서 마지막으로 커밋한 상품 ID
+ * @author hyunjikoh
+ * @since 2025. 12. 10.
+ */
+public record ProductMVSyncCheckpoint(ZonedDateTime watermark, ZonedDateTime passStartedAt, long lastProductId) {
+
+    // 한 번도 완료하지 않았으면 전체 상품이 대상
+    private static final ZonedDateTime INITIAL_WATERMARK = Instant.EPOCH.atZone(ZoneOffset.UTC);
+
+    public static ProductMVSyncCheckpoint initial() {
+        return new ProductMVSyncCheckpoint(null, null, 0L);
+    }
+
+    /**
+     * 변경 기준 시간
+     */
+    public ZonedDateTime since() {
+        return watermark != null ? watermark : INITIAL_WATERMARK;
+    }
+
+    /**
+     * MV 전체를 처음 적재하는 동기화인지 여부 (캐시 무효화 생략용)
+     */
+    public boolean isInitialLoad() {
+        return watermark == null;
+    }
+
+    public boolean isInProgress() {
+        return passStartedAt != null;
+    }
+
+    /**
+     * 진행 중인 동기화가 있으면 이어서, 없으면 새로 시작합니다.
+     */
+    public ProductMVSyncCheckpoint begin(ZonedDateTime now) {
+        return isInProgress() ? this : new ProductMVSyncCheckpoint(watermark, now, 0L);
+    }
+
+    public ProductMVSyncCheckpoint advance(long productId) {
+        return new ProductMVSyncCheckpoint(watermark, passStartedAt, productId);
+    }
+
+    /**
+     * 동기화를 완료하고 시작 시각을 다음 기준 시간으로 삼습니다.
+     */
+    public ProductMVSyncCheckpoint complete() {
+        return new ProductMVSyncCheckpoint(passStartedAt, null, 0L);
+    }
+}
@@ -35,4 +35,11 @@ public class ProductMVSyncDto {
     private Long likeCount;
     private ZonedDateTime likeUpdatedAt;
 
+    /**
+     * 좋아요 정보만 바꾼 사본을 반환합니다.
+     */
+    public ProductMVSyncDto withLikes(Long likeCount, ZonedDateTime likeUpdatedAt) {
+        return new ProductMVSyncDto(productId, productName, productDescription, originPrice, discountPrice,
+                stockQuantity, productUpdatedAt, brandId, brandName, brandUpdatedAt, likeCount, likeUpdatedAt);
+    }
 }
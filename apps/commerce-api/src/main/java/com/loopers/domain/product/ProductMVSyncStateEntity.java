@@ -0,0 +1,51 @@
+package com.loopers.domain.product;
+
+import java.time.ZonedDateTime;
+
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+
+/**
+ * MV 대조 동기화 상태 저장 행 ({@link ProductMVSyncCheckpoint}의 영속 형태)
+ *
+ * 동기화 작업당 한 행이며, fencing_token 은 마지막으로 기록한 스케줄 락 보유자의 토큰입니다.
+ * 더 작은 토큰의 기록(락을 잃은 이전 보유자)은 거부됩니다.
+ *
+ * @author hyunjikoh
+ * @since 2025. 12. 10.
+ */
+@Entity
+@Table(name = "product_mv_sync_state")
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class ProductMVSyncStateEntity {
+
+    @Id
+    @Column(name = "sync_name", length = 100)
+    private String syncName;
+
+    @Column(name = "watermark")
+    private ZonedDateTime watermark;
+
+    @Column(name = "pass_started_at")
+    private ZonedDateTime passStartedAt;
+
+    @Column(name = "last_product_id", nullable = false)
+    private long lastProductId;
+
+    @Column(name = "fencing_token", nullable = false)
+    private long fencingToken;
+
+    @Column(name = "updated_at", nullable = false)
+    private ZonedDateTime updatedAt;
+
+    public ProductMVSyncCheckpoint toCheckpoint() {
+        return new ProductMVSyncCheckpoint(watermark, passStartedAt, lastProductId);
+    }
+}
@@ -0,0 +1,24 @@
+package com.loopers.domain.product;
+
+/**
+ * MV 대조 동기화 상태 리포지토리
+ *
+ * @author hyunjikoh
+ * @since 2025. 12. 10.
+ */
+public interface ProductMVSyncStateRepository {
+
+    /**
+     * 저장된 진행 상태를 조회합니다. (없으면 {@link ProductMVSyncCheckpoint#initial()})
+     */
+    ProductMVSyncCheckpoint findCheckpoint();
+
+    /**
+     * 진행 상태를 저장합니다.
+     *
+     * @param checkpoint   진행 상태
+     * @param fencingToken 스케줄 락 fencing token (null 이면 토큰 확인 없이 저장, 수동/테스트 실행용)
+     * @return 저장했으면 true, 더 새로운 락 보유자가 이미 기록했으면 false
+     */
+    boolean saveCheckpoint(ProductMVSyncCheckpoint checkpoint, Long fencingToken);
+}
@@ -1,5 +1,6 @@
 package com.loopers.domain.product;
 
+import java.math.BigDecimal;
 import java.time.ZonedDateTime;
 import java.util.Objects;
 
@@ -24,8 +25,10 @@ import jakarta.persistence.*;
 @Entity
 @Table(name = "product_materialized_view", indexes = {
         @Index(name = "idx_pmv_brand_id", columnList = "brand_id"),
-        @Index(name = "idx_pmv_like_count", columnList = "like_count"),
-        @Index(name = "idx_pmv_brand_like", columnList = "brand_id, like_count"),
+        // 정렬 키 바로 뒤에 커서 보조 정렬 키(id)를 두어 (like_count, id) keyset 순서를 인덱스로 읽음
+        // 목록은 이 인덱스만으로 ID를 고르고 행은 PK로 읽으므로(지연 조인) 좋아요마다 다시 쓰이는 인덱스를 좁게 유지
+        @Index(name = "idx_pmv_like_count", columnList = "like_count, id"),
+        @Index(name = "idx_pmv_brand_like", columnList = "brand_id, like_count, id"),
         @Index(name = "idx_pmv_name", columnList = "name"),
         @Index(name = "idx_pmv_updated_at", columnList = "last_updated_at"),
         @Index(name = "idx_pmv_product_updated_at", columnList = "product_updated_at"),
@@ -275,44 +278,49 @@ public class ProductMaterializedViewEntity extends BaseEntity {
 
 
     /**
-     * DTO와 기존 MV를 비교하여 실제 변경사항이 있는지 확인합니다.
+     * DTO와 기존 MV를 비교하여 바뀐 값을 분류합니다.
+     * 할인가는 한쪽만 null인 경우(할인 추가/해제)도 변경으로 보고, 금액은 소수 자릿수와 관계없이 값으로 비교합니다.
+     *
+     * @param mv  기존 MV
+     * @param dto 원본 데이터
+     * @return 변경 분류
      */
-    public static boolean hasActualChangesFromDto(ProductMaterializedViewEntity mv, ProductMVSyncDto dto) {
-        // 상품명 변경
-        if (!mv.getName().equals(dto.getProductName())) {
-            return true;
-        }
+    public static SyncChanges changesFromDto(ProductMaterializedViewEntity mv, ProductMVSyncDto dto) {
+        // 목록에 보이는 값: 상품명, 설명, 가격, 브랜드
+        boolean listChanged = !mv.getName().equals(dto.getProductName())
+                || !Objects.equals(mv.getDescription(), dto.getProductDescription())
+                || !sameAmount(mv.getPrice().getOriginPrice(), dto.getOriginPrice())
+                || !sameAmount(mv.getPrice().getDiscountPrice(), dto.getDiscountPrice())
+                || !mv.getBrandId().equals(dto.getBrandId());
 
-        if (!Objects.equals(mv.getDescription(), dto.getProductDescription())) {
-            return true;
-        }
+        Long dtoLikeCount = dto.getLikeCount() != null ? dto.getLikeCount() : 0L;
+        boolean likeCountChanged = !mv.getLikeCount().equals(dtoLikeCount);
 
-        // 가격 변경
-        if (!mv.getPrice().getOriginPrice().equals(dto.getOriginPrice())) {
-            return true;
-        }
+        // 상세에만 보이는 값: 재고, 브랜드명
+        boolean detailChanged = !mv.getStockQuantity().equals(dto.getStockQuantity())
+                || !mv.getBrandName().equals(dto.getBrandName());
 
-        // 할인 가격 변경
-        if (dto.getDiscountPrice() != null && !mv.getPrice().getDiscountPrice().equals(dto.getDiscountPrice())) {
-            return true;
-        }
+        return new SyncChanges(listChanged, likeCountChanged, detailChanged);
+    }
 
-        // 재고 변경
-        if (!mv.getStockQuantity().equals(dto.getStockQuantity())) {
-            return true;
-        }
+    /**
+     * 금액 비교 (null 허용, 소수 자릿수 차이는 같은 금액으로 봄)
+     */
+    private static boolean sameAmount(BigDecimal left, BigDecimal right) {
+        return left == null ? right == null : right != null && left.compareTo(right) == 0;
+    }
 
-        // 브랜드명 변경
-        if (!mv.getBrandName().equals(dto.getBrandName())) {
-            return true;
-        }
+    /**
+     * MV 동기화 변경 분류
+     *
+     * @param listChanged      목록에 보이는 값(상품명, 설명, 가격, 브랜드) 변경
+     * @param likeCountChanged 좋아요 수 변경
+     * @param detailChanged    상세에만 보이는 값(재고, 브랜드명) 변경
+     */
+    public record SyncChanges(boolean listChanged, boolean likeCountChanged, boolean detailChanged) {
 
-        // 좋아요 수 변경
-        Long dtoLikeCount = dto.getLikeCount() != null ? dto.getLikeCount() : 0L;
-        if (!mv.getLikeCount().equals(dtoLikeCount)) {
-            return true;
+        public boolean hasChanges() {
+            return listChanged || likeCountChanged || detailChanged;
         }
-
-        return false;
     }
 }
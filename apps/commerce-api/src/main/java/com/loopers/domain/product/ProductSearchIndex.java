@@ -0,0 +1,61 @@
+package com.loopers.domain.product;
+
+import java.util.Collection;
+import java.util.Optional;
+
+import com.loopers.domain.product.dto.ProductSearchFilter;
+import com.loopers.domain.product.dto.ProductSearchResult;
+
+/**
+ * 상품명 검색 색인 인터페이스
+ *
+ * 상품명 LIKE '%keyword%' 전체 스캔 대신 역색인으로 검색하여 상품 ID만 반환합니다.
+ * 실제 행은 MV(행 캐시)로 채웁니다. 구현은 Infrastructure 계층에서 제공됩니다.
+ *
+ * @author hyunjikoh
+ * @since 2025. 12. 3.
+ */
+public interface ProductSearchIndex {
+
+    /**
+     * 색인이 검색 가능한 상태인지 확인합니다.
+     * 초기 구축 전이거나 비활성화된 경우 호출 측은 DB 검색으로 대체해야 합니다.
+     *
+     * @return 검색 가능 여부
+     */
+    boolean isReady();
+
+    /**
+     * 검색 조건(상품명, 브랜드, 정렬, 페이징)으로 상품 ID를 검색합니다.
+     *
+     * @param filter 검색 조건
+     * @return 검색 결과 (색인을 사용할 수 없으면 Optional.empty())
+     */
+    Optional<ProductSearchResult> search(ProductSearchFilter filter);
+
+    /**
+     * 상품 MV를 색인에 추가하거나 갱신합니다.
+     *
+     * @param products 색인할 상품 MV 목록
+     */
+    void index(Collection<ProductMaterializedViewEntity> products);
+
+    /**
+     * 상품을 색인에서 제거합니다.
+     *
+     * @param productIds 제거할 상품 ID 목록
+     */
+    void delete(Collection<Long> productIds);
+
+    /**
+     * 전체 색인 구축이 끝났음을 표시합니다. 이후부터 검색에 사용됩니다.
+     */
+    void markReady();
+
+    /**
+     * 색인된 문서 수를 반환합니다.
+     *
+     * @return 색인 문서 수
+     */
+    long size();
+}
@@ -3,6 +3,7 @@ package com.loopers.domain.product;
 import java.util.List;
 import java.util.Optional;
 
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Component;
@@ -20,6 +21,9 @@ import jakarta.validation.Valid;
 
 /**
  * 상품 도메인 서비스
+ *
+ * MV에 반영되는 상품 정보가 바뀌면 ProductChangedEvent를 발행합니다.
+ *
  * @author hyunjikoh
  * @since 2025. 11. 10.
  */
@@ -28,6 +32,7 @@ import jakarta.validation.Valid;
 @Slf4j
 public class ProductService {
     private final ProductRepository productRepository;
+    private final ApplicationEventPublisher eventPublisher;
 
     /**
      * 검색 필터 조건으로 상품 목록을 조회합니다.
@@ -101,7 +106,9 @@ public class ProductService {
         // 상품 엔티티 생성
         ProductEntity productEntity = ProductEntity.createEntity(request);
 
-        return productRepository.save(productEntity);
+        ProductEntity saved = productRepository.save(productEntity);
+        eventPublisher.publishEvent(ProductChangedEvent.of(saved));
+        return saved;
     }
 
     /**
@@ -116,6 +123,7 @@ public class ProductService {
     @Transactional
     public ProductEntity deductStock(ProductEntity product, int quantity) {
         product.deductStock(quantity);
+        eventPublisher.publishEvent(ProductChangedEvent.of(product));
         return productRepository.save(product);
     }
 
@@ -136,6 +144,7 @@ public class ProductService {
                 .orElseThrow(() -> new CoreException(ErrorType.NOT_FOUND, "상품을 찾을 수 없습니다. ID: " + productId));
 
         product.restoreStock(quantity);
+        eventPublisher.publishEvent(ProductChangedEvent.of(product));
         return productRepository.save(product);
     }
 }
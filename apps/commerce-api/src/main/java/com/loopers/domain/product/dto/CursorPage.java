@@ -0,0 +1,31 @@
+package com.loopers.domain.product.dto;
+
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * 커서 기반 페이지
+ *
+ * 전체 개수(COUNT)를 계산하지 않으며, 다음 페이지 존재 여부와 다음 커서만 제공합니다.
+ *
+ * @param content    데이터 목록
+ * @param size       요청 페이지 크기
+ * @param nextCursor 다음 페이지 커서 (마지막 페이지면 null)
+ * @param hasNext    다음 페이지 존재 여부
+ * @author hyunjikoh
+ * @since 2025. 12. 2.
+ */
+public record CursorPage<T>(
+        List<T> content,
+        int size,
+        String nextCursor,
+        boolean hasNext
+) {
+
+    public <R> CursorPage<R> map(Function<? super T, ? extends R> mapper) {
+        List<R> mapped = content.stream()
+                .<R>map(mapper)
+                .toList();
+        return new CursorPage<>(mapped, size, nextCursor, hasNext);
+    }
+}
@@ -0,0 +1,143 @@
+package com.loopers.domain.product.dto;
+
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+import java.util.Set;
+
+import org.springframework.data.domain.Sort;
+
+import com.loopers.support.error.CoreException;
+import com.loopers.support.error.ErrorType;
+
+/**
+ * 상품 목록 커서 (keyset 페이지네이션)
+ *
+ * 마지막으로 반환한 행의 정렬 키 값과 MV ID를 담습니다.
+ * 다음 페이지는 OFFSET 없이 "(정렬 값, ID) 이후" 조건으로 인덱스를 바로 탐색하므로
+ * 페이지 깊이와 무관하게 일정한 비용으로 조회됩니다.
+ *
+ * 클라이언트에는 Base64(URL-safe) 문자열로 전달되며 내부 형식은 노출하지 않습니다.
+ *
+ * @param sortProperty 정렬 기준 (likeCount, price, name, createdAt)
+ * @param ascending    오름차순 여부
+ * @param lastId       마지막 행의 MV ID (첫 페이지는 null)
+ * @param lastValue    마지막 행의 정렬 값 (첫 페이지는 null)
+ * @author hyunjikoh
+ * @since 2025. 12. 2.
+ */
+public record ProductCursor(
+        String sortProperty,
+        boolean ascending,
+        Long lastId,
+        String lastValue
+) {
+
+    public static final String DEFAULT_SORT_PROPERTY = "likeCount";
+
+    private static final Set<String> SUPPORTED_PROPERTIES = Set.of("likeCount", "price", "name", "createdAt");
+    private static final String VERSION = "v1";
+    private static final String DELIMITER = "|";
+
+    /**
+     * 요청 정렬 조건으로 첫 페이지 커서를 생성합니다.
+     * 지원하지 않는 정렬 기준은 기본 정렬(좋아요 수 내림차순)로 대체합니다.
+     *
+     * @param sort 요청 정렬 조건
+     * @return 첫 페이지 커서
+     */
+    public static ProductCursor first(Sort sort) {
+        return sort.stream()
+                .findFirst()
+                .filter(order -> SUPPORTED_PROPERTIES.contains(order.getProperty()))
+                .map(order -> new ProductCursor(order.getProperty(), order.isAscending(), null, null))
+                .orElseGet(() -> new ProductCursor(DEFAULT_SORT_PROPERTY, false, null, null));
+    }
+
+    /**
+     * 클라이언트가 전달한 커서 문자열을 복원합니다.
+     *
+     * @param token 커서 문자열
+     * @return 커서
+     * @throws CoreException 형식이 올바르지 않은 경우 (BAD_REQUEST)
+     */
+    public static ProductCursor decode(String token) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            // 정렬 값(상품명)에 구분자가 포함될 수 있으므로 마지막 필드로 두고 분할 개수를 제한
+            String[] parts = raw.split("\\" + DELIMITER, 5);
+            if (parts.length != 5 || !VERSION.equals(parts[0]) || !SUPPORTED_PROPERTIES.contains(parts[1])) {
+                throw invalidCursor();
+            }
+
+            ProductCursor cursor = new ProductCursor(parts[1], "asc".equals(parts[2]), Long.valueOf(parts[3]), parts[4]);
+            cursor.validateValue();
+            return cursor;
+        } catch (IllegalArgumentException | DateTimeParseException e) {
+            throw invalidCursor();
+        }
+    }
+
+    /**
+     * 커서를 클라이언트 전달용 문자열로 변환합니다.
+     *
+     * @return 커서 문자열
+     */
+    public String encode() {
+        String raw = String.join(DELIMITER,
+                VERSION, sortProperty, ascending ? "asc" : "desc", String.valueOf(lastId), lastValue);
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * 주어진 행을 마지막 위치로 하는 다음 페이지 커서를 생성합니다.
+     *
+     * @param last 현재 페이지의 마지막 행
+     * @return 다음 페이지 커서
+     */
+    public ProductCursor next(ProductListRow last) {
+        String value = switch (sortProperty) {
+            case "price" -> last.originPrice().toPlainString();
+            case "name" -> last.name();
+            case "createdAt" -> last.createdAt().toString();
+            default -> String.valueOf(last.likeCount());
+        };
+        return new ProductCursor(sortProperty, ascending, last.id(), value);
+    }
+
+    /**
+     * 첫 페이지 여부 (seek 조건 없이 처음부터 조회)
+     */
+    public boolean isFirstPage() {
+        return lastId == null;
+    }
+
+    public Long lastLikeCount() {
+        return Long.valueOf(lastValue);
+    }
+
+    public BigDecimal lastPrice() {
+        return new BigDecimal(lastValue);
+    }
+
+    public ZonedDateTime lastCreatedAt() {
+        return ZonedDateTime.parse(lastValue);
+    }
+
+    private void validateValue() {
+        switch (sortProperty) {
+            case "likeCount" -> lastLikeCount();
+            case "price" -> lastPrice();
+            case "createdAt" -> lastCreatedAt();
+            default -> {
+                // 상품명은 임의 문자열
+            }
+        }
+    }
+
+    private static CoreException invalidCursor() {
+        return new CoreException(ErrorType.BAD_REQUEST, "유효하지 않은 커서입니다.");
+    }
+}
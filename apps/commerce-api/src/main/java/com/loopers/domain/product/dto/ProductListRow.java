@@ -0,0 +1,37 @@
+package com.loopers.domain.product.dto;
+
+import java.math.BigDecimal;
+import java.time.ZonedDateTime;
+
+/**
+ * 상품 목록 행 프로젝션
+ *
+ * 목록 응답에 필요한 컬럼만 MV에서 조회합니다. (재고, 브랜드명, 동기화 시각 제외)
+ * 영속성 컨텍스트에 올라가지 않으므로 스냅샷/더티 체킹 비용이 없습니다.
+ * 정렬/탐색은 idx_pmv_like_count / idx_pmv_brand_like 인덱스만으로 MV ID를 고르고,
+ * 행은 반환하는 페이지 행 수만큼만 PK로 읽습니다. (지연 조인)
+ *
+ * @param id            MV ID (커서 보조 정렬 키)
+ * @param productId     상품 ID
+ * @param name          상품명
+ * @param description   상품 설명
+ * @param originPrice   정가
+ * @param discountPrice 할인가
+ * @param likeCount     좋아요 수
+ * @param brandId       브랜드 ID
+ * @param createdAt     등록 일시
+ * @author hyunjikoh
+ * @since 2025. 12. 9.
+ */
+public record ProductListRow(
+        Long id,
+        Long productId,
+        String name,
+        String description,
+        BigDecimal originPrice,
+        BigDecimal discountPrice,
+        Long likeCount,
+        Long brandId,
+        ZonedDateTime createdAt
+) {
+}
@@ -0,0 +1,20 @@
+package com.loopers.domain.product.dto;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 좋아요 수 랭킹 페이지
+ *
+ * @param productIds 좋아요 수 내림차순 상품 ID
+ * @param likeCounts 상품 ID → 랭킹 점수(실시간 좋아요 수)
+ * @param total      랭킹에 포함된 전체 상품 수
+ * @author hyunjikoh
+ * @since 2025. 12. 4.
+ */
+public record ProductRankingPage(
+        List<Long> productIds,
+        Map<Long, Long> likeCounts,
+        long total
+) {
+}
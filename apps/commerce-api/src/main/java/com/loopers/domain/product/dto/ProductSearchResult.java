@@ -0,0 +1,17 @@
+package com.loopers.domain.product.dto;
+
+import java.util.List;
+
+/**
+ * 상품명 검색 결과
+ *
+ * @param productIds 요청 페이지에 해당하는 상품 ID (정렬 순서 유지)
+ * @param totalHits  검색 조건에 해당하는 전체 상품 수
+ * @author hyunjikoh
+ * @since 2025. 12. 3.
+ */
+public record ProductSearchResult(
+        List<Long> productIds,
+        long totalHits
+) {
+}
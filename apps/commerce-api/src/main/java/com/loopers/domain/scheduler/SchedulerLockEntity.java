@@ -0,0 +1,44 @@
+package com.loopers.domain.scheduler;
+
+import java.time.ZonedDateTime;
+
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+
+/**
+ * 스케줄 작업 임대 락
+ *
+ * 작업 이름당 한 행을 두고, lock_until 이 지난 행만 조건부 UPDATE 로 가져가는 방식으로 노드 간 단일 실행을 보장합니다.
+ * 획득할 때마다 fencing_token 을 1 증가시켜, 락을 잃은 뒤 늦게 쓰려는 이전 보유자를 구분합니다.
+ *
+ * @author hyunjikoh
+ * @since 2025. 12. 10.
+ */
+@Entity
+@Table(name = "scheduler_locks")
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class SchedulerLockEntity {
+
+    @Id
+    @Column(name = "lock_name", length = 100)
+    private String lockName;
+
+    @Column(name = "locked_by", nullable = false, length = 36)
+    private String lockedBy;
+
+    @Column(name = "locked_at", nullable = false)
+    private ZonedDateTime lockedAt;
+
+    @Column(name = "lock_until", nullable = false)
+    private ZonedDateTime lockUntil;
+
+    @Column(name = "fencing_token", nullable = false)
+    private long fencingToken;
+}
@@ -0,0 +1,37 @@
+package com.loopers.domain.scheduler;
+
+import java.time.ZonedDateTime;
+import java.util.Optional;
+
+/**
+ * 스케줄 작업 임대 락 리포지토리
+ *
+ * 모든 변경은 조건부 UPDATE 한 번으로 처리되어, 동시에 호출한 노드 중 하나만 성공합니다.
+ *
+ * @author hyunjikoh
+ * @since 2025. 12. 10.
+ */
+public interface SchedulerLockRepository {
+
+    /**
+     * 만료된 락을 획득합니다.
+     *
+     * @param lockName  작업 이름
+     * @param owner     이번 획득의 소유자 식별자
+     * @param now       현재 시각
+     * @param lockUntil 임대 만료 시각
+     * @return 획득 시 새 fencing token (다른 노드가 보유 중이면 Optional.empty())
+     */
+    Optional<Long> tryAcquire(String lockName, String owner, ZonedDateTime now, ZonedDateTime lockUntil);
+
+    /**
+     * 보유 중인 락의 임대 만료 시각을 변경합니다. (연장 또는 해제)
+     *
+     * @param lockName     작업 이름
+     * @param owner        소유자 식별자
+     * @param fencingToken 획득 시 받은 fencing token
+     * @param lockUntil    새 임대 만료 시각
+     * @return 아직 보유 중이어서 변경했으면 true
+     */
+    boolean updateLockUntil(String lockName, String owner, long fencingToken, ZonedDateTime lockUntil);
+}
@@ -0,0 +1,103 @@
+package com.loopers.infrastructure.cache;
+
+import org.springframework.stereotype.Component;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 접근 빈도 기반 캐시 전략 조정
+ *
+ * 정적 규칙(페이지/검색 여부)으로 정한 전략을 최근 요청 빈도로 보정합니다.
+ * - 자주 요청되는 조합(인기 브랜드의 깊은 페이지, 급상승 검색어 등)은 Warm/Hot으로 승격
+ * - 거의 요청되지 않는 조합은 한 단계 강등하여 캐시 공간과 배치 갱신 비용을 아낌
+ * 비활성화되었거나 빈도 정보가 충분하지 않으면 정적 규칙을 그대로 사용합니다.
+ *
+ * 결정 결과는 product.cache.strategy.decisions(rule: static/promoted/demoted)로 노출합니다.
+ *
+ * @author hyunjikoh
+ * @since 2025. 12. 9.
+ */
+@Component
+@Slf4j
+public class AdaptiveCacheStrategyPolicy {
+
+    private static final String DECISIONS = "product.cache.strategy.decisions";
+
+    private final ProductCacheProperties.Adaptive properties;
+    private final FrequencySketch sketch;
+    private final MeterRegistry meterRegistry;
+
+    public AdaptiveCacheStrategyPolicy(ProductCacheProperties properties, MeterRegistry meterRegistry) {
+        this.properties = properties.adaptive();
+        this.sketch = new FrequencySketch(this.properties.width(), this.properties.sampleSize());
+        this.meterRegistry = meterRegistry;
+
+        Gauge.builder("product.cache.strategy.samples", sketch, FrequencySketch::additions)
+                .description("전략 결정에 사용된 누적 목록 요청 수")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 목록 요청을 기록하고 이번 요청에 적용할 전략을 결정합니다. (요청당 한 번, 결정 지표 집계)
+     *
+     * @param accessKey      정규화된 요청 키 ({@link CacheKeyGenerator#generateListAccessKey})
+     * @param staticStrategy 정적 규칙의 전략
+     */
+    public CacheStrategy recordAndAdjust(String accessKey, CacheStrategy staticStrategy) {
+        if (!properties.enabled()) {
+            return staticStrategy;
+        }
+
+        int frequency = sketch.increment(accessKey);
+        CacheStrategy decided = decide(frequency, staticStrategy);
+        if (decided != staticStrategy) {
+            log.debug("캐시 전략 보정 - key: {}, 빈도: {}, {} → {}", accessKey, frequency, staticStrategy, decided);
+        }
+        count(staticStrategy, decided);
+        return decided;
+    }
+
+    /**
+     * 기록 없이 현재 빈도로 전략을 결정합니다. (HTTP 캐시 헤더 등 같은 요청 안의 재조회용)
+     *
+     * @param accessKey      정규화된 요청 키
+     * @param staticStrategy 정적 규칙의 전략
+     */
+    public CacheStrategy adjust(String accessKey, CacheStrategy staticStrategy) {
+        if (!properties.enabled()) {
+            return staticStrategy;
+        }
+        return decide(sketch.frequency(accessKey), staticStrategy);
+    }
+
+    private CacheStrategy decide(int frequency, CacheStrategy staticStrategy) {
+        if (frequency >= properties.hotFrequency()) {
+            return CacheStrategy.HOT;
+        }
+        if (frequency >= properties.warmFrequency()) {
+            return staticStrategy == CacheStrategy.HOT ? CacheStrategy.HOT : CacheStrategy.WARM;
+        }
+        if (frequency < properties.coldFrequency() && sketch.additions() >= properties.minSamples()) {
+            return switch (staticStrategy) {
+                case HOT -> CacheStrategy.WARM;
+                case WARM, COLD -> CacheStrategy.COLD;
+            };
+        }
+        return staticStrategy;
+    }
+
+    private void count(CacheStrategy staticStrategy, CacheStrategy decided) {
+        String rule = decided == staticStrategy ? "static"
+                : decided.ordinal() < staticStrategy.ordinal() ? "promoted" : "demoted";
+
+        Counter.builder(DECISIONS)
+                .description("목록 캐시 전략 결정")
+                .tag("rule", rule)
+                .tag("strategy", decided.name().toLowerCase())
+                .register(meterRegistry)
+                .increment();
+    }
+}
@@ -0,0 +1,17 @@
+package com.loopers.infrastructure.cache;
+
+/**
+ * 조기 갱신 판단 정보를 함께 담은 캐시 값
+ *
+ * @param value         캐시 값
+ * @param computeMillis 값을 계산(DB 조회)하는 데 걸린 시간
+ * @param expiresAt     논리 만료 시각 (epoch millis, Redis TTL과 동일)
+ * @author hyunjikoh
+ * @since 2025. 12. 5.
+ */
+public record CacheEntry<T>(
+        T value,
+        long computeMillis,
+        long expiresAt
+) {
+}
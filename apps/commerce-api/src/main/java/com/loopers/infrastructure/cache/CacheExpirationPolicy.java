@@ -0,0 +1,92 @@
+package com.loopers.infrastructure.cache;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.util.concurrent.ThreadLocalRandom;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+/**
+ * Hot/Warm 캐시 만료 정책
+ *
+ * - TTL 지터: 배치 등으로 함께 저장된 키의 만료 시각을 분산합니다.
+ * - 조기 갱신(XFetch): 만료가 가까울수록 높은 확률로 히트를 미스로 처리하여,
+ *   키가 실제로 만료되기 전에 한 요청이 미리 재계산하게 합니다.
+ *   재계산이 오래 걸리는 값일수록 더 일찍 갱신합니다.
+ *
+ * @author hyunjikoh
+ * @since 2025. 12. 5.
+ */
+@Component
+public class CacheExpirationPolicy {
+
+    private final ProductCacheProperties.Expiration expiration;
+    private final Clock clock;
+
+    @Autowired
+    public CacheExpirationPolicy(ProductCacheProperties properties) {
+        this(properties, Clock.systemUTC());
+    }
+
+    CacheExpirationPolicy(ProductCacheProperties properties, Clock clock) {
+        this.expiration = properties.expiration();
+        this.clock = clock;
+    }
+
+    /**
+     * 지터를 적용한 TTL을 반환합니다. (설정 TTL을 넘지 않음)
+     *
+     * @param strategy 캐시 전략 (Hot/Warm)
+     * @return TTL
+     */
+    public Duration ttl(CacheStrategy strategy) {
+        Duration ttl = strategy == CacheStrategy.HOT ? expiration.hotTtl() : expiration.warmTtl();
+        double jitter = strategy == CacheStrategy.HOT ? expiration.hotJitter() : expiration.warmJitter();
+        if (jitter <= 0) {
+            return ttl;
+        }
+
+        double ratio = 1.0 - ThreadLocalRandom.current().nextDouble(Math.min(jitter, 1.0));
+        return Duration.ofMillis(Math.max(1L, (long) (ttl.toMillis() * ratio)));
+    }
+
+    /**
+     * 지터를 적용한 TTL로 만료 시각을 담은 캐시 값을 생성합니다.
+     *
+     * @param value       캐시 값
+     * @param strategy    캐시 전략 (Hot/Warm)
+     * @param computeTime 값 계산에 걸린 시간 (측정하지 않았으면 Duration.ZERO)
+     * @return 캐시 값
+     */
+    public <T> CacheEntry<T> entry(T value, CacheStrategy strategy, Duration computeTime) {
+        long expiresAt = clock.millis() + ttl(strategy).toMillis();
+        return new CacheEntry<>(value, computeTime.toMillis(), expiresAt);
+    }
+
+    /**
+     * 캐시 값의 남은 TTL을 반환합니다. (Redis 저장 시 사용)
+     */
+    public Duration remainingTtl(CacheEntry<?> entry) {
+        return Duration.ofMillis(Math.max(1L, entry.expiresAt() - clock.millis()));
+    }
+
+    /**
+     * 만료 전에 미리 재계산할지 판단합니다.
+     * <p>
+     * now - computeTime × beta × ln(rand) ≥ expiresAt 이면 재계산합니다. (XFetch)
+     *
+     * @param entry 캐시 값
+     * @return 재계산 여부
+     */
+    public boolean shouldRefreshEarly(CacheEntry<?> entry) {
+        if (expiration.beta() <= 0) {
+            return false;
+        }
+
+        long computeMillis = Math.max(entry.computeMillis(), expiration.minComputeTime().toMillis());
+        double random = 1.0 - ThreadLocalRandom.current().nextDouble(); // (0, 1]
+        double gap = -computeMillis * expiration.beta() * Math.log(random);
+        return clock.millis() + gap >= entry.expiresAt();
+    }
+}
@@ -0,0 +1,33 @@
+package com.loopers.infrastructure.cache;
+
+import java.util.List;
+
+/**
+ * 노드 간 L1 캐시 무효화 메시지
+ *
+ * @param productIds  무효화할 상품 상세 ID 목록
+ * @param idKeyPrefixes 무효화할 상품 ID 리스트 캐시 키 프리픽스 목록
+ * @author hyunjikoh
+ * @since 2025. 12. 1.
+ */
+public record CacheInvalidationMessage(
+        List<Long> productIds,
+        List<String> idKeyPrefixes
+) {
+    public CacheInvalidationMessage {
+        productIds = productIds != null ? List.copyOf(productIds) : List.of();
+        idKeyPrefixes = idKeyPrefixes != null ? List.copyOf(idKeyPrefixes) : List.of();
+    }
+
+    public static CacheInvalidationMessage ofProducts(List<Long> productIds) {
+        return new CacheInvalidationMessage(productIds, List.of());
+    }
+
+    public static CacheInvalidationMessage ofIdKeyPrefixes(List<String> idKeyPrefixes) {
+        return new CacheInvalidationMessage(List.of(), idKeyPrefixes);
+    }
+
+    public boolean isEmpty() {
+        return productIds.isEmpty() && idKeyPrefixes.isEmpty();
+    }
+}
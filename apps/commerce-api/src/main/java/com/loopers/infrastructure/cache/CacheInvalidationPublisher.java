@@ -0,0 +1,44 @@
+package com.loopers.infrastructure.cache;
+
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.stereotype.Component;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * L1 캐시 무효화 메시지 발행기
+ *
+ * Redis pub/sub 채널로 무효화 대상을 브로드캐스트합니다.
+ * 발행 실패 시 다른 노드의 L1은 TTL 만료까지 이전 값을 유지할 수 있으므로 경고만 남깁니다.
+ *
+ * @author hyunjikoh
+ * @since 2025. 12. 1.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class CacheInvalidationPublisher {
+
+    private final RedisTemplate<String, String> redisTemplate;
+    private final ObjectMapper objectMapper;
+    private final ProductCacheProperties properties;
+
+    public void publish(CacheInvalidationMessage message) {
+        if (message.isEmpty()) {
+            return;
+        }
+
+        try {
+            String payload = objectMapper.writeValueAsString(message);
+            redisTemplate.convertAndSend(properties.invalidation().channel(), payload);
+
+            log.debug("L1 무효화 메시지 발행 - 상품: {}개, 목록 프리픽스: {}개",
+                    message.productIds().size(), message.idKeyPrefixes().size());
+        } catch (Exception e) {
+            log.warn("L1 무효화 메시지 발행 실패 - error: {}", e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,46 @@
+package com.loopers.infrastructure.cache;
+
+import java.nio.charset.StandardCharsets;
+
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.stereotype.Component;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * L1 캐시 무효화 메시지 구독기
+ *
+ * 다른 노드(자기 자신 포함)가 발행한 무효화 메시지를 받아 L1 캐시에서 제거합니다.
+ * 제거 연산은 멱등하므로 자기 자신이 보낸 메시지를 다시 처리해도 무방합니다.
+ *
+ * @author hyunjikoh
+ * @since 2025. 12. 1.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class CacheInvalidationSubscriber implements MessageListener {
+
+    private final ProductLocalCache localCache;
+    private final ObjectMapper objectMapper;
+
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        try {
+            String payload = new String(message.getBody(), StandardCharsets.UTF_8);
+            CacheInvalidationMessage invalidation = objectMapper.readValue(payload, CacheInvalidationMessage.class);
+
+            localCache.evictDetails(invalidation.productIds());
+            invalidation.idKeyPrefixes().forEach(localCache::evictIdsByPrefix);
+            if (!invalidation.idKeyPrefixes().isEmpty()) {
+                localCache.evictGenerations();
+            }
+        } catch (Exception e) {
+            log.warn("L1 무효화 메시지 처리 실패 - error: {}", e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,95 @@
+package com.loopers.infrastructure.cache;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import org.springframework.data.redis.core.Cursor;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ScanOptions;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 상품 캐시 키 개수 지표 (product.cache.keys)
+ *
+ * 키 패밀리(detail/row/ids/rendered)별 Redis 키 개수를 주기적으로 SCAN하여 게이지로 노출합니다.
+ * 스크레이프마다 SCAN하지 않도록 마지막 집계 값을 보관하며, 집계에 실패하면 이전 값을 유지합니다.
+ *
+ * @author hyunjikoh
+ * @since 2025. 12. 9.
+ */
+@Component
+@Slf4j
+public class CacheKeyCountMonitor {
+
+    private static final List<String> FAMILIES = List.of(
+            CacheMetrics.FAMILY_DETAIL,
+            CacheMetrics.FAMILY_ROW,
+            CacheMetrics.FAMILY_IDS,
+            CacheMetrics.FAMILY_RENDERED
+    );
+
+    private final RedisTemplate<String, String> redisTemplate;
+    private final CacheKeyGenerator cacheKeyGenerator;
+    private final ProductCacheProperties.Metrics properties;
+    private final Map<String, AtomicLong> keyCounts;
+
+    public CacheKeyCountMonitor(
+            RedisTemplate<String, String> redisTemplate,
+            CacheKeyGenerator cacheKeyGenerator,
+            ProductCacheProperties properties,
+            MeterRegistry meterRegistry
+    ) {
+        this.redisTemplate = redisTemplate;
+        this.cacheKeyGenerator = cacheKeyGenerator;
+        this.properties = properties.metrics();
+        this.keyCounts = FAMILIES.stream()
+                .collect(Collectors.toMap(Function.identity(), family -> new AtomicLong()));
+
+        keyCounts.forEach((family, count) -> Gauge.builder("product.cache.keys", count, AtomicLong::get)
+                .description("상품 캐시 키 개수")
+                .tag("family", family)
+                .register(meterRegistry));
+    }
+
+    @Scheduled(
+            fixedDelayString = "${product-cache.metrics.key-count-interval:1m}",
+            initialDelayString = "${product-cache.metrics.key-count-interval:1m}"
+    )
+    public void refresh() {
+        if (!properties.keyCountEnabled()) {
+            return;
+        }
+
+        for (String family : FAMILIES) {
+            try {
+                keyCounts.get(family).set(countKeys(cacheKeyGenerator.generateFamilyPattern(family)));
+            } catch (Exception e) {
+                log.warn("캐시 키 개수 집계 실패 - family: {}, error: {}", family, e.getMessage());
+            }
+        }
+    }
+
+    private long countKeys(String pattern) {
+        ScanOptions options = ScanOptions.scanOptions()
+                .match(pattern)
+                .count(properties.scanCount())
+                .build();
+
+        long count = 0;
+        try (Cursor<String> cursor = redisTemplate.scan(options)) {
+            while (cursor.hasNext()) {
+                cursor.next();
+                count++;
+            }
+        }
+        return count;
+    }
+}
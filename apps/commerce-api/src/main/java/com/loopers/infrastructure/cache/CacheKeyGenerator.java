@@ -1,5 +1,8 @@
 package com.loopers.infrastructure.cache;
 
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.Locale;
 import java.util.StringJoiner;
 
 import org.springframework.data.domain.Pageable;
@@ -11,7 +14,12 @@ import org.springframework.stereotype.Component;
  * 
  * Hot/Warm/Cold 전략별 캐시 키 생성
  * - product:detail:{productId}
- * - product:ids:{strategy}:{brandId}:{page}:{size}:{sort}
+ * - product:row:{productId}
+ * - product:ids:{strategy}:{brandId}:g{generation}:{page}:{size}:{sort}[:q{검색어}]
+ * - product:gen:brand:{brandId} / product:gen:all (목록 세대 번호)
+ * - product:rendered:{brandId}:g{generation}:{page}:{size}:{sort} (렌더링된 Hot 목록 응답)
+ * - like:user:{userId}:products (사용자 좋아요 상품 집합)
+ * - like:user:{userId}:products:version (사용자 좋아요 취소 버전)
  * - product:page:{brandId}:{productName}:{page}:{size}:{sort}
  */
 @Component
@@ -23,8 +31,21 @@ public class CacheKeyGenerator {
     // 캐시 키 프리픽스
     private static final String PRODUCT_PREFIX = "product";
     private static final String DETAIL_PREFIX = "detail";
+    private static final String ROW_PREFIX = "row";
     private static final String IDS_PREFIX = "ids";
     private static final String PAGE_PREFIX = "page";
+    private static final String TOTAL_PREFIX = "total";
+    private static final String BRAND_PREFIX = "brand";
+    private static final String ALL_VALUE = "all";
+    private static final String RANK_PREFIX = "rank";
+    private static final String LIKE_PREFIX = "like";
+    private static final String GENERATION_PREFIX = "gen";
+    private static final String GENERATION_MARK = "g";
+    private static final String USER_PREFIX = "user";
+    private static final String PRODUCTS_SUFFIX = "products";
+    private static final String VERSION_SUFFIX = "version";
+    private static final String RENDERED_PREFIX = "rendered";
+    private static final String SEARCH_MARK = "q";
 
     /**
      * 상품 상세 캐시 키: product:detail:{productId}
@@ -38,15 +59,60 @@ public class CacheKeyGenerator {
     }
 
     /**
-     * 상품 ID 리스트 캐시 키: product:ids:{strategy}:{brandId}:{page}:{size}:{sort}
-     * ID만 캐싱하여 개별 상품 변경 시 전체 캐시 무효화 방지
+     * 상품 목록 행 캐시 키: product:row:{productId}
+     * 목록 응답 한 행에 필요한 필드만 상품 단위로 캐싱
      */
-    public String generateProductIdsKey(CacheStrategy strategy, Long brandId, Pageable pageable) {
+    public String generateProductRowKey(Long productId) {
         return new StringJoiner(DELIMITER)
+                .add(PRODUCT_PREFIX)
+                .add(ROW_PREFIX)
+                .add(String.valueOf(productId))
+                .toString();
+    }
+
+    /**
+     * 상품 ID 리스트 캐시 키: product:ids:{strategy}:{brandId}:g{generation}:{page}:{size}:{sort}
+     * ID만 캐싱하여 개별 상품 변경 시 전체 캐시 무효화 방지
+     * 브랜드 목록 세대 번호를 포함하므로 세대가 바뀌면 이전 키는 조회되지 않고 TTL로 만료됩니다.
+     */
+    public String generateProductIdsKey(CacheStrategy strategy, Long brandId, long generation, Pageable pageable) {
+        return generateProductIdsKey(strategy, brandId, generation, pageable, null);
+    }
+
+    /**
+     * 상품명 검색 ID 리스트 캐시 키: product:ids:{strategy}:{brandId}:g{generation}:{page}:{size}:{sort}:q{검색어}
+     * 검색어는 정규화 후 Base64(URL-safe)로 인코딩하여, 특수문자 제거로 서로 다른 검색어가 같은 키를 쓰지 않게 합니다.
+     * 검색어가 없으면 일반 목록 키와 같습니다.
+     */
+    public String generateProductIdsKey(CacheStrategy strategy, Long brandId, long generation, Pageable pageable,
+                                        String productName) {
+        StringJoiner joiner = new StringJoiner(DELIMITER)
                 .add(PRODUCT_PREFIX)
                 .add(IDS_PREFIX)
                 .add(strategy.name().toLowerCase())
                 .add(brandId != null ? String.valueOf(brandId) : NULL_VALUE)
+                .add(GENERATION_MARK + generation)
+                .add(String.valueOf(pageable.getPageNumber()))
+                .add(String.valueOf(pageable.getPageSize()))
+                .add(generateSortString(pageable.getSort()));
+
+        String searchTerm = normalizeSearchTerm(productName);
+        if (searchTerm != null) {
+            joiner.add(SEARCH_MARK + Base64.getUrlEncoder().withoutPadding()
+                    .encodeToString(searchTerm.getBytes(StandardCharsets.UTF_8)));
+        }
+        return joiner.toString();
+    }
+
+    /**
+     * 목록 요청 빈도 집계 키: {brandId}|{검색어}|{page}|{size}|{sort}
+     * Redis 키가 아니며, 캐시 전략과 세대 번호 없이 같은 목록 요청을 하나로 묶습니다.
+     */
+    public String generateListAccessKey(Long brandId, String productName, Pageable pageable) {
+        String searchTerm = normalizeSearchTerm(productName);
+        return new StringJoiner("|")
+                .add(brandId != null ? String.valueOf(brandId) : NULL_VALUE)
+                .add(searchTerm != null ? searchTerm : "")
                 .add(String.valueOf(pageable.getPageNumber()))
                 .add(String.valueOf(pageable.getPageSize()))
                 .add(generateSortString(pageable.getSort()))
@@ -54,18 +120,133 @@ public class CacheKeyGenerator {
     }
 
 
+    /**
+     * 렌더링된 목록 응답 캐시 키: product:rendered:{brandId}:g{generation}:{page}:{size}:{sort}
+     * ID 리스트 캐시와 같은 목록 세대 번호를 사용하므로 같은 시점에 무효화됩니다.
+     */
+    public String generateRenderedListKey(Long brandId, long generation, Pageable pageable) {
+        return new StringJoiner(DELIMITER)
+                .add(PRODUCT_PREFIX)
+                .add(RENDERED_PREFIX)
+                .add(brandId != null ? String.valueOf(brandId) : NULL_VALUE)
+                .add(GENERATION_MARK + generation)
+                .add(String.valueOf(pageable.getPageNumber()))
+                .add(String.valueOf(pageable.getPageSize()))
+                .add(generateSortString(pageable.getSort()))
+                .toString();
+    }
+
+    /**
+     * 키 패밀리 패턴: product:{family}:* (detail/row/ids/rendered 키 개수 지표용)
+     */
+    public String generateFamilyPattern(String family) {
+        return new StringJoiner(DELIMITER)
+                .add(PRODUCT_PREFIX)
+                .add(family)
+                .add("*")
+                .toString();
+    }
+
     /**
      * 상품 ID 리스트 패턴: product:ids:{strategy}:*
      */
     public String generateProductIdsPattern(CacheStrategy strategy) {
+        return generateProductIdsPrefix(strategy) + "*";
+    }
+
+    /**
+     * 상품 ID 리스트 키 프리픽스: product:ids:{strategy}:
+     */
+    public String generateProductIdsPrefix(CacheStrategy strategy) {
         return new StringJoiner(DELIMITER)
                 .add(PRODUCT_PREFIX)
                 .add(IDS_PREFIX)
                 .add(strategy.name().toLowerCase())
-                .add("*")
+                .toString() + DELIMITER;
+    }
+
+    /**
+     * 브랜드별 상품 ID 리스트 키 프리픽스: product:ids:{strategy}:{brandId}:
+     * brandId가 null이면 전체 목록 프리픽스(product:ids:{strategy}:null:)를 반환합니다.
+     */
+    public String generateProductIdsPrefixByBrand(CacheStrategy strategy, Long brandId) {
+        return generateProductIdsPrefix(strategy)
+                + (brandId != null ? String.valueOf(brandId) : NULL_VALUE)
+                + DELIMITER;
+    }
+
+
+    /**
+     * 상품 전체 개수 키: product:total:brand:{brandId}
+     * brandId가 null이면 전체 상품 개수 키(product:total:all)를 반환합니다.
+     */
+    public String generateProductTotalKey(Long brandId) {
+        StringJoiner joiner = new StringJoiner(DELIMITER)
+                .add(PRODUCT_PREFIX)
+                .add(TOTAL_PREFIX);
+        return brandId != null
+                ? joiner.add(BRAND_PREFIX).add(String.valueOf(brandId)).toString()
+                : joiner.add(ALL_VALUE).toString();
+    }
+
+    /**
+     * 목록 세대 번호 키: product:gen:brand:{brandId}
+     * brandId가 null이면 전체 목록 세대 키(product:gen:all)를 반환합니다.
+     * 목록 캐시 무효화는 이 값을 INCR 하는 것으로 대신합니다.
+     */
+    public String generateListGenerationKey(Long brandId) {
+        StringJoiner joiner = new StringJoiner(DELIMITER)
+                .add(PRODUCT_PREFIX)
+                .add(GENERATION_PREFIX);
+        return brandId != null
+                ? joiner.add(BRAND_PREFIX).add(String.valueOf(brandId)).toString()
+                : joiner.add(ALL_VALUE).toString();
+    }
+
+    /**
+     * 사용자 좋아요 상품 집합(SET) 키: like:user:{userId}:products
+     */
+    public String generateUserLikedProductsKey(Long userId) {
+        return new StringJoiner(DELIMITER)
+                .add(LIKE_PREFIX)
+                .add(USER_PREFIX)
+                .add(String.valueOf(userId))
+                .add(PRODUCTS_SUFFIX)
                 .toString();
     }
 
+    /**
+     * 사용자 좋아요 취소 버전 키: like:user:{userId}:products:version
+     */
+    public String generateUserLikedProductsVersionKey(Long userId) {
+        return generateUserLikedProductsKey(userId) + DELIMITER + VERSION_SUFFIX;
+    }
+
+    /**
+     * 좋아요 수 랭킹(ZSET) 키: product:rank:like:brand:{brandId}
+     * brandId가 null이면 전체 랭킹 키(product:rank:like:all)를 반환합니다.
+     */
+    public String generateLikeRankingKey(Long brandId) {
+        StringJoiner joiner = new StringJoiner(DELIMITER)
+                .add(PRODUCT_PREFIX)
+                .add(RANK_PREFIX)
+                .add(LIKE_PREFIX);
+        return brandId != null
+                ? joiner.add(BRAND_PREFIX).add(String.valueOf(brandId)).toString()
+                : joiner.add(ALL_VALUE).toString();
+    }
+
+    /**
+     * 좋아요 수 랭킹(ZSET) 키 패턴: product:rank:like:*
+     */
+    public String generateLikeRankingPattern() {
+        return new StringJoiner(DELIMITER)
+                .add(PRODUCT_PREFIX)
+                .add(RANK_PREFIX)
+                .add(LIKE_PREFIX)
+                .add("*")
+                .toString();
+    }
 
     /**
      * 특정 브랜드의 모든 목록 패턴 (레거시): product:page:{brandId}:*
@@ -80,6 +261,16 @@ public class CacheKeyGenerator {
     }
 
 
+    /**
+     * 검색어 정규화 (앞뒤 공백 제거, 연속 공백 축약, 소문자), 비어 있으면 null
+     */
+    private static String normalizeSearchTerm(String productName) {
+        if (productName == null || productName.isBlank()) {
+            return null;
+        }
+        return productName.trim().replaceAll("\\s+", " ").toLowerCase(Locale.ROOT);
+    }
+
     /**
      * 상품명을 캐시 키에 안전한 형태로 변환 (공백→언더스코어, 특수문자 제거, 최대 50자)
      */
@@ -0,0 +1,163 @@
+package com.loopers.infrastructure.cache;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.Supplier;
+
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 캐시 미스 적재 조정기 (single-flight)
+ *
+ * Hot 키 만료 직후 같은 키에 대한 미스가 몰려도 DB 조회가 한 번만 일어나도록 합니다.
+ *
+ * - 노드 내부: 키별 진행 중 적재를 공유하여 첫 요청만 로더를 실행하고 나머지는 같은 결과를 기다립니다.
+ * - 노드 간: Redis 임대 락(SET NX PX)을 잡은 노드만 로더를 실행하고,
+ *   락을 얻지 못한 노드는 캐시가 채워질 때까지 짧게 폴링합니다.
+ *   대기 시간 안에 채워지지 않으면 직접 로더를 실행하여 응답 지연을 제한합니다.
+ *
+ * Redis 장애 시에는 임대 락 없이 노드 내부 중복 제거만 적용됩니다.
+ *
+ * @author hyunjikoh
+ * @since 2025. 12. 5.
+ */
+@Component
+@Slf4j
+public class CacheLoadCoordinator {
+
+    private static final String LEASE_SUFFIX = ":lease";
+
+    private static final RedisScript<Long> RELEASE_LEASE_SCRIPT = RedisScript.of("""
+            if redis.call('GET', KEYS[1]) == ARGV[1] then
+              return redis.call('DEL', KEYS[1])
+            end
+            return 0
+            """, Long.class);
+
+    private final RedisTemplate<String, String> redisTemplate;
+    private final ProductCacheProperties.Lease lease;
+    private final ConcurrentMap<String, CompletableFuture<Object>> inFlight = new ConcurrentHashMap<>();
+
+    public CacheLoadCoordinator(RedisTemplate<String, String> redisTemplate, ProductCacheProperties properties) {
+        this.redisTemplate = redisTemplate;
+        this.lease = properties.lease();
+    }
+
+    /**
+     * 캐시 미스 시 키당 한 번만 로더를 실행하여 값을 적재합니다.
+     * 로더는 DB 조회와 캐시 저장을 함께 수행해야 합니다.
+     *
+     * @param cacheKey    적재 대상 캐시 키
+     * @param cacheLookup 캐시 재조회 (다른 요청/노드가 채운 값 확인용)
+     * @param loader      DB 조회 및 캐시 저장
+     * @return 적재된 값
+     */
+    @SuppressWarnings("unchecked")
+    public <T> T load(String cacheKey, Supplier<Optional<T>> cacheLookup, Supplier<T> loader) {
+        CompletableFuture<Object> flight = new CompletableFuture<>();
+        CompletableFuture<Object> existing = inFlight.putIfAbsent(cacheKey, flight);
+        if (existing != null) {
+            log.debug("진행 중인 캐시 적재 대기 - key: {}", cacheKey);
+            return (T) await(existing);
+        }
+
+        try {
+            T value = loadWithLease(cacheKey, cacheLookup, loader);
+            flight.complete(value);
+            return value;
+        } catch (RuntimeException e) {
+            flight.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlight.remove(cacheKey, flight);
+        }
+    }
+
+    private <T> T loadWithLease(String cacheKey, Supplier<Optional<T>> cacheLookup, Supplier<T> loader) {
+        // 직전 적재가 막 끝났을 수 있으므로 한 번 더 확인
+        Optional<T> cached = cacheLookup.get();
+        if (cached.isPresent()) {
+            return cached.get();
+        }
+
+        if (!lease.enabled()) {
+            return loader.get();
+        }
+
+        String leaseKey = cacheKey + LEASE_SUFFIX;
+        String token = UUID.randomUUID().toString();
+        if (tryAcquire(leaseKey, token)) {
+            try {
+                return loader.get();
+            } finally {
+                release(leaseKey, token);
+            }
+        }
+
+        // 다른 노드가 적재 중: 캐시가 채워질 때까지 대기
+        long deadline = System.nanoTime() + lease.waitTimeout().toNanos();
+        while (System.nanoTime() < deadline) {
+            if (!sleep(lease.pollInterval())) {
+                break;
+            }
+            cached = cacheLookup.get();
+            if (cached.isPresent()) {
+                log.debug("다른 노드의 캐시 적재 결과 사용 - key: {}", cacheKey);
+                return cached.get();
+            }
+        }
+
+        log.debug("캐시 적재 대기 시간 초과, 직접 조회 - key: {}", cacheKey);
+        return loader.get();
+    }
+
+    private boolean tryAcquire(String leaseKey, String token) {
+        try {
+            return Boolean.TRUE.equals(redisTemplate.opsForValue().setIfAbsent(leaseKey, token, lease.ttl()));
+        } catch (Exception e) {
+            // Redis 장애 시 노드 간 조정 없이 진행
+            log.warn("캐시 적재 임대 락 획득 실패 - key: {}, error: {}", leaseKey, e.getMessage());
+            return true;
+        }
+    }
+
+    private void release(String leaseKey, String token) {
+        try {
+            redisTemplate.execute(RELEASE_LEASE_SCRIPT, List.of(leaseKey), token);
+        } catch (Exception e) {
+            // TTL 만료로 해제되므로 경고만 남김
+            log.warn("캐시 적재 임대 락 해제 실패 - key: {}, error: {}", leaseKey, e.getMessage());
+        }
+    }
+
+    private Object await(CompletableFuture<Object> flight) {
+        try {
+            return flight.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+
+    private boolean sleep(Duration duration) {
+        try {
+            Thread.sleep(duration);
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+}
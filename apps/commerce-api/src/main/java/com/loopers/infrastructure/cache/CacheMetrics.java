@@ -0,0 +1,143 @@
+package com.loopers.infrastructure.cache;
+
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.stereotype.Component;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 상품 캐시 지표
+ *
+ * 캐시 레벨(L1: JVM, L2: Redis), 캐시 전략(hot/warm/cold), 키 패밀리(detail/row/ids/rendered)별로
+ * 다음 지표를 Prometheus로 노출합니다.
+ * - product.cache.requests: 조회 결과 (hit/miss/early_refresh/bypass), L1 히트 수가 곧 절감된 Redis 왕복 횟수
+ * - product.cache.errors: 연산(get/set/delete/...)별 실패 횟수
+ * - product.cache.redis.latency: Redis 연산 지연
+ * - product.cache.serialization: 인코딩/디코딩 시간
+ * - product.cache.payload.size: 저장/조회한 값 크기 (바이트)
+ * - product.cache.keys: 패밀리별 키 개수 ({@link CacheKeyCountMonitor}가 주기적으로 갱신)
+ *
+ * @author hyunjikoh
+ * @since 2025. 12. 1.
+ */
+@Component
+@RequiredArgsConstructor
+public class CacheMetrics {
+
+    public static final String LEVEL_LOCAL = "l1";
+    public static final String LEVEL_REDIS = "l2";
+    public static final String FAMILY_DETAIL = "detail";
+    public static final String FAMILY_ROW = "row";
+    public static final String FAMILY_IDS = "ids";
+    public static final String FAMILY_RENDERED = "rendered";
+
+    public static final String OPERATION_GET = "get";
+    public static final String OPERATION_MGET = "mget";
+    public static final String OPERATION_SET = "set";
+    public static final String OPERATION_DELETE = "delete";
+    public static final String OPERATION_ENCODE = "encode";
+    public static final String OPERATION_DECODE = "decode";
+
+    private static final String REQUESTS = "product.cache.requests";
+    private static final String ERRORS = "product.cache.errors";
+    private static final String REDIS_LATENCY = "product.cache.redis.latency";
+    private static final String SERIALIZATION = "product.cache.serialization";
+    private static final String PAYLOAD_SIZE = "product.cache.payload.size";
+
+    private final MeterRegistry meterRegistry;
+
+    public void hit(String level, String family, CacheStrategy strategy) {
+        counter(level, family, strategy, "hit").increment();
+    }
+
+    public void miss(String level, String family, CacheStrategy strategy) {
+        counter(level, family, strategy, "miss").increment();
+    }
+
+    /**
+     * 만료 전 조기 갱신을 위해 히트를 미스로 처리한 경우
+     */
+    public void earlyRefresh(String level, String family, CacheStrategy strategy) {
+        counter(level, family, strategy, "early_refresh").increment();
+    }
+
+    /**
+     * 캐시를 사용하지 않는 전략(Cold)으로 DB를 바로 조회한 경우
+     */
+    public void bypass(String family, CacheStrategy strategy) {
+        counter(LEVEL_REDIS, family, strategy, "bypass").increment();
+    }
+
+    /**
+     * 캐시 연산 실패 (서비스는 캐시 없이 계속 동작)
+     */
+    public void error(String family, CacheStrategy strategy, String operation) {
+        Counter.builder(ERRORS)
+                .description("상품 캐시 연산 실패")
+                .tag("family", family)
+                .tag("strategy", tagValue(strategy))
+                .tag("operation", operation)
+                .register(meterRegistry)
+                .increment();
+    }
+
+    /**
+     * Redis 연산 시간 측정을 시작합니다. {@link #stopRedis}로 종료합니다.
+     */
+    public Timer.Sample start() {
+        return Timer.start(meterRegistry);
+    }
+
+    public void stopRedis(Timer.Sample sample, String family, CacheStrategy strategy, String operation) {
+        sample.stop(Timer.builder(REDIS_LATENCY)
+                .description("상품 캐시 Redis 연산 지연")
+                .tag("family", family)
+                .tag("strategy", tagValue(strategy))
+                .tag("operation", operation)
+                .register(meterRegistry));
+    }
+
+    /**
+     * 인코딩/디코딩 시간과 값 크기를 기록합니다.
+     *
+     * @param operation {@link #OPERATION_ENCODE} 또는 {@link #OPERATION_DECODE}
+     * @param nanos     소요 시간 (ns)
+     * @param bytes     인코딩된 값 크기
+     */
+    public void serialization(String family, CacheStrategy strategy, String operation, long nanos, int bytes) {
+        Timer.builder(SERIALIZATION)
+                .description("상품 캐시 값 직렬화 시간")
+                .tag("family", family)
+                .tag("operation", operation)
+                .register(meterRegistry)
+                .record(nanos, TimeUnit.NANOSECONDS);
+
+        DistributionSummary.builder(PAYLOAD_SIZE)
+                .description("상품 캐시 값 크기")
+                .baseUnit("bytes")
+                .tag("family", family)
+                .tag("strategy", tagValue(strategy))
+                .tag("operation", operation)
+                .register(meterRegistry)
+                .record(bytes);
+    }
+
+    private Counter counter(String level, String family, CacheStrategy strategy, String result) {
+        return Counter.builder(REQUESTS)
+                .description("상품 캐시 조회 결과")
+                .tag("level", level)
+                .tag("family", family)
+                .tag("strategy", tagValue(strategy))
+                .tag("result", result)
+                .register(meterRegistry);
+    }
+
+    private static String tagValue(CacheStrategy strategy) {
+        return strategy.name().toLowerCase();
+    }
+}
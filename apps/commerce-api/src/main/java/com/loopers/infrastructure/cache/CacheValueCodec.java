@@ -0,0 +1,27 @@
+package com.loopers.infrastructure.cache;
+
+import java.io.IOException;
+
+import com.fasterxml.jackson.databind.JavaType;
+
+/**
+ * Redis 캐시 값 코덱
+ *
+ * 캐시 값과 Redis에 저장할 바이트 배열을 상호 변환합니다.
+ * 구현체는 인코딩 결과 앞에 형식 버전 헤더를 두어, 배포 중 이전 형식(JSON 문자열)과 함께 읽을 수 있어야 합니다.
+ *
+ * @author hyunjikoh
+ * @since 2025. 12. 6.
+ */
+public interface CacheValueCodec {
+
+    /**
+     * 값을 저장용 바이트 배열로 인코딩합니다.
+     */
+    byte[] encode(Object value) throws IOException;
+
+    /**
+     * 저장된 바이트 배열을 주어진 타입으로 디코딩합니다.
+     */
+    <T> T decode(byte[] bytes, JavaType type) throws IOException;
+}
@@ -0,0 +1,102 @@
+package com.loopers.infrastructure.cache;
+
+import java.util.concurrent.atomic.AtomicIntegerArray;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 접근 빈도 추정기 (Count-Min Sketch + 주기적 감쇠, TinyLFU 방식)
+ *
+ * 키별 카운터를 두지 않고 depth × width 크기의 카운터 배열에 해시로 기록하므로
+ * 요청 조합(브랜드 × 상품명 × 페이지 × 정렬)이 무한히 늘어나도 메모리가 고정됩니다.
+ * 추정값은 실제 빈도 이상이며(과대 추정만 발생), 행마다 다른 해시를 쓰고 최솟값을 취해 오차를 줄입니다.
+ *
+ * 기록 수가 sampleSize에 도달하면 모든 카운터를 절반으로 줄여, 과거 인기보다 최근 빈도를 반영합니다.
+ * 동시 기록 중 감쇠가 일어나면 일부 증가분이 함께 절반이 될 수 있으나, 추정 용도이므로 허용합니다.
+ *
+ * @author hyunjikoh
+ * @since 2025. 12. 9.
+ */
+public class FrequencySketch {
+
+    private static final int DEPTH = 4;
+    private static final int MAX_COUNT = 255;
+    private static final long[] SEEDS = {
+            0xc3a5c85c97cb3127L, 0xb492b66fbe98f273L, 0x9ae16a3b2f90404fL, 0xcbf29ce484222325L
+    };
+
+    private final AtomicIntegerArray table;
+    private final int widthMask;
+    private final long sampleSize;
+    private final AtomicLong additions = new AtomicLong();
+
+    /**
+     * @param width      행당 카운터 수 (2의 거듭제곱으로 올림)
+     * @param sampleSize 감쇠 주기 (기록 수)
+     */
+    public FrequencySketch(int width, long sampleSize) {
+        if (width < 1 || sampleSize < 1) {
+            throw new IllegalArgumentException("width와 sampleSize는 1 이상이어야 합니다.");
+        }
+        int tableWidth = Integer.highestOneBit(Math.max(width - 1, 1)) << 1;
+        this.table = new AtomicIntegerArray(DEPTH * tableWidth);
+        this.widthMask = tableWidth - 1;
+        this.sampleSize = sampleSize;
+    }
+
+    /**
+     * 키의 접근을 기록하고, 기록 후 추정 빈도를 반환합니다.
+     */
+    public int increment(String key) {
+        long hash = spread(key);
+        int frequency = Integer.MAX_VALUE;
+        for (int row = 0; row < DEPTH; row++) {
+            int index = indexOf(hash, row);
+            int count = table.getAndUpdate(index, value -> Math.min(value + 1, MAX_COUNT));
+            frequency = Math.min(frequency, Math.min(count + 1, MAX_COUNT));
+        }
+
+        if (additions.incrementAndGet() % sampleSize == 0) {
+            age();
+        }
+        return frequency;
+    }
+
+    /**
+     * 키의 추정 빈도를 반환합니다. (기록하지 않음)
+     */
+    public int frequency(String key) {
+        long hash = spread(key);
+        int frequency = Integer.MAX_VALUE;
+        for (int row = 0; row < DEPTH; row++) {
+            frequency = Math.min(frequency, table.get(indexOf(hash, row)));
+        }
+        return frequency;
+    }
+
+    /**
+     * 시작 이후 누적 기록 수
+     */
+    public long additions() {
+        return additions.get();
+    }
+
+    /**
+     * 모든 카운터를 절반으로 줄입니다.
+     */
+    void age() {
+        for (int i = 0; i < table.length(); i++) {
+            table.updateAndGet(i, value -> value >>> 1);
+        }
+    }
+
+    private int indexOf(long hash, int row) {
+        long rowHash = (hash ^ SEEDS[row]) * 0x9e3779b97f4a7c15L;
+        rowHash ^= rowHash >>> 32;
+        return row * (widthMask + 1) + ((int) rowHash & widthMask);
+    }
+
+    private static long spread(String key) {
+        long hash = key.hashCode() * 0x9e3779b97f4a7c15L;
+        return hash ^ (hash >>> 29) ^ ((long) key.length() << 32);
+    }
+}
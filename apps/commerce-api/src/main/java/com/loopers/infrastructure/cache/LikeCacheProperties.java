@@ -0,0 +1,23 @@
+package com.loopers.infrastructure.cache;
+
+import java.time.Duration;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * 사용자 좋아요 상품 집합 캐시 설정
+ *
+ * 비활성화하면 좋아요 여부는 좋아요 테이블 IN 쿼리 한 번으로 조회합니다.
+ *
+ * @param enabled 사용 여부
+ * @param ttl     마지막 갱신 이후 유지 시간 (만료 후 다음 조회 시 좋아요 테이블로 재구성)
+ * @author hyunjikoh
+ * @since 2025. 12. 8.
+ */
+@ConfigurationProperties("like-cache")
+public record LikeCacheProperties(
+        @DefaultValue("true") boolean enabled,
+        @DefaultValue("1h") Duration ttl
+) {
+}
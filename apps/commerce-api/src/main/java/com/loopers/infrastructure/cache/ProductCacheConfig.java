@@ -0,0 +1,35 @@
+package com.loopers.infrastructure.cache;
+
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+
+import com.loopers.config.redis.RedisConfig;
+
+/**
+ * 상품 캐시 인프라 설정
+ *
+ * L1 무효화 채널 구독 컨테이너를 등록합니다.
+ * 구독은 master 연결을 사용하여 복제 지연과 무관하게 메시지를 수신합니다.
+ *
+ * @author hyunjikoh
+ * @since 2025. 12. 1.
+ */
+@Configuration
+public class ProductCacheConfig {
+
+    @Bean
+    public RedisMessageListenerContainer productCacheInvalidationListenerContainer(
+            @Qualifier(RedisConfig.CONNECTION_MASTER) LettuceConnectionFactory connectionFactory,
+            CacheInvalidationSubscriber subscriber,
+            ProductCacheProperties properties
+    ) {
+        RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+        container.setConnectionFactory(connectionFactory);
+        container.addMessageListener(subscriber, new ChannelTopic(properties.invalidation().channel()));
+        return container;
+    }
+}
@@ -0,0 +1,131 @@
+package com.loopers.infrastructure.cache;
+
+import java.time.Duration;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * 상품 캐시 설정
+ *
+ * - local: JVM 내부 L1 캐시 (Caffeine) 크기/TTL
+ * - invalidation: 노드 간 L1 무효화 채널
+ * - ranking: 좋아요 수 랭킹(ZSET) 사용 여부
+ * - lease: 캐시 미스 적재 시 노드 간 임대 락
+ * - expiration: Hot/Warm TTL, TTL 지터, 조기 갱신(XFetch) 계수
+ * - codec: 바이너리 캐시 값 압축 임계값
+ * - metrics: 키 패밀리별 키 개수 지표 수집
+ * - adaptive: 접근 빈도 기반 캐시 전략 승격/강등
+ *
+ * @author hyunjikoh
+ * @since 2025. 12. 1.
+ */
+@ConfigurationProperties("product-cache")
+public record ProductCacheProperties(
+        @DefaultValue Local local,
+        @DefaultValue Invalidation invalidation,
+        @DefaultValue Ranking ranking,
+        @DefaultValue Lease lease,
+        @DefaultValue Expiration expiration,
+        @DefaultValue Codec codec,
+        @DefaultValue Metrics metrics,
+        @DefaultValue Adaptive adaptive
+) {
+
+    /**
+     * L1 (in-process) 캐시 설정
+     * TTL은 pub/sub 유실 시에도 일관성이 깨지는 시간을 제한하는 안전장치입니다.
+     */
+    public record Local(
+            @DefaultValue("true") boolean enabled,
+            @DefaultValue("1000") long detailMaximumSize,
+            @DefaultValue("500") long idsMaximumSize,
+            @DefaultValue("30s") Duration ttl
+    ) {
+    }
+
+    /**
+     * L1 무효화 메시지를 전파할 Redis 채널
+     */
+    public record Invalidation(
+            @DefaultValue("product:cache:invalidation") String channel
+    ) {
+    }
+
+    /**
+     * 좋아요 수 랭킹(ZSET) 설정
+     * 비활성화하면 좋아요순 목록은 기존 ID 리스트 캐시/DB 경로로 조회합니다.
+     */
+    public record Ranking(
+            @DefaultValue("true") boolean enabled
+    ) {
+    }
+
+    /**
+     * 캐시 미스 적재 임대 락 설정
+     * ttl은 적재(DB 조회 + 캐시 저장)보다 길게, waitTimeout은 허용 가능한 응답 지연 이하로 둡니다.
+     */
+    public record Lease(
+            @DefaultValue("true") boolean enabled,
+            @DefaultValue("3s") Duration ttl,
+            @DefaultValue("500ms") Duration waitTimeout,
+            @DefaultValue("20ms") Duration pollInterval
+    ) {
+    }
+
+    /**
+     * Hot/Warm 캐시 만료 설정
+     * <p>
+     * 실제 TTL은 ttl × (1 - [0, jitter) 난수)로 분산하여 함께 저장된 키가 동시에 만료되지 않게 합니다.
+     * beta가 클수록 만료 전에 더 일찍 재계산하며, 0이면 조기 갱신하지 않습니다.
+     * minComputeTime은 재계산 시간이 측정되지 않은 값(배치 저장 등)에 사용하는 최솟값입니다.
+     */
+    public record Expiration(
+            @DefaultValue("30m") Duration hotTtl,
+            @DefaultValue("0.1") double hotJitter,
+            @DefaultValue("10m") Duration warmTtl,
+            @DefaultValue("0.2") double warmJitter,
+            @DefaultValue("1.0") double beta,
+            @DefaultValue("20ms") Duration minComputeTime
+    ) {
+    }
+
+    /**
+     * 캐시 값 코덱 설정
+     * 인코딩 결과가 임계값(바이트) 이상이면 LZ4로 압축합니다.
+     */
+    public record Codec(
+            @DefaultValue("1024") int compressionThreshold
+    ) {
+    }
+
+    /**
+     * 캐시 지표 설정
+     * 키 개수는 SCAN으로 세므로 키가 많으면 수집 주기(key-count-interval)를 늘리거나 비활성화합니다.
+     */
+    public record Metrics(
+            @DefaultValue("true") boolean keyCountEnabled,
+            @DefaultValue("1m") Duration keyCountInterval,
+            @DefaultValue("1000") int scanCount
+    ) {
+    }
+
+    /**
+     * 접근 빈도 기반 캐시 전략 설정
+     * <p>
+     * 빈도는 최근 sampleSize번의 목록 요청 안에서의 추정 요청 수입니다. (감쇠로 오래된 빈도는 절반씩 줄어듦)
+     * - hotFrequency 이상: Hot으로 승격
+     * - warmFrequency 이상: 최소 Warm으로 승격
+     * - coldFrequency 미만: 한 단계 강등 (누적 요청이 minSamples 이상일 때만, 기동 직후 일괄 강등 방지)
+     */
+    public record Adaptive(
+            @DefaultValue("true") boolean enabled,
+            @DefaultValue("8192") int width,
+            @DefaultValue("81920") long sampleSize,
+            @DefaultValue("32") int hotFrequency,
+            @DefaultValue("8") int warmFrequency,
+            @DefaultValue("2") int coldFrequency,
+            @DefaultValue("10000") long minSamples
+    ) {
+    }
+}
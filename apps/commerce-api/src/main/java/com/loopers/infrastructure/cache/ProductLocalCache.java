@@ -0,0 +1,121 @@
+package com.loopers.infrastructure.cache;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+import org.springframework.stereotype.Component;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.loopers.application.product.ProductDetailInfo;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 상품 L1 캐시 (JVM 내부, Caffeine)
+ *
+ * Redis(L2) 앞단에서 동일 상품/목록 반복 조회 시 네트워크 왕복과 역직렬화를 제거합니다.
+ * 크기와 TTL로 제한되며, 노드 간 일관성은 Redis pub/sub 무효화 메시지로 유지합니다.
+ *
+ * @author hyunjikoh
+ * @since 2025. 12. 1.
+ */
+@Component
+@Slf4j
+public class ProductLocalCache {
+
+    private final boolean enabled;
+    private final Cache<Long, ProductDetailInfo> detailCache;
+    private final Cache<String, List<Long>> idsCache;
+    private final Cache<String, Long> generationCache;
+
+    public ProductLocalCache(ProductCacheProperties properties, MeterRegistry meterRegistry) {
+        ProductCacheProperties.Local local = properties.local();
+        this.enabled = local.enabled();
+        this.detailCache = Caffeine.newBuilder()
+                .maximumSize(local.detailMaximumSize())
+                .expireAfterWrite(local.ttl())
+                .recordStats()
+                .build();
+        this.idsCache = Caffeine.newBuilder()
+                .maximumSize(local.idsMaximumSize())
+                .expireAfterWrite(local.ttl())
+                .recordStats()
+                .build();
+
+        this.generationCache = Caffeine.newBuilder()
+                .maximumSize(local.idsMaximumSize())
+                .expireAfterWrite(local.ttl())
+                .build();
+
+        CaffeineCacheMetrics.monitor(meterRegistry, detailCache, "product.l1.detail");
+        CaffeineCacheMetrics.monitor(meterRegistry, idsCache, "product.l1.ids");
+    }
+
+    // ========== 상품 상세 ==========
+
+    public Optional<ProductDetailInfo> getDetail(Long productId) {
+        if (!enabled) {
+            return Optional.empty();
+        }
+        return Optional.ofNullable(detailCache.getIfPresent(productId));
+    }
+
+    public void putDetail(Long productId, ProductDetailInfo productDetail) {
+        if (enabled) {
+            detailCache.put(productId, productDetail);
+        }
+    }
+
+    public void evictDetails(Collection<Long> productIds) {
+        detailCache.invalidateAll(productIds);
+    }
+
+    // ========== 상품 ID 리스트 ==========
+
+    public Optional<List<Long>> getIds(String key) {
+        if (!enabled) {
+            return Optional.empty();
+        }
+        return Optional.ofNullable(idsCache.getIfPresent(key));
+    }
+
+    public void putIds(String key, List<Long> productIds) {
+        if (enabled) {
+            idsCache.put(key, List.copyOf(productIds));
+        }
+    }
+
+    /**
+     * 프리픽스로 시작하는 ID 리스트 캐시를 제거합니다.
+     */
+    public void evictIdsByPrefix(String keyPrefix) {
+        idsCache.asMap().keySet().removeIf(key -> key.startsWith(keyPrefix));
+        log.debug("L1 ID 리스트 캐시 삭제 - prefix: {}", keyPrefix);
+    }
+
+    // ========== 목록 세대 번호 ==========
+
+    public Optional<Long> getGeneration(String generationKey) {
+        if (!enabled) {
+            return Optional.empty();
+        }
+        return Optional.ofNullable(generationCache.getIfPresent(generationKey));
+    }
+
+    public void putGeneration(String generationKey, long generation) {
+        if (enabled) {
+            generationCache.put(generationKey, generation);
+        }
+    }
+
+    /**
+     * 세대 번호를 모두 제거하여 다음 목록 조회 시 Redis에서 다시 읽게 합니다.
+     */
+    public void evictGenerations() {
+        generationCache.invalidateAll();
+    }
+}
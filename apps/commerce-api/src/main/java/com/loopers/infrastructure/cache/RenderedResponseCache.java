@@ -0,0 +1,107 @@
+package com.loopers.infrastructure.cache;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Optional;
+
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.stereotype.Component;
+
+import io.micrometer.core.instrument.Timer;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 렌더링된 응답 바이트 캐시 (Redis)
+ *
+ * 직렬화가 끝난 응답 본문과 ETag를 함께 저장하여, 히트 시 변환/직렬화 없이 그대로 응답에 기록할 수 있게 합니다.
+ *
+ * 저장 형식: [형식 버전 1byte][ETag 길이 2byte][ETag UTF-8][본문]
+ * 알 수 없는 형식은 미스로 처리합니다.
+ *
+ * @author hyunjikoh
+ * @since 2025. 12. 9.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class RenderedResponseCache {
+
+    private static final byte FORMAT_VERSION = 0x01;
+
+    private final RedisTemplate<String, byte[]> binaryRedisTemplate;
+    private final CacheMetrics cacheMetrics;
+
+    public Optional<RenderedResponse> get(String key) {
+        try {
+            Timer.Sample sample = cacheMetrics.start();
+            byte[] value = binaryRedisTemplate.opsForValue().get(key);
+            cacheMetrics.stopRedis(sample, CacheMetrics.FAMILY_RENDERED, CacheStrategy.HOT, CacheMetrics.OPERATION_GET);
+
+            Optional<RenderedResponse> response = decode(value);
+            if (response.isPresent()) {
+                cacheMetrics.hit(CacheMetrics.LEVEL_REDIS, CacheMetrics.FAMILY_RENDERED, CacheStrategy.HOT);
+            } else {
+                cacheMetrics.miss(CacheMetrics.LEVEL_REDIS, CacheMetrics.FAMILY_RENDERED, CacheStrategy.HOT);
+            }
+            return response;
+        } catch (Exception e) {
+            cacheMetrics.error(CacheMetrics.FAMILY_RENDERED, CacheStrategy.HOT, CacheMetrics.OPERATION_GET);
+            log.warn("렌더링 응답 캐시 조회 실패 - key: {}, error: {}", key, e.getMessage());
+            return Optional.empty();
+        }
+    }
+
+    public void put(String key, RenderedResponse response, Duration ttl) {
+        try {
+            long startTime = System.nanoTime();
+            byte[] value = encode(response);
+            cacheMetrics.serialization(CacheMetrics.FAMILY_RENDERED, CacheStrategy.HOT, CacheMetrics.OPERATION_ENCODE,
+                    System.nanoTime() - startTime, value.length);
+
+            Timer.Sample sample = cacheMetrics.start();
+            binaryRedisTemplate.opsForValue().set(key, value, ttl);
+            cacheMetrics.stopRedis(sample, CacheMetrics.FAMILY_RENDERED, CacheStrategy.HOT, CacheMetrics.OPERATION_SET);
+            log.debug("렌더링 응답 캐시 저장 - key: {}, {}bytes", key, response.body().length);
+        } catch (Exception e) {
+            cacheMetrics.error(CacheMetrics.FAMILY_RENDERED, CacheStrategy.HOT, CacheMetrics.OPERATION_SET);
+            log.warn("렌더링 응답 캐시 저장 실패 - key: {}, error: {}", key, e.getMessage());
+        }
+    }
+
+    private static byte[] encode(RenderedResponse response) {
+        byte[] etag = response.etag().getBytes(StandardCharsets.UTF_8);
+        return ByteBuffer.allocate(1 + Short.BYTES + etag.length + response.body().length)
+                .put(FORMAT_VERSION)
+                .putShort((short) etag.length)
+                .put(etag)
+                .put(response.body())
+                .array();
+    }
+
+    private static Optional<RenderedResponse> decode(byte[] value) {
+        if (value == null || value.length < 1 + Short.BYTES || value[0] != FORMAT_VERSION) {
+            return Optional.empty();
+        }
+
+        ByteBuffer buffer = ByteBuffer.wrap(value, 1, value.length - 1);
+        int etagLength = Short.toUnsignedInt(buffer.getShort());
+        if (buffer.remaining() < etagLength) {
+            return Optional.empty();
+        }
+
+        byte[] etag = new byte[etagLength];
+        buffer.get(etag);
+        byte[] body = new byte[buffer.remaining()];
+        buffer.get(body);
+        return Optional.of(new RenderedResponse(new String(etag, StandardCharsets.UTF_8), body));
+    }
+
+    /**
+     * @param etag 응답 ETag (없으면 빈 문자열)
+     * @param body 직렬화된 응답 본문 (JSON)
+     */
+    public record RenderedResponse(String etag, byte[] body) {
+    }
+}
@@ -0,0 +1,88 @@
+package com.loopers.infrastructure.cache;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+
+import org.springframework.stereotype.Component;
+
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+
+import net.jpountz.lz4.LZ4Compressor;
+import net.jpountz.lz4.LZ4Factory;
+import net.jpountz.lz4.LZ4FastDecompressor;
+
+/**
+ * Smile(바이너리 JSON) + LZ4 캐시 값 코덱
+ *
+ * 저장 형식: [헤더 1바이트][본문]
+ * - 0x01: Smile
+ * - 0x02: LZ4 압축된 Smile, 본문 = [원본 길이 4바이트][압축 데이터]
+ *
+ * 압축은 인코딩 결과가 임계값 이상일 때만 적용합니다. (작은 값은 압축 이득보다 비용이 큼)
+ * 헤더가 없는 값('{' 또는 '[' 로 시작)은 이전 형식인 JSON 문자열로 읽습니다.
+ *
+ * @author hyunjikoh
+ * @since 2025. 12. 6.
+ */
+@Component
+public class SmileCacheValueCodec implements CacheValueCodec {
+
+    private static final byte FORMAT_SMILE = 0x01;
+    private static final byte FORMAT_SMILE_LZ4 = 0x02;
+
+    private final ObjectMapper jsonMapper;
+    private final ObjectMapper smileMapper;
+    private final int compressionThreshold;
+    private final LZ4Compressor compressor;
+    private final LZ4FastDecompressor decompressor;
+
+    public SmileCacheValueCodec(ObjectMapper objectMapper, ProductCacheProperties properties) {
+        this.jsonMapper = objectMapper;
+        // 애플리케이션 ObjectMapper의 모듈/설정(JavaTimeModule 등)을 그대로 사용
+        this.smileMapper = objectMapper.copyWith(new SmileFactory());
+        this.compressionThreshold = properties.codec().compressionThreshold();
+
+        LZ4Factory factory = LZ4Factory.fastestInstance();
+        this.compressor = factory.fastCompressor();
+        this.decompressor = factory.fastDecompressor();
+    }
+
+    @Override
+    public byte[] encode(Object value) throws IOException {
+        byte[] smile = smileMapper.writeValueAsBytes(value);
+
+        if (smile.length < compressionThreshold) {
+            return ByteBuffer.allocate(1 + smile.length)
+                    .put(FORMAT_SMILE)
+                    .put(smile)
+                    .array();
+        }
+
+        byte[] compressed = compressor.compress(smile);
+        return ByteBuffer.allocate(1 + Integer.BYTES + compressed.length)
+                .put(FORMAT_SMILE_LZ4)
+                .putInt(smile.length)
+                .put(compressed)
+                .array();
+    }
+
+    @Override
+    public <T> T decode(byte[] bytes, JavaType type) throws IOException {
+        if (bytes.length == 0) {
+            throw new IOException("빈 캐시 값입니다.");
+        }
+
+        return switch (bytes[0]) {
+            case FORMAT_SMILE -> smileMapper.readValue(bytes, 1, bytes.length - 1, type);
+            case FORMAT_SMILE_LZ4 -> {
+                int originalLength = ByteBuffer.wrap(bytes, 1, Integer.BYTES).getInt();
+                byte[] smile = decompressor.decompress(bytes, 1 + Integer.BYTES, originalLength);
+                yield smileMapper.readValue(smile, type);
+            }
+            case '{', '[' -> jsonMapper.readValue(bytes, type); // 이전 형식 (JSON 문자열)
+            default -> throw new IOException("지원하지 않는 캐시 값 형식입니다. header: " + bytes[0]);
+        };
+    }
+}
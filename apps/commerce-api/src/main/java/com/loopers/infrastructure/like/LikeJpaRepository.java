@@ -1,10 +1,12 @@
 package com.loopers.infrastructure.like;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 import com.loopers.domain.like.LikeEntity;
 
@@ -26,4 +28,14 @@ public interface LikeJpaRepository extends JpaRepository<LikeEntity, Long> {
      */
     @Query("SELECT DISTINCT l.productId FROM LikeEntity l WHERE l.deletedAt IS NULL")
     List<Long> findDistinctProductIds();
+
+    @Query("SELECT l.productId FROM LikeEntity l WHERE l.userId = :userId AND l.deletedAt IS NULL")
+    List<Long> findActiveProductIdsByUserId(@Param("userId") Long userId);
+
+    @Query("SELECT l.productId FROM LikeEntity l "
+            + "WHERE l.userId = :userId AND l.productId IN :productIds AND l.deletedAt IS NULL")
+    List<Long> findActiveProductIdsByUserIdAndProductIdIn(
+            @Param("userId") Long userId,
+            @Param("productIds") Collection<Long> productIds
+    );
 }
@@ -1,5 +1,6 @@
 package com.loopers.infrastructure.like;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -43,4 +44,14 @@ public class LikeRepositoryImpl implements LikeRepository {
     public List<Long> findDistinctProductIds() {
         return likeJpaRepository.findDistinctProductIds();
     }
+
+    @Override
+    public List<Long> findActiveProductIdsByUserId(Long userId) {
+        return likeJpaRepository.findActiveProductIdsByUserId(userId);
+    }
+
+    @Override
+    public List<Long> findActiveProductIdsByUserIdAndProductIdIn(Long userId, Collection<Long> productIds) {
+        return likeJpaRepository.findActiveProductIdsByUserIdAndProductIdIn(userId, productIds);
+    }
 }
@@ -0,0 +1,73 @@
+package com.loopers.infrastructure.outbox;
+
+import java.util.concurrent.CompletableFuture;
+
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.stereotype.Component;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.loopers.domain.outbox.OutboxEventEntity;
+import com.loopers.domain.outbox.OutboxEventPublisher;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 아웃박스 이벤트 Kafka 발행
+ *
+ * 집계 ID를 메시지 키로 사용하여 같은 집계의 이벤트가 같은 파티션에 순서대로 기록되게 합니다.
+ * 본문은 이벤트 메타데이터와 도메인 페이로드를 담은 {@link OutboxMessage}입니다.
+ *
+ * @author hyunjikoh
+ * @since 2025. 12. 10.
+ */
+@Component
+@RequiredArgsConstructor
+public class KafkaOutboxEventPublisher implements OutboxEventPublisher {
+
+    private final KafkaTemplate<Object, Object> kafkaTemplate;
+    private final ObjectMapper objectMapper;
+
+    @Override
+    public CompletableFuture<Void> publish(OutboxEventEntity event) {
+        return kafkaTemplate.send(event.getTopic(), event.getAggregateId(), toMessage(event))
+                .thenApply(result -> null);
+    }
+
+    private OutboxMessage toMessage(OutboxEventEntity event) {
+        try {
+            JsonNode payload = objectMapper.readTree(event.getPayload());
+            return new OutboxMessage(
+                    event.getEventId(),
+                    event.getEventType(),
+                    event.getAggregateType(),
+                    event.getAggregateId(),
+                    event.getCreatedAt().toOffsetDateTime().toString(),
+                    payload
+            );
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("아웃박스 페이로드를 읽을 수 없습니다. id: " + event.getId(), e);
+        }
+    }
+
+    /**
+     * Kafka 메시지 본문
+     *
+     * @param eventId       이벤트 ID (소비자 중복 제거용)
+     * @param eventType     이벤트 유형
+     * @param aggregateType 집계 유형
+     * @param aggregateId   집계 ID (메시지 키와 동일)
+     * @param occurredAt    아웃박스 기록 시각 (ISO-8601)
+     * @param payload       도메인 이벤트 본문
+     */
+    public record OutboxMessage(
+            String eventId,
+            String eventType,
+            String aggregateType,
+            String aggregateId,
+            String occurredAt,
+            JsonNode payload
+    ) {
+    }
+}
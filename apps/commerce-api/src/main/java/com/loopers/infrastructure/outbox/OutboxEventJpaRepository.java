@@ -0,0 +1,25 @@
+package com.loopers.infrastructure.outbox;
+
+import java.time.ZonedDateTime;
+import java.util.Collection;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import com.loopers.domain.outbox.OutboxEventEntity;
+import com.loopers.domain.outbox.OutboxStatus;
+
+/**
+ * @author hyunjikoh
+ * @since 2025. 12. 10.
+ */
+public interface OutboxEventJpaRepository extends JpaRepository<OutboxEventEntity, Long> {
+
+    long countByStatusIn(Collection<OutboxStatus> statuses);
+
+    @Modifying
+    @Query("DELETE FROM OutboxEventEntity o WHERE o.status = :status AND o.publishedAt < :time")
+    int deleteByStatusAndPublishedAtBefore(@Param("status") OutboxStatus status, @Param("time") ZonedDateTime time);
+}
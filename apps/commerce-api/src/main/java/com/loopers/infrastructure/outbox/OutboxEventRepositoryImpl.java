@@ -0,0 +1,96 @@
+package com.loopers.infrastructure.outbox;
+
+import static com.loopers.domain.outbox.QOutboxEventEntity.outboxEventEntity;
+import java.time.ZonedDateTime;
+import java.util.List;
+import java.util.Optional;
+
+import org.springframework.stereotype.Component;
+
+import com.loopers.domain.outbox.OutboxEventEntity;
+import com.loopers.domain.outbox.OutboxEventRepository;
+import com.loopers.domain.outbox.OutboxStatus;
+import com.querydsl.jpa.impl.JPAQueryFactory;
+
+import lombok.RequiredArgsConstructor;
+
+import jakarta.persistence.LockModeType;
+
+/**
+ * @author hyunjikoh
+ * @since 2025. 12. 10.
+ */
+@Component
+@RequiredArgsConstructor
+public class OutboxEventRepositoryImpl implements OutboxEventRepository {
+
+    // 0: 잠금 대기 없이 즉시 실패 (MySQL FOR UPDATE NOWAIT)
+    private static final String LOCK_TIMEOUT_HINT = "jakarta.persistence.lock.timeout";
+    private static final List<OutboxStatus> UNPUBLISHED = List.of(OutboxStatus.PENDING, OutboxStatus.IN_FLIGHT);
+
+    private final OutboxEventJpaRepository outboxEventJpaRepository;
+    private final JPAQueryFactory queryFactory;
+
+    @Override
+    public OutboxEventEntity save(OutboxEventEntity entity) {
+        return outboxEventJpaRepository.save(entity);
+    }
+
+    @Override
+    public List<OutboxEventEntity> findRelayCandidates(int limit, ZonedDateTime now) {
+        return queryFactory
+                .selectFrom(outboxEventEntity)
+                .where(outboxEventEntity.status.eq(OutboxStatus.PENDING)
+                        .or(outboxEventEntity.status.eq(OutboxStatus.IN_FLIGHT)
+                                .and(outboxEventEntity.leaseUntil.lt(now))))
+                .orderBy(outboxEventEntity.id.asc())
+                .limit(limit)
+                .setLockMode(LockModeType.PESSIMISTIC_WRITE)
+                .setHint(LOCK_TIMEOUT_HINT, 0)
+                .fetch();
+    }
+
+    @Override
+    public boolean existsActiveClaim(ZonedDateTime now) {
+        // 잠금 조회(current read)로 다른 릴레이가 방금 커밋한 점유까지 확인
+        return queryFactory
+                .selectFrom(outboxEventEntity)
+                .where(outboxEventEntity.status.eq(OutboxStatus.IN_FLIGHT),
+                        outboxEventEntity.leaseUntil.goe(now))
+                .limit(1)
+                .setLockMode(LockModeType.PESSIMISTIC_WRITE)
+                .setHint(LOCK_TIMEOUT_HINT, 0)
+                .fetchFirst() != null;
+    }
+
+    @Override
+    public List<OutboxEventEntity> findByIdInForUpdate(List<Long> ids) {
+        return queryFactory
+                .selectFrom(outboxEventEntity)
+                .where(outboxEventEntity.id.in(ids))
+                .orderBy(outboxEventEntity.id.asc())
+                .setLockMode(LockModeType.PESSIMISTIC_WRITE)
+                .fetch();
+    }
+
+    @Override
+    public long countPending() {
+        return outboxEventJpaRepository.countByStatusIn(UNPUBLISHED);
+    }
+
+    @Override
+    public Optional<ZonedDateTime> findOldestPendingCreatedAt() {
+        return Optional.ofNullable(queryFactory
+                .select(outboxEventEntity.createdAt)
+                .from(outboxEventEntity)
+                .where(outboxEventEntity.status.in(UNPUBLISHED))
+                .orderBy(outboxEventEntity.id.asc())
+                .limit(1)
+                .fetchOne());
+    }
+
+    @Override
+    public long deletePublishedBefore(ZonedDateTime time) {
+        return outboxEventJpaRepository.deleteByStatusAndPublishedAtBefore(OutboxStatus.PUBLISHED, time);
+    }
+}
@@ -0,0 +1,33 @@
+package com.loopers.infrastructure.outbox;
+
+import java.time.Duration;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * 아웃박스 릴레이 설정
+ *
+ * - relayEnabled: 비활성화하면 이벤트는 기록만 되고 발행되지 않음 (Kafka 없는 환경)
+ * - relayInterval: 발행 대기 이벤트 조회 주기
+ * - batchSize: 한 번에 발행할 최대 이벤트 수
+ * - sendTimeout: 배치 전체의 브로커 확인 대기 시간 (초과분은 다음 주기에 재발행)
+ * - maxAttempts: 이벤트별 최대 발행 시도 횟수, 초과하면 FAILED로 옮기고 발행 중단
+ *   (브로커 장애 중의 실패도 시도 횟수에 포함되므로 예상 장애 시간보다 넉넉하게 설정)
+ * - backlogInterval: 대기 이벤트 수/최고령 지연 게이지 갱신 주기
+ * - retention: 발행 완료 이벤트 보관 기간
+ *
+ * @author hyunjikoh
+ * @since 2025. 12. 10.
+ */
+@ConfigurationProperties("outbox")
+public record OutboxProperties(
+        @DefaultValue("true") boolean relayEnabled,
+        @DefaultValue("500ms") Duration relayInterval,
+        @DefaultValue("500") int batchSize,
+        @DefaultValue("10s") Duration sendTimeout,
+        @DefaultValue("30") int maxAttempts,
+        @DefaultValue("10s") Duration backlogInterval,
+        @DefaultValue("7d") Duration retention
+) {
+}
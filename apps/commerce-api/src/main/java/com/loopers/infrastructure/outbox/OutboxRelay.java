@@ -0,0 +1,149 @@
+package com.loopers.infrastructure.outbox;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.springframework.dao.PessimisticLockingFailureException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import com.loopers.domain.outbox.OutboxEventService;
+import com.loopers.domain.outbox.OutboxRelayResult;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.persistence.LockTimeoutException;
+import jakarta.persistence.PessimisticLockException;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 아웃박스 릴레이 스케줄러
+ *
+ * relayInterval마다 발행 대기 이벤트를 batchSize만큼 Kafka로 발행합니다.
+ * 배치가 가득 찼으면 대기 없이 바로 다음 배치를 발행하여 적체를 빠르게 해소합니다.
+ * 다른 인스턴스가 릴레이 중이면(유효한 점유 또는 점유 중 행 잠금) 이번 주기를 건너뜁니다.
+ *
+ * 지표
+ * - outbox.relay.events: 발행 결과(published/failed/dead_lettered)별 이벤트 수 → 처리량, dead_lettered 는 알림 대상
+ * - outbox.relay.lag: 아웃박스 기록부터 발행 완료까지 걸린 시간
+ * - outbox.backlog: 발행 대기 이벤트 수
+ * - outbox.backlog.oldest.age: 가장 오래된 대기 이벤트의 대기 시간 (초)
+ *
+ * @author hyunjikoh
+ * @since 2025. 12. 10.
+ */
+@Component
+@Slf4j
+public class OutboxRelay {
+
+    private static final int MAX_BATCHES_PER_RUN = 20;
+
+    private final OutboxEventService outboxEventService;
+    private final OutboxProperties properties;
+    private final MeterRegistry meterRegistry;
+    private final AtomicLong backlog = new AtomicLong();
+    private final AtomicLong oldestPendingAgeSeconds = new AtomicLong();
+
+    public OutboxRelay(OutboxEventService outboxEventService, OutboxProperties properties, MeterRegistry meterRegistry) {
+        this.outboxEventService = outboxEventService;
+        this.properties = properties;
+        this.meterRegistry = meterRegistry;
+
+        Gauge.builder("outbox.backlog", backlog, AtomicLong::get)
+                .description("발행 대기 아웃박스 이벤트 수")
+                .register(meterRegistry);
+        Gauge.builder("outbox.backlog.oldest.age", oldestPendingAgeSeconds, AtomicLong::get)
+                .description("가장 오래된 발행 대기 이벤트의 대기 시간")
+                .baseUnit("seconds")
+                .register(meterRegistry);
+    }
+
+    @Scheduled(fixedDelayString = "${outbox.relay-interval:500ms}")
+    public void relay() {
+        if (!properties.relayEnabled()) {
+            return;
+        }
+
+        try {
+            for (int batch = 0; batch < MAX_BATCHES_PER_RUN; batch++) {
+                OutboxRelayResult result = outboxEventService.relay(
+                        properties.batchSize(), properties.sendTimeout(), properties.maxAttempts());
+                record(result);
+
+                // 배치가 가득 차지 않았거나 다시 시도할 실패가 있으면 다음 주기에 이어서 발행
+                // (실패가 모두 FAILED로 옮겨졌으면 다음 배치에서 다시 조회되지 않으므로 계속 발행)
+                if (result.fetched() < properties.batchSize() || result.failed() > result.deadLettered()) {
+                    return;
+                }
+            }
+        } catch (PessimisticLockingFailureException | PessimisticLockException | LockTimeoutException e) {
+            log.debug("다른 인스턴스가 아웃박스 릴레이 중 - 이번 주기 생략");
+        } catch (Exception e) {
+            log.error("아웃박스 릴레이 실패", e);
+        }
+    }
+
+    /**
+     * 적체 게이지를 갱신합니다.
+     */
+    @Scheduled(fixedDelayString = "${outbox.backlog-interval:10s}")
+    public void refreshBacklog() {
+        try {
+            backlog.set(outboxEventService.countPending());
+            oldestPendingAgeSeconds.set(outboxEventService.oldestPendingAge().toSeconds());
+        } catch (Exception e) {
+            log.warn("아웃박스 적체 지표 갱신 실패 - error: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * 보관 기간이 지난 발행 완료 이벤트를 삭제합니다. (매일 04:30)
+     */
+    @Scheduled(cron = "0 30 4 * * *")
+    public void purgePublished() {
+        try {
+            long deleted = outboxEventService.purgePublished(properties.retention());
+            log.info("발행 완료 아웃박스 이벤트 정리 - {}건", deleted);
+        } catch (Exception e) {
+            log.error("발행 완료 아웃박스 이벤트 정리 실패", e);
+        }
+    }
+
+    private void record(OutboxRelayResult result) {
+        for (OutboxRelayResult.Published published : result.published()) {
+            Counter.builder("outbox.relay.events")
+                    .description("아웃박스 릴레이 발행 결과")
+                    .tag("topic", published.topic())
+                    .tag("result", "published")
+                    .register(meterRegistry)
+                    .increment();
+
+            Timer.builder("outbox.relay.lag")
+                    .description("아웃박스 기록부터 발행 완료까지 걸린 시간")
+                    .tag("topic", published.topic())
+                    .register(meterRegistry)
+                    .record(published.lag().toNanos(), TimeUnit.NANOSECONDS);
+        }
+
+        if (result.failed() > 0) {
+            Counter.builder("outbox.relay.events")
+                    .description("아웃박스 릴레이 발행 결과")
+                    .tag("topic", "all")
+                    .tag("result", "failed")
+                    .register(meterRegistry)
+                    .increment(result.failed());
+            log.warn("아웃박스 발행 실패 - 조회: {}건, 실패/보류: {}건", result.fetched(), result.failed());
+        }
+
+        if (result.deadLettered() > 0) {
+            Counter.builder("outbox.relay.events")
+                    .description("아웃박스 릴레이 발행 결과")
+                    .tag("topic", "all")
+                    .tag("result", "dead_lettered")
+                    .register(meterRegistry)
+                    .increment(result.deadLettered());
+        }
+    }
+}
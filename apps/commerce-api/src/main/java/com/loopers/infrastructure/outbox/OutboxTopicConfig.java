@@ -0,0 +1,43 @@
+package com.loopers.infrastructure.outbox;
+
+import org.apache.kafka.clients.admin.NewTopic;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.kafka.config.TopicBuilder;
+import org.springframework.kafka.core.KafkaAdmin;
+
+import com.loopers.application.outbox.OutboxEventListener;
+
+/**
+ * 아웃박스 발행 토픽
+ *
+ * 집계 ID 키로 파티션을 나누므로, 소비자 병렬도는 파티션 수까지 늘릴 수 있습니다.
+ * 릴레이가 비활성화된 환경(테스트 등)에서는 브로커에 접속하지 않도록 토픽을 등록하지 않습니다.
+ *
+ * @author hyunjikoh
+ * @since 2025. 12. 10.
+ */
+@Configuration
+@ConditionalOnProperty(name = "outbox.relay-enabled", havingValue = "true", matchIfMissing = true)
+public class OutboxTopicConfig {
+
+    private static final int PARTITIONS = 3;
+
+    @Bean
+    public KafkaAdmin.NewTopics outboxTopics() {
+        return new KafkaAdmin.NewTopics(
+                topic(OutboxEventListener.ORDER_TOPIC),
+                topic(OutboxEventListener.LIKE_TOPIC),
+                topic(OutboxEventListener.POINT_TOPIC),
+                topic(OutboxEventListener.STOCK_TOPIC)
+        );
+    }
+
+    private static NewTopic topic(String name) {
+        return TopicBuilder.name(name)
+                .partitions(PARTITIONS)
+                .replicas(1)
+                .build();
+    }
+}
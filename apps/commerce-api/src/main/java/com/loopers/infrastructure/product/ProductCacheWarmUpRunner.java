@@ -0,0 +1,158 @@
+package com.loopers.infrastructure.product;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.stereotype.Component;
+
+import com.loopers.application.product.ProductFacade;
+import com.loopers.application.product.ProductInfo;
+import com.loopers.domain.brand.BrandEntity;
+import com.loopers.domain.brand.BrandService;
+import com.loopers.domain.product.ProductCacheService;
+import com.loopers.domain.product.ProductLikeRankingService;
+import com.loopers.domain.product.ProductMVService;
+import com.loopers.domain.product.dto.ProductSearchFilter;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 기동 시 캐시 예열
+ *
+ * 배포/Redis 초기화 직후 모든 노드가 빈 캐시로 트래픽을 받아 DB에 부하가 몰리지 않도록,
+ * 트래픽을 받기 전에 다음 항목을 병렬로 적재합니다.
+ * - 좋아요 랭킹 (비어 있을 때만 재구축)
+ * - 전체/브랜드별 목록 앞쪽 페이지 (ID 리스트, 목록 행, L1)
+ * - 인기 상품 상세 (Redis, L1)
+ *
+ * ApplicationRunner로 실행되므로 예열이 끝나거나 timeout이 지날 때까지 ApplicationReadyEvent가 발행되지 않고,
+ * readiness 프로브(monitoring.yml)는 REFUSING_TRAFFIC(DOWN)로 유지됩니다.
+ * 예열 요청은 실제 요청과 같은 캐시 키를 쓰되 요청 빈도 집계에는 기록하지 않습니다.
+ *
+ * @author hyunjikoh
+ * @since 2025. 12. 9.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class ProductCacheWarmUpRunner implements ApplicationRunner {
+
+    private static final int DEFAULT_PAGE_SIZE = 20; // 목록 API 기본 페이지 크기
+
+    private final ProductFacade productFacade;
+    private final ProductMVService mvService;
+    private final ProductCacheService cacheService;
+    private final ProductLikeRankingService rankingService;
+    private final BrandService brandService;
+    private final ProductWarmUpProperties properties;
+
+    @Override
+    public void run(ApplicationArguments args) {
+        if (!properties.enabled()) {
+            log.info("캐시 예열 비활성화");
+            return;
+        }
+
+        long startTime = System.currentTimeMillis();
+        ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+        Semaphore permits = new Semaphore(properties.parallelism());
+        AtomicInteger failures = new AtomicInteger();
+
+        try {
+            List<Runnable> tasks = new ArrayList<>();
+            tasks.add(this::warmUpRanking);
+            tasks.addAll(listTasks());
+            tasks.addAll(detailTasks());
+
+            CompletableFuture<?>[] futures = tasks.stream()
+                    .map(task -> CompletableFuture.runAsync(() -> runWithPermit(task, permits, failures), executor))
+                    .toArray(CompletableFuture[]::new);
+
+            CompletableFuture.allOf(futures).get(properties.timeout().toMillis(), TimeUnit.MILLISECONDS);
+            log.info("캐시 예열 완료 - 작업: {}개, 실패: {}개, 소요: {}ms",
+                    tasks.size(), failures.get(), System.currentTimeMillis() - startTime);
+        } catch (TimeoutException e) {
+            log.warn("캐시 예열 시간 초과 - {}ms, 남은 작업은 백그라운드로 계속하고 트래픽을 받습니다",
+                    properties.timeout().toMillis());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            log.warn("캐시 예열 중단");
+        } catch (Exception e) {
+            // 예열 실패로 기동을 막지 않음 (캐시 미스 경로로 동작)
+            log.error("캐시 예열 실패", e);
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    private void runWithPermit(Runnable task, Semaphore permits, AtomicInteger failures) {
+        try {
+            permits.acquire();
+            try {
+                task.run();
+            } finally {
+                permits.release();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (Exception e) {
+            failures.incrementAndGet();
+            log.warn("캐시 예열 작업 실패 - error: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * 좋아요 랭킹이 없으면(Redis 초기화 등) 재구축합니다.
+     */
+    private void warmUpRanking() {
+        if (rankingService.isEnabled() && rankingService.getRankingPage(null, 0, 1).isEmpty()) {
+            int ranked = rankingService.rebuild();
+            log.info("캐시 예열 - 좋아요 랭킹 재구축: {}개", ranked);
+        }
+    }
+
+    /**
+     * 전체 목록과 브랜드별 목록의 앞쪽 페이지 (기본 정렬, 기본 페이지 크기)
+     */
+    private List<Runnable> listTasks() {
+        List<Long> brandIds = new ArrayList<>();
+        brandIds.add(null);
+        brandService.getAllBrands().stream()
+                .map(BrandEntity::getId)
+                .forEach(brandIds::add);
+
+        List<Runnable> tasks = new ArrayList<>();
+        for (Long brandId : brandIds) {
+            for (int page = 0; page < properties.listPages(); page++) {
+                ProductSearchFilter filter = new ProductSearchFilter(brandId, null, PageRequest.of(page, DEFAULT_PAGE_SIZE));
+                tasks.add(() -> mvService.getProductsByStrategy(filter, cacheService.determineCacheStrategy(filter)));
+            }
+        }
+        return tasks;
+    }
+
+    /**
+     * 좋아요 수 상위 상품 상세 (비로그인 상세와 같은 공유 캐시 항목)
+     */
+    private List<Runnable> detailTasks() {
+        Pageable pageable = PageRequest.of(0, properties.topProducts(), Sort.by(Sort.Direction.DESC, "likeCount"));
+
+        return mvService.findBySearchFilter(new ProductSearchFilter(null, null, pageable)).getContent().stream()
+                .map(ProductInfo::id)
+                .<Runnable>map(productId -> () -> productFacade.getProductDetail(productId, null))
+                .toList();
+    }
+}
@@ -1,5 +1,6 @@
 package com.loopers.infrastructure.product;
 
+import java.time.Duration;
 import java.util.List;
 import java.util.stream.Collectors;
 
@@ -11,13 +12,15 @@ import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
 
 import com.loopers.application.product.BatchUpdateResult;
+import com.loopers.application.product.ProductInfo;
 import com.loopers.domain.brand.BrandEntity;
 import com.loopers.domain.brand.BrandService;
 import com.loopers.domain.product.ProductCacheService;
-import com.loopers.domain.product.ProductMaterializedViewEntity;
+import com.loopers.domain.product.ProductLikeRankingService;
 import com.loopers.domain.product.ProductMVService;
 import com.loopers.domain.product.dto.ProductSearchFilter;
 import com.loopers.infrastructure.cache.CacheStrategy;
+import com.loopers.infrastructure.scheduler.ScheduledJobLock;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -27,9 +30,10 @@ import lombok.extern.slf4j.Slf4j;
  *
  * MV 테이블 동기화 및 Hot 캐시 갱신을 통합 관리합니다.
  *
- *   2분마다: MV 테이블 동기화
- *   50분마다: Hot 캐시 갱신 (인기순 상품, 브랜드별 인기순)
+ *   10분마다(설정): MV 테이블 전체 대조 동기화 (변경 이벤트 기반 증분 갱신의 보정)
+ *   50분마다: Hot 캐시 갱신 (인기순 상품, 좋아요 랭킹 재구축)
  *
+ * 여러 인스턴스가 떠 있어도 작업마다 스케줄 락을 얻은 한 노드만 주기당 한 번 실행합니다.
  */
 @Component
 @RequiredArgsConstructor
@@ -38,45 +42,46 @@ public class ProductMVBatchScheduler {
     private final ProductMVService mvService;
     private final ProductCacheService cacheService;
     private final BrandService brandService;
+    private final ProductLikeRankingService rankingService;
+    private final ScheduledJobLock jobLock;
+    private final ProductMVSyncProperties syncProperties;
+
+    // 스케줄 락 작업 이름
+    private static final String MV_SYNC_JOB = "product-mv-sync";
+    private static final String HOT_CACHE_JOB = "product-hot-cache";
+    private static final Duration HOT_CACHE_INTERVAL = Duration.ofMinutes(50);
 
     // 배치 갱신 설정
     private static final int TOP_PRODUCTS_COUNT = 100;
     private static final int CACHE_PAGES_PER_BRAND = 3;
     private static final int PAGE_SIZE = 20;
 
-    private boolean isFirstExecution = true; // 초기 실행 여부 플래그
-
     /**
-     * MV 테이블 동기화 배치 작업 (2분마다)
+     * MV 테이블 동기화 배치 작업 (product-mv-sync.reconcile-interval 마다)
+     *
+     * 상품/좋아요 변경은 {@link com.loopers.application.product.ProductMVUpdateEventListener}가 수 초 내에 반영하므로,
+     * 이 작업은 이벤트 유실(커밋 직후 인스턴스 종료 등)과 이벤트가 없는 변경(브랜드 정보 등)을 보정합니다.
      */
-    @Scheduled(fixedDelay = 120000)
+    @Scheduled(fixedDelayString = "${product-mv-sync.reconcile-interval:10m}")
     public void syncMaterializedView() {
+        jobLock.runExclusively(MV_SYNC_JOB, syncProperties.reconcileInterval(), this::syncMaterializedView);
+    }
+
+    private void syncMaterializedView(ScheduledJobLock.Lease lease) {
         log.info("MV 배치 업데이트 시작");
 
         try {
-            BatchUpdateResult result = mvService.syncMaterializedView();
+            // 청크 커밋마다 임대를 연장하고 변경 상품을 캐시/색인에 반영 (최초 적재는 MV 전체이므로 캐시 무효화 생략)
+            BatchUpdateResult result = mvService.syncMaterializedView(lease.fencingToken(), (chunkResult, initialLoad) -> {
+                lease.extend();
+                mvService.refreshAfterSync(chunkResult, !initialLoad);
+            });
 
             if (!result.isSuccess()) {
                 log.error("MV 배치 업데이트 실패 - error: {}", result.getErrorMessage());
                 return;
             }
 
-            if (result.hasChanges()) {
-                if (isFirstExecution) {
-                    log.info("초기 실행 - 불필요한 작업 생략");
-                    isFirstExecution = false;
-                    return;
-                }
-
-                log.info("변경사항 감지 - 선택적 캐시 무효화");
-                cacheService.evictCachesAfterMVSync(
-                        result.getChangedProductIds(),
-                        result.getAffectedBrandIds()
-                );
-            } else {
-                log.info("변경사항 없음");
-            }
-
             log.info("MV 배치 업데이트 완료 - 생성: {}건, 갱신: {}건, 소요: {}ms",
                     result.getCreatedCount(), result.getUpdatedCount(), result.getDurationMs());
 
@@ -93,13 +98,22 @@ public class ProductMVBatchScheduler {
      */
     @Scheduled(fixedRate = 50 * 60 * 1000, initialDelay = 60 * 1000)
     public void refreshHotCache() {
+        jobLock.runExclusively(HOT_CACHE_JOB, HOT_CACHE_INTERVAL, lease -> refreshHotCacheExclusively());
+    }
+
+    private void refreshHotCacheExclusively() {
         log.info("Hot 캐시 갱신 시작");
 
         long startTime = System.currentTimeMillis();
 
         try {
             refreshPopularProductDetails();
-            refreshBrandPopularProductIds();
+            if (rankingService.isEnabled()) {
+                // 좋아요순 목록은 랭킹 ZSET으로 조회하므로 브랜드별 페이지 쿼리 대신 랭킹 재구축
+                rankingService.rebuild();
+            } else {
+                refreshBrandPopularProductIds();
+            }
 
             long duration = System.currentTimeMillis() - startTime;
             log.info("Hot 캐시 갱신 완료 - {}ms", duration);
@@ -119,13 +133,14 @@ public class ProductMVBatchScheduler {
             Pageable pageable = PageRequest.of(0, TOP_PRODUCTS_COUNT,
                     Sort.by(Sort.Direction.DESC, "likeCount"));
 
-            Page<ProductMaterializedViewEntity> popularProducts = mvService.findBySearchFilter(new ProductSearchFilter( null, null , pageable));
+            Page<ProductInfo> popularProducts = mvService.findBySearchFilter(new ProductSearchFilter( null, null , pageable));
 
             List<Long> productIds = popularProducts.getContent().stream()
-                    .map(ProductMaterializedViewEntity::getProductId)
+                    .map(ProductInfo::id)
                     .collect(Collectors.toList());
 
             cacheService.cacheProductIds(CacheStrategy.HOT, null, pageable, productIds);
+            mvService.refreshTotalCount(null);
 
             log.info("인기 상품 상세 갱신 완료 - {}개", productIds.size());
 
@@ -146,6 +161,7 @@ public class ProductMVBatchScheduler {
 
             for (BrandEntity brand : brands) {
                 try {
+                    mvService.refreshTotalCount(brand.getId());
                     int refreshed = refreshBrandProductIds(brand.getId());
                     totalRefreshed += refreshed;
                 } catch (Exception e) {
@@ -173,15 +189,16 @@ public class ProductMVBatchScheduler {
                 Pageable pageable = PageRequest.of(page, PAGE_SIZE, sort);
 
 
-                Page<ProductMaterializedViewEntity> products =
-                        mvService.findByBrandId(brandId, pageable);
+                // 직전에 갱신한 브랜드 전체 개수를 사용하므로 페이지마다 COUNT를 실행하지 않음
+                Page<ProductInfo> products =
+                        mvService.findBySearchFilter(new ProductSearchFilter(brandId, null, pageable));
 
                 if (products.isEmpty()) {
                     break;
                 }
 
                 List<Long> productIds = products.getContent().stream()
-                        .map(ProductMaterializedViewEntity::getProductId)
+                        .map(ProductInfo::id)
                         .collect(Collectors.toList());
 
                 cacheService.cacheProductIds(CacheStrategy.HOT, brandId, pageable, productIds);
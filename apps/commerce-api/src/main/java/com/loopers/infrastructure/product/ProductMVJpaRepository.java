@@ -38,6 +38,15 @@ public interface ProductMVJpaRepository extends JpaRepository<ProductMaterialize
      */
     List<ProductMaterializedViewEntity> findByProductIdIn(@Param("productIds") List<Long> productIds);
 
+    /**
+     * 상품 ID 오름차순으로 지정된 ID 이후의 MV를 조회합니다. (전체 순회용)
+     *
+     * @param productId 마지막으로 조회한 상품 ID
+     * @param pageable  조회 개수
+     * @return MV 목록
+     */
+    List<ProductMaterializedViewEntity> findByProductIdGreaterThanOrderByProductIdAsc(Long productId, Pageable pageable);
+
     /**
      * 지정된 시간 이전에 업데이트된 MV를 조회합니다.
      *
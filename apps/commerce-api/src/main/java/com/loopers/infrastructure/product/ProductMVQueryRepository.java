@@ -1,24 +1,36 @@
 package com.loopers.infrastructure.product;
 
 import static com.loopers.domain.product.QProductMaterializedViewEntity.productMaterializedViewEntity;
+import java.math.BigDecimal;
 import java.time.ZonedDateTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
-import org.springframework.data.domain.Page;
-import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
 import org.springframework.stereotype.Component;
 
 import com.loopers.domain.brand.QBrandEntity;
 import com.loopers.domain.like.QLikeEntity;
 import com.loopers.domain.product.ProductMVSyncDto;
-import com.loopers.domain.product.ProductMaterializedViewEntity;
 import com.loopers.domain.product.QProductEntity;
+import com.loopers.domain.product.dto.ProductCursor;
+import com.loopers.domain.product.dto.ProductListRow;
 import com.loopers.domain.product.dto.ProductSearchFilter;
+import com.querydsl.core.types.ConstructorExpression;
 import com.querydsl.core.types.OrderSpecifier;
 import com.querydsl.core.types.Projections;
 import com.querydsl.core.types.dsl.BooleanExpression;
+import com.querydsl.core.types.dsl.ComparableExpressionBase;
+import com.querydsl.core.types.dsl.DateTimePath;
+import com.querydsl.core.types.dsl.NumberPath;
+import com.querydsl.core.types.dsl.StringPath;
+import com.querydsl.jpa.impl.JPAQuery;
 import com.querydsl.jpa.impl.JPAQueryFactory;
 
 import lombok.RequiredArgsConstructor;
@@ -29,6 +41,9 @@ import lombok.RequiredArgsConstructor;
  * QueryDSL을 활용한 동적 쿼리 및 복잡한 조회 로직을 처리합니다.
  * 페이징, 정렬, 필터링 등의 기능을 제공합니다.
  *
+ * 목록 조회(목록/Slice/커서/ID 목록)는 엔티티 대신 ProductListRow 프로젝션으로 필요한 컬럼만 조회합니다.
+ * 정렬/페이징 목록은 인덱스만으로 MV ID를 고른 뒤 해당 행만 PK로 읽습니다. (지연 조인)
+ *
  * @author hyunjikoh
  * @since 2025. 11. 27.
  */
@@ -39,86 +54,223 @@ public class ProductMVQueryRepository {
     private final JPAQueryFactory queryFactory;
 
     /**
-     * 브랜드별 상품 MV를 페이징 조회합니다.
+     * 검색 필터를 기반으로 상품 MV 목록만 조회합니다. (COUNT 쿼리 없음)
+     * 전체 개수는 호출 측에서 캐시된 값을 사용합니다.
      *
-     * @param brandId  브랜드 ID
-     * @param pageable 페이징 정보
-     * @return 페이징된 상품 MV 목록
+     * @param searchFilter 검색 필터 (브랜드 ID, 상품명, 페이징 정보)
+     * @return 상품 목록 행
      */
-    public Page<ProductMaterializedViewEntity> findByBrandId(Long brandId, Pageable pageable) {
-        BooleanExpression whereCondition = brandIdEq(brandId);
-        List<OrderSpecifier<?>> orderSpecifiers = buildOrderSpecifiers(pageable);
+    public List<ProductListRow> findContentBySearchFilter(ProductSearchFilter searchFilter) {
+        Pageable pageable = searchFilter.pageable();
 
-        List<ProductMaterializedViewEntity> content = queryFactory
-                .selectFrom(productMaterializedViewEntity)
-                .where(whereCondition)
+        List<Long> ids = queryFactory
+                .select(productMaterializedViewEntity.id)
+                .from(productMaterializedViewEntity)
+                .where(buildWhereCondition(searchFilter))
                 .offset(pageable.getOffset())
                 .limit(pageable.getPageSize())
-                .orderBy(orderSpecifiers.toArray(new OrderSpecifier[0]))
+                .orderBy(buildOrderSpecifiers(pageable).toArray(new OrderSpecifier[0]))
                 .fetch();
 
-        Long total = queryFactory
-                .select(productMaterializedViewEntity.count())
-                .from(productMaterializedViewEntity)
-                .where(whereCondition)
-                .fetchOne();
-
-        return new PageImpl<>(content, pageable, total != null ? total : 0);
+        return findListRowsInOrder(ids);
     }
 
     /**
-     * 상품명으로 검색하여 MV를 페이징 조회합니다.
+     * 검색 필터를 기반으로 상품 MV를 Slice로 조회합니다.
      *
-     * @param keyword  검색 키워드
-     * @param pageable 페이징 정보
-     * @return 페이징된 상품 MV 목록
+     * 페이지 크기 + 1건을 조회하여 다음 페이지 존재 여부만 판단하므로 COUNT 쿼리가 없습니다.
+     *
+     * @param searchFilter 검색 필터 (브랜드 ID, 상품명, 페이징 정보)
+     * @return 상품 목록 행 Slice
      */
-    public Page<ProductMaterializedViewEntity> findByNameContaining(String keyword, Pageable pageable) {
-        BooleanExpression whereCondition = nameContains(keyword);
-        List<OrderSpecifier<?>> orderSpecifiers = buildOrderSpecifiers(pageable);
+    public Slice<ProductListRow> findSliceBySearchFilter(ProductSearchFilter searchFilter) {
+        Pageable pageable = searchFilter.pageable();
 
-        List<ProductMaterializedViewEntity> content = queryFactory
-                .selectFrom(productMaterializedViewEntity)
-                .where(whereCondition)
+        List<Long> ids = queryFactory
+                .select(productMaterializedViewEntity.id)
+                .from(productMaterializedViewEntity)
+                .where(buildWhereCondition(searchFilter))
                 .offset(pageable.getOffset())
-                .limit(pageable.getPageSize())
-                .orderBy(orderSpecifiers.toArray(new OrderSpecifier[0]))
+                .limit(pageable.getPageSize() + 1L)
+                .orderBy(buildOrderSpecifiers(pageable).toArray(new OrderSpecifier[0]))
                 .fetch();
 
+        boolean hasNext = ids.size() > pageable.getPageSize();
+        if (hasNext) {
+            ids = ids.subList(0, pageable.getPageSize());
+        }
+
+        return new SliceImpl<>(findListRowsInOrder(ids), pageable, hasNext);
+    }
+
+    /**
+     * 검색 필터 조건에 해당하는 상품 MV 개수를 조회합니다.
+     *
+     * @param searchFilter 검색 필터 (브랜드 ID, 상품명)
+     * @return 상품 MV 개수
+     */
+    public long countBySearchFilter(ProductSearchFilter searchFilter) {
+        return count(buildWhereCondition(searchFilter));
+    }
+
+    private long count(BooleanExpression whereCondition) {
         Long total = queryFactory
                 .select(productMaterializedViewEntity.count())
                 .from(productMaterializedViewEntity)
                 .where(whereCondition)
                 .fetchOne();
 
-        return new PageImpl<>(content, pageable, total != null ? total : 0);
+        return total != null ? total : 0;
     }
 
     /**
-     * 검색 필터를 기반으로 상품 MV를 페이징 조회합니다.
+     * 검색 필터와 커서를 기반으로 상품 MV를 keyset 방식으로 조회합니다.
      *
-     * @param searchFilter 검색 필터 (브랜드 ID, 상품명, 페이징 정보)
-     * @return 페이징된 상품 MV 목록
+     * OFFSET 대신 "(정렬 값, ID) 이후" 조건으로 시작 위치를 찾으므로
+     * idx_pmv_brand_like / idx_pmv_like_count 인덱스를 타고 페이지 깊이와 무관하게 일정한 비용으로 ID를 고른 뒤, 행은 PK로 읽습니다.
+     * COUNT 쿼리는 실행하지 않습니다.
+     *
+     * @param searchFilter 검색 필터 (브랜드 ID, 상품명)
+     * @param cursor       커서 (정렬 기준, 마지막 정렬 값/ID)
+     * @param limit        조회 개수 (다음 페이지 확인을 위해 보통 size + 1)
+     * @return 상품 목록 행
      */
-    public Page<ProductMaterializedViewEntity> findBySearchFilter(ProductSearchFilter searchFilter) {
-        BooleanExpression whereCondition = buildWhereCondition(searchFilter);
-        List<OrderSpecifier<?>> orderSpecifiers = buildOrderSpecifiers(searchFilter.pageable());
+    public List<ProductListRow> findBySearchFilterAfter(
+            ProductSearchFilter searchFilter,
+            ProductCursor cursor,
+            int limit
+    ) {
+        List<Long> ids = queryFactory
+                .select(productMaterializedViewEntity.id)
+                .from(productMaterializedViewEntity)
+                .where(buildWhereCondition(searchFilter), seekCondition(cursor))
+                .orderBy(buildCursorOrderSpecifiers(cursor))
+                .limit(limit)
+                .fetch();
 
-        List<ProductMaterializedViewEntity> content = queryFactory
-                .selectFrom(productMaterializedViewEntity)
-                .where(whereCondition)
-                .offset(searchFilter.pageable().getOffset())
-                .limit(searchFilter.pageable().getPageSize())
-                .orderBy(orderSpecifiers.toArray(new OrderSpecifier[0]))
+        return findListRowsInOrder(ids);
+    }
+
+    /**
+     * 상품 ID 목록에 해당하는 목록 행을 조회합니다. (행 캐시 미스 보충용)
+     *
+     * @param productIds 상품 ID 목록
+     * @return 상품 목록 행 (순서 보장 없음)
+     */
+    public List<ProductListRow> findListRowsByProductIdIn(List<Long> productIds) {
+        return queryFactory
+                .select(listRow())
+                .from(productMaterializedViewEntity)
+                .where(productMaterializedViewEntity.productId.in(productIds))
                 .fetch();
+    }
 
-        Long total = queryFactory
-                .select(productMaterializedViewEntity.count())
+    /**
+     * 정렬/페이징으로 고른 MV ID의 목록 행을 PK로 조회하여 ID 순서대로 반환합니다. (지연 조인)
+     *
+     * 정렬/OFFSET 탐색은 좁은 인덱스((like_count, id), (brand_id, like_count, id))만 읽고,
+     * description(TEXT)을 포함한 행은 실제로 반환할 페이지 행만 PK로 읽습니다. 건너뛰는 OFFSET 행은 클러스터 인덱스를 읽지 않습니다.
+     *
+     * @param ids MV ID 목록 (정렬 순서)
+     * @return 상품 목록 행 (ids 순서 유지)
+     */
+    private List<ProductListRow> findListRowsInOrder(List<Long> ids) {
+        if (ids.isEmpty()) {
+            return List.of();
+        }
+
+        Map<Long, ProductListRow> rows = queryFactory
+                .select(listRow())
                 .from(productMaterializedViewEntity)
-                .where(whereCondition)
-                .fetchOne();
+                .where(productMaterializedViewEntity.id.in(ids))
+                .fetch().stream()
+                .collect(Collectors.toMap(ProductListRow::id, Function.identity()));
+
+        return ids.stream()
+                .map(rows::get)
+                .filter(Objects::nonNull)
+                .toList();
+    }
+
+    /**
+     * 목록 행 프로젝션 (목록 응답 컬럼만 조회)
+     */
+    private ConstructorExpression<ProductListRow> listRow() {
+        return Projections.constructor(
+                ProductListRow.class,
+                productMaterializedViewEntity.id,
+                productMaterializedViewEntity.productId,
+                productMaterializedViewEntity.name,
+                productMaterializedViewEntity.description,
+                productMaterializedViewEntity.price.originPrice,
+                productMaterializedViewEntity.price.discountPrice,
+                productMaterializedViewEntity.likeCount,
+                productMaterializedViewEntity.brandId,
+                productMaterializedViewEntity.createdAt
+        );
+    }
+
+    /**
+     * 커서 이후 위치를 나타내는 seek 조건을 생성합니다.
+     * 내림차순: value < last OR (value = last AND id < lastId)
+     * 오름차순: value > last OR (value = last AND id > lastId)
+     *
+     * @param cursor 커서
+     * @return 조건식 (첫 페이지면 null)
+     */
+    private BooleanExpression seekCondition(ProductCursor cursor) {
+        if (cursor.isFirstPage()) {
+            return null;
+        }
 
-        return new PageImpl<>(content, searchFilter.pageable(), total != null ? total : 0);
+        boolean asc = cursor.ascending();
+        BooleanExpression idAfter = asc
+                ? productMaterializedViewEntity.id.gt(cursor.lastId())
+                : productMaterializedViewEntity.id.lt(cursor.lastId());
+
+        return switch (cursor.sortProperty()) {
+            case "price" -> {
+                NumberPath<BigDecimal> path = productMaterializedViewEntity.price.originPrice;
+                BigDecimal value = cursor.lastPrice();
+                yield (asc ? path.gt(value) : path.lt(value)).or(path.eq(value).and(idAfter));
+            }
+            case "name" -> {
+                StringPath path = productMaterializedViewEntity.name;
+                String value = cursor.lastValue();
+                yield (asc ? path.gt(value) : path.lt(value)).or(path.eq(value).and(idAfter));
+            }
+            case "createdAt" -> {
+                DateTimePath<ZonedDateTime> path = productMaterializedViewEntity.createdAt;
+                ZonedDateTime value = cursor.lastCreatedAt();
+                yield (asc ? path.gt(value) : path.lt(value)).or(path.eq(value).and(idAfter));
+            }
+            default -> {
+                NumberPath<Long> path = productMaterializedViewEntity.likeCount;
+                Long value = cursor.lastLikeCount();
+                yield (asc ? path.gt(value) : path.lt(value)).or(path.eq(value).and(idAfter));
+            }
+        };
+    }
+
+    /**
+     * 커서 정렬 조건을 빌드합니다.
+     * 동일 정렬 값 사이의 순서를 고정하기 위해 ID를 같은 방향의 보조 정렬로 추가합니다.
+     *
+     * @param cursor 커서
+     * @return 정렬 조건 배열
+     */
+    private OrderSpecifier<?>[] buildCursorOrderSpecifiers(ProductCursor cursor) {
+        ComparableExpressionBase<?> sortPath = switch (cursor.sortProperty()) {
+            case "price" -> productMaterializedViewEntity.price.originPrice;
+            case "name" -> productMaterializedViewEntity.name;
+            case "createdAt" -> productMaterializedViewEntity.createdAt;
+            default -> productMaterializedViewEntity.likeCount;
+        };
+
+        if (cursor.ascending()) {
+            return new OrderSpecifier<?>[] {sortPath.asc(), productMaterializedViewEntity.id.asc()};
+        }
+        return new OrderSpecifier<?>[] {sortPath.desc(), productMaterializedViewEntity.id.desc()};
     }
 
     /**
@@ -203,52 +355,49 @@ public class ProductMVQueryRepository {
                 productMaterializedViewEntity.name.contains(keyword) : null;
     }
 
-
     /**
-     * 지정된 시간 이후 변경된 상품 MV를 조회합니다.
-     *
-     * 상품, 좋아요, 브랜드 중 하나라도 변경된 경우를 감지합니다.
-     * 여유 시간(기본 1분)을 추가하여 타이밍 이슈를 방지합니다.
-     *
-     * @param syncedTime      마지막 배치 실행 시간
-     * @param marginMinutes   여유 시간 (분)
-     * @return 변경된 MV 엔티티 목록
+     * 마지막 배치 시간 이후 변경된 데이터를 Product, Brand, Like 조인으로 조회합니다.
+     * 
+     * 단일 쿼리로 변경된 상품만 조회하여 성능을 최적화합니다.
+     * 상품 PK 순서로 "ID 이후 N건"(keyset)만 조회하므로 OFFSET 없이 청크마다 일정한 비용으로 다음 구간을 읽습니다.
+     * 
+     * @param lastBatchTime 마지막 배치 실행 시간
+     * @param lastProductId 직전 청크의 마지막 상품 ID (처음이면 0)
+     * @param limit         조회 개수
+     * @return 변경된 상품 데이터 DTO 목록 (상품 ID 오름차순)
      */
-    public List<ProductMaterializedViewEntity> findChangedSince(
-            ZonedDateTime syncedTime,
-            int marginMinutes
-    ) {
-        // 여유 시간을 적용한 기준 시간 설정
-        ZonedDateTime baseTime = syncedTime.minusMinutes(marginMinutes);
-
+    public List<ProductMVSyncDto> findChangedProductsForSync(ZonedDateTime lastBatchTime, Long lastProductId, int limit) {
+        QProductEntity product = QProductEntity.productEntity;
+        QBrandEntity brand = QBrandEntity.brandEntity;
+        QLikeEntity like = QLikeEntity.likeEntity;
 
-        return queryFactory
-                .selectFrom(productMaterializedViewEntity)
-                .where(
-                        // 상품, 좋아요, 브랜드 중 하나라도 변경된 경우
-                        productMaterializedViewEntity.productUpdatedAt.after(baseTime)
-                                .or(productMaterializedViewEntity.likeUpdatedAt.after(baseTime))
-                                .or(productMaterializedViewEntity.brandUpdatedAt.after(baseTime)),
-                        // 삭제되지 않은 MV만 조회
-                        productMaterializedViewEntity.deletedAt.isNull()
-                )
-                .orderBy(productMaterializedViewEntity.productUpdatedAt.desc())
+        // 상품, 브랜드, 좋아요 중 하나라도 변경된 경우
+        return syncQuery(product.id.gt(lastProductId)
+                        .and(product.updatedAt.after(lastBatchTime)
+                                .or(brand.updatedAt.after(lastBatchTime))
+                                .or(like.updatedAt.after(lastBatchTime))))
+                .orderBy(product.id.asc())
+                .limit(limit)
                 .fetch();
     }
 
     /**
-     * 마지막 배치 시간 이후 변경된 데이터를 Product, Brand, Like 조인으로 조회합니다.
-     * 
-     * 단일 쿼리로 변경된 상품만 조회하여 성능을 최적화합니다.
-     * 
-     * @param lastBatchTime 마지막 배치 실행 시간
-     * @return 변경된 상품 데이터 DTO 목록
+     * 지정된 상품들의 최신 데이터를 Product, Brand, Like 조인으로 조회합니다.
+     *
+     * 변경 이벤트로 수집한 상품만 PK로 조회하므로 시간 조건 조회보다 범위가 작습니다.
+     *
+     * @param productIds 상품 ID 목록
+     * @return 상품 데이터 DTO 목록 (삭제된 상품/브랜드 제외)
      */
-    public List<ProductMVSyncDto> findChangedProductsForSync(ZonedDateTime lastBatchTime) {
+    public List<ProductMVSyncDto> findProductsForSync(Collection<Long> productIds) {
+        return syncQuery(QProductEntity.productEntity.id.in(productIds)).fetch();
+    }
+
+    private JPAQuery<ProductMVSyncDto> syncQuery(BooleanExpression condition) {
         QProductEntity product = QProductEntity.productEntity;
         QBrandEntity brand = QBrandEntity.brandEntity;
         QLikeEntity like = QLikeEntity.likeEntity;
-        
+
         return queryFactory
                 .select(Projections.constructor(
                         ProductMVSyncDto.class,
@@ -275,10 +424,7 @@ public class ProductMVQueryRepository {
                     .on(like.productId.eq(product.id)
                         .and(like.deletedAt.isNull()))
                 .where(
-                        // 상품, 브랜드, 좋아요 중 하나라도 변경된 경우
-                        product.updatedAt.after(lastBatchTime)
-                                .or(brand.updatedAt.after(lastBatchTime))
-                                .or(like.updatedAt.after(lastBatchTime)),
+                        condition,
                         // 삭제되지 않은 상품만
                         product.deletedAt.isNull(),
                         brand.deletedAt.isNull()
@@ -294,8 +440,7 @@ public class ProductMVQueryRepository {
                         brand.id,
                         brand.name,
                         brand.updatedAt
-                )
-                .fetch();
+                );
     }
 
 }
@@ -1,17 +1,20 @@
 package com.loopers.infrastructure.product;
 
 import java.time.ZonedDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
-import org.springframework.data.domain.Page;
-import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
 import org.springframework.stereotype.Component;
 import org.springframework.transaction.annotation.Transactional;
 
 import com.loopers.domain.product.ProductMVRepository;
 import com.loopers.domain.product.ProductMVSyncDto;
 import com.loopers.domain.product.ProductMaterializedViewEntity;
+import com.loopers.domain.product.dto.ProductCursor;
+import com.loopers.domain.product.dto.ProductListRow;
 import com.loopers.domain.product.dto.ProductSearchFilter;
 
 import lombok.RequiredArgsConstructor;
@@ -38,20 +41,19 @@ public class ProductMVRepositoryImpl implements ProductMVRepository {
         return jpaRepository.findByProductId(productId);
     }
 
-
     @Override
-    public Page<ProductMaterializedViewEntity> findByBrandId(Long brandId, Pageable pageable) {
-        return queryRepository.findByBrandId(brandId, pageable);
+    public List<ProductMaterializedViewEntity> findByIdIn(List<Long> productIds) {
+        return jpaRepository.findByProductIdIn(productIds);
     }
 
     @Override
-    public Page<ProductMaterializedViewEntity> findByNameContaining(String keyword, Pageable pageable) {
-        return queryRepository.findByNameContaining(keyword, pageable);
+    public List<ProductListRow> findListRowsByIdIn(List<Long> productIds) {
+        return queryRepository.findListRowsByProductIdIn(productIds);
     }
 
     @Override
-    public List<ProductMaterializedViewEntity> findByIdIn(List<Long> productIds) {
-        return jpaRepository.findByProductIdIn(productIds);
+    public List<ProductMaterializedViewEntity> findAllAfterProductId(Long lastProductId, int limit) {
+        return jpaRepository.findByProductIdGreaterThanOrderByProductIdAsc(lastProductId, PageRequest.of(0, limit));
     }
 
     @Override
@@ -85,12 +87,36 @@ public class ProductMVRepositoryImpl implements ProductMVRepository {
     }
 
     @Override
-    public Page<ProductMaterializedViewEntity> findBySearchFilter(ProductSearchFilter searchFilter) {
-        return queryRepository.findBySearchFilter(searchFilter);
+    public List<ProductListRow> findContentBySearchFilter(ProductSearchFilter searchFilter) {
+        return queryRepository.findContentBySearchFilter(searchFilter);
+    }
+
+    @Override
+    public Slice<ProductListRow> findSliceBySearchFilter(ProductSearchFilter searchFilter) {
+        return queryRepository.findSliceBySearchFilter(searchFilter);
+    }
+
+    @Override
+    public long countBySearchFilter(ProductSearchFilter searchFilter) {
+        return queryRepository.countBySearchFilter(searchFilter);
+    }
+
+    @Override
+    public List<ProductListRow> findBySearchFilterAfter(
+            ProductSearchFilter searchFilter,
+            ProductCursor cursor,
+            int limit
+    ) {
+        return queryRepository.findBySearchFilterAfter(searchFilter, cursor, limit);
+    }
+
+    @Override
+    public List<ProductMVSyncDto> findChangedProductsForSync(ZonedDateTime lastBatchTime, Long lastProductId, int limit) {
+        return queryRepository.findChangedProductsForSync(lastBatchTime, lastProductId, limit);
     }
 
     @Override
-    public List<ProductMVSyncDto> findChangedProductsForSync(ZonedDateTime lastBatchTime) {
-        return queryRepository.findChangedProductsForSync(lastBatchTime);
+    public List<ProductMVSyncDto> findProductsForSync(Collection<Long> productIds) {
+        return queryRepository.findProductsForSync(productIds);
     }
 }
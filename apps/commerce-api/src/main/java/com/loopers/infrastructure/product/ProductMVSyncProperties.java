@@ -0,0 +1,31 @@
+package com.loopers.infrastructure.product;
+
+import java.time.Duration;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * MV 동기화 설정
+ *
+ * - eventEnabled: 상품/좋아요 변경 이벤트로 변경된 상품의 MV만 갱신 (비활성화하면 대조 동기화만 사용)
+ * - flushInterval: 모아 둔 변경 상품을 MV에 반영하는 주기
+ * - maxBatchSize: 한 번에 반영할 최대 상품 수 (나머지는 다음 주기에 반영)
+ * - reconcileInterval: 전체 대조 동기화 주기 (이벤트를 비활성화하면 짧게 설정)
+ * - chunkSize: 대조 동기화에서 한 트랜잭션으로 조회/반영할 상품 수
+ * - likeCountFromStream: 좋아요 수는 commerce-streamer가 좋아요 이벤트 증분으로 갱신 (MV 동기화는 기존 MV의 좋아요 수를 유지)
+ *   commerce-streamer의 like-count-aggregation.enabled 와 함께 바꿔야 하며, 이 앱은 좋아요 변경 상품의 상세/행 캐시와 검색 색인만 다시 맞춤
+ *
+ * @author hyunjikoh
+ * @since 2025. 12. 10.
+ */
+@ConfigurationProperties("product-mv-sync")
+public record ProductMVSyncProperties(
+        @DefaultValue("true") boolean eventEnabled,
+        @DefaultValue("1s") Duration flushInterval,
+        @DefaultValue("500") int maxBatchSize,
+        @DefaultValue("10m") Duration reconcileInterval,
+        @DefaultValue("1000") int chunkSize,
+        @DefaultValue("false") boolean likeCountFromStream
+) {
+}
@@ -0,0 +1,26 @@
+package com.loopers.infrastructure.product;
+
+import java.time.ZonedDateTime;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import com.loopers.domain.product.ProductMVSyncStateEntity;
+
+/**
+ * @author hyunjikoh
+ * @since 2025. 12. 10.
+ */
+public interface ProductMVSyncStateJpaRepository extends JpaRepository<ProductMVSyncStateEntity, String> {
+
+    /**
+     * 동기화 상태 행이 없으면 초기 상태로 만듭니다. (동시 생성 시 한 노드만 삽입)
+     */
+    @Modifying
+    @Query(value = "INSERT IGNORE INTO product_mv_sync_state "
+            + "(sync_name, watermark, pass_started_at, last_product_id, fencing_token, updated_at) "
+            + "VALUES (:syncName, NULL, NULL, 0, 0, :now)", nativeQuery = true)
+    int insertIfAbsent(@Param("syncName") String syncName, @Param("now") ZonedDateTime now);
+}
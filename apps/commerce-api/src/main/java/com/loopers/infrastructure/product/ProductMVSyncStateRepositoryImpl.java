@@ -0,0 +1,70 @@
+package com.loopers.infrastructure.product;
+
+import static com.loopers.domain.product.QProductMVSyncStateEntity.productMVSyncStateEntity;
+import java.time.ZonedDateTime;
+
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.loopers.domain.product.ProductMVSyncCheckpoint;
+import com.loopers.domain.product.ProductMVSyncStateEntity;
+import com.loopers.domain.product.ProductMVSyncStateRepository;
+import com.querydsl.jpa.impl.JPAQueryFactory;
+import com.querydsl.jpa.impl.JPAUpdateClause;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * @author hyunjikoh
+ * @since 2025. 12. 10.
+ */
+@Component
+@RequiredArgsConstructor
+public class ProductMVSyncStateRepositoryImpl implements ProductMVSyncStateRepository {
+
+    private static final String SYNC_NAME = "product-mv-sync";
+
+    private final ProductMVSyncStateJpaRepository syncStateJpaRepository;
+    private final JPAQueryFactory queryFactory;
+
+    @Override
+    public ProductMVSyncCheckpoint findCheckpoint() {
+        return syncStateJpaRepository.findById(SYNC_NAME)
+                .map(ProductMVSyncStateEntity::toCheckpoint)
+                .orElseGet(ProductMVSyncCheckpoint::initial);
+    }
+
+    @Override
+    @Transactional
+    public boolean saveCheckpoint(ProductMVSyncCheckpoint checkpoint, Long fencingToken) {
+        ZonedDateTime now = ZonedDateTime.now();
+        syncStateJpaRepository.insertIfAbsent(SYNC_NAME, now);
+
+        JPAUpdateClause update = queryFactory
+                .update(productMVSyncStateEntity)
+                .set(productMVSyncStateEntity.lastProductId, checkpoint.lastProductId())
+                .set(productMVSyncStateEntity.updatedAt, now)
+                .where(productMVSyncStateEntity.syncName.eq(SYNC_NAME));
+        // null 값은 set(path, null) 대신 setNull 로 지정
+        setNullable(update, checkpoint);
+
+        if (fencingToken != null) {
+            update.set(productMVSyncStateEntity.fencingToken, fencingToken)
+                    .where(productMVSyncStateEntity.fencingToken.loe(fencingToken));
+        }
+        return update.execute() > 0;
+    }
+
+    private void setNullable(JPAUpdateClause update, ProductMVSyncCheckpoint checkpoint) {
+        if (checkpoint.watermark() != null) {
+            update.set(productMVSyncStateEntity.watermark, checkpoint.watermark());
+        } else {
+            update.setNull(productMVSyncStateEntity.watermark);
+        }
+        if (checkpoint.passStartedAt() != null) {
+            update.set(productMVSyncStateEntity.passStartedAt, checkpoint.passStartedAt());
+        } else {
+            update.setNull(productMVSyncStateEntity.passStartedAt);
+        }
+    }
+}
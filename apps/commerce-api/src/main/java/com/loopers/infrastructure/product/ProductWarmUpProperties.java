@@ -0,0 +1,28 @@
+package com.loopers.infrastructure.product;
+
+import java.time.Duration;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * 기동 시 캐시 예열 설정
+ *
+ * - enabled: 비활성화하면 예열 없이 바로 트래픽을 받음
+ * - timeout: 예열을 기다리는 최대 시간 (초과 시 남은 작업은 백그라운드로 계속하고 트래픽을 받음)
+ * - topProducts: 상세를 미리 적재할 인기 상품 수
+ * - listPages: 전체/브랜드 목록에서 미리 적재할 페이지 수
+ * - parallelism: 동시에 실행할 예열 작업 수 (DB 커넥션 풀보다 작게)
+ *
+ * @author hyunjikoh
+ * @since 2025. 12. 9.
+ */
+@ConfigurationProperties("product-warm-up")
+public record ProductWarmUpProperties(
+        @DefaultValue("true") boolean enabled,
+        @DefaultValue("30s") Duration timeout,
+        @DefaultValue("100") int topProducts,
+        @DefaultValue("1") int listPages,
+        @DefaultValue("8") int parallelism
+) {
+}
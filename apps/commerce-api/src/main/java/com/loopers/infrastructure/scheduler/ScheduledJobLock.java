@@ -0,0 +1,150 @@
+package com.loopers.infrastructure.scheduler;
+
+import java.time.Duration;
+import java.time.ZonedDateTime;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.function.Consumer;
+
+import org.springframework.stereotype.Component;
+
+import com.loopers.domain.scheduler.SchedulerLockRepository;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 스케줄 작업 단일 실행 (DB 임대 락)
+ *
+ * 여러 API 인스턴스가 같은 스케줄 작업을 동시에 실행하지 않도록, 락을 획득한 노드만 작업을 실행하고 나머지는 이번 실행을 건너뜁니다.
+ * - 작업이 끝나도 락을 (작업 주기 - minHoldMargin) 동안은 유지하여, 실행 시점이 다른 노드가 같은 주기 안에 다시 실행하지 않게 합니다.
+ * - 보유 노드가 종료되면 leaseTtl 이 지난 뒤 다른 노드가 가져갑니다. 장시간 작업은 {@link Lease#extend()}로 연장합니다.
+ * - 획득마다 증가하는 fencing token 을 작업에 전달하여, 락을 잃은 뒤 늦게 쓰는 이전 보유자의 기록을 거부할 수 있게 합니다.
+ *
+ * 지표
+ * - scheduler.lock.hold: 락 보유(작업 실행) 시간
+ * - scheduler.lock.skipped: 건너뛴 실행 (reason: held/error)
+ * - scheduler.lock.lost: 작업 중 임대 연장 실패
+ *
+ * @author hyunjikoh
+ * @since 2025. 12. 10.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class ScheduledJobLock {
+
+    private final SchedulerLockRepository schedulerLockRepository;
+    private final SchedulerLockProperties properties;
+    private final MeterRegistry meterRegistry;
+
+    /**
+     * 락을 획득한 경우에만 작업을 실행합니다.
+     *
+     * @param jobName  작업 이름
+     * @param interval 작업 실행 주기 (락 최소 유지 시간 계산용)
+     * @param job      작업 (fencing token, 임대 연장에 사용할 Lease 전달)
+     * @return 이 노드에서 실행했으면 true
+     */
+    public boolean runExclusively(String jobName, Duration interval, Consumer<Lease> job) {
+        if (!properties.enabled()) {
+            job.accept(new Lease(jobName, null, null));
+            return true;
+        }
+
+        ZonedDateTime lockedAt = ZonedDateTime.now();
+        String owner = UUID.randomUUID().toString();
+        Optional<Long> fencingToken;
+        try {
+            fencingToken = schedulerLockRepository.tryAcquire(jobName, owner, lockedAt, lockedAt.plus(properties.leaseTtl()));
+        } catch (Exception e) {
+            log.warn("스케줄 락 획득 실패, 실행 생략 - job: {}, error: {}", jobName, e.getMessage());
+            skipped(jobName, "error");
+            return false;
+        }
+
+        if (fencingToken.isEmpty()) {
+            log.debug("다른 노드가 실행 중이거나 이번 주기에 실행함, 실행 생략 - job: {}", jobName);
+            skipped(jobName, "held");
+            return false;
+        }
+
+        Lease lease = new Lease(jobName, owner, fencingToken.get());
+        Timer.Sample sample = Timer.start(meterRegistry);
+        try {
+            job.accept(lease);
+        } finally {
+            sample.stop(Timer.builder("scheduler.lock.hold")
+                    .description("스케줄 락 보유(작업 실행) 시간")
+                    .tag("job", jobName)
+                    .register(meterRegistry));
+            release(lease, lockedAt.plus(interval.minus(properties.minHoldMargin())));
+        }
+        return true;
+    }
+
+    /**
+     * 최소 유지 시각까지 락을 남겨 두고, 이미 지났으면 바로 만료시킵니다.
+     */
+    private void release(Lease lease, ZonedDateTime holdUntil) {
+        ZonedDateTime now = ZonedDateTime.now();
+        try {
+            schedulerLockRepository.updateLockUntil(
+                    lease.jobName, lease.owner, lease.fencingToken, holdUntil.isAfter(now) ? holdUntil : now);
+        } catch (Exception e) {
+            // 임대 시간이 지나면 만료되므로 경고만 남김
+            log.warn("스케줄 락 해제 실패 - job: {}, error: {}", lease.jobName, e.getMessage());
+        }
+    }
+
+    private void skipped(String jobName, String reason) {
+        Counter.builder("scheduler.lock.skipped")
+                .description("락을 얻지 못해 건너뛴 스케줄 실행")
+                .tag("job", jobName)
+                .tag("reason", reason)
+                .register(meterRegistry)
+                .increment();
+    }
+
+    /**
+     * 획득한 스케줄 락
+     */
+    public final class Lease {
+
+        private final String jobName;
+        private final String owner;
+        private final Long fencingToken;
+
+        private Lease(String jobName, String owner, Long fencingToken) {
+            this.jobName = jobName;
+            this.owner = owner;
+            this.fencingToken = fencingToken;
+        }
+
+        /**
+         * 획득 시 받은 fencing token (락을 비활성화했으면 null)
+         */
+        public Long fencingToken() {
+            return fencingToken;
+        }
+
+        /**
+         * 임대를 leaseTtl 만큼 연장합니다.
+         *
+         * @throws IllegalStateException 임대가 만료되어 다른 노드가 가져간 경우
+         */
+        public void extend() {
+            if (fencingToken == null) {
+                return;
+            }
+            if (!schedulerLockRepository.updateLockUntil(
+                    jobName, owner, fencingToken, ZonedDateTime.now().plus(properties.leaseTtl()))) {
+                meterRegistry.counter("scheduler.lock.lost", "job", jobName).increment();
+                throw new IllegalStateException("스케줄 락을 잃었습니다. (job: " + jobName + ")");
+            }
+        }
+    }
+}
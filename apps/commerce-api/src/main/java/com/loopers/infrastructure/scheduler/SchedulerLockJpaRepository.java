@@ -0,0 +1,25 @@
+package com.loopers.infrastructure.scheduler;
+
+import java.time.ZonedDateTime;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import com.loopers.domain.scheduler.SchedulerLockEntity;
+
+/**
+ * @author hyunjikoh
+ * @since 2025. 12. 10.
+ */
+public interface SchedulerLockJpaRepository extends JpaRepository<SchedulerLockEntity, String> {
+
+    /**
+     * 작업의 락 행이 없으면 만료된 상태로 만듭니다. (동시 생성 시 한 노드만 삽입)
+     */
+    @Modifying
+    @Query(value = "INSERT IGNORE INTO scheduler_locks (lock_name, locked_by, locked_at, lock_until, fencing_token) "
+            + "VALUES (:lockName, '', :now, :now, 0)", nativeQuery = true)
+    int insertIfAbsent(@Param("lockName") String lockName, @Param("now") ZonedDateTime now);
+}
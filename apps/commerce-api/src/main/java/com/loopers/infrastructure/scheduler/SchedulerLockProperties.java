@@ -0,0 +1,24 @@
+package com.loopers.infrastructure.scheduler;
+
+import java.time.Duration;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * 스케줄 작업 분산 락 설정
+ *
+ * - enabled: 노드 간 단일 실행 보장 (비활성화하면 모든 노드가 각자 실행)
+ * - leaseTtl: 임대 시간, 보유 노드가 종료되면 이 시간이 지난 뒤 다른 노드가 가져감 (장시간 작업은 진행 중 연장)
+ * - minHoldMargin: 작업 주기에서 뺀 만큼 락을 최소 유지 (주기 안에 다른 노드가 같은 작업을 다시 실행하지 않도록)
+ *
+ * @author hyunjikoh
+ * @since 2025. 12. 10.
+ */
+@ConfigurationProperties("scheduler-lock")
+public record SchedulerLockProperties(
+        @DefaultValue("true") boolean enabled,
+        @DefaultValue("5m") Duration leaseTtl,
+        @DefaultValue("10s") Duration minHoldMargin
+) {
+}
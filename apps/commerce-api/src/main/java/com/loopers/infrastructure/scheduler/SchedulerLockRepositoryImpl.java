@@ -0,0 +1,70 @@
+package com.loopers.infrastructure.scheduler;
+
+import static com.loopers.domain.scheduler.QSchedulerLockEntity.schedulerLockEntity;
+import java.time.ZonedDateTime;
+import java.util.Optional;
+
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.loopers.domain.scheduler.SchedulerLockRepository;
+import com.querydsl.jpa.impl.JPAQueryFactory;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * @author hyunjikoh
+ * @since 2025. 12. 10.
+ */
+@Component
+@RequiredArgsConstructor
+public class SchedulerLockRepositoryImpl implements SchedulerLockRepository {
+
+    private final SchedulerLockJpaRepository schedulerLockJpaRepository;
+    private final JPAQueryFactory queryFactory;
+
+    @Override
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public Optional<Long> tryAcquire(String lockName, String owner, ZonedDateTime now, ZonedDateTime lockUntil) {
+        schedulerLockJpaRepository.insertIfAbsent(lockName, now);
+
+        long acquired = queryFactory
+                .update(schedulerLockEntity)
+                .set(schedulerLockEntity.lockedBy, owner)
+                .set(schedulerLockEntity.lockedAt, now)
+                .set(schedulerLockEntity.lockUntil, lockUntil)
+                .set(schedulerLockEntity.fencingToken, schedulerLockEntity.fencingToken.add(1L))
+                .where(
+                        schedulerLockEntity.lockName.eq(lockName),
+                        schedulerLockEntity.lockUntil.loe(now)
+                )
+                .execute();
+        if (acquired == 0) {
+            return Optional.empty();
+        }
+
+        return Optional.ofNullable(queryFactory
+                .select(schedulerLockEntity.fencingToken)
+                .from(schedulerLockEntity)
+                .where(
+                        schedulerLockEntity.lockName.eq(lockName),
+                        schedulerLockEntity.lockedBy.eq(owner)
+                )
+                .fetchOne());
+    }
+
+    @Override
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public boolean updateLockUntil(String lockName, String owner, long fencingToken, ZonedDateTime lockUntil) {
+        return queryFactory
+                .update(schedulerLockEntity)
+                .set(schedulerLockEntity.lockUntil, lockUntil)
+                .where(
+                        schedulerLockEntity.lockName.eq(lockName),
+                        schedulerLockEntity.lockedBy.eq(owner),
+                        schedulerLockEntity.fencingToken.eq(fencingToken)
+                )
+                .execute() > 0;
+    }
+}
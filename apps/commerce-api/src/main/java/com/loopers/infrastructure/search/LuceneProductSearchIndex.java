@@ -0,0 +1,323 @@
+package com.loopers.infrastructure.search;
+
+import java.io.IOException;
+import java.time.ZonedDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import org.apache.lucene.analysis.Analyzer;
+import org.apache.lucene.analysis.LowerCaseFilter;
+import org.apache.lucene.analysis.TokenStream;
+import org.apache.lucene.analysis.Tokenizer;
+import org.apache.lucene.analysis.core.KeywordAnalyzer;
+import org.apache.lucene.analysis.miscellaneous.PerFieldAnalyzerWrapper;
+import org.apache.lucene.analysis.ngram.NGramTokenizer;
+import org.apache.lucene.analysis.tokenattributes.CharTermAttribute;
+import org.apache.lucene.document.Document;
+import org.apache.lucene.document.Field;
+import org.apache.lucene.document.LongPoint;
+import org.apache.lucene.document.NumericDocValuesField;
+import org.apache.lucene.document.SortedDocValuesField;
+import org.apache.lucene.document.StringField;
+import org.apache.lucene.document.TextField;
+import org.apache.lucene.index.IndexWriter;
+import org.apache.lucene.index.IndexWriterConfig;
+import org.apache.lucene.index.StoredFields;
+import org.apache.lucene.index.Term;
+import org.apache.lucene.search.BooleanClause;
+import org.apache.lucene.search.BooleanQuery;
+import org.apache.lucene.search.IndexSearcher;
+import org.apache.lucene.search.PhraseQuery;
+import org.apache.lucene.search.Query;
+import org.apache.lucene.search.ScoreDoc;
+import org.apache.lucene.search.SearcherManager;
+import org.apache.lucene.search.Sort;
+import org.apache.lucene.search.SortField;
+import org.apache.lucene.search.TermQuery;
+import org.apache.lucene.search.TopDocs;
+import org.apache.lucene.store.ByteBuffersDirectory;
+import org.apache.lucene.store.Directory;
+import org.apache.lucene.util.BytesRef;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Component;
+
+import com.loopers.domain.product.ProductMaterializedViewEntity;
+import com.loopers.domain.product.ProductSearchIndex;
+import com.loopers.domain.product.dto.ProductSearchFilter;
+import com.loopers.domain.product.dto.ProductSearchResult;
+
+import lombok.extern.slf4j.Slf4j;
+
+import jakarta.annotation.PreDestroy;
+
+/**
+ * Lucene 기반 상품명 검색 색인 (JVM 내부, 메모리)
+ *
+ * 상품명을 1-gram/2-gram으로 색인하고, 검색어의 n-gram을 위치 순서대로 묶은 구문(phrase) 질의로 찾습니다.
+ * 연속된 n-gram이 모두 일치해야 하므로 결과는 LIKE '%keyword%'와 같으면서 전체 스캔 없이 조회됩니다.
+ * 형태소 분석(nori)은 부분 문자열 검색 의미가 달라지므로 사용하지 않습니다.
+ *
+ * 정렬은 doc values로 처리하며 MV 목록 조회와 같은 정렬 기준(likeCount, name, price, createdAt, updatedAt)을 지원합니다.
+ * 추가로 relevance 정렬 시 검색 점수(BM25) 순으로 반환합니다.
+ *
+ * @author hyunjikoh
+ * @since 2025. 12. 3.
+ */
+@Component
+@Slf4j
+public class LuceneProductSearchIndex implements ProductSearchIndex {
+
+    private static final String FIELD_ID = "productId";
+    private static final String FIELD_ID_SORT = "productIdSort";
+    private static final String FIELD_NAME_UNIGRAM = "nameUnigram";
+    private static final String FIELD_NAME_BIGRAM = "nameBigram";
+    private static final String FIELD_NAME_SORT = "nameSort";
+    private static final String FIELD_BRAND_ID = "brandId";
+    private static final String FIELD_LIKE_COUNT = "likeCount";
+    private static final String FIELD_PRICE = "price";
+    private static final String FIELD_CREATED_AT = "createdAt";
+    private static final String FIELD_UPDATED_AT = "updatedAt";
+
+    private static final String SORT_RELEVANCE = "relevance";
+
+    private final boolean enabled;
+    private final Analyzer analyzer;
+    private final Directory directory;
+    private final IndexWriter writer;
+    private final SearcherManager searcherManager;
+    private volatile boolean ready = false;
+
+    public LuceneProductSearchIndex(ProductSearchProperties properties) throws IOException {
+        this.enabled = properties.enabled();
+        this.analyzer = new PerFieldAnalyzerWrapper(new KeywordAnalyzer(), Map.of(
+                FIELD_NAME_UNIGRAM, nGramAnalyzer(1),
+                FIELD_NAME_BIGRAM, nGramAnalyzer(2)
+        ));
+        this.directory = new ByteBuffersDirectory();
+        this.writer = new IndexWriter(directory, new IndexWriterConfig(analyzer));
+        this.searcherManager = new SearcherManager(writer, null);
+    }
+
+    @Override
+    public boolean isReady() {
+        return enabled && ready;
+    }
+
+    @Override
+    public void markReady() {
+        this.ready = true;
+        log.info("상품 검색 색인 준비 완료 - 문서: {}개", size());
+    }
+
+    @Override
+    public Optional<ProductSearchResult> search(ProductSearchFilter filter) {
+        if (!isReady() || filter.productName() == null || filter.productName().isBlank()) {
+            return Optional.empty();
+        }
+
+        IndexSearcher searcher = null;
+        try {
+            searcher = searcherManager.acquire();
+            Query query = buildQuery(filter);
+            Pageable pageable = filter.pageable();
+
+            int totalHits = searcher.count(query);
+            if (pageable.getOffset() >= totalHits) {
+                return Optional.of(new ProductSearchResult(List.of(), totalHits));
+            }
+
+            int topN = (int) Math.min(pageable.getOffset() + pageable.getPageSize(), totalHits);
+            TopDocs topDocs = searcher.search(query, topN, buildSort(pageable.getSort()));
+            StoredFields storedFields = searcher.storedFields();
+
+            List<Long> productIds = new ArrayList<>(pageable.getPageSize());
+            ScoreDoc[] scoreDocs = topDocs.scoreDocs;
+            for (int i = (int) pageable.getOffset(); i < scoreDocs.length; i++) {
+                productIds.add(Long.valueOf(storedFields.document(scoreDocs[i].doc).get(FIELD_ID)));
+            }
+
+            return Optional.of(new ProductSearchResult(productIds, totalHits));
+        } catch (IOException e) {
+            log.warn("상품 검색 색인 조회 실패 - keyword: {}, error: {}", filter.productName(), e.getMessage());
+            return Optional.empty();
+        } finally {
+            release(searcher);
+        }
+    }
+
+    @Override
+    public void index(Collection<ProductMaterializedViewEntity> products) {
+        if (!enabled || products == null || products.isEmpty()) {
+            return;
+        }
+
+        try {
+            for (ProductMaterializedViewEntity product : products) {
+                Term idTerm = new Term(FIELD_ID, String.valueOf(product.getProductId()));
+                if (product.getDeletedAt() != null) {
+                    writer.deleteDocuments(idTerm);
+                } else {
+                    writer.updateDocument(idTerm, toDocument(product));
+                }
+            }
+            searcherManager.maybeRefresh();
+
+            log.debug("상품 검색 색인 갱신 - {}개", products.size());
+        } catch (IOException e) {
+            log.warn("상품 검색 색인 갱신 실패 - {}개, error: {}", products.size(), e.getMessage());
+        }
+    }
+
+    @Override
+    public void delete(Collection<Long> productIds) {
+        if (!enabled || productIds == null || productIds.isEmpty()) {
+            return;
+        }
+
+        try {
+            Term[] terms = productIds.stream()
+                    .map(id -> new Term(FIELD_ID, String.valueOf(id)))
+                    .toArray(Term[]::new);
+            writer.deleteDocuments(terms);
+            searcherManager.maybeRefresh();
+
+            log.debug("상품 검색 색인 삭제 - {}개", productIds.size());
+        } catch (IOException e) {
+            log.warn("상품 검색 색인 삭제 실패 - {}개, error: {}", productIds.size(), e.getMessage());
+        }
+    }
+
+    @Override
+    public long size() {
+        return writer.getDocStats().numDocs;
+    }
+
+    @PreDestroy
+    public void close() throws IOException {
+        searcherManager.close();
+        writer.close();
+        directory.close();
+    }
+
+    // ========== 색인 ==========
+
+    private Document toDocument(ProductMaterializedViewEntity product) {
+        Document document = new Document();
+        document.add(new StringField(FIELD_ID, String.valueOf(product.getProductId()), Field.Store.YES));
+        document.add(new NumericDocValuesField(FIELD_ID_SORT, product.getProductId()));
+
+        document.add(new TextField(FIELD_NAME_UNIGRAM, product.getName(), Field.Store.NO));
+        document.add(new TextField(FIELD_NAME_BIGRAM, product.getName(), Field.Store.NO));
+        document.add(new SortedDocValuesField(FIELD_NAME_SORT, new BytesRef(product.getName())));
+
+        document.add(new LongPoint(FIELD_BRAND_ID, product.getBrandId()));
+        document.add(new NumericDocValuesField(FIELD_LIKE_COUNT, product.getLikeCount()));
+        // 가격은 소수점 2자리까지 저장되므로 원 단위 * 100 정수로 정렬
+        document.add(new NumericDocValuesField(FIELD_PRICE,
+                product.getPrice().getOriginPrice().movePointRight(2).longValue()));
+        document.add(new NumericDocValuesField(FIELD_CREATED_AT, toEpochMilli(product.getCreatedAt())));
+        document.add(new NumericDocValuesField(FIELD_UPDATED_AT, toEpochMilli(product.getUpdatedAt())));
+        return document;
+    }
+
+    private long toEpochMilli(ZonedDateTime time) {
+        return time != null ? time.toInstant().toEpochMilli() : 0L;
+    }
+
+    // ========== 검색 ==========
+
+    private Query buildQuery(ProductSearchFilter filter) throws IOException {
+        BooleanQuery.Builder builder = new BooleanQuery.Builder()
+                .add(nameQuery(filter.productName()), BooleanClause.Occur.MUST);
+
+        if (filter.brandId() != null) {
+            builder.add(LongPoint.newExactQuery(FIELD_BRAND_ID, filter.brandId()), BooleanClause.Occur.FILTER);
+        }
+
+        return builder.build();
+    }
+
+    /**
+     * 검색어를 n-gram으로 분해하여 연속 위치 구문 질의를 만듭니다.
+     * 한 글자 검색어는 1-gram, 그 외에는 2-gram 필드를 사용합니다.
+     */
+    private Query nameQuery(String keyword) throws IOException {
+        String field = keyword.codePointCount(0, keyword.length()) == 1 ? FIELD_NAME_UNIGRAM : FIELD_NAME_BIGRAM;
+        List<String> grams = analyze(field, keyword);
+
+        if (grams.size() == 1) {
+            return new TermQuery(new Term(field, grams.get(0)));
+        }
+
+        PhraseQuery.Builder phrase = new PhraseQuery.Builder();
+        for (int position = 0; position < grams.size(); position++) {
+            phrase.add(new Term(field, grams.get(position)), position);
+        }
+        return phrase.build();
+    }
+
+    private List<String> analyze(String field, String text) throws IOException {
+        List<String> grams = new ArrayList<>();
+        try (TokenStream tokenStream = analyzer.tokenStream(field, text)) {
+            CharTermAttribute term = tokenStream.addAttribute(CharTermAttribute.class);
+            tokenStream.reset();
+            while (tokenStream.incrementToken()) {
+                grams.add(term.toString());
+            }
+            tokenStream.end();
+        }
+        return grams;
+    }
+
+    /**
+     * MV 목록 조회(buildOrderSpecifiers)와 같은 정렬 기준을 doc values 정렬로 변환합니다.
+     * 기본 정렬은 좋아요 수 내림차순이며, 동일 값은 상품 ID 순으로 고정합니다.
+     */
+    private Sort buildSort(org.springframework.data.domain.Sort sort) {
+        List<SortField> sortFields = new ArrayList<>();
+
+        for (org.springframework.data.domain.Sort.Order order : sort) {
+            boolean reverse = order.isDescending();
+            sortFields.add(switch (order.getProperty()) {
+                case SORT_RELEVANCE -> SortField.FIELD_SCORE;
+                case "likeCount" -> new SortField(FIELD_LIKE_COUNT, SortField.Type.LONG, reverse);
+                case "name" -> new SortField(FIELD_NAME_SORT, SortField.Type.STRING, reverse);
+                case "price" -> new SortField(FIELD_PRICE, SortField.Type.LONG, reverse);
+                case "createdAt" -> new SortField(FIELD_CREATED_AT, SortField.Type.LONG, reverse);
+                case "updatedAt" -> new SortField(FIELD_UPDATED_AT, SortField.Type.LONG, reverse);
+                default -> new SortField(FIELD_LIKE_COUNT, SortField.Type.LONG, true);
+            });
+        }
+
+        if (sortFields.isEmpty()) {
+            sortFields.add(new SortField(FIELD_LIKE_COUNT, SortField.Type.LONG, true));
+        }
+        sortFields.add(new SortField(FIELD_ID_SORT, SortField.Type.LONG));
+
+        return new Sort(sortFields.toArray(new SortField[0]));
+    }
+
+    private void release(IndexSearcher searcher) {
+        if (searcher == null) {
+            return;
+        }
+        try {
+            searcherManager.release(searcher);
+        } catch (IOException e) {
+            log.warn("상품 검색 색인 searcher 반환 실패 - error: {}", e.getMessage());
+        }
+    }
+
+    private static Analyzer nGramAnalyzer(int gramSize) {
+        return new Analyzer() {
+            @Override
+            protected TokenStreamComponents createComponents(String fieldName) {
+                Tokenizer tokenizer = new NGramTokenizer(gramSize, gramSize);
+                return new TokenStreamComponents(tokenizer, new LowerCaseFilter(tokenizer));
+            }
+        };
+    }
+}
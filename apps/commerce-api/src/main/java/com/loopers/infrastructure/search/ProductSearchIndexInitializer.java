@@ -0,0 +1,70 @@
+package com.loopers.infrastructure.search;
+
+import java.util.List;
+
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import com.loopers.domain.product.ProductMVRepository;
+import com.loopers.domain.product.ProductMaterializedViewEntity;
+import com.loopers.domain.product.ProductSearchIndex;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 상품 검색 색인 초기 구축
+ *
+ * 애플리케이션 기동 후 별도 스레드에서 MV 전체를 상품 ID 순으로 나누어 읽어 색인합니다.
+ * 구축이 끝나기 전까지 상품명 검색은 DB(LIKE)로 처리되며, 이후 변경분은 MV 동기화 결과로 증분 반영됩니다.
+ *
+ * @author hyunjikoh
+ * @since 2025. 12. 3.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class ProductSearchIndexInitializer {
+
+    private final ProductSearchIndex searchIndex;
+    private final ProductMVRepository mvRepository;
+    private final ProductSearchProperties properties;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void buildOnStartup() {
+        if (!properties.enabled()) {
+            log.info("상품 검색 색인 비활성화 - 상품명 검색은 DB로 처리");
+            return;
+        }
+
+        Thread.ofVirtual()
+                .name("product-search-index-build")
+                .start(this::build);
+    }
+
+    private void build() {
+        long startTime = System.currentTimeMillis();
+        long lastProductId = 0L;
+        int indexedCount = 0;
+
+        try {
+            while (true) {
+                List<ProductMaterializedViewEntity> batch =
+                        mvRepository.findAllAfterProductId(lastProductId, properties.buildBatchSize());
+                if (batch.isEmpty()) {
+                    break;
+                }
+
+                searchIndex.index(batch);
+                indexedCount += batch.size();
+                lastProductId = batch.get(batch.size() - 1).getProductId();
+            }
+
+            searchIndex.markReady();
+            log.info("상품 검색 색인 구축 완료 - {}개, 소요: {}ms", indexedCount, System.currentTimeMillis() - startTime);
+        } catch (Exception e) {
+            log.error("상품 검색 색인 구축 실패 - 상품명 검색은 DB로 처리", e);
+        }
+    }
+}
@@ -0,0 +1,20 @@
+package com.loopers.infrastructure.search;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * 상품명 검색 색인 설정
+ *
+ * - enabled: 비활성화하면 상품명 검색은 항상 DB(LIKE)로 처리
+ * - buildBatchSize: 초기 구축 시 MV를 한 번에 읽어오는 개수
+ *
+ * @author hyunjikoh
+ * @since 2025. 12. 3.
+ */
+@ConfigurationProperties("product-search")
+public record ProductSearchProperties(
+        @DefaultValue("true") boolean enabled,
+        @DefaultValue("1000") int buildBatchSize
+) {
+}
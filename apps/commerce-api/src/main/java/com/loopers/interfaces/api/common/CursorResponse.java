@@ -0,0 +1,34 @@
+package com.loopers.interfaces.api.common;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import java.util.List;
+
+import com.loopers.domain.product.dto.CursorPage;
+
+/**
+ * @author hyunjikoh
+ * @since 2025. 12. 2.
+ */
+@Schema(description = "커서 기반 페이징 응답")
+public record CursorResponse<T>(
+        @Schema(description = "데이터 목록")
+        List<T> content,
+
+        @Schema(description = "페이지 크기", example = "20")
+        int size,
+
+        @Schema(description = "다음 페이지 커서 (마지막 페이지면 null)", example = "djF8bGlrZUNvdW50fGRlc2N8MTAwfDQy")
+        String nextCursor,
+
+        @Schema(description = "다음 페이지 존재 여부", example = "true")
+        boolean hasNext
+) {
+    public static <T> CursorResponse<T> from(CursorPage<T> page) {
+        return new CursorResponse<>(
+                page.content(),
+                page.size(),
+                page.nextCursor(),
+                page.hasNext()
+        );
+    }
+}
@@ -0,0 +1,42 @@
+package com.loopers.interfaces.api.common;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import java.util.List;
+
+import org.springframework.data.domain.Slice;
+
+/**
+ * @author hyunjikoh
+ * @since 2025. 12. 2.
+ */
+@Schema(description = "Slice 페이징 응답 (전체 개수 없음)")
+public record SliceResponse<T>(
+        @Schema(description = "데이터 목록")
+        List<T> content,
+
+        @Schema(description = "현재 페이지 번호 (0부터 시작)", example = "0")
+        int pageNumber,
+
+        @Schema(description = "페이지 크기", example = "20")
+        int pageSize,
+
+        @Schema(description = "첫 페이지 여부", example = "true")
+        boolean first,
+
+        @Schema(description = "다음 페이지 존재 여부", example = "true")
+        boolean hasNext,
+
+        @Schema(description = "비어있는 페이지 여부", example = "false")
+        boolean empty
+) {
+    public static <T> SliceResponse<T> from(Slice<T> slice) {
+        return new SliceResponse<>(
+                slice.getContent(),
+                slice.getNumber(),
+                slice.getSize(),
+                slice.isFirst(),
+                slice.hasNext(),
+                slice.isEmpty()
+        );
+    }
+}
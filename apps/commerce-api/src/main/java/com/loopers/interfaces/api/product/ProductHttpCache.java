@@ -0,0 +1,115 @@
+package com.loopers.interfaces.api.product;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Map;
+
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.stereotype.Component;
+import org.springframework.web.context.request.ServletWebRequest;
+
+import com.loopers.application.product.ProductDetailInfo;
+import com.loopers.application.product.ProductInfo;
+import com.loopers.infrastructure.cache.CacheStrategy;
+
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 상품 API 조건부 GET(ETag / 304) 처리
+ *
+ * 응답 DTO 변환과 JSON 직렬화 전에 ETag를 계산하여, If-None-Match가 일치하면 본문 없이 304로 응답합니다.
+ * - 상세: 상품 ID + MV 최종 갱신 시각 + 좋아요 수
+ * - 목록: ID 리스트 캐시 세대 번호 + 조회된 상품 ID / 좋아요 수 다이제스트
+ *
+ * 로그인 사용자 응답은 좋아요 여부가 포함되므로 ETag에 반영하고 private로 응답합니다.
+ * 사용자 헤더 유무에 따라 본문이 달라지므로 항상 Vary: X-USER-ID 를 함께 보냅니다.
+ *
+ * @author hyunjikoh
+ * @since 2025. 12. 9.
+ */
+@Component
+@RequiredArgsConstructor
+public class ProductHttpCache {
+
+    private static final String USER_HEADER = "X-USER-ID";
+
+    private final ProductHttpCacheProperties properties;
+
+    /**
+     * 캐시 헤더를 설정하고 요청의 If-None-Match와 ETag를 비교합니다.
+     *
+     * @return true면 304 응답이 설정된 상태이므로 본문 없이 반환해야 함
+     */
+    public boolean checkNotModified(ServletWebRequest webRequest, String etag, CacheStrategy strategy, boolean personalized) {
+        if (!properties.enabled()) {
+            return false;
+        }
+
+        HttpServletResponse response = webRequest.getResponse();
+        if (response != null) {
+            response.setHeader(HttpHeaders.CACHE_CONTROL, cacheControl(strategy, personalized).getHeaderValue());
+            response.addHeader(HttpHeaders.VARY, USER_HEADER);
+        }
+        return webRequest.checkNotModified(etag);
+    }
+
+    public String detailETag(ProductDetailInfo productDetail) {
+        String version = productDetail.lastUpdatedAt() != null
+                ? String.valueOf(productDetail.lastUpdatedAt().toInstant().toEpochMilli())
+                : digest(productDetail.withoutUserState().toString()); // 갱신 시각이 없는 이전 형식 캐시 항목
+        return "pd-" + productDetail.id() + "-" + version + "-" + productDetail.likeCount()
+                + likedSuffix(productDetail.isLiked());
+    }
+
+    /**
+     * @param generation   목록 세대 번호
+     * @param pageMetadata 전체 개수, 다음 페이지 여부 등 본문에 포함되는 페이지 정보
+     * @param likedStatus  사용자 좋아요 여부 (비로그인 시 빈 Map)
+     */
+    public String listETag(long generation, String pageMetadata, List<ProductInfo> products, Map<Long, Boolean> likedStatus) {
+        StringBuilder source = new StringBuilder(pageMetadata);
+        for (ProductInfo product : products) {
+            source.append('|').append(product.id()).append(':').append(product.likeCount());
+            Boolean liked = likedStatus.get(product.id());
+            if (liked != null) {
+                source.append(liked ? ":1" : ":0");
+            }
+        }
+        return "pl-g" + generation + "-" + digest(source.toString());
+    }
+
+    private CacheControl cacheControl(CacheStrategy strategy, boolean personalized) {
+        Duration maxAge = switch (strategy) {
+            case HOT -> properties.hotMaxAge();
+            case WARM -> properties.warmMaxAge();
+            case COLD -> properties.coldMaxAge();
+        };
+        if (maxAge.isZero()) {
+            return CacheControl.noCache();
+        }
+        CacheControl cacheControl = CacheControl.maxAge(maxAge);
+        return personalized ? cacheControl.cachePrivate() : cacheControl.cachePublic();
+    }
+
+    private static String likedSuffix(Boolean isLiked) {
+        if (isLiked == null) {
+            return "";
+        }
+        return isLiked ? "-l1" : "-l0";
+    }
+
+    private static String digest(String source) {
+        try {
+            byte[] hash = MessageDigest.getInstance("SHA-256").digest(source.getBytes(StandardCharsets.UTF_8));
+            return HexFormat.of().formatHex(hash, 0, 12);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
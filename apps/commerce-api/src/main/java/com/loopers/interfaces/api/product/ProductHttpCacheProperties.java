@@ -0,0 +1,27 @@
+package com.loopers.interfaces.api.product;
+
+import java.time.Duration;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * 상품 API HTTP 캐시(ETag / Cache-Control) 설정
+ *
+ * max-age가 0이면 no-cache로 응답하여 매 요청마다 ETag 재검증을 받습니다.
+ *
+ * @param enabled    사용 여부 (비활성화 시 ETag / Cache-Control 미적용)
+ * @param hotMaxAge  Hot 목록과 상품 상세의 max-age
+ * @param warmMaxAge Warm 목록의 max-age
+ * @param coldMaxAge Cold 목록과 커서 조회의 max-age
+ * @author hyunjikoh
+ * @since 2025. 12. 9.
+ */
+@ConfigurationProperties("product-http-cache")
+public record ProductHttpCacheProperties(
+        @DefaultValue("true") boolean enabled,
+        @DefaultValue("60s") Duration hotMaxAge,
+        @DefaultValue("30s") Duration warmMaxAge,
+        @DefaultValue("0s") Duration coldMaxAge
+) {
+}
@@ -0,0 +1,149 @@
+package com.loopers.interfaces.api.product;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+import java.util.Optional;
+import java.util.Set;
+
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.http.HttpMethod;
+import org.springframework.stereotype.Component;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.loopers.application.product.ProductFacade;
+import com.loopers.domain.product.dto.ProductSearchFilter;
+import com.loopers.infrastructure.cache.CacheKeyGenerator;
+import com.loopers.infrastructure.cache.CacheStrategy;
+import com.loopers.infrastructure.cache.RenderedResponseCache;
+import com.loopers.infrastructure.cache.RenderedResponseCache.RenderedResponse;
+
+import jakarta.servlet.http.HttpServletRequest;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Hot 상품 목록의 렌더링된 응답 캐시
+ *
+ * 비로그인 사용자의 Hot 목록(brandId, page, size, sort) 응답 JSON 바이트를 저장하고,
+ * 히트 시 인터셉터가 Facade와 Jackson을 거치지 않고 그대로 응답합니다.
+ *
+ * - 키에 ID 리스트 캐시와 같은 목록 세대 번호를 포함하므로 같은 이벤트로 무효화됩니다.
+ * - 상품명 검색, Slice/커서 조회, 로그인 사용자(좋아요 여부 포함) 요청은 대상이 아닙니다.
+ * - 키는 요청 파라미터로만 계산하며, 해석할 수 없는 파라미터가 있으면 캐시하지 않습니다.
+ *
+ * @author hyunjikoh
+ * @since 2025. 12. 9.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class ProductListResponseCache {
+
+    private static final String USER_HEADER = "X-USER-ID";
+    private static final Set<String> KEY_PARAMETERS = Set.of("page", "size", "sort", "brandId");
+    private static final int DEFAULT_PAGE_SIZE = 20; // ProductV1Controller @PageableDefault
+    private static final int MAX_PAGE_SIZE = 2000; // Spring Data 기본 최대 페이지 크기
+
+    private final ProductResponseCacheProperties properties;
+    private final ProductFacade productFacade;
+    private final CacheKeyGenerator cacheKeyGenerator;
+    private final RenderedResponseCache renderedResponseCache;
+    private final ObjectMapper objectMapper;
+
+    /**
+     * 요청에 해당하는 렌더링된 응답을 조회합니다.
+     */
+    public Optional<RenderedResponse> find(HttpServletRequest request) {
+        return resolve(request).flatMap(listRequest -> {
+            long generation = productFacade.getListGeneration(listRequest.brandId());
+            Optional<RenderedResponse> rendered = renderedResponseCache.get(key(listRequest, generation));
+            // 히트 시 Facade를 거치지 않으므로 여기서 요청 빈도를 기록 (Hot 유지 판단에 반영)
+            rendered.ifPresent(hit -> productFacade.recordListAccess(
+                    new ProductSearchFilter(listRequest.brandId(), null, listRequest.pageable())));
+            return rendered;
+        });
+    }
+
+    /**
+     * 렌더링된 응답을 저장합니다.
+     *
+     * @param generation 목록 조회 전에 읽은 세대 번호 (조회 중 무효화된 응답이 새 세대 키에 저장되지 않도록)
+     * @param etag       응답 ETag (없으면 null)
+     * @param body       응답 본문
+     */
+    public void store(HttpServletRequest request, long generation, String etag, Object body) {
+        resolve(request).ifPresent(listRequest -> {
+            try {
+                RenderedResponse rendered = new RenderedResponse(etag != null ? etag : "", objectMapper.writeValueAsBytes(body));
+                renderedResponseCache.put(key(listRequest, generation), rendered, properties.ttl());
+            } catch (Exception e) {
+                log.warn("렌더링 응답 직렬화 실패 - brandId: {}, error: {}", listRequest.brandId(), e.getMessage());
+            }
+        });
+    }
+
+    private String key(ListRequest listRequest, long generation) {
+        return cacheKeyGenerator.generateRenderedListKey(listRequest.brandId(), generation, listRequest.pageable());
+    }
+
+    /**
+     * 캐시 대상 요청이면 브랜드와 페이지 조건을 해석합니다.
+     */
+    private Optional<ListRequest> resolve(HttpServletRequest request) {
+        if (!properties.enabled()
+                || !HttpMethod.GET.matches(request.getMethod())
+                || request.getHeader(USER_HEADER) != null
+                || !KEY_PARAMETERS.containsAll(request.getParameterMap().keySet())) {
+            return Optional.empty();
+        }
+
+        try {
+            Long brandId = request.getParameter("brandId") != null ? Long.valueOf(request.getParameter("brandId")) : null;
+            int page = request.getParameter("page") != null ? Integer.parseInt(request.getParameter("page")) : 0;
+            int size = request.getParameter("size") != null ? Integer.parseInt(request.getParameter("size")) : DEFAULT_PAGE_SIZE;
+            if (page < 0 || size < 1 || size > MAX_PAGE_SIZE) {
+                return Optional.empty();
+            }
+
+            Pageable pageable = PageRequest.of(page, size, parseSort(request.getParameterValues("sort")));
+            if (productFacade.getCacheStrategy(new ProductSearchFilter(brandId, null, pageable)) != CacheStrategy.HOT) {
+                return Optional.empty();
+            }
+            return Optional.of(new ListRequest(brandId, pageable));
+        } catch (NumberFormatException e) {
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * sort=property[,property...][,asc|desc] 형식을 해석합니다. (Spring Data와 동일한 형식)
+     */
+    private static Sort parseSort(String[] sortParameters) {
+        if (sortParameters == null) {
+            return Sort.unsorted();
+        }
+
+        List<Sort.Order> orders = new ArrayList<>();
+        for (String sortParameter : sortParameters) {
+            List<String> tokens = Arrays.stream(sortParameter.split(","))
+                    .map(String::trim)
+                    .filter(token -> !token.isEmpty())
+                    .toList();
+            if (tokens.isEmpty()) {
+                continue;
+            }
+
+            Optional<Sort.Direction> direction = Sort.Direction.fromOptionalString(tokens.getLast().toUpperCase(Locale.ROOT));
+            List<String> properties = direction.isPresent() ? tokens.subList(0, tokens.size() - 1) : tokens;
+            properties.forEach(property -> orders.add(new Sort.Order(direction.orElse(Sort.Direction.ASC), property)));
+        }
+        return Sort.by(orders);
+    }
+
+    private record ListRequest(Long brandId, Pageable pageable) {
+    }
+}
@@ -0,0 +1,52 @@
+package com.loopers.interfaces.api.product;
+
+import java.util.Optional;
+
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.web.context.request.ServletWebRequest;
+import org.springframework.web.servlet.HandlerInterceptor;
+
+import com.loopers.infrastructure.cache.CacheStrategy;
+import com.loopers.infrastructure.cache.RenderedResponseCache.RenderedResponse;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 렌더링된 Hot 목록 응답을 컨트롤러 실행 전에 응답하는 인터셉터
+ *
+ * 히트 시 저장된 JSON 바이트를 서블릿 출력 스트림에 그대로 기록하고(ETag 일치 시 304), 컨트롤러를 실행하지 않습니다.
+ * 미스 시에는 컨트롤러가 응답을 만든 뒤 저장합니다.
+ *
+ * @author hyunjikoh
+ * @since 2025. 12. 9.
+ */
+@Component
+@RequiredArgsConstructor
+public class ProductListResponseCacheInterceptor implements HandlerInterceptor {
+
+    private final ProductListResponseCache productListResponseCache;
+    private final ProductHttpCache productHttpCache;
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) throws Exception {
+        Optional<RenderedResponse> rendered = productListResponseCache.find(request);
+        if (rendered.isEmpty()) {
+            return true;
+        }
+
+        RenderedResponse cached = rendered.get();
+        if (!cached.etag().isEmpty()
+                && productHttpCache.checkNotModified(new ServletWebRequest(request, response), cached.etag(), CacheStrategy.HOT, false)) {
+            return false;
+        }
+
+        response.setStatus(HttpServletResponse.SC_OK);
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        response.setContentLength(cached.body().length);
+        response.getOutputStream().write(cached.body());
+        return false;
+    }
+}
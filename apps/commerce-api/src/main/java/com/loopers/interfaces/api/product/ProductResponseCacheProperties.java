@@ -0,0 +1,23 @@
+package com.loopers.interfaces.api.product;
+
+import java.time.Duration;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * 렌더링된 Hot 목록 응답 캐시 설정
+ *
+ * 랭킹의 실시간 좋아요 수는 TTL 동안 반영되지 않으므로 TTL은 짧게 유지합니다.
+ *
+ * @param enabled 사용 여부
+ * @param ttl     렌더링된 응답 유지 시간 (목록 세대가 바뀌면 그 전이라도 조회되지 않음)
+ * @author hyunjikoh
+ * @since 2025. 12. 9.
+ */
+@ConfigurationProperties("product-response-cache")
+public record ProductResponseCacheProperties(
+        @DefaultValue("false") boolean enabled,
+        @DefaultValue("30s") Duration ttl
+) {
+}
@@ -6,20 +6,25 @@ import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
 
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
 import org.springframework.data.web.PageableDefault;
+import org.springframework.data.web.SortDefault;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.context.request.ServletWebRequest;
 
 import com.loopers.interfaces.api.ApiResponse;
+import com.loopers.interfaces.api.common.CursorResponse;
 import com.loopers.interfaces.api.common.PageResponse;
+import com.loopers.interfaces.api.common.SliceResponse;
 
 @Tag(name = "Product V1 API", description = "상품 관리 API")
 public interface ProductV1ApiSpec {
 
     @Operation(
             summary = "상품 목록 조회",
-            description = "상품 목록을 페이징하여 조회합니다."
+            description = "상품 목록을 페이징하여 조회합니다. 응답의 ETag를 If-None-Match로 전달하면 변경이 없을 때 304를 응답합니다."
     )
     @ApiResponses({
             @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "200", description = "조회 성공"),
@@ -28,12 +33,74 @@ public interface ProductV1ApiSpec {
     ApiResponse<PageResponse<ProductV1Dtos.ProductListResponse>> getProducts(
             @PageableDefault(size = 20) Pageable pageable,
             @RequestParam(required = false) Long brandId,
-            @RequestParam(required = false) String productName
+            @RequestParam(required = false) String productName,
+
+            @Parameter(description = "사용자명 (선택, 목록의 좋아요 여부 조회)", example = "testuser")
+            @RequestHeader(value = "X-USER-ID", required = false)
+            String username,
+
+            @Parameter(hidden = true)
+            ServletWebRequest webRequest
+    );
+
+    @Operation(
+            summary = "상품 목록 Slice 조회",
+            description = "slice=true 로 요청하면 전체 개수 없이 다음 페이지 존재 여부만 응답합니다. COUNT 쿼리를 실행하지 않아 무한 스크롤에 적합합니다."
+    )
+    @ApiResponses({
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "200", description = "조회 성공"),
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "400", description = "잘못된 요청")
+    })
+    ApiResponse<SliceResponse<ProductV1Dtos.ProductListResponse>> getProductSlice(
+            @PageableDefault(size = 20) Pageable pageable,
+            @RequestParam(required = false) Long brandId,
+            @RequestParam(required = false) String productName,
+
+            @Parameter(description = "사용자명 (선택, 목록의 좋아요 여부 조회)", example = "testuser")
+            @RequestHeader(value = "X-USER-ID", required = false)
+            String username,
+
+            @Parameter(hidden = true)
+            ServletWebRequest webRequest
+    );
+
+    @Operation(
+            summary = "상품 목록 커서 조회",
+            description = "상품 목록을 커서 기반(keyset)으로 조회합니다. 페이지 깊이와 무관하게 일정한 속도로 조회되며 전체 개수는 제공하지 않습니다. "
+                    + "첫 페이지는 빈 cursor로 요청하고, 이후에는 응답의 nextCursor와 동일한 검색 조건을 전달합니다."
+    )
+    @ApiResponses({
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "200", description = "조회 성공"),
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "400", description = "유효하지 않은 커서")
+    })
+    ApiResponse<CursorResponse<ProductV1Dtos.ProductListResponse>> getProductsByCursor(
+            @Parameter(description = "이전 응답의 nextCursor (첫 페이지는 빈 값)", required = true)
+            @RequestParam
+            String cursor,
+
+            @Parameter(description = "페이지 크기 (최대 100)", example = "20")
+            @RequestParam(defaultValue = "20")
+            int size,
+
+            @Parameter(description = "정렬 조건 (likeCount, price, name, createdAt). 첫 페이지에만 적용", example = "likeCount,desc")
+            @SortDefault(sort = "likeCount", direction = Sort.Direction.DESC)
+            Sort sort,
+
+            @RequestParam(required = false) Long brandId,
+            @RequestParam(required = false) String productName,
+
+            @Parameter(description = "사용자명 (선택, 목록의 좋아요 여부 조회)", example = "testuser")
+            @RequestHeader(value = "X-USER-ID", required = false)
+            String username,
+
+            @Parameter(hidden = true)
+            ServletWebRequest webRequest
     );
 
     @Operation(
             summary = "상품 상세 조회",
-            description = "상품 ID로 상품 상세 정보를 조회합니다. 로그인한 사용자의 경우 좋아요 여부도 함께 조회됩니다."
+            description = "상품 ID로 상품 상세 정보를 조회합니다. 로그인한 사용자의 경우 좋아요 여부도 함께 조회됩니다. "
+                    + "응답의 ETag를 If-None-Match로 전달하면 변경이 없을 때 304를 응답합니다."
     )
     @ApiResponses({
             @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "200", description = "조회 성공"),
@@ -46,7 +113,10 @@ public interface ProductV1ApiSpec {
 
             @Parameter(description = "사용자명 (선택)", example = "testuser")
             @RequestHeader(value = "X-USER-ID", required = false)
-            String username
+            String username,
+
+            @Parameter(hidden = true)
+            ServletWebRequest webRequest
     );
 }
 
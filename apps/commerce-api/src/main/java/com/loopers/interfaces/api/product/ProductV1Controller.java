@@ -1,16 +1,29 @@
 package com.loopers.interfaces.api.product;
 
+import java.util.List;
+import java.util.Map;
+
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Sort;
 import org.springframework.data.web.PageableDefault;
+import org.springframework.data.web.SortDefault;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.ServletWebRequest;
 
 import com.loopers.application.product.ProductDetailInfo;
 import com.loopers.application.product.ProductFacade;
 import com.loopers.application.product.ProductInfo;
+import com.loopers.domain.product.dto.CursorPage;
+import com.loopers.domain.product.dto.ProductCursor;
 import com.loopers.domain.product.dto.ProductSearchFilter;
+import com.loopers.infrastructure.cache.CacheStrategy;
 import com.loopers.interfaces.api.ApiResponse;
+import com.loopers.interfaces.api.common.CursorResponse;
 import com.loopers.interfaces.api.common.PageResponse;
+import com.loopers.interfaces.api.common.SliceResponse;
 import com.loopers.support.Uris;
 
 import lombok.RequiredArgsConstructor;
@@ -19,7 +32,11 @@ import lombok.RequiredArgsConstructor;
 @RequiredArgsConstructor
 public class ProductV1Controller implements ProductV1ApiSpec {
 
+    private static final int MAX_CURSOR_PAGE_SIZE = 100;
+
     private final ProductFacade productFacade;
+    private final ProductHttpCache productHttpCache;
+    private final ProductListResponseCache productListResponseCache;
 
 
     @GetMapping(Uris.Product.GET_LIST)
@@ -27,23 +44,104 @@ public class ProductV1Controller implements ProductV1ApiSpec {
     public ApiResponse<PageResponse<ProductV1Dtos.ProductListResponse>> getProducts(
             @PageableDefault(size = 20) Pageable pageable,
             @RequestParam(required = false) Long brandId,
-            @RequestParam(required = false) String productName
+            @RequestParam(required = false) String productName,
+            @RequestHeader(value = "X-USER-ID", required = false) String username,
+            ServletWebRequest webRequest
     ) {
         ProductSearchFilter filter = new ProductSearchFilter(brandId, productName, pageable);
+        long generation = productFacade.getListGeneration(brandId);
         Page<ProductInfo> products = productFacade.getProducts(filter);
-        Page<ProductV1Dtos.ProductListResponse> responsePage = products.map(ProductV1Dtos.ProductListResponse::from);
-        return ApiResponse.success(PageResponse.from(responsePage));
+        Map<Long, Boolean> likedStatus = productFacade.getLikedStatus(username, productIds(products.getContent()));
+
+        String etag = productHttpCache.listETag(generation, "total=" + products.getTotalElements(), products.getContent(), likedStatus);
+        if (productHttpCache.checkNotModified(webRequest, etag, productFacade.getCacheStrategy(filter), username != null)) {
+            return null;
+        }
+
+        Page<ProductV1Dtos.ProductListResponse> responsePage = products.map(product -> toListResponse(product, likedStatus));
+        ApiResponse<PageResponse<ProductV1Dtos.ProductListResponse>> response = ApiResponse.success(PageResponse.from(responsePage));
+
+        // 비로그인 Hot 목록은 렌더링된 응답을 저장 (다음 요청은 인터셉터에서 바로 응답)
+        productListResponseCache.store(webRequest.getRequest(), generation, etag, response);
+        return response;
+    }
+
+    /**
+     * slice=true 이면 전체 개수 없이 다음 페이지 존재 여부만 응답합니다. (무한 스크롤용)
+     */
+    @GetMapping(value = Uris.Product.GET_LIST, params = {"slice=true", "!cursor"})
+    @Override
+    public ApiResponse<SliceResponse<ProductV1Dtos.ProductListResponse>> getProductSlice(
+            @PageableDefault(size = 20) Pageable pageable,
+            @RequestParam(required = false) Long brandId,
+            @RequestParam(required = false) String productName,
+            @RequestHeader(value = "X-USER-ID", required = false) String username,
+            ServletWebRequest webRequest
+    ) {
+        ProductSearchFilter filter = new ProductSearchFilter(brandId, productName, pageable);
+        long generation = productFacade.getListGeneration(brandId);
+        Slice<ProductInfo> products = productFacade.getProductSlice(filter);
+        Map<Long, Boolean> likedStatus = productFacade.getLikedStatus(username, productIds(products.getContent()));
+
+        String etag = productHttpCache.listETag(generation, "hasNext=" + products.hasNext(), products.getContent(), likedStatus);
+        if (productHttpCache.checkNotModified(webRequest, etag, productFacade.getCacheStrategy(filter), username != null)) {
+            return null;
+        }
+
+        return ApiResponse.success(SliceResponse.from(products.map(product -> toListResponse(product, likedStatus))));
+    }
+
+    /**
+     * cursor 파라미터가 있으면 커서 기반(keyset)으로 조회합니다.
+     * 첫 페이지는 빈 cursor 값으로 요청하고, 이후 응답의 nextCursor를 그대로 전달합니다.
+     */
+    @GetMapping(value = Uris.Product.GET_LIST, params = "cursor")
+    @Override
+    public ApiResponse<CursorResponse<ProductV1Dtos.ProductListResponse>> getProductsByCursor(
+            @RequestParam String cursor,
+            @RequestParam(defaultValue = "20") int size,
+            @SortDefault(sort = ProductCursor.DEFAULT_SORT_PROPERTY, direction = Sort.Direction.DESC) Sort sort,
+            @RequestParam(required = false) Long brandId,
+            @RequestParam(required = false) String productName,
+            @RequestHeader(value = "X-USER-ID", required = false) String username,
+            ServletWebRequest webRequest
+    ) {
+        int pageSize = Math.clamp(size, 1, MAX_CURSOR_PAGE_SIZE);
+        ProductSearchFilter filter = new ProductSearchFilter(brandId, productName, PageRequest.of(0, pageSize, sort));
+        long generation = productFacade.getListGeneration(brandId);
+        CursorPage<ProductInfo> products = productFacade.getProductsByCursor(filter, cursor, pageSize);
+        Map<Long, Boolean> likedStatus = productFacade.getLikedStatus(username, productIds(products.content()));
+
+        // 커서 조회는 캐시를 거치지 않으므로 Cold 설정 적용
+        String etag = productHttpCache.listETag(generation, "next=" + products.nextCursor(), products.content(), likedStatus);
+        if (productHttpCache.checkNotModified(webRequest, etag, CacheStrategy.COLD, username != null)) {
+            return null;
+        }
+
+        return ApiResponse.success(CursorResponse.from(products.map(product -> toListResponse(product, likedStatus))));
     }
 
     @GetMapping(Uris.Product.GET_DETAIL)
     @Override
     public ApiResponse<ProductV1Dtos.ProductDetailResponse> getProductDetail(
             @PathVariable Long productId,
-            @RequestHeader(value = "X-USER-ID", required = false) String username
+            @RequestHeader(value = "X-USER-ID", required = false) String username,
+            ServletWebRequest webRequest
     ) {
         ProductDetailInfo productDetail = productFacade.getProductDetail(productId, username);
+        if (productHttpCache.checkNotModified(webRequest, productHttpCache.detailETag(productDetail), CacheStrategy.HOT, username != null)) {
+            return null;
+        }
+
         ProductV1Dtos.ProductDetailResponse response = ProductV1Dtos.ProductDetailResponse.from(productDetail);
         return ApiResponse.success(response);
     }
-}
 
+    private static List<Long> productIds(List<ProductInfo> products) {
+        return products.stream().map(ProductInfo::id).toList();
+    }
+
+    private static ProductV1Dtos.ProductListResponse toListResponse(ProductInfo product, Map<Long, Boolean> likedStatus) {
+        return ProductV1Dtos.ProductListResponse.from(product, likedStatus.getOrDefault(product.id(), false));
+    }
+}
@@ -30,9 +30,16 @@ public class ProductV1Dtos {
             Long brandId,
 
             @Schema(description = "등록 일시")
-            ZonedDateTime createdAt
+            ZonedDateTime createdAt,
+
+            @Schema(description = "사용자 좋아요 여부 (비로그인 시 false)", example = "false")
+            Boolean isLiked
     ) {
         public static ProductListResponse from(ProductInfo productInfo) {
+            return from(productInfo, false);
+        }
+
+        public static ProductListResponse from(ProductInfo productInfo, boolean isLiked) {
             return new ProductListResponse(
                     productInfo.id(),
                     productInfo.name(),
@@ -43,7 +50,8 @@ public class ProductV1Dtos {
                             productInfo.price().discountPrice()
                     ),
                     productInfo.brandId(),
-                    productInfo.createdAt()
+                    productInfo.createdAt(),
+                    isLiked
             );
         }
     }
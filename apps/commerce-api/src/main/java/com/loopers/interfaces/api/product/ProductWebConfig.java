@@ -0,0 +1,28 @@
+package com.loopers.interfaces.api.product;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+import com.loopers.support.Uris;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 상품 API 웹 설정
+ *
+ * @author hyunjikoh
+ * @since 2025. 12. 9.
+ */
+@Configuration
+@RequiredArgsConstructor
+public class ProductWebConfig implements WebMvcConfigurer {
+
+    private final ProductListResponseCacheInterceptor productListResponseCacheInterceptor;
+
+    @Override
+    public void addInterceptors(InterceptorRegistry registry) {
+        registry.addInterceptor(productListResponseCacheInterceptor)
+                .addPathPatterns(Uris.Product.GET_LIST);
+    }
+}
@@ -0,0 +1,133 @@
+package com.loopers.support.concurrent;
+
+import java.util.List;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Supplier;
+
+import org.springframework.stereotype.Component;
+
+import com.loopers.support.error.CoreException;
+import com.loopers.support.error.ErrorType;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 가상 스레드 기반 병렬 조회 실행기
+ *
+ * 서로 독립적인 조회(캐시, 사용자, 좋아요, DB 등)를 동시에 실행하여
+ * 응답 지연이 조회 시간의 합이 아닌 가장 느린 조회 시간에 가깝도록 합니다.
+ *
+ * 사용 방법:
+ * <pre>
+ * FanOutExecutor.Scope scope = fanOutExecutor.scope();
+ * CompletableFuture&lt;A&gt; a = scope.fork(() -&gt; ...);
+ * CompletableFuture&lt;B&gt; b = scope.fork(() -&gt; ...);
+ * return combine(scope.join(a), scope.join(b));
+ * </pre>
+ *
+ * 한 스코프의 join은 생성 시점부터의 공통 시간 예산(fan-out.timeout)을 공유합니다.
+ * 작업 예외는 원래 예외 그대로 다시 던지며, 예산 초과 시 TIMEOUT 예외를 던집니다.
+ * 어느 join 이든 실패하거나 예산을 넘기면 스코프에서 시작한 다른 작업도 모두 취소(인터럽트)하여,
+ * 결과를 쓰지 않을 조회가 커넥션과 스레드를 계속 점유하지 않도록 합니다.
+ * 작업은 호출 스레드의 트랜잭션 밖에서 실행되므로 각 조회는 자체 트랜잭션(또는 트랜잭션 없이)으로 동작해야 합니다.
+ *
+ * @author hyunjikoh
+ * @since 2025. 12. 7.
+ */
+@Component
+@Slf4j
+public class FanOutExecutor {
+
+    private final ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+    private final FanOutProperties properties;
+
+    public FanOutExecutor(FanOutProperties properties) {
+        this.properties = properties;
+    }
+
+    /**
+     * 공통 시간 예산을 가진 병렬 조회 스코프를 시작합니다.
+     */
+    public Scope scope() {
+        return new Scope(System.nanoTime() + properties.timeout().toNanos());
+    }
+
+    @PreDestroy
+    public void close() {
+        executor.shutdownNow();
+    }
+
+    public final class Scope {
+
+        private final long deadlineNanos;
+        private final List<Future<?>> forks = new CopyOnWriteArrayList<>();
+
+        private Scope(long deadlineNanos) {
+            this.deadlineNanos = deadlineNanos;
+        }
+
+        /**
+         * 작업을 가상 스레드에서 실행합니다.
+         * <p>
+         * CompletableFuture.cancel 은 실행 중인 스레드를 인터럽트하지 않으므로,
+         * 실행기에 제출한 Future 를 함께 보관하여 취소 시 인터럽트합니다.
+         */
+        public <T> CompletableFuture<T> fork(Supplier<T> task) {
+            CompletableFuture<T> future = new CompletableFuture<>();
+            forks.add(future);
+            forks.add(executor.submit(() -> {
+                try {
+                    future.complete(task.get());
+                } catch (Throwable e) {
+                    future.completeExceptionally(e);
+                }
+            }));
+            return future;
+        }
+
+        /**
+         * 남은 시간 예산 안에서 작업 결과를 기다립니다.
+         *
+         * @throws CoreException 시간 예산 초과 시 (TIMEOUT)
+         */
+        public <T> T join(CompletableFuture<T> future) {
+            try {
+                long remaining = Math.max(0L, deadlineNanos - System.nanoTime());
+                return future.get(remaining, TimeUnit.NANOSECONDS);
+            } catch (TimeoutException e) {
+                cancelAll();
+                log.warn("병렬 조회 시간 예산 초과 - timeout: {}", properties.timeout());
+                throw new CoreException(ErrorType.TIMEOUT);
+            } catch (ExecutionException e) {
+                cancelAll();
+                if (e.getCause() instanceof RuntimeException cause) {
+                    throw cause;
+                }
+                throw new IllegalStateException(e.getCause());
+            } catch (CancellationException e) {
+                cancelAll();
+                throw new CoreException(ErrorType.TIMEOUT);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                cancelAll();
+                throw new CoreException(ErrorType.INTERNAL_ERROR);
+            }
+        }
+
+        /**
+         * 스코프에서 시작한 작업 중 끝나지 않은 작업을 모두 취소합니다.
+         */
+        private void cancelAll() {
+            forks.forEach(fork -> fork.cancel(true));
+        }
+    }
+}
@@ -0,0 +1,19 @@
+package com.loopers.support.concurrent;
+
+import java.time.Duration;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * 병렬 조회(fan-out) 설정
+ *
+ * @param timeout 한 요청에서 병렬 조회 결과를 모두 기다리는 최대 시간
+ * @author hyunjikoh
+ * @since 2025. 12. 7.
+ */
+@ConfigurationProperties("fan-out")
+public record FanOutProperties(
+        @DefaultValue("2s") Duration timeout
+) {
+}
@@ -2,7 +2,9 @@ package com.loopers.application.product;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.DisplayName;
@@ -17,6 +19,7 @@ import org.springframework.data.domain.Pageable;
 import com.loopers.domain.brand.BrandRepository;
 import com.loopers.domain.product.ProductCacheService;
 import com.loopers.domain.product.ProductMVService;
+import com.loopers.domain.product.ProductService;
 import com.loopers.domain.product.ProductRepository;
 import com.loopers.domain.product.dto.ProductSearchFilter;
 import com.loopers.fixtures.ProductTestFixture;
@@ -57,6 +60,9 @@ public class ProductCacheStrategyIntegrationTest {
     @Autowired
     private ProductRepository productRepository;
 
+    @Autowired
+    private ProductService productService;
+
     @AfterEach
     void tearDown() {
         databaseCleanUp.truncateAllTables();
@@ -409,5 +415,85 @@ public class ProductCacheStrategyIntegrationTest {
             assertThat(cacheService.getProductIdsFromCache(CacheStrategy.WARM, null, PageRequest.of(2, 20))).isPresent();
             assertThat(cacheService.getProductIdsFromCache(CacheStrategy.COLD, null, PageRequest.of(5, 20))).isEmpty();
         }
+
+        @Test
+        @DisplayName("브랜드 캐시 무효화는 해당 브랜드의 목록 세대만 올린다")
+        void should_evict_only_target_brand_ids_by_generation() {
+            // Given: 두 브랜드의 Hot/Warm ID 리스트 캐시
+            Pageable page0 = PageRequest.of(0, 20);
+            Pageable page1 = PageRequest.of(1, 20);
+            cacheService.cacheProductIds(CacheStrategy.HOT, 1L, page0, List.of(1L, 2L));
+            cacheService.cacheProductIds(CacheStrategy.WARM, 1L, page1, List.of(3L, 4L));
+            cacheService.cacheProductIds(CacheStrategy.HOT, 2L, page0, List.of(5L, 6L));
+
+            // When: 브랜드 1 캐시 무효화
+            cacheService.evictBrandCaches(Set.of(1L));
+
+            // Then: 브랜드 1의 Hot/Warm 캐시는 조회되지 않고, 브랜드 2는 유지
+            assertThat(cacheService.getProductIdsFromCache(CacheStrategy.HOT, 1L, page0)).isEmpty();
+            assertThat(cacheService.getProductIdsFromCache(CacheStrategy.WARM, 1L, page1)).isEmpty();
+            assertThat(cacheService.getProductIdsFromCache(CacheStrategy.HOT, 2L, page0)).contains(List.of(5L, 6L));
+
+            // 새 세대로 다시 캐시하면 조회됨
+            cacheService.cacheProductIds(CacheStrategy.HOT, 1L, page0, List.of(2L, 1L));
+            assertThat(cacheService.getProductIdsFromCache(CacheStrategy.HOT, 1L, page0)).contains(List.of(2L, 1L));
+        }
+
+        @Test
+        @DisplayName("재고만 바뀐 MV 동기화는 목록 세대를 올리지 않는다")
+        void should_keep_list_generation_when_only_stock_changed() {
+            // Given: 전체/브랜드 Hot 목록 캐시
+            ProductTestFixture.createBrandsAndProducts(brandRepository, productRepository, 1, 30);
+            mvService.syncMaterializedView();
+            Pageable page0 = PageRequest.of(0, 20);
+            productFacade.getProducts(new ProductSearchFilter(null, null, page0));
+            productFacade.getProducts(new ProductSearchFilter(1L, null, page0));
+
+            // When: 재고만 변경 후 증분 동기화 + 캐시 반영
+            Long productId = 1L;
+            productService.restoreStock(productId, 5);
+            BatchUpdateResult result = mvService.syncProducts(List.of(productId));
+            mvService.refreshAfterSync(result, true);
+
+            // Then: MV는 갱신되었지만 목록 ID 리스트는 같은 세대로 계속 조회됨
+            assertThat(result.getUpdatedCount()).isEqualTo(1);
+            assertThat(result.getAffectedBrandIds()).isEmpty();
+            assertThat(cacheService.getProductIdsFromCache(CacheStrategy.HOT, null, page0)).isPresent();
+            assertThat(cacheService.getProductIdsFromCache(CacheStrategy.HOT, 1L, page0)).isPresent();
+        }
+    }
+
+    @Nested
+    @DisplayName("전체 개수 캐시 증분 반영")
+    class TotalCountTest {
+
+        @Test
+        @DisplayName("캐시된 전체 개수에는 브랜드별 증감분과 그 합계를 더한다")
+        void should_increment_cached_total_counts() {
+            // Given: 전체/브랜드 1의 개수만 캐시됨
+            cacheService.cacheTotalCount(null, 100L);
+            cacheService.cacheTotalCount(1L, 30L);
+
+            // When: 브랜드 1에 2개 추가, 브랜드 2에서 1개 삭제
+            cacheService.adjustTotalCounts(Map.of(1L, 2L, 2L, -1L));
+
+            // Then
+            assertThat(cacheService.getTotalCount(null)).contains(101L);
+            assertThat(cacheService.getTotalCount(1L)).contains(32L);
+        }
+
+        @Test
+        @DisplayName("캐시되지 않은 전체 개수는 만들지 않는다")
+        void should_not_create_absent_total_counts() {
+            // Given: 전체 개수만 캐시됨
+            cacheService.cacheTotalCount(null, 100L);
+
+            // When
+            cacheService.adjustTotalCounts(Map.of(2L, -1L));
+
+            // Then: 브랜드 2의 개수가 -1 같은 부분 값으로 생기지 않음
+            assertThat(cacheService.getTotalCount(2L)).isEmpty();
+            assertThat(cacheService.getTotalCount(null)).contains(99L);
+        }
     }
 }
@@ -0,0 +1,136 @@
+package com.loopers.application.product;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import com.loopers.domain.like.LikeChangedEvent;
+import com.loopers.domain.product.ProductChangedEvent;
+import com.loopers.domain.product.ProductMVService;
+import com.loopers.infrastructure.product.ProductMVSyncProperties;
+
+/**
+ * @author hyunjikoh
+ * @since 2025. 12. 10.
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("ProductMVUpdateEventListener 단위 테스트")
+class ProductMVUpdateEventListenerUnitTest {
+
+    @Mock
+    private ProductMVService mvService;
+
+    @Test
+    @DisplayName("같은 상품의 연속 변경은 한 번의 MV 갱신으로 합쳐진다")
+    void 같은_상품의_연속_변경은_한_번의_MV_갱신으로_합쳐진다() {
+        // given
+        ProductMVUpdateEventListener listener = listener(true, 500);
+        BatchUpdateResult result = BatchUpdateResult.success(0, 2, 5L, Set.of(1L, 2L), Set.of(10L), Map.of());
+        when(mvService.syncProducts(anyCollection())).thenReturn(result);
+
+        listener.onLikeChanged(LikeChangedEvent.liked(100L, 1L, 10L));
+        listener.onLikeChanged(LikeChangedEvent.liked(101L, 1L, 10L));
+        listener.onProductChanged(new ProductChangedEvent(2L, 10L, 5));
+
+        // when
+        listener.flush();
+
+        // then
+        verify(mvService).syncProducts(argThat(ids -> ids.size() == 2 && ids.containsAll(Set.of(1L, 2L))));
+        verify(mvService).refreshAfterSync(result, true);
+        assertThat(listener.pendingCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("MV 갱신에 실패한 상품은 다음 주기에 다시 반영한다")
+    void MV_갱신에_실패한_상품은_다음_주기에_다시_반영한다() {
+        // given
+        ProductMVUpdateEventListener listener = listener(true, 500);
+        when(mvService.syncProducts(anyCollection())).thenReturn(BatchUpdateResult.failure("timeout", 3L));
+        listener.onProductChanged(new ProductChangedEvent(1L, 10L, 5));
+
+        // when
+        listener.flush();
+
+        // then
+        verify(mvService, never()).refreshAfterSync(any(), eq(true));
+        assertThat(listener.pendingCount()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("한 주기에 최대 배치 크기만큼만 반영하고 나머지는 남겨 둔다")
+    void 한_주기에_최대_배치_크기만큼만_반영하고_나머지는_남겨_둔다() {
+        // given
+        ProductMVUpdateEventListener listener = listener(true, 2);
+        when(mvService.syncProducts(anyCollection())).thenReturn(BatchUpdateResult.success(0, 0, 1L));
+        for (long productId = 1; productId <= 5; productId++) {
+            listener.onProductChanged(new ProductChangedEvent(productId, 10L, 5));
+        }
+
+        // when
+        listener.flush();
+
+        // then
+        verify(mvService).syncProducts(argThat(ids -> ids.size() == 2));
+        assertThat(listener.pendingCount()).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("비활성화 상태에서는 변경을 모으지 않는다")
+    void 비활성화_상태에서는_변경을_모으지_않는다() {
+        // given
+        ProductMVUpdateEventListener listener = listener(false, 500);
+
+        // when
+        listener.onProductChanged(new ProductChangedEvent(1L, 10L, 5));
+        listener.flush();
+
+        // then
+        verifyNoInteractions(mvService);
+    }
+
+    @Test
+    @DisplayName("좋아요 수를 스트리머가 관리하면 MV는 갱신하지 않고, 다음 주기에 캐시/색인만 다시 맞춘다")
+    void 좋아요_수를_스트리머가_관리하면_MV는_갱신하지_않고_다음_주기에_캐시_색인만_다시_맞춘다() {
+        // given
+        ProductMVUpdateEventListener listener = listener(true, 500, true);
+        listener.onLikeChanged(LikeChangedEvent.liked(100L, 1L, 10L));
+        listener.onLikeChanged(LikeChangedEvent.liked(101L, 1L, 10L));
+
+        // when: 첫 주기는 스트리머 반영을 기다림
+        listener.flush();
+
+        // then
+        verify(mvService, never()).refreshAfterLikeCountChanges(anyCollection());
+
+        // when: 다음 주기
+        listener.flush();
+
+        // then
+        verify(mvService).refreshAfterLikeCountChanges(List.of(1L));
+        verify(mvService, never()).syncProducts(anyCollection());
+        assertThat(listener.pendingCount()).isZero();
+    }
+
+    private ProductMVUpdateEventListener listener(boolean enabled, int maxBatchSize) {
+        return listener(enabled, maxBatchSize, false);
+    }
+
+    private ProductMVUpdateEventListener listener(boolean enabled, int maxBatchSize, boolean likeCountFromStream) {
+        return new ProductMVUpdateEventListener(mvService, new ProductMVSyncProperties(
+                enabled, Duration.ofSeconds(1), maxBatchSize, Duration.ofMinutes(10), 1000, likeCountFromStream));
+    }
+}
@@ -13,6 +13,7 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 
 import com.loopers.domain.product.ProductEntity;
 import com.loopers.domain.product.ProductRepository;
@@ -37,6 +38,9 @@ class LikeUnitTest {
     @Mock
     private ProductRepository productRepository;
 
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
     @InjectMocks
     private LikeService likeService;
 
@@ -73,6 +77,7 @@ class LikeUnitTest {
             // Then: 신규 생성되었는지 검증 (MV 테이블은 별도 서비스에서 처리)
             assertNotNull(likeResult);
             verify(likeRepository, times(1)).save(any(LikeEntity.class));
+            verify(eventPublisher, times(1)).publishEvent(any(LikeChangedEvent.class));
             // ProductRepository의 incrementLikeCount는 더 이상 사용하지 않음
         }
 
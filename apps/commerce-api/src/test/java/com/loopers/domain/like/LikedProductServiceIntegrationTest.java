@@ -0,0 +1,117 @@
+package com.loopers.domain.like;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.redis.core.RedisTemplate;
+
+import com.loopers.infrastructure.cache.CacheKeyGenerator;
+import com.loopers.infrastructure.cache.LikeCacheProperties;
+import com.loopers.utils.RedisCleanUp;
+
+/**
+ * 사용자 좋아요 집합 통합 테스트
+ *
+ * 테스트 프로파일은 좋아요 집합을 끄므로 활성화된 서비스를 직접 생성하고, 좋아요 테이블 조회는 목으로 대체합니다.
+ * 재구성 스크립트는 실제 Redis에서 검증합니다.
+ *
+ * @author hyunjikoh
+ * @since 2025. 12. 10.
+ */
+@SpringBootTest
+@DisplayName("사용자 좋아요 집합 통합 테스트")
+class LikedProductServiceIntegrationTest {
+
+    private static final Long USER_ID = 1L;
+
+    @Autowired
+    private RedisCleanUp redisCleanUp;
+
+    @Autowired
+    private RedisTemplate<String, String> redisTemplate;
+
+    @Autowired
+    private CacheKeyGenerator keyGenerator;
+
+    private final LikeRepository likeRepository = mock(LikeRepository.class);
+
+    private LikedProductService likedProductService;
+    private String key;
+
+    @BeforeEach
+    void setUp() {
+        likedProductService = new LikedProductService(redisTemplate, keyGenerator, likeRepository,
+                new LikeCacheProperties(true, Duration.ofHours(1)));
+        key = keyGenerator.generateUserLikedProductsKey(USER_ID);
+    }
+
+    @AfterEach
+    void tearDown() {
+        redisCleanUp.truncateAll();
+    }
+
+    @Test
+    @DisplayName("집합이 없으면 좋아요 테이블로 재구성하고, 다음 조회는 집합으로 응답한다")
+    void should_rebuild_set_from_like_table() {
+        // Given
+        when(likeRepository.findActiveProductIdsByUserId(USER_ID)).thenReturn(List.of(10L, 20L));
+
+        // When
+        Map<Long, Boolean> result = likedProductService.isLiked(USER_ID, List.of(10L, 30L));
+
+        // Then
+        assertThat(result).containsExactly(Map.entry(10L, true), Map.entry(30L, false));
+        assertThat(redisTemplate.opsForSet().members(key)).containsExactlyInAnyOrder("0", "10", "20");
+        assertThat(redisTemplate.getExpire(key)).isPositive();
+    }
+
+    @Test
+    @DisplayName("DB 조회와 SADD 사이에 커밋된 좋아요 취소는 재구성으로 되살아나지 않는다")
+    void should_not_resurrect_unlike_committed_during_rebuild() {
+        // Given: 재구성의 DB 조회 직후 상품 10의 좋아요 취소가 커밋되고 집합에 반영됨
+        when(likeRepository.findActiveProductIdsByUserId(USER_ID))
+                .thenAnswer(invocation -> {
+                    likedProductService.remove(USER_ID, 10L);
+                    return List.of(10L, 20L);
+                })
+                .thenReturn(List.of(20L));
+
+        // When
+        likedProductService.isLiked(USER_ID, List.of(10L));
+
+        // Then: 취소 전 DB 값은 집합에 반영되지 않음
+        assertThat(redisTemplate.opsForSet().isMember(key, "10")).isFalse();
+        assertThat(redisTemplate.opsForSet().isMember(key, "0")).isFalse();
+
+        // 다음 조회에서 다시 재구성하여 취소가 반영된 값으로 응답
+        assertThat(likedProductService.isLiked(USER_ID, List.of(10L, 20L)))
+                .containsExactly(Map.entry(10L, false), Map.entry(20L, true));
+        assertThat(redisTemplate.opsForSet().members(key)).containsExactlyInAnyOrder("0", "20");
+    }
+
+    @Test
+    @DisplayName("재구성 중 반영된 좋아요 추가는 유지된다")
+    void should_keep_like_added_during_rebuild() {
+        // Given: 재구성의 DB 조회 직후 상품 30의 좋아요가 커밋되고 집합에 반영됨
+        when(likeRepository.findActiveProductIdsByUserId(USER_ID)).thenAnswer(invocation -> {
+            likedProductService.add(USER_ID, 30L);
+            return List.of(10L);
+        });
+
+        // When
+        likedProductService.isLiked(USER_ID, List.of(10L));
+
+        // Then
+        assertThat(redisTemplate.opsForSet().members(key)).containsExactlyInAnyOrder("0", "10", "30");
+    }
+}
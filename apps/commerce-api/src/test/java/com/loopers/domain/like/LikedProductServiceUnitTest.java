@@ -0,0 +1,162 @@
+package com.loopers.domain.like;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.core.RedisOperations;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.SessionCallback;
+import org.springframework.data.redis.core.SetOperations;
+import org.springframework.data.redis.core.ValueOperations;
+import org.springframework.data.redis.core.script.RedisScript;
+
+import com.loopers.infrastructure.cache.CacheKeyGenerator;
+import com.loopers.infrastructure.cache.LikeCacheProperties;
+
+/**
+ * @author hyunjikoh
+ * @since 2025. 12. 8.
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("LikedProductService 단위 테스트")
+class LikedProductServiceUnitTest {
+
+    private static final String KEY = "like:user:1:products";
+    private static final String VERSION_KEY = "like:user:1:products:version";
+
+    @Mock
+    private RedisTemplate<String, String> redisTemplate;
+
+    @Mock
+    private SetOperations<String, String> setOperations;
+
+    @Mock
+    private ValueOperations<String, String> valueOperations;
+
+    @Mock
+    private LikeRepository likeRepository;
+
+    @Test
+    @DisplayName("집합에 재구성 표식이 있으면 DB 조회 없이 좋아요 여부를 응답한다")
+    void 집합에_재구성_표식이_있으면_DB_조회_없이_좋아요_여부를_응답한다() {
+        // given
+        LikedProductService service = service(true);
+        when(redisTemplate.opsForSet()).thenReturn(setOperations);
+        when(setOperations.isMember(eq(KEY), any(Object[].class)))
+                .thenReturn(Map.of("0", true, "10", true, "20", false));
+
+        // when
+        Map<Long, Boolean> result = service.isLiked(1L, List.of(10L, 20L));
+
+        // then
+        assertThat(result).containsExactly(Map.entry(10L, true), Map.entry(20L, false));
+        verifyNoInteractions(likeRepository);
+    }
+
+    @Test
+    @DisplayName("재구성 표식이 없으면 좋아요 테이블에서 집합을 재구성한다")
+    @SuppressWarnings("unchecked")
+    void 재구성_표식이_없으면_좋아요_테이블에서_집합을_재구성한다() {
+        // given
+        LikedProductService service = service(true);
+        when(redisTemplate.opsForSet()).thenReturn(setOperations);
+        when(setOperations.isMember(eq(KEY), any(Object[].class)))
+                .thenReturn(Map.of("0", false, "10", false, "20", false));
+        when(redisTemplate.opsForValue()).thenReturn(valueOperations);
+        when(likeRepository.findActiveProductIdsByUserId(1L)).thenReturn(List.of(20L, 30L));
+
+        // when
+        Map<Long, Boolean> result = service.isLiked(1L, List.of(10L, 20L));
+
+        // then
+        assertThat(result).containsExactly(Map.entry(10L, false), Map.entry(20L, true));
+        verify(redisTemplate).execute(any(RedisScript.class), eq(List.of(KEY, VERSION_KEY)),
+                eq(""), eq("3600"), eq("0"), eq("20"), eq("30"));
+    }
+
+    @Test
+    @DisplayName("조회 중 좋아요 취소가 반영되어 재구성을 건너뛰어도 DB 조회 결과로 응답한다")
+    @SuppressWarnings("unchecked")
+    void 조회_중_좋아요_취소가_반영되어_재구성을_건너뛰어도_DB_조회_결과로_응답한다() {
+        // given
+        LikedProductService service = service(true);
+        when(redisTemplate.opsForSet()).thenReturn(setOperations);
+        when(setOperations.isMember(eq(KEY), any(Object[].class)))
+                .thenReturn(Map.of("0", false, "10", false));
+        when(redisTemplate.opsForValue()).thenReturn(valueOperations);
+        when(valueOperations.get(VERSION_KEY)).thenReturn("3");
+        when(likeRepository.findActiveProductIdsByUserId(1L)).thenReturn(List.of(10L));
+        when(redisTemplate.execute(any(RedisScript.class), anyList(), any(Object[].class))).thenReturn(0L);
+
+        // when
+        Map<Long, Boolean> result = service.isLiked(1L, List.of(10L));
+
+        // then
+        assertThat(result).containsExactly(Map.entry(10L, true));
+        verify(redisTemplate).execute(any(RedisScript.class), eq(List.of(KEY, VERSION_KEY)),
+                eq("3"), eq("3600"), eq("0"), eq("10"));
+        verify(likeRepository, never()).findActiveProductIdsByUserIdAndProductIdIn(anyLong(), any());
+    }
+
+    @Test
+    @DisplayName("좋아요 취소는 버전을 먼저 올린 뒤 집합에서 제거한다")
+    @SuppressWarnings("unchecked")
+    void 좋아요_취소는_버전을_먼저_올린_뒤_집합에서_제거한다() {
+        // given
+        LikedProductService service = service(true);
+        RedisOperations<String, String> operations = mock(RedisOperations.class);
+        when(operations.opsForValue()).thenReturn(valueOperations);
+        when(operations.opsForSet()).thenReturn(setOperations);
+        when(redisTemplate.executePipelined(any(SessionCallback.class))).thenAnswer(invocation -> {
+            invocation.<SessionCallback<Object>>getArgument(0).execute(operations);
+            return List.of();
+        });
+
+        // when
+        service.remove(1L, 10L);
+
+        // then
+        InOrder inOrder = inOrder(valueOperations, setOperations);
+        inOrder.verify(valueOperations).increment(VERSION_KEY);
+        inOrder.verify(setOperations).remove(KEY, "10");
+        verify(operations).expire(VERSION_KEY, Duration.ofHours(1));
+    }
+
+    @Test
+    @DisplayName("비활성화 상태에서는 IN 쿼리 한 번으로 좋아요 여부를 조회한다")
+    void 비활성화_상태에서는_IN_쿼리_한_번으로_좋아요_여부를_조회한다() {
+        // given
+        LikedProductService service = service(false);
+        when(likeRepository.findActiveProductIdsByUserIdAndProductIdIn(anyLong(), any()))
+                .thenReturn(List.of(10L));
+
+        // when
+        Map<Long, Boolean> result = service.isLiked(1L, List.of(10L, 20L));
+
+        // then
+        assertThat(result).containsExactly(Map.entry(10L, true), Map.entry(20L, false));
+        verifyNoInteractions(redisTemplate);
+    }
+
+    private LikedProductService service(boolean enabled) {
+        return new LikedProductService(
+                redisTemplate,
+                new CacheKeyGenerator(),
+                likeRepository,
+                new LikeCacheProperties(enabled, Duration.ofHours(1))
+        );
+    }
+}
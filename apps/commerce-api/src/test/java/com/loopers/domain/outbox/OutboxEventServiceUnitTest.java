@@ -0,0 +1,263 @@
+package com.loopers.domain.outbox;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.*;
+import java.time.Duration;
+import java.time.ZonedDateTime;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+/**
+ * @author hyunjikoh
+ * @since 2025. 12. 10.
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("OutboxEventService 단위 테스트")
+class OutboxEventServiceUnitTest {
+
+    private static final Duration SEND_TIMEOUT = Duration.ofSeconds(1);
+    private static final int MAX_ATTEMPTS = 3;
+
+    @Mock
+    private OutboxEventRepository outboxEventRepository;
+
+    @Mock
+    private OutboxEventPublisher outboxEventPublisher;
+
+    @Mock
+    private TransactionTemplate transactionTemplate;
+
+    @Test
+    @DisplayName("브로커가 확인한 이벤트를 발행 완료로 표시한다")
+    void 브로커가_확인한_이벤트를_발행_완료로_표시한다() {
+        // given
+        OutboxEventEntity first = event(1L, "like-events-v1", "1");
+        OutboxEventEntity second = event(2L, "like-events-v1", "2");
+        when(outboxEventRepository.findRelayCandidates(anyInt(), any())).thenReturn(List.of(first, second));
+        when(outboxEventRepository.findByIdInForUpdate(List.of(1L, 2L))).thenReturn(List.of(first, second));
+        when(outboxEventPublisher.publish(any())).thenReturn(CompletableFuture.completedFuture(null));
+
+        // when
+        OutboxRelayResult result = service().relay(100, SEND_TIMEOUT, MAX_ATTEMPTS);
+
+        // then
+        assertThat(result.fetched()).isEqualTo(2);
+        assertThat(result.published()).hasSize(2);
+        assertThat(result.failed()).isZero();
+        verify(first).markPublished(any());
+        verify(second).markPublished(any());
+    }
+
+    @Test
+    @DisplayName("같은 집계의 이벤트가 실패하면 이후 이벤트는 발행되었더라도 완료로 표시하지 않는다")
+    void 같은_집계의_이벤트가_실패하면_이후_이벤트는_발행되었더라도_완료로_표시하지_않는다() {
+        // given
+        OutboxEventEntity failedEvent = event(1L, "order-events-v1", "10");
+        OutboxEventEntity sameKeyEvent = event(2L, "order-events-v1", "10");
+        OutboxEventEntity otherKeyEvent = event(3L, "order-events-v1", "20");
+        when(outboxEventRepository.findRelayCandidates(anyInt(), any()))
+                .thenReturn(List.of(failedEvent, sameKeyEvent, otherKeyEvent));
+        when(outboxEventRepository.findByIdInForUpdate(anyList()))
+                .thenReturn(List.of(failedEvent, sameKeyEvent, otherKeyEvent));
+        when(outboxEventPublisher.publish(failedEvent))
+                .thenReturn(CompletableFuture.failedFuture(new IllegalStateException("broker down")));
+        when(outboxEventPublisher.publish(sameKeyEvent)).thenReturn(CompletableFuture.completedFuture(null));
+        when(outboxEventPublisher.publish(otherKeyEvent)).thenReturn(CompletableFuture.completedFuture(null));
+
+        // when
+        OutboxRelayResult result = service().relay(100, SEND_TIMEOUT, MAX_ATTEMPTS);
+
+        // then
+        assertThat(result.failed()).isEqualTo(2);
+        assertThat(result.published()).hasSize(1);
+        verify(failedEvent).recordFailure();
+        verify(sameKeyEvent).recordFailure();
+        verify(sameKeyEvent, never()).markPublished(any());
+        verify(otherKeyEvent).markPublished(any());
+    }
+
+    @Test
+    @DisplayName("최대 시도 횟수만큼 발행에 실패한 이벤트는 FAILED로 옮긴다")
+    void 최대_시도_횟수만큼_발행에_실패한_이벤트는_FAILED로_옮긴다() {
+        // given
+        OutboxEventEntity poison = saved(1L, "product", "1", "PRODUCT_LIKED", "like-events-v1");
+        when(outboxEventRepository.findRelayCandidates(anyInt(), any())).thenReturn(List.of(poison));
+        when(outboxEventRepository.findByIdInForUpdate(anyList())).thenReturn(List.of(poison));
+        when(outboxEventPublisher.publish(poison))
+                .thenReturn(CompletableFuture.failedFuture(new IllegalStateException("record too large")));
+
+        // when
+        OutboxRelayResult first = service().relay(100, SEND_TIMEOUT, MAX_ATTEMPTS);
+        service().relay(100, SEND_TIMEOUT, MAX_ATTEMPTS);
+        OutboxRelayResult last = service().relay(100, SEND_TIMEOUT, MAX_ATTEMPTS);
+
+        // then
+        assertThat(first.deadLettered()).isZero();
+        assertThat(last.failed()).isEqualTo(1);
+        assertThat(last.deadLettered()).isEqualTo(1);
+        assertThat(poison.getAttemptCount()).isEqualTo(MAX_ATTEMPTS);
+        assertThat(poison.getStatus()).isEqualTo(OutboxStatus.FAILED);
+    }
+
+    @Test
+    @DisplayName("앞선 실패로 보류된 이벤트는 시도 횟수를 넘어도 FAILED로 옮기지 않는다")
+    void 앞선_실패로_보류된_이벤트는_시도_횟수를_넘어도_FAILED로_옮기지_않는다() {
+        // given
+        OutboxEventEntity poison = saved(1L, "order", "10", "ORDER_CREATED", "order-events-v1");
+        OutboxEventEntity held = saved(2L, "order", "10", "ORDER_PAID", "order-events-v1");
+        when(outboxEventRepository.findRelayCandidates(anyInt(), any())).thenReturn(List.of(poison, held));
+        when(outboxEventRepository.findByIdInForUpdate(anyList())).thenReturn(List.of(poison, held));
+        when(outboxEventPublisher.publish(poison))
+                .thenReturn(CompletableFuture.failedFuture(new IllegalStateException("record too large")));
+        when(outboxEventPublisher.publish(held)).thenReturn(CompletableFuture.completedFuture(null));
+
+        // when
+        OutboxRelayResult result = service().relay(100, SEND_TIMEOUT, 1);
+
+        // then
+        assertThat(result.failed()).isEqualTo(2);
+        assertThat(result.deadLettered()).isEqualTo(1);
+        assertThat(poison.getStatus()).isEqualTo(OutboxStatus.FAILED);
+        assertThat(held.getStatus()).isEqualTo(OutboxStatus.PENDING);
+        assertThat(held.getAttemptCount()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("점유 트랜잭션과 결과 기록 트랜잭션 사이, 트랜잭션 밖에서 발행한다")
+    void 점유_트랜잭션과_결과_기록_트랜잭션_사이_트랜잭션_밖에서_발행한다() {
+        // given
+        OutboxEventEntity event = saved(1L, "product", "1", "PRODUCT_LIKED", "like-events-v1");
+        when(outboxEventRepository.findRelayCandidates(anyInt(), any())).thenReturn(List.of(event));
+        when(outboxEventRepository.findByIdInForUpdate(List.of(1L))).thenAnswer(invocation -> {
+            assertThat(event.getStatus()).isEqualTo(OutboxStatus.IN_FLIGHT);
+            return List.of(event);
+        });
+        when(outboxEventPublisher.publish(event)).thenReturn(CompletableFuture.completedFuture(null));
+
+        // when
+        service().relay(100, SEND_TIMEOUT, MAX_ATTEMPTS);
+
+        // then
+        InOrder inOrder = inOrder(transactionTemplate, outboxEventPublisher, outboxEventRepository);
+        inOrder.verify(transactionTemplate).execute(any());
+        inOrder.verify(outboxEventPublisher).publish(event);
+        inOrder.verify(transactionTemplate).execute(any());
+        inOrder.verify(outboxEventRepository).findByIdInForUpdate(List.of(1L));
+        assertThat(event.getStatus()).isEqualTo(OutboxStatus.PUBLISHED);
+        assertThat(event.getRelayOwner()).isNull();
+    }
+
+    @Test
+    @DisplayName("다른 릴레이의 점유가 유효하면 점유하지 않고 발행하지 않는다")
+    void 다른_릴레이의_점유가_유효하면_점유하지_않고_발행하지_않는다() {
+        // given
+        OutboxEventEntity event = saved(1L, "product", "1", "PRODUCT_LIKED", "like-events-v1");
+        when(outboxEventRepository.findRelayCandidates(anyInt(), any())).thenReturn(List.of(event));
+        when(outboxEventRepository.existsActiveClaim(any())).thenReturn(true);
+
+        // when
+        OutboxRelayResult result = service().relay(100, SEND_TIMEOUT, MAX_ATTEMPTS);
+
+        // then
+        assertThat(result.fetched()).isZero();
+        assertThat(event.getStatus()).isEqualTo(OutboxStatus.PENDING);
+        verifyNoInteractions(outboxEventPublisher);
+    }
+
+    @Test
+    @DisplayName("발행 중 임대가 만료되어 다른 릴레이가 다시 점유한 이벤트는 결과를 기록하지 않는다")
+    void 발행_중_임대가_만료되어_다른_릴레이가_다시_점유한_이벤트는_결과를_기록하지_않는다() {
+        // given
+        OutboxEventEntity event = saved(1L, "order", "10", "ORDER_CREATED", "order-events-v1");
+        OutboxEventEntity sameKeyEvent = saved(2L, "order", "10", "ORDER_PAID", "order-events-v1");
+        when(outboxEventRepository.findRelayCandidates(anyInt(), any())).thenReturn(List.of(event, sameKeyEvent));
+        when(outboxEventPublisher.publish(any())).thenReturn(CompletableFuture.completedFuture(null));
+        when(outboxEventRepository.findByIdInForUpdate(List.of(1L, 2L))).thenAnswer(invocation -> {
+            event.claim("other-relay", ZonedDateTime.now().plusSeconds(30));
+            return List.of(event, sameKeyEvent);
+        });
+
+        // when
+        OutboxRelayResult result = service().relay(100, SEND_TIMEOUT, MAX_ATTEMPTS);
+
+        // then - 다시 점유된 이벤트와 같은 키의 이후 이벤트는 완료로 표시하지 않음
+        assertThat(result.published()).isEmpty();
+        assertThat(event.getStatus()).isEqualTo(OutboxStatus.IN_FLIGHT);
+        assertThat(event.getAttemptCount()).isZero();
+        assertThat(sameKeyEvent.getStatus()).isEqualTo(OutboxStatus.PENDING);
+    }
+
+    @Test
+    @DisplayName("발행 대기 이벤트가 없으면 발행하지 않는다")
+    void 발행_대기_이벤트가_없으면_발행하지_않는다() {
+        // given
+        when(outboxEventRepository.findRelayCandidates(anyInt(), any())).thenReturn(List.of());
+
+        // when
+        OutboxRelayResult result = service().relay(100, SEND_TIMEOUT, MAX_ATTEMPTS);
+
+        // then
+        assertThat(result.fetched()).isZero();
+        verifyNoInteractions(outboxEventPublisher);
+    }
+
+    @Test
+    @DisplayName("이벤트 본문을 JSON으로 직렬화하여 기록한다")
+    void 이벤트_본문을_JSON으로_직렬화하여_기록한다() {
+        // given
+        when(outboxEventRepository.save(any())).thenAnswer(invocation -> invocation.getArgument(0));
+
+        // when
+        OutboxEventEntity saved = service().append("product", 1L, "PRODUCT_LIKED", "like-events-v1",
+                new Payload(1L, 1L));
+
+        // then
+        assertThat(saved.getAggregateId()).isEqualTo("1");
+        assertThat(saved.getPayload()).isEqualTo("{\"productId\":1,\"delta\":1}");
+        assertThat(saved.getStatus()).isEqualTo(OutboxStatus.PENDING);
+        assertThat(saved.getEventId()).isNotBlank();
+    }
+
+    private OutboxEventService service() {
+        lenient().when(transactionTemplate.execute(any())).thenAnswer(invocation ->
+                invocation.<TransactionCallback<?>>getArgument(0).doInTransaction(null));
+        return new OutboxEventService(outboxEventRepository, outboxEventPublisher, new ObjectMapper(),
+                transactionTemplate);
+    }
+
+    private OutboxEventEntity saved(Long id, String aggregateType, String aggregateId, String eventType,
+                                    String topic) {
+        OutboxEventEntity event = OutboxEventEntity.create(aggregateType, aggregateId, eventType, topic, "{}");
+        ReflectionTestUtils.setField(event, "id", id);
+        ReflectionTestUtils.setField(event, "createdAt", ZonedDateTime.now().minusSeconds(1));
+        return event;
+    }
+
+    private OutboxEventEntity event(Long id, String topic, String aggregateId) {
+        OutboxEventEntity event = mock(OutboxEventEntity.class);
+        lenient().when(event.getId()).thenReturn(id);
+        lenient().when(event.isClaimedBy(any())).thenReturn(true);
+        lenient().when(event.getTopic()).thenReturn(topic);
+        lenient().when(event.getAggregateId()).thenReturn(aggregateId);
+        lenient().when(event.getCreatedAt()).thenReturn(ZonedDateTime.now().minusSeconds(1));
+        return event;
+    }
+
+    private record Payload(Long productId, long delta) {
+    }
+}
@@ -0,0 +1,398 @@
+package com.loopers.domain.product;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatCode;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.core.RedisOperations;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.SessionCallback;
+import org.springframework.data.redis.core.ValueOperations;
+import org.springframework.data.redis.core.script.RedisScript;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.loopers.application.product.ProductDetailInfo;
+import com.loopers.application.product.ProductInfo;
+import com.loopers.application.product.ProductPriceInfo;
+import com.loopers.domain.product.dto.ProductSearchFilter;
+import com.loopers.infrastructure.cache.AdaptiveCacheStrategyPolicy;
+import com.loopers.infrastructure.cache.CacheEntry;
+import com.loopers.infrastructure.cache.CacheExpirationPolicy;
+import com.loopers.infrastructure.cache.CacheInvalidationMessage;
+import com.loopers.infrastructure.cache.CacheInvalidationPublisher;
+import com.loopers.infrastructure.cache.CacheInvalidationSubscriber;
+import com.loopers.infrastructure.cache.CacheKeyGenerator;
+import com.loopers.infrastructure.cache.CacheMetrics;
+import com.loopers.infrastructure.cache.CacheStrategy;
+import com.loopers.infrastructure.cache.ProductCacheProperties;
+import com.loopers.infrastructure.cache.ProductLocalCache;
+import com.loopers.infrastructure.cache.SmileCacheValueCodec;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+/**
+ * 상품 캐시 서비스 단위 테스트
+ *
+ * Redis 는 목으로 대체하고, L1(Caffeine), 코덱, 키 생성기는 실제 구현을 사용합니다.
+ * 통합 테스트 프로파일은 L1을 끄므로 L1 동작은 이 테스트에서 검증합니다.
+ *
+ * @author hyunjikoh
+ * @since 2025. 12. 10.
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("ProductCacheService 단위 테스트")
+class ProductCacheServiceUnitTest {
+
+    @Mock
+    private RedisTemplate<String, String> redisTemplate;
+
+    @Mock
+    private RedisTemplate<String, byte[]> binaryRedisTemplate;
+
+    @Mock
+    private ValueOperations<String, byte[]> binaryValueOperations;
+
+    @Mock
+    private CacheInvalidationPublisher invalidationPublisher;
+
+    @Mock
+    private AdaptiveCacheStrategyPolicy adaptiveStrategyPolicy;
+
+    private final ObjectMapper objectMapper = new ObjectMapper().findAndRegisterModules();
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final CacheKeyGenerator keyGenerator = new CacheKeyGenerator();
+
+    @Nested
+    @DisplayName("L1 캐시")
+    class LocalCache {
+
+        @Test
+        @DisplayName("Redis에서 읽은 상세는 L1에 올려 다음 조회는 Redis를 거치지 않는다")
+        void Redis에서_읽은_상세는_L1에_올려_다음_조회는_Redis를_거치지_않는다() throws Exception {
+            // given
+            Fixture fixture = fixture(true);
+            when(binaryRedisTemplate.opsForValue()).thenReturn(binaryValueOperations);
+            when(binaryValueOperations.get(keyGenerator.generateProductDetailKey(1L)))
+                    .thenReturn(fixture.encodeEntry(detail(1L)));
+
+            // when
+            Optional<ProductDetailInfo> first = fixture.service.getProductDetailFromCache(1L);
+            Optional<ProductDetailInfo> second = fixture.service.getProductDetailFromCache(1L);
+
+            // then
+            assertThat(first).contains(detail(1L));
+            assertThat(second).isEqualTo(first);
+            verify(binaryValueOperations, times(1)).get(keyGenerator.generateProductDetailKey(1L));
+            assertThat(requests("l1", "detail", "hit")).isEqualTo(1.0);
+            assertThat(requests("l2", "detail", "hit")).isEqualTo(1.0);
+        }
+
+        @Test
+        @DisplayName("L1이 비활성화되면 매번 Redis에서 읽는다")
+        void L1이_비활성화되면_매번_Redis에서_읽는다() throws Exception {
+            // given
+            Fixture fixture = fixture(false);
+            when(binaryRedisTemplate.opsForValue()).thenReturn(binaryValueOperations);
+            when(binaryValueOperations.get(keyGenerator.generateProductDetailKey(1L)))
+                    .thenReturn(fixture.encodeEntry(detail(1L)));
+
+            // when
+            fixture.service.getProductDetailFromCache(1L);
+            fixture.service.getProductDetailFromCache(1L);
+
+            // then
+            verify(binaryValueOperations, times(2)).get(keyGenerator.generateProductDetailKey(1L));
+        }
+
+        @Test
+        @DisplayName("상품 캐시를 무효화하면 자신의 L1에서 제거하고 다른 노드에 무효화 메시지를 발행한다")
+        void 상품_캐시를_무효화하면_자신의_L1에서_제거하고_다른_노드에_무효화_메시지를_발행한다() {
+            // given
+            Fixture fixture = fixture(true);
+            fixture.localCache.putDetail(1L, detail(1L));
+            fixture.localCache.putDetail(2L, detail(2L));
+
+            // when
+            fixture.service.evictProductCaches(Set.of(1L));
+
+            // then
+            assertThat(fixture.localCache.getDetail(1L)).isEmpty();
+            assertThat(fixture.localCache.getDetail(2L)).isPresent();
+            verify(redisTemplate).delete(List.of(
+                    keyGenerator.generateProductDetailKey(1L), keyGenerator.generateProductRowKey(1L)));
+            verify(invalidationPublisher).publish(CacheInvalidationMessage.ofProducts(List.of(1L)));
+        }
+
+        @Test
+        @DisplayName("다른 노드의 무효화 메시지를 받으면 L1의 상세, 해당 프리픽스의 ID 리스트, 세대 번호를 제거한다")
+        void 다른_노드의_무효화_메시지를_받으면_L1의_상세_해당_프리픽스의_ID_리스트_세대_번호를_제거한다() throws Exception {
+            // given
+            Fixture fixture = fixture(true);
+            String brandPrefix = keyGenerator.generateProductIdsPrefixByBrand(CacheStrategy.HOT, 1L);
+            String otherBrandPrefix = keyGenerator.generateProductIdsPrefixByBrand(CacheStrategy.HOT, 2L);
+            String generationKey = keyGenerator.generateListGenerationKey(1L);
+            fixture.localCache.putDetail(1L, detail(1L));
+            fixture.localCache.putIds(brandPrefix + "g3:0:20", List.of(1L, 2L));
+            fixture.localCache.putIds(otherBrandPrefix + "g1:0:20", List.of(3L));
+            fixture.localCache.putGeneration(generationKey, 3L);
+
+            Message message = mock(Message.class);
+            when(message.getBody()).thenReturn(objectMapper.writeValueAsString(
+                    new CacheInvalidationMessage(List.of(1L), List.of(brandPrefix))).getBytes(StandardCharsets.UTF_8));
+
+            // when
+            new CacheInvalidationSubscriber(fixture.localCache, objectMapper).onMessage(message, null);
+
+            // then
+            assertThat(fixture.localCache.getDetail(1L)).isEmpty();
+            assertThat(fixture.localCache.getIds(brandPrefix + "g3:0:20")).isEmpty();
+            assertThat(fixture.localCache.getIds(otherBrandPrefix + "g1:0:20")).contains(List.of(3L));
+            assertThat(fixture.localCache.getGeneration(generationKey)).isEmpty();
+        }
+
+        @Test
+        @DisplayName("형식이 잘못된 무효화 메시지는 무시하고 L1을 유지한다")
+        void 형식이_잘못된_무효화_메시지는_무시하고_L1을_유지한다() {
+            // given
+            Fixture fixture = fixture(true);
+            fixture.localCache.putDetail(1L, detail(1L));
+            Message message = mock(Message.class);
+            when(message.getBody()).thenReturn("not-json".getBytes(StandardCharsets.UTF_8));
+
+            // when
+            new CacheInvalidationSubscriber(fixture.localCache, objectMapper).onMessage(message, null);
+
+            // then
+            assertThat(fixture.localCache.getDetail(1L)).isPresent();
+        }
+    }
+
+    @Nested
+    @DisplayName("목록 행 캐시")
+    class RowCache {
+
+        @Test
+        @DisplayName("MGET 한 번으로 조회하고 캐시에 있는 행만 반환한다")
+        void MGET_한_번으로_조회하고_캐시에_있는_행만_반환한다() throws Exception {
+            // given
+            Fixture fixture = fixture(false);
+            when(binaryRedisTemplate.opsForValue()).thenReturn(binaryValueOperations);
+            List<String> keys = List.of(
+                    keyGenerator.generateProductRowKey(1L),
+                    keyGenerator.generateProductRowKey(2L),
+                    keyGenerator.generateProductRowKey(3L));
+            when(binaryValueOperations.multiGet(keys))
+                    .thenReturn(Arrays.asList(fixture.codec.encode(row(1L)), null, fixture.codec.encode(row(3L))));
+
+            // when
+            Map<Long, ProductInfo> rows = fixture.service.getProductRowsFromCache(List.of(1L, 2L, 3L));
+
+            // then
+            assertThat(rows).containsOnlyKeys(1L, 3L);
+            assertThat(rows.get(1L)).isEqualTo(row(1L));
+            verify(binaryValueOperations, times(1)).multiGet(keys);
+            assertThat(requests("l2", "row", "hit")).isEqualTo(2.0);
+            assertThat(requests("l2", "row", "miss")).isEqualTo(1.0);
+        }
+
+        @Test
+        @DisplayName("Redis 조회에 실패하면 빈 결과를 반환하여 전부 DB에서 채우게 한다")
+        void Redis_조회에_실패하면_빈_결과를_반환하여_전부_DB에서_채우게_한다() {
+            // given
+            Fixture fixture = fixture(false);
+            when(binaryRedisTemplate.opsForValue()).thenReturn(binaryValueOperations);
+            when(binaryValueOperations.multiGet(anyList())).thenThrow(new IllegalStateException("redis down"));
+
+            // when
+            Map<Long, ProductInfo> rows = fixture.service.getProductRowsFromCache(List.of(1L, 2L));
+
+            // then
+            assertThat(rows).isEmpty();
+        }
+
+        @Test
+        @DisplayName("채운 행은 파이프라인 한 번으로 행마다 TTL을 두고 저장한다")
+        @SuppressWarnings("unchecked")
+        void 채운_행은_파이프라인_한_번으로_행마다_TTL을_두고_저장한다() throws Exception {
+            // given
+            Fixture fixture = fixture(false);
+            RedisOperations<String, byte[]> operations = mock(RedisOperations.class);
+            when(operations.opsForValue()).thenReturn(binaryValueOperations);
+            when(binaryRedisTemplate.executePipelined(any(SessionCallback.class))).thenAnswer(invocation -> {
+                invocation.<SessionCallback<Object>>getArgument(0).execute(operations);
+                return List.of();
+            });
+
+            // when
+            fixture.service.cacheProductRows(List.of(row(1L), row(2L)));
+
+            // then
+            verify(binaryRedisTemplate, times(1)).executePipelined(any(SessionCallback.class));
+            verify(binaryValueOperations).set(eq(keyGenerator.generateProductRowKey(1L)),
+                    eq(fixture.codec.encode(row(1L))), eq(fixture.expirationPolicy.ttl(CacheStrategy.HOT)));
+            verify(binaryValueOperations).set(eq(keyGenerator.generateProductRowKey(2L)),
+                    eq(fixture.codec.encode(row(2L))), eq(fixture.expirationPolicy.ttl(CacheStrategy.HOT)));
+        }
+    }
+
+    @Nested
+    @DisplayName("전체 개수 증분 반영")
+    class TotalCount {
+
+        @Test
+        @DisplayName("브랜드별 증감분과 그 합계를 키가 있을 때만 더하는 스크립트로 반영한다")
+        @SuppressWarnings("unchecked")
+        void 브랜드별_증감분과_그_합계를_키가_있을_때만_더하는_스크립트로_반영한다() {
+            // given
+            Fixture fixture = fixture(false);
+            Map<Long, Long> deltas = new LinkedHashMap<>();
+            deltas.put(1L, 2L);
+            deltas.put(2L, -1L);
+
+            // when
+            fixture.service.adjustTotalCounts(deltas);
+
+            // then
+            verify(redisTemplate).execute(any(RedisScript.class),
+                    eq(List.of(keyGenerator.generateProductTotalKey(1L))), eq("2"));
+            verify(redisTemplate).execute(any(RedisScript.class),
+                    eq(List.of(keyGenerator.generateProductTotalKey(2L))), eq("-1"));
+            verify(redisTemplate).execute(any(RedisScript.class),
+                    eq(List.of(keyGenerator.generateProductTotalKey(null))), eq("1"));
+            verify(redisTemplate, never()).opsForValue();
+        }
+
+        @Test
+        @DisplayName("증감분이 0인 키는 호출하지 않는다")
+        @SuppressWarnings("unchecked")
+        void 증감분이_0인_키는_호출하지_않는다() {
+            // given
+            Fixture fixture = fixture(false);
+            Map<Long, Long> deltas = new LinkedHashMap<>();
+            deltas.put(1L, 1L);
+            deltas.put(2L, -1L);
+            deltas.put(3L, 0L);
+
+            // when
+            fixture.service.adjustTotalCounts(deltas);
+
+            // then - 브랜드 1, 2만 반영하고 브랜드 3과 합계(0)는 건너뜀
+            verify(redisTemplate, times(2)).execute(any(RedisScript.class), anyList(), any());
+            verify(redisTemplate, never()).execute(any(RedisScript.class),
+                    eq(List.of(keyGenerator.generateProductTotalKey(3L))), any());
+            verify(redisTemplate, never()).execute(any(RedisScript.class),
+                    eq(List.of(keyGenerator.generateProductTotalKey(null))), any());
+        }
+
+        @Test
+        @DisplayName("스크립트 실행에 실패해도 예외를 전파하지 않는다")
+        @SuppressWarnings("unchecked")
+        void 스크립트_실행에_실패해도_예외를_전파하지_않는다() {
+            // given
+            Fixture fixture = fixture(false);
+            when(redisTemplate.execute(any(RedisScript.class), anyList(), any()))
+                    .thenThrow(new IllegalStateException("redis down"));
+
+            // when & then
+            assertThatCode(() -> fixture.service.adjustTotalCounts(Map.of(1L, 1L))).doesNotThrowAnyException();
+        }
+    }
+
+    @Nested
+    @DisplayName("캐시 전략")
+    class Strategy {
+
+        @Test
+        @DisplayName("상품명 검색은 1페이지도 Cold 전략으로 정한다")
+        void 상품명_검색은_1페이지도_Cold_전략으로_정한다() {
+            // given
+            Fixture fixture = fixture(false);
+            when(adaptiveStrategyPolicy.recordAndAdjust(any(), any()))
+                    .thenAnswer(invocation -> invocation.getArgument(1));
+
+            // when
+            CacheStrategy nameSearch = fixture.service.resolveCacheStrategy(
+                    new ProductSearchFilter(null, "셔츠", PageRequest.of(0, 20)));
+            CacheStrategy firstPage = fixture.service.resolveCacheStrategy(
+                    new ProductSearchFilter(null, null, PageRequest.of(0, 20)));
+
+            // then
+            assertThat(nameSearch).isEqualTo(CacheStrategy.COLD);
+            assertThat(firstPage).isEqualTo(CacheStrategy.HOT);
+        }
+    }
+
+    private double requests(String level, String family, String result) {
+        return meterRegistry.get("product.cache.requests")
+                .tags("level", level, "family", family, "result", result)
+                .counter().count();
+    }
+
+    private Fixture fixture(boolean localEnabled) {
+        ProductCacheProperties properties = properties(localEnabled);
+        ProductLocalCache localCache = new ProductLocalCache(properties, meterRegistry);
+        SmileCacheValueCodec codec = new SmileCacheValueCodec(objectMapper, properties);
+        CacheExpirationPolicy expirationPolicy = new CacheExpirationPolicy(properties);
+        ProductCacheService service = new ProductCacheService(redisTemplate, binaryRedisTemplate, codec, keyGenerator,
+                objectMapper, localCache, invalidationPublisher, new CacheMetrics(meterRegistry), expirationPolicy,
+                adaptiveStrategyPolicy);
+        return new Fixture(service, localCache, codec, expirationPolicy);
+    }
+
+    private static ProductCacheProperties properties(boolean localEnabled) {
+        return new ProductCacheProperties(
+                new ProductCacheProperties.Local(localEnabled, 1000, 500, Duration.ofSeconds(30)),
+                new ProductCacheProperties.Invalidation("product:cache:invalidation"),
+                new ProductCacheProperties.Ranking(false),
+                new ProductCacheProperties.Lease(false, Duration.ofSeconds(3), Duration.ofMillis(500), Duration.ofMillis(20)),
+                // 조기 갱신(beta)을 끄고 지터 없이 고정 TTL 사용
+                new ProductCacheProperties.Expiration(
+                        Duration.ofMinutes(30), 0.0, Duration.ofMinutes(10), 0.0, 0.0, Duration.ofMillis(20)),
+                new ProductCacheProperties.Codec(1024),
+                new ProductCacheProperties.Metrics(false, Duration.ofMinutes(1), 1000),
+                new ProductCacheProperties.Adaptive(false, 8192, 81920, 32, 8, 2, 10000)
+        );
+    }
+
+    private static ProductInfo row(Long productId) {
+        return new ProductInfo(productId, "상품" + productId, "설명", 10L,
+                new ProductPriceInfo(new BigDecimal("10000.00"), null), 1L, null);
+    }
+
+    private static ProductDetailInfo detail(Long productId) {
+        return new ProductDetailInfo(productId, "상품" + productId, "설명", 10L, 5,
+                new ProductPriceInfo(new BigDecimal("10000.00"), null), null, null, null);
+    }
+
+    private record Fixture(
+            ProductCacheService service,
+            ProductLocalCache localCache,
+            SmileCacheValueCodec codec,
+            CacheExpirationPolicy expirationPolicy
+    ) {
+        byte[] encodeEntry(Object value) throws Exception {
+            CacheEntry<Object> entry = expirationPolicy.entry(value, CacheStrategy.HOT, Duration.ZERO);
+            return codec.encode(entry);
+        }
+    }
+}
@@ -0,0 +1,153 @@
+package com.loopers.domain.product;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.time.ZonedDateTime;
+import java.util.Base64;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.Sort;
+
+import com.loopers.domain.product.dto.ProductCursor;
+import com.loopers.domain.product.dto.ProductListRow;
+import com.loopers.support.error.CoreException;
+import com.loopers.support.error.ErrorType;
+
+/**
+ * @author hyunjikoh
+ * @since 2025. 12. 2.
+ */
+@DisplayName("ProductCursor 단위 테스트")
+class ProductCursorUnitTest {
+
+    @Nested
+    @DisplayName("첫 페이지 커서 생성")
+    class 첫_페이지_커서_생성 {
+
+        @Test
+        @DisplayName("정렬 조건이 없으면 좋아요 수 내림차순으로 생성된다")
+        void 정렬_조건이_없으면_좋아요_수_내림차순으로_생성된다() {
+            // when
+            ProductCursor cursor = ProductCursor.first(Sort.unsorted());
+
+            // then
+            assertThat(cursor.sortProperty()).isEqualTo("likeCount");
+            assertThat(cursor.ascending()).isFalse();
+            assertThat(cursor.isFirstPage()).isTrue();
+        }
+
+        @Test
+        @DisplayName("지원하는 정렬 조건은 그대로 사용한다")
+        void 지원하는_정렬_조건은_그대로_사용한다() {
+            // when
+            ProductCursor cursor = ProductCursor.first(Sort.by(Sort.Direction.ASC, "price"));
+
+            // then
+            assertThat(cursor.sortProperty()).isEqualTo("price");
+            assertThat(cursor.ascending()).isTrue();
+        }
+
+        @Test
+        @DisplayName("지원하지 않는 정렬 조건은 기본 정렬로 대체된다")
+        void 지원하지_않는_정렬_조건은_기본_정렬로_대체된다() {
+            // when
+            ProductCursor cursor = ProductCursor.first(Sort.by(Sort.Direction.ASC, "stockQuantity"));
+
+            // then
+            assertThat(cursor.sortProperty()).isEqualTo("likeCount");
+            assertThat(cursor.ascending()).isFalse();
+        }
+    }
+
+    @Nested
+    @DisplayName("커서 인코딩/디코딩")
+    class 커서_인코딩_디코딩 {
+
+        @Test
+        @DisplayName("인코딩한 커서를 디코딩하면 동일한 커서가 복원된다")
+        void 인코딩한_커서를_디코딩하면_동일한_커서가_복원된다() {
+            // given
+            ProductCursor cursor = new ProductCursor("likeCount", false, 42L, "100");
+
+            // when
+            ProductCursor decoded = ProductCursor.decode(cursor.encode());
+
+            // then
+            assertThat(decoded).isEqualTo(cursor);
+            assertThat(decoded.lastLikeCount()).isEqualTo(100L);
+        }
+
+        @Test
+        @DisplayName("정렬 값에 구분자가 포함되어도 복원된다")
+        void 정렬_값에_구분자가_포함되어도_복원된다() {
+            // given
+            ProductCursor cursor = new ProductCursor("name", true, 7L, "에어|맥스");
+
+            // when
+            ProductCursor decoded = ProductCursor.decode(cursor.encode());
+
+            // then
+            assertThat(decoded.lastValue()).isEqualTo("에어|맥스");
+            assertThat(decoded.lastId()).isEqualTo(7L);
+        }
+
+        @Test
+        @DisplayName("형식이 올바르지 않은 커서는 BAD_REQUEST 예외가 발생한다")
+        void 형식이_올바르지_않은_커서는_BAD_REQUEST_예외가_발생한다() {
+            assertThatThrownBy(() -> ProductCursor.decode("not-a-cursor!"))
+                    .isInstanceOf(CoreException.class)
+                    .extracting("errorType")
+                    .isEqualTo(ErrorType.BAD_REQUEST);
+        }
+
+        @Test
+        @DisplayName("정렬 값이 정렬 기준과 맞지 않으면 BAD_REQUEST 예외가 발생한다")
+        void 정렬_값이_정렬_기준과_맞지_않으면_BAD_REQUEST_예외가_발생한다() {
+            // given
+            String token = Base64.getUrlEncoder().withoutPadding()
+                    .encodeToString("v1|likeCount|desc|1|abc".getBytes(StandardCharsets.UTF_8));
+
+            // when & then
+            assertThatThrownBy(() -> ProductCursor.decode(token))
+                    .isInstanceOf(CoreException.class)
+                    .extracting("errorType")
+                    .isEqualTo(ErrorType.BAD_REQUEST);
+        }
+    }
+
+    @Nested
+    @DisplayName("다음 페이지 커서 생성")
+    class 다음_페이지_커서_생성 {
+
+        private final ProductListRow last = new ProductListRow(
+                42L, 7L, "에어맥스", "최고의 운동화", new BigDecimal("129000.00"), null, 100L, 3L,
+                ZonedDateTime.parse("2025-12-01T10:00:00+09:00[Asia/Seoul]"));
+
+        @Test
+        @DisplayName("목록 행의 MV ID와 정렬 값으로 다음 커서가 생성된다")
+        void 목록_행의_MV_ID와_정렬_값으로_다음_커서가_생성된다() {
+            // when
+            ProductCursor next = ProductCursor.first(Sort.unsorted()).next(last);
+
+            // then
+            assertThat(next.lastId()).isEqualTo(42L);
+            assertThat(next.lastLikeCount()).isEqualTo(100L);
+            assertThat(next.isFirstPage()).isFalse();
+        }
+
+        @Test
+        @DisplayName("가격 정렬은 정가를 정렬 값으로 사용한다")
+        void 가격_정렬은_정가를_정렬_값으로_사용한다() {
+            // when
+            ProductCursor next = ProductCursor.first(Sort.by(Sort.Direction.ASC, "price")).next(last);
+
+            // then
+            assertThat(next.lastPrice()).isEqualByComparingTo("129000");
+            assertThat(ProductCursor.decode(next.encode())).isEqualTo(next);
+        }
+    }
+}
@@ -15,6 +15,7 @@ import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.domain.Sort;
 
 import com.loopers.application.like.LikeFacade;
@@ -71,6 +72,9 @@ public class ProductIntegrationTest {
     @Autowired
     private ProductMVService productMVService;
 
+    @Autowired
+    private ProductCacheService productCacheService;
+
     @AfterEach
     void tearDown() {
         databaseCleanUp.truncateAllTables();
@@ -193,6 +197,31 @@ public class ProductIntegrationTest {
             assertThat(createdAts).isSortedAccordingTo(Comparator.reverseOrder());
         }
 
+        @Test
+        @DisplayName("인덱스로 고른 ID 순서대로 행을 채워 OFFSET 페이지의 정렬을 유지한다")
+        void keep_sort_order_of_offset_page_with_deferred_join() {
+            // given
+            ProductTestFixture.createBrandsAndProducts(brandRepository, productRepository, 2, 5);
+            productMVService.syncMaterializedView();
+            Sort sort = Sort.by(Sort.Direction.DESC, "createdAt");
+
+            // when
+            Slice<ProductInfo> first = productMVService.findSliceBySearchFilter(
+                    new ProductSearchFilter(null, null, PageRequest.of(0, 3, sort)));
+            Slice<ProductInfo> second = productMVService.findSliceBySearchFilter(
+                    new ProductSearchFilter(null, null, PageRequest.of(1, 3, sort)));
+
+            // then
+            assertThat(second.getContent()).hasSize(3);
+            assertThat(second.hasNext()).isTrue();
+            assertThat(second.getContent()).extracting(ProductInfo::createdAt)
+                    .isSortedAccordingTo(Comparator.reverseOrder());
+            assertThat(second.getContent()).extracting(ProductInfo::id)
+                    .doesNotContainAnyElementsOf(first.getContent().stream().map(ProductInfo::id).toList());
+            assertThat(second.getContent().get(0).createdAt())
+                    .isBeforeOrEqualTo(first.getContent().get(2).createdAt());
+        }
+
         @Test
         @DisplayName("존재하지 않는 브랜드로 상품을 필터링하면 빈 목록을 반환한다")
         void return_empty_list_when_filtering_by_non_existent_brand() {
@@ -479,5 +508,41 @@ public class ProductIntegrationTest {
             assertThat(result.isLiked()).isFalse();
             assertThat(result.likeCount()).isEqualTo(0L);
         }
+
+        @Test
+        @DisplayName("좋아요한 사용자가 적재한 상세 캐시도 다른 사용자에게는 isLiked false로 응답한다")
+        void should_share_detail_cache_without_user_state() {
+            // Given: 좋아요한 사용자와 좋아요하지 않은 사용자 생성
+            UserInfo liker = userFacade.registerUser(UserTestFixture.createUserCommand(
+                    "liker", "liker@example.com", "1990-01-01", com.loopers.domain.user.Gender.MALE
+            ));
+            UserInfo viewer = userFacade.registerUser(UserTestFixture.createUserCommand(
+                    "viewer", "viewer@example.com", "1990-01-01", com.loopers.domain.user.Gender.FEMALE
+            ));
+
+            BrandEntity brand = BrandTestFixture.createAndSave(brandRepository, "Test Brand", "Test Description");
+            ProductEntity product = ProductTestFixture.createAndSave(
+                    productRepository,
+                    brand,
+                    "Test Product",
+                    "Product Description",
+                    new BigDecimal("10000"),
+                    100
+            );
+            likeFacade.upsertLike(liker.username(), product.getId());
+            productMVService.syncMaterializedView();
+
+            // When: 좋아요한 사용자가 먼저 조회하여 캐시 적재
+            ProductDetailInfo likerResult = productFacade.getProductDetail(product.getId(), liker.username());
+            ProductDetailInfo viewerResult = productFacade.getProductDetail(product.getId(), viewer.username());
+            ProductDetailInfo anonymousResult = productFacade.getProductDetail(product.getId(), null);
+
+            // Then: 캐시 항목은 공유되고 좋아요 여부는 사용자별로 합성됨
+            assertThat(likerResult.isLiked()).isTrue();
+            assertThat(viewerResult.isLiked()).isFalse();
+            assertThat(anonymousResult.isLiked()).isFalse();
+            assertThat(productCacheService.getProductDetailFromCache(product.getId()))
+                    .hasValueSatisfying(cached -> assertThat(cached.isLiked()).isNull());
+        }
     }
 }
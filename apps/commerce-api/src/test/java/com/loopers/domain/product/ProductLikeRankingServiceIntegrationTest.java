@@ -0,0 +1,196 @@
+package com.loopers.domain.product;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+import java.math.BigDecimal;
+import java.time.ZonedDateTime;
+import java.util.List;
+import java.util.Set;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.redis.core.RedisTemplate;
+
+import com.loopers.infrastructure.cache.CacheKeyGenerator;
+import com.loopers.infrastructure.cache.ProductCacheProperties;
+import com.loopers.utils.RedisCleanUp;
+
+/**
+ * 좋아요 랭킹 통합 테스트
+ *
+ * 테스트 프로파일은 랭킹을 끄므로 랭킹을 켠 서비스를 직접 생성하고, MV 조회는 목으로 대체합니다.
+ * Lua 스크립트와 RENAME 교체는 실제 Redis에서 검증합니다.
+ *
+ * @author hyunjikoh
+ * @since 2025. 12. 10.
+ */
+@SpringBootTest
+@DisplayName("좋아요 랭킹 통합 테스트")
+class ProductLikeRankingServiceIntegrationTest {
+
+    @Autowired
+    private RedisCleanUp redisCleanUp;
+
+    @Autowired
+    private RedisTemplate<String, String> redisTemplate;
+
+    @Autowired
+    private CacheKeyGenerator keyGenerator;
+
+    @Autowired
+    private ProductCacheProperties properties;
+
+    private final ProductMVRepository mvRepository = mock(ProductMVRepository.class);
+
+    private ProductLikeRankingService rankingService;
+    private String allKey;
+    private String brand1Key;
+
+    @BeforeEach
+    void setUp() {
+        ProductCacheProperties rankingEnabled = new ProductCacheProperties(properties.local(),
+                properties.invalidation(), new ProductCacheProperties.Ranking(true), properties.lease(),
+                properties.expiration(), properties.codec(), properties.metrics(), properties.adaptive());
+        rankingService = new ProductLikeRankingService(redisTemplate, keyGenerator, mvRepository, rankingEnabled);
+        allKey = keyGenerator.generateLikeRankingKey(null);
+        brand1Key = keyGenerator.generateLikeRankingKey(1L);
+    }
+
+    @AfterEach
+    void tearDown() {
+        redisCleanUp.truncateAll();
+    }
+
+    @Nested
+    @DisplayName("증분 반영")
+    class Increment {
+
+        @Test
+        @DisplayName("랭킹 키가 있으면 전체/브랜드 랭킹 점수를 함께 올린다")
+        void should_increment_existing_ranking_keys() {
+            // Given
+            redisTemplate.opsForZSet().add(allKey, "10", 3);
+            redisTemplate.opsForZSet().add(brand1Key, "10", 3);
+
+            // When
+            rankingService.increment(10L, 1L, 2);
+
+            // Then
+            assertThat(redisTemplate.opsForZSet().score(allKey, "10")).isEqualTo(5.0);
+            assertThat(redisTemplate.opsForZSet().score(brand1Key, "10")).isEqualTo(5.0);
+        }
+
+        @Test
+        @DisplayName("재구축 전(랭킹 키 없음)에는 부분 랭킹을 만들지 않는다")
+        void should_not_create_partial_ranking_before_rebuild() {
+            // Given: 전체 랭킹만 있음
+            redisTemplate.opsForZSet().add(allKey, "10", 3);
+
+            // When
+            rankingService.increment(10L, 1L, 1);
+
+            // Then
+            assertThat(redisTemplate.opsForZSet().score(allKey, "10")).isEqualTo(4.0);
+            assertThat(redisTemplate.hasKey(brand1Key)).isFalse();
+        }
+    }
+
+    @Test
+    @DisplayName("삭제된 상품은 전체/브랜드 랭킹에서 제거한다")
+    void should_remove_product_from_all_ranking_keys() {
+        // Given
+        redisTemplate.opsForZSet().add(allKey, "10", 3);
+        redisTemplate.opsForZSet().add(allKey, "11", 1);
+        redisTemplate.opsForZSet().add(brand1Key, "10", 3);
+
+        // When
+        rankingService.remove(10L, 1L);
+
+        // Then
+        assertThat(redisTemplate.opsForZSet().range(allKey, 0, -1)).containsExactly("11");
+        assertThat(redisTemplate.opsForZSet().score(brand1Key, "10")).isNull();
+    }
+
+    @Nested
+    @DisplayName("재구축")
+    class Rebuild {
+
+        @Test
+        @DisplayName("MV 전체로 임시 키를 채운 뒤 교체하고, 임시 키와 TTL을 남기지 않는다")
+        void should_rebuild_with_temp_keys_and_rename() {
+            // Given: 기존 랭킹에는 이미 삭제된 상품(99)이 남아 있음
+            redisTemplate.opsForZSet().add(allKey, "99", 100);
+            when(mvRepository.findAllAfterProductId(anyLong(), anyInt())).thenAnswer(invocation -> {
+                long lastProductId = invocation.getArgument(0);
+                return lastProductId == 0L
+                        ? List.of(mv(1L, 1L, 5), mv(2L, 1L, 7), mv(3L, 2L, 1))
+                        : List.of();
+            });
+
+            // When
+            int ranked = rankingService.rebuild();
+
+            // Then
+            assertThat(ranked).isEqualTo(3);
+            assertThat(redisTemplate.opsForZSet().reverseRange(allKey, 0, -1)).containsExactly("2", "1", "3");
+            assertThat(redisTemplate.opsForZSet().reverseRange(brand1Key, 0, -1)).containsExactly("2", "1");
+            assertThat(redisTemplate.opsForZSet().range(keyGenerator.generateLikeRankingKey(2L), 0, -1))
+                    .containsExactly("3");
+            assertThat(redisTemplate.getExpire(allKey)).isEqualTo(-1L);
+            assertThat(redisTemplate.keys("*:rebuild:*")).isEmpty();
+        }
+
+        @Test
+        @DisplayName("재구축 결과에 없는 브랜드의 랭킹 키는 삭제한다")
+        void should_delete_ranking_keys_of_brands_not_rebuilt() {
+            // Given: 브랜드 9의 상품이 모두 삭제되어 MV에 없음
+            String brand9Key = keyGenerator.generateLikeRankingKey(9L);
+            redisTemplate.opsForZSet().add(brand9Key, "90", 10);
+            redisTemplate.opsForZSet().add(brand1Key, "1", 1);
+            when(mvRepository.findAllAfterProductId(anyLong(), anyInt())).thenAnswer(invocation -> {
+                long lastProductId = invocation.getArgument(0);
+                return lastProductId == 0L ? List.of(mv(1L, 1L, 5)) : List.of();
+            });
+
+            // When
+            rankingService.rebuild();
+
+            // Then
+            assertThat(redisTemplate.hasKey(brand9Key)).isFalse();
+            assertThat(redisTemplate.opsForZSet().score(brand1Key, "1")).isEqualTo(5.0);
+            assertThat(redisTemplate.keys(keyGenerator.generateLikeRankingPattern()))
+                    .containsExactlyInAnyOrder(allKey, brand1Key);
+        }
+
+        @Test
+        @DisplayName("MV가 비어 있으면 모든 랭킹 키를 삭제한다")
+        void should_delete_all_ranking_keys_when_mv_is_empty() {
+            // Given
+            redisTemplate.opsForZSet().add(allKey, "1", 1);
+            redisTemplate.opsForZSet().add(brand1Key, "1", 1);
+            when(mvRepository.findAllAfterProductId(anyLong(), anyInt())).thenReturn(List.of());
+
+            // When
+            int ranked = rankingService.rebuild();
+
+            // Then
+            assertThat(ranked).isZero();
+            assertThat(redisTemplate.keys(keyGenerator.generateLikeRankingPattern())).isEqualTo(Set.of());
+        }
+    }
+
+    private static ProductMaterializedViewEntity mv(Long productId, Long brandId, long likeCount) {
+        ZonedDateTime updatedAt = ZonedDateTime.now();
+        return ProductMaterializedViewEntity.fromDto(new ProductMVSyncDto(productId, "상품" + productId, "설명",
+                new BigDecimal("10000"), null, 10, updatedAt, brandId, "브랜드" + brandId, updatedAt, likeCount,
+                updatedAt));
+    }
+}
@@ -0,0 +1,166 @@
+package com.loopers.domain.product;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.ZonedDateTime;
+import java.util.List;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.loopers.application.product.BatchUpdateResult;
+import com.loopers.domain.product.dto.ProductSearchFilter;
+import com.loopers.infrastructure.cache.CacheLoadCoordinator;
+import com.loopers.infrastructure.cache.CacheMetrics;
+import com.loopers.infrastructure.cache.CacheStrategy;
+import com.loopers.infrastructure.product.ProductMVSyncProperties;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+/**
+ * 목록 세대 증가 판단 단위 테스트
+ *
+ * 좋아요 수 변경은 랭킹이 해당 목록에 응답하지 못할 때만 목록 캐시를 무효화하고,
+ * 할인가 추가/해제는 항상 목록 변경으로 보는지 검증합니다.
+ *
+ * @author hyunjikoh
+ * @since 2025. 12. 10.
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("ProductMVService 목록 세대 단위 테스트")
+class ProductMVServiceListGenerationUnitTest {
+
+    private static final Long PRODUCT_ID = 1L;
+    private static final Long BRAND_ID = 10L;
+
+    @Mock
+    private ProductMVRepository mvRepository;
+
+    @Mock
+    private ProductCacheService productCacheService;
+
+    @Mock
+    private ProductSearchIndex searchIndex;
+
+    @Mock
+    private ProductLikeRankingService rankingService;
+
+    @Mock
+    private CacheLoadCoordinator cacheLoadCoordinator;
+
+    @Mock
+    private CacheMetrics cacheMetrics;
+
+    @Mock
+    private TransactionTemplate transactionTemplate;
+
+    @Mock
+    private ProductMVSyncStateRepository syncStateRepository;
+
+    @Test
+    @DisplayName("랭킹이 꺼져 있으면 좋아요 수만 바뀌어도 목록 세대를 올린다")
+    void 랭킹이_꺼져_있으면_좋아요_수만_바뀌어도_목록_세대를_올린다() {
+        // given
+        when(rankingService.isEnabled()).thenReturn(false);
+        givenSync(existing(5L, null), source(6L, null));
+
+        // when
+        BatchUpdateResult result = service().syncProducts(List.of(PRODUCT_ID));
+
+        // then
+        assertThat(result.getChangedProductIds()).containsExactly(PRODUCT_ID);
+        assertThat(result.getAffectedBrandIds()).containsExactly(BRAND_ID);
+    }
+
+    @Test
+    @DisplayName("랭킹이 켜져 있으면 좋아요 수만 바뀐 상품은 상세/행 캐시만 무효화한다")
+    void 랭킹이_켜져_있으면_좋아요_수만_바뀐_상품은_상세_행_캐시만_무효화한다() {
+        // given
+        when(rankingService.isEnabled()).thenReturn(true);
+        givenSync(existing(5L, null), source(6L, null));
+
+        // when
+        BatchUpdateResult result = service().syncProducts(List.of(PRODUCT_ID));
+
+        // then
+        assertThat(result.getChangedProductIds()).containsExactly(PRODUCT_ID);
+        assertThat(result.getAffectedBrandIds()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("할인가가 해제되면(원본 null, MV 값 있음) 목록 변경으로 반영한다")
+    void 할인가가_해제되면_목록_변경으로_반영한다() {
+        // given
+        givenSync(existing(5L, new BigDecimal("9000")), source(5L, null));
+
+        // when
+        BatchUpdateResult result = service().syncProducts(List.of(PRODUCT_ID));
+
+        // then
+        assertThat(result.getUpdatedCount()).isEqualTo(1);
+        assertThat(result.getAffectedBrandIds()).containsExactly(BRAND_ID);
+    }
+
+    @Test
+    @DisplayName("할인가가 추가되면(원본 값 있음, MV null) 목록 변경으로 반영한다")
+    void 할인가가_추가되면_목록_변경으로_반영한다() {
+        // given
+        givenSync(existing(5L, null), source(5L, new BigDecimal("9000")));
+
+        // when
+        BatchUpdateResult result = service().syncProducts(List.of(PRODUCT_ID));
+
+        // then
+        assertThat(result.getUpdatedCount()).isEqualTo(1);
+        assertThat(result.getAffectedBrandIds()).containsExactly(BRAND_ID);
+    }
+
+    @Test
+    @DisplayName("랭킹이 켜져 있으면 랭킹이 응답하지 못한 좋아요 정렬 목록은 ID 리스트를 캐시하지 않는다")
+    void 랭킹이_응답하지_못한_좋아요_정렬_목록은_ID_리스트를_캐시하지_않는다() {
+        // given: 좋아요 오름차순은 랭킹 ZSET으로 응답하지 않음
+        ProductSearchFilter filter = new ProductSearchFilter(BRAND_ID, null,
+                PageRequest.of(0, 20, Sort.by(Sort.Direction.ASC, "likeCount")));
+        when(rankingService.isEnabled()).thenReturn(true);
+        when(mvRepository.findContentBySearchFilter(filter)).thenReturn(List.of());
+
+        // when
+        service().getProductsByStrategy(filter, CacheStrategy.HOT);
+
+        // then
+        verify(productCacheService, never()).productIdsKey(any(), any());
+        verify(cacheMetrics).bypass(CacheMetrics.FAMILY_IDS, CacheStrategy.COLD);
+    }
+
+    private void givenSync(ProductMaterializedViewEntity existing, ProductMVSyncDto source) {
+        when(mvRepository.findProductsForSync(List.of(PRODUCT_ID))).thenReturn(List.of(source));
+        when(mvRepository.findByIdIn(List.of(PRODUCT_ID))).thenReturn(List.of(existing));
+    }
+
+    private ProductMVService service() {
+        ProductMVSyncProperties properties = new ProductMVSyncProperties(
+                true, Duration.ofSeconds(1), 500, Duration.ofMinutes(10), 500, false);
+        return new ProductMVService(mvRepository, productCacheService, searchIndex, rankingService,
+                cacheLoadCoordinator, cacheMetrics, properties, transactionTemplate, new SimpleMeterRegistry(),
+                syncStateRepository);
+    }
+
+    private static ProductMaterializedViewEntity existing(long likeCount, BigDecimal discountPrice) {
+        return ProductMaterializedViewEntity.fromDto(source(likeCount, discountPrice));
+    }
+
+    private static ProductMVSyncDto source(long likeCount, BigDecimal discountPrice) {
+        ZonedDateTime updatedAt = ZonedDateTime.parse("2025-12-01T00:00:00+09:00");
+        return new ProductMVSyncDto(PRODUCT_ID, "상품", "설명", new BigDecimal("10000"), discountPrice, 10,
+                updatedAt, BRAND_ID, "브랜드", updatedAt, likeCount, updatedAt);
+    }
+}
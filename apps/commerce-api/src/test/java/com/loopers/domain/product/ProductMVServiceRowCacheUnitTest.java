@@ -0,0 +1,134 @@
+package com.loopers.domain.product;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.*;
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.loopers.application.product.ProductInfo;
+import com.loopers.domain.product.dto.ProductListRow;
+import com.loopers.domain.product.dto.ProductSearchFilter;
+import com.loopers.infrastructure.cache.CacheLoadCoordinator;
+import com.loopers.infrastructure.cache.CacheMetrics;
+import com.loopers.infrastructure.product.ProductMVSyncProperties;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+/**
+ * 목록 행 캐시 보충 단위 테스트
+ *
+ * 행 캐시에 없는 상품만 MV에서 읽어 채우고, 채운 행만 캐시에 저장하는지 검증합니다.
+ *
+ * @author hyunjikoh
+ * @since 2025. 12. 10.
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("ProductMVService 목록 행 캐시 단위 테스트")
+class ProductMVServiceRowCacheUnitTest {
+
+    private static final ProductSearchFilter FILTER = new ProductSearchFilter(null, null, PageRequest.of(0, 20));
+
+    @Mock
+    private ProductMVRepository mvRepository;
+
+    @Mock
+    private ProductCacheService productCacheService;
+
+    @Mock
+    private ProductSearchIndex searchIndex;
+
+    @Mock
+    private ProductLikeRankingService rankingService;
+
+    @Mock
+    private CacheLoadCoordinator cacheLoadCoordinator;
+
+    @Mock
+    private CacheMetrics cacheMetrics;
+
+    @Mock
+    private TransactionTemplate transactionTemplate;
+
+    @Mock
+    private ProductMVSyncStateRepository syncStateRepository;
+
+    @Test
+    @DisplayName("캐시에 없는 행만 MV에서 읽어 채우고, 요청한 ID 순서대로 반환한다")
+    void 캐시에_없는_행만_MV에서_읽어_채우고_요청한_ID_순서대로_반환한다() {
+        // given
+        when(productCacheService.getProductRowsFromCache(List.of(3L, 2L, 1L)))
+                .thenReturn(new HashMap<>(Map.of(3L, info(3L), 1L, info(1L))));
+        when(mvRepository.findListRowsByIdIn(List.of(2L))).thenReturn(List.of(listRow(2L)));
+
+        // when
+        Page<ProductInfo> page = service().findByIdsAsPage(List.of(3L, 2L, 1L), FILTER);
+
+        // then
+        assertThat(page.getContent()).extracting(ProductInfo::id).containsExactly(3L, 2L, 1L);
+        assertThat(page.getTotalElements()).isEqualTo(3);
+        verify(mvRepository, times(1)).findListRowsByIdIn(List.of(2L));
+        verify(productCacheService).cacheProductRows(List.of(info(2L)));
+    }
+
+    @Test
+    @DisplayName("모든 행이 캐시에 있으면 MV를 조회하지 않는다")
+    void 모든_행이_캐시에_있으면_MV를_조회하지_않는다() {
+        // given
+        when(productCacheService.getProductRowsFromCache(List.of(1L, 2L)))
+                .thenReturn(new HashMap<>(Map.of(1L, info(1L), 2L, info(2L))));
+
+        // when
+        Page<ProductInfo> page = service().findByIdsAsPage(List.of(1L, 2L), FILTER);
+
+        // then
+        assertThat(page.getContent()).extracting(ProductInfo::id).containsExactly(1L, 2L);
+        verify(mvRepository, never()).findListRowsByIdIn(anyList());
+        verify(productCacheService, never()).cacheProductRows(anyList());
+    }
+
+    @Test
+    @DisplayName("MV에도 없는 상품(삭제된 상품)은 결과에서 제외한다")
+    void MV에도_없는_상품은_결과에서_제외한다() {
+        // given
+        when(productCacheService.getProductRowsFromCache(List.of(1L, 2L)))
+                .thenReturn(new HashMap<>(Map.of(1L, info(1L))));
+        when(mvRepository.findListRowsByIdIn(List.of(2L))).thenReturn(List.of());
+
+        // when
+        Page<ProductInfo> page = service().findByIdsAsPage(List.of(1L, 2L), FILTER);
+
+        // then
+        assertThat(page.getContent()).extracting(ProductInfo::id).containsExactly(1L);
+        verify(productCacheService).cacheProductRows(List.of());
+    }
+
+    private ProductMVService service() {
+        ProductMVSyncProperties properties = new ProductMVSyncProperties(
+                true, Duration.ofSeconds(1), 500, Duration.ofMinutes(10), 500, false);
+        return new ProductMVService(mvRepository, productCacheService, searchIndex, rankingService,
+                cacheLoadCoordinator, cacheMetrics, properties, transactionTemplate, new SimpleMeterRegistry(),
+                syncStateRepository);
+    }
+
+    private static ProductInfo info(Long productId) {
+        return ProductInfo.from(listRow(productId));
+    }
+
+    private static ProductListRow listRow(Long productId) {
+        return new ProductListRow(productId * 10, productId, "상품" + productId, "설명",
+                new BigDecimal("10000.00"), null, 10L, 1L, null);
+    }
+}
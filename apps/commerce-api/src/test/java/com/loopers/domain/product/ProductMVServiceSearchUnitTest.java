@@ -0,0 +1,135 @@
+package com.loopers.domain.product;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.loopers.application.product.ProductInfo;
+import com.loopers.domain.product.dto.ProductListRow;
+import com.loopers.domain.product.dto.ProductSearchFilter;
+import com.loopers.domain.product.dto.ProductSearchResult;
+import com.loopers.infrastructure.cache.CacheLoadCoordinator;
+import com.loopers.infrastructure.cache.CacheMetrics;
+import com.loopers.infrastructure.cache.CacheStrategy;
+import com.loopers.infrastructure.product.ProductMVSyncProperties;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+/**
+ * 상품명 검색 경로 단위 테스트
+ *
+ * 상품명 검색이 캐시 전략과 관계없이 색인으로 처리되고, DB LIKE 검색/COUNT는 색인을 쓸 수 없을 때만 실행되는지 검증합니다.
+ *
+ * @author hyunjikoh
+ * @since 2025. 12. 10.
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("ProductMVService 상품명 검색 단위 테스트")
+class ProductMVServiceSearchUnitTest {
+
+    private static final ProductSearchFilter NAME_SEARCH = new ProductSearchFilter(null, "셔츠", PageRequest.of(0, 20));
+
+    @Mock
+    private ProductMVRepository mvRepository;
+
+    @Mock
+    private ProductCacheService productCacheService;
+
+    @Mock
+    private ProductSearchIndex searchIndex;
+
+    @Mock
+    private ProductLikeRankingService rankingService;
+
+    @Mock
+    private CacheLoadCoordinator cacheLoadCoordinator;
+
+    @Mock
+    private CacheMetrics cacheMetrics;
+
+    @Mock
+    private TransactionTemplate transactionTemplate;
+
+    @Mock
+    private ProductMVSyncStateRepository syncStateRepository;
+
+    @Test
+    @DisplayName("Hot 전략의 1페이지 상품명 검색도 색인으로 처리하고 ID 리스트 캐시와 DB 검색을 사용하지 않는다")
+    void Hot_전략의_1페이지_상품명_검색도_색인으로_처리한다() {
+        // given
+        when(searchIndex.search(NAME_SEARCH)).thenReturn(Optional.of(new ProductSearchResult(List.of(2L, 1L), 42L)));
+        when(productCacheService.getProductRowsFromCache(List.of(2L, 1L))).thenReturn(new HashMap<>());
+        when(mvRepository.findListRowsByIdIn(List.of(2L, 1L))).thenReturn(List.of(listRow(1L), listRow(2L)));
+
+        // when
+        Page<ProductInfo> page = service().getProductsByStrategy(NAME_SEARCH, CacheStrategy.HOT);
+
+        // then
+        assertThat(page.getContent()).extracting(ProductInfo::id).containsExactly(2L, 1L);
+        assertThat(page.getTotalElements()).isEqualTo(42L);
+        verify(productCacheService, never()).productIdsKey(any(), any());
+        verify(mvRepository, never()).findContentBySearchFilter(any());
+        verify(mvRepository, never()).countBySearchFilter(any());
+    }
+
+    @Test
+    @DisplayName("캐시된 ID 리스트로 응답할 때 상품명 검색의 전체 건수는 색인 검색 건수를 사용한다")
+    void 캐시된_ID_리스트로_응답할_때_상품명_검색의_전체_건수는_색인_검색_건수를_사용한다() {
+        // given: 색인 준비 전에 캐시된 2페이지 ID 리스트로 응답 (페이지가 가득 차 전체 건수 계산 필요)
+        ProductSearchFilter filter = new ProductSearchFilter(null, "셔츠", PageRequest.of(1, 2));
+        when(productCacheService.getProductRowsFromCache(List.of(3L, 4L)))
+                .thenReturn(new HashMap<>(Map.of(3L, ProductInfo.from(listRow(3L)),
+                        4L, ProductInfo.from(listRow(4L)))));
+        when(searchIndex.search(filter)).thenReturn(Optional.of(new ProductSearchResult(List.of(3L, 4L), 7L)));
+
+        // when
+        Page<ProductInfo> page = service().findByIdsAsPage(List.of(3L, 4L), filter);
+
+        // then
+        assertThat(page.getTotalElements()).isEqualTo(7L);
+        verify(mvRepository, never()).countBySearchFilter(any());
+    }
+
+    @Test
+    @DisplayName("색인이 준비되지 않았으면 DB 검색으로 대체한다")
+    void 색인이_준비되지_않았으면_DB_검색으로_대체한다() {
+        // given
+        when(searchIndex.search(NAME_SEARCH)).thenReturn(Optional.empty());
+        when(mvRepository.findContentBySearchFilter(NAME_SEARCH)).thenReturn(List.of(listRow(1L)));
+
+        // when
+        Page<ProductInfo> page = service().getProductsByStrategy(NAME_SEARCH, CacheStrategy.COLD);
+
+        // then
+        assertThat(page.getContent()).extracting(ProductInfo::id).containsExactly(1L);
+        verify(mvRepository).findContentBySearchFilter(NAME_SEARCH);
+    }
+
+    private ProductMVService service() {
+        ProductMVSyncProperties properties = new ProductMVSyncProperties(
+                true, Duration.ofSeconds(1), 500, Duration.ofMinutes(10), 500, false);
+        return new ProductMVService(mvRepository, productCacheService, searchIndex, rankingService,
+                cacheLoadCoordinator, cacheMetrics, properties, transactionTemplate, new SimpleMeterRegistry(),
+                syncStateRepository);
+    }
+
+    private static ProductListRow listRow(Long productId) {
+        return new ProductListRow(productId * 10, productId, "셔츠" + productId, "설명",
+                new BigDecimal("10000.00"), null, 10L, 1L, null);
+    }
+}
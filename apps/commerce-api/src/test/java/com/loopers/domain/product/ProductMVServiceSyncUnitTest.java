@@ -0,0 +1,240 @@
+package com.loopers.domain.product;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.*;
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.ZonedDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.LongStream;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.loopers.application.product.BatchUpdateResult;
+import com.loopers.infrastructure.cache.CacheLoadCoordinator;
+import com.loopers.infrastructure.cache.CacheMetrics;
+import com.loopers.infrastructure.product.ProductMVSyncProperties;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+/**
+ * MV 대조 동기화(청크 단위) 단위 테스트
+ *
+ * @author hyunjikoh
+ * @since 2025. 12. 10.
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("ProductMVService 청크 동기화 단위 테스트")
+class ProductMVServiceSyncUnitTest {
+
+    private static final int CHUNK_SIZE = 2;
+    private static final Long FENCING_TOKEN = 7L;
+    private static final ZonedDateTime WATERMARK = ZonedDateTime.parse("2025-12-01T00:00:00+09:00");
+
+    @Mock
+    private ProductMVRepository mvRepository;
+
+    @Mock
+    private ProductCacheService productCacheService;
+
+    @Mock
+    private ProductSearchIndex searchIndex;
+
+    @Mock
+    private ProductLikeRankingService rankingService;
+
+    @Mock
+    private CacheLoadCoordinator cacheLoadCoordinator;
+
+    @Mock
+    private CacheMetrics cacheMetrics;
+
+    @Mock
+    private TransactionTemplate transactionTemplate;
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final RecordingSyncStateRepository syncStateRepository = new RecordingSyncStateRepository();
+
+    // 원본 테이블에서 변경된 상품 (ID 1 ~ 5)
+    private final List<ProductMVSyncDto> changedProducts = LongStream.rangeClosed(1, 5)
+            .mapToObj(ProductMVServiceSyncUnitTest::changed)
+            .toList();
+
+    @BeforeEach
+    void setUp() {
+        when(transactionTemplate.execute(any())).thenAnswer(invocation ->
+                invocation.<TransactionCallback<?>>getArgument(0).doInTransaction(null));
+        lenient().when(mvRepository.findByIdIn(anyList())).thenReturn(List.of());
+    }
+
+    @Test
+    @DisplayName("청크 크기보다 많은 변경은 여러 청크로 나누어 처리하고 청크마다 진행 위치를 저장한다")
+    void 청크_크기보다_많은_변경은_여러_청크로_나누어_처리하고_청크마다_진행_위치를_저장한다() {
+        // given
+        syncStateRepository.checkpoint = new ProductMVSyncCheckpoint(WATERMARK, null, 0L);
+        when(mvRepository.findChangedProductsForSync(any(), anyLong(), anyInt()))
+                .thenAnswer(invocation -> chunkAfter(invocation.getArgument(1)));
+        List<BatchUpdateResult> chunks = new ArrayList<>();
+
+        // when
+        BatchUpdateResult result = service().syncMaterializedView(FENCING_TOKEN, (chunk, initialLoad) -> chunks.add(chunk));
+
+        // then
+        assertThat(result.isSuccess()).isTrue();
+        assertThat(result.getCreatedCount()).isEqualTo(5);
+        assertThat(chunks).extracting(BatchUpdateResult::getCreatedCount).containsExactly(2, 2, 1);
+        assertThat(syncStateRepository.saved).extracting(ProductMVSyncCheckpoint::lastProductId)
+                .containsExactly(2L, 4L, 5L, 0L);
+        verify(mvRepository).findChangedProductsForSync(WATERMARK, 0L, CHUNK_SIZE);
+        verify(mvRepository).findChangedProductsForSync(WATERMARK, 2L, CHUNK_SIZE);
+        verify(mvRepository).findChangedProductsForSync(WATERMARK, 4L, CHUNK_SIZE);
+        assertThat(meterRegistry.get("product.mv.sync.chunk").timer().count()).isEqualTo(3);
+        assertThat(meterRegistry.get("product.mv.sync.rows").counter().count()).isEqualTo(5.0);
+    }
+
+    @Test
+    @DisplayName("기준 시간은 마지막 청크까지 끝난 뒤에만 이번 동기화 시작 시각으로 갱신된다")
+    void 기준_시간은_마지막_청크까지_끝난_뒤에만_이번_동기화_시작_시각으로_갱신된다() {
+        // given
+        syncStateRepository.checkpoint = new ProductMVSyncCheckpoint(WATERMARK, null, 0L);
+        when(mvRepository.findChangedProductsForSync(any(), anyLong(), anyInt()))
+                .thenAnswer(invocation -> chunkAfter(invocation.getArgument(1)));
+        ZonedDateTime before = ZonedDateTime.now();
+
+        // when
+        service().syncMaterializedView(FENCING_TOKEN, (chunk, initialLoad) -> {
+        });
+
+        // then
+        List<ProductMVSyncCheckpoint> chunkCheckpoints = syncStateRepository.saved.subList(0, 3);
+        assertThat(chunkCheckpoints).allSatisfy(checkpoint -> {
+            assertThat(checkpoint.watermark()).isEqualTo(WATERMARK);
+            assertThat(checkpoint.isInProgress()).isTrue();
+        });
+
+        ProductMVSyncCheckpoint completed = syncStateRepository.checkpoint;
+        assertThat(completed.isInProgress()).isFalse();
+        assertThat(completed.watermark()).isEqualTo(chunkCheckpoints.get(0).passStartedAt());
+        assertThat(completed.watermark()).isAfterOrEqualTo(before);
+        assertThat(syncStateRepository.fencingTokens).containsOnly(FENCING_TOKEN);
+    }
+
+    @Test
+    @DisplayName("청크가 실패하면 기준 시간을 유지하고, 다음 실행은 같은 기준 시간으로 마지막 커밋 위치부터 이어서 처리한다")
+    void 청크가_실패하면_기준_시간을_유지하고_다음_실행은_같은_기준_시간으로_마지막_커밋_위치부터_이어서_처리한다() {
+        // given - 두 번째 청크 조회가 한 번 실패한다
+        syncStateRepository.checkpoint = new ProductMVSyncCheckpoint(WATERMARK, null, 0L);
+        AtomicBoolean failed = new AtomicBoolean();
+        when(mvRepository.findChangedProductsForSync(any(), anyLong(), anyInt())).thenAnswer(invocation -> {
+            long lastProductId = invocation.getArgument(1);
+            if (lastProductId == 2L && failed.compareAndSet(false, true)) {
+                throw new IllegalStateException("DB 연결 끊김");
+            }
+            return chunkAfter(lastProductId);
+        });
+
+        // when
+        BatchUpdateResult failedRun = service().syncMaterializedView(FENCING_TOKEN, (chunk, initialLoad) -> {
+        });
+
+        // then
+        assertThat(failedRun.isSuccess()).isFalse();
+        ProductMVSyncCheckpoint interrupted = syncStateRepository.checkpoint;
+        assertThat(interrupted.watermark()).isEqualTo(WATERMARK);
+        assertThat(interrupted.isInProgress()).isTrue();
+        assertThat(interrupted.lastProductId()).isEqualTo(2L);
+
+        // when - 다음 실행
+        clearInvocations(mvRepository);
+        BatchUpdateResult resumedRun = service().syncMaterializedView(FENCING_TOKEN, (chunk, initialLoad) -> {
+        });
+
+        // then
+        assertThat(resumedRun.isSuccess()).isTrue();
+        assertThat(resumedRun.getCreatedCount()).isEqualTo(3);
+        verify(mvRepository, never()).findChangedProductsForSync(WATERMARK, 0L, CHUNK_SIZE);
+        verify(mvRepository).findChangedProductsForSync(WATERMARK, 2L, CHUNK_SIZE);
+        verify(mvRepository).findChangedProductsForSync(WATERMARK, 4L, CHUNK_SIZE);
+        assertThat(syncStateRepository.checkpoint.watermark()).isEqualTo(interrupted.passStartedAt());
+        assertThat(syncStateRepository.checkpoint.isInProgress()).isFalse();
+    }
+
+    @Test
+    @DisplayName("다른 노드가 더 새로운 fencing token으로 기록했으면 청크를 커밋하지 않고 중단한다")
+    void 다른_노드가_더_새로운_fencing_token으로_기록했으면_청크를_커밋하지_않고_중단한다() {
+        // given
+        syncStateRepository.checkpoint = new ProductMVSyncCheckpoint(WATERMARK, null, 0L);
+        syncStateRepository.rejectSaves = true;
+        when(mvRepository.findChangedProductsForSync(any(), anyLong(), anyInt()))
+                .thenAnswer(invocation -> chunkAfter(invocation.getArgument(1)));
+        List<BatchUpdateResult> chunks = new ArrayList<>();
+
+        // when
+        BatchUpdateResult result = service().syncMaterializedView(FENCING_TOKEN, (chunk, initialLoad) -> chunks.add(chunk));
+
+        // then
+        assertThat(result.isSuccess()).isFalse();
+        assertThat(chunks).isEmpty();
+        verify(mvRepository, times(1)).findChangedProductsForSync(any(), anyLong(), anyInt());
+    }
+
+    private List<ProductMVSyncDto> chunkAfter(long lastProductId) {
+        return changedProducts.stream()
+                .filter(dto -> dto.getProductId() > lastProductId)
+                .limit(CHUNK_SIZE)
+                .toList();
+    }
+
+    private ProductMVService service() {
+        ProductMVSyncProperties properties = new ProductMVSyncProperties(
+                true, Duration.ofSeconds(1), 500, Duration.ofMinutes(10), CHUNK_SIZE, false);
+        return new ProductMVService(mvRepository, productCacheService, searchIndex, rankingService,
+                cacheLoadCoordinator, cacheMetrics, properties, transactionTemplate, meterRegistry, syncStateRepository);
+    }
+
+    private static ProductMVSyncDto changed(long productId) {
+        ZonedDateTime updatedAt = WATERMARK.plusMinutes(productId);
+        return new ProductMVSyncDto(productId, "상품" + productId, "설명", new BigDecimal("10000"), null, 10,
+                updatedAt, 1L, "브랜드", updatedAt, 0L, updatedAt);
+    }
+
+    /**
+     * 저장된 진행 상태를 기록하는 리포지토리
+     */
+    private static class RecordingSyncStateRepository implements ProductMVSyncStateRepository {
+
+        private ProductMVSyncCheckpoint checkpoint = ProductMVSyncCheckpoint.initial();
+        private final List<ProductMVSyncCheckpoint> saved = new ArrayList<>();
+        private final List<Long> fencingTokens = new ArrayList<>();
+        private boolean rejectSaves;
+
+        @Override
+        public ProductMVSyncCheckpoint findCheckpoint() {
+            return checkpoint;
+        }
+
+        @Override
+        public boolean saveCheckpoint(ProductMVSyncCheckpoint checkpoint, Long fencingToken) {
+            if (rejectSaves) {
+                return false;
+            }
+            this.checkpoint = checkpoint;
+            saved.add(checkpoint);
+            fencingTokens.add(fencingToken);
+            return true;
+        }
+    }
+}
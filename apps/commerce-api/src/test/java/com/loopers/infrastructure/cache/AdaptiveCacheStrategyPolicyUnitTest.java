@@ -0,0 +1,102 @@
+package com.loopers.infrastructure.cache;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import java.time.Duration;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+/**
+ * @author hyunjikoh
+ * @since 2025. 12. 9.
+ */
+@DisplayName("AdaptiveCacheStrategyPolicy 단위 테스트")
+class AdaptiveCacheStrategyPolicyUnitTest {
+
+    private static final String KEY = "1||5|20|likeCount_desc";
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    @Test
+    @DisplayName("자주 요청되는 Cold 조합은 Warm을 거쳐 Hot으로 승격된다")
+    void 자주_요청되는_Cold_조합은_Warm을_거쳐_Hot으로_승격된다() {
+        // given
+        AdaptiveCacheStrategyPolicy policy = policy(true, 1);
+
+        // when
+        CacheStrategy first = policy.recordAndAdjust(KEY, CacheStrategy.COLD);
+        CacheStrategy afterWarm = repeat(policy, KEY, CacheStrategy.COLD, 3);
+        CacheStrategy afterHot = repeat(policy, KEY, CacheStrategy.COLD, 4);
+
+        // then
+        assertThat(first).isEqualTo(CacheStrategy.COLD);
+        assertThat(afterWarm).isEqualTo(CacheStrategy.WARM);
+        assertThat(afterHot).isEqualTo(CacheStrategy.HOT);
+        assertThat(meterRegistry.get("product.cache.strategy.decisions")
+                .tags("rule", "promoted", "strategy", "hot")
+                .counter().count()).isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("요청이 충분히 쌓인 뒤 드문 조합은 한 단계 강등된다")
+    void 요청이_충분히_쌓인_뒤_드문_조합은_한_단계_강등된다() {
+        // given
+        AdaptiveCacheStrategyPolicy policy = policy(true, 5);
+        repeat(policy, "other", CacheStrategy.WARM, 5);
+
+        // when & then
+        assertThat(policy.adjust(KEY, CacheStrategy.HOT)).isEqualTo(CacheStrategy.WARM);
+        assertThat(policy.adjust(KEY, CacheStrategy.WARM)).isEqualTo(CacheStrategy.COLD);
+    }
+
+    @Test
+    @DisplayName("누적 요청이 적으면 드문 조합도 정적 규칙을 따른다")
+    void 누적_요청이_적으면_드문_조합도_정적_규칙을_따른다() {
+        // given
+        AdaptiveCacheStrategyPolicy policy = policy(true, 10_000);
+
+        // when & then
+        assertThat(policy.adjust(KEY, CacheStrategy.HOT)).isEqualTo(CacheStrategy.HOT);
+    }
+
+    @Test
+    @DisplayName("비활성화 상태에서는 요청 빈도와 관계없이 정적 규칙을 그대로 사용한다")
+    void 비활성화_상태에서는_요청_빈도와_관계없이_정적_규칙을_그대로_사용한다() {
+        // given
+        AdaptiveCacheStrategyPolicy policy = policy(false, 1);
+
+        // when
+        CacheStrategy decided = repeat(policy, KEY, CacheStrategy.COLD, 100);
+
+        // then
+        assertThat(decided).isEqualTo(CacheStrategy.COLD);
+    }
+
+    private static CacheStrategy repeat(AdaptiveCacheStrategyPolicy policy, String key, CacheStrategy strategy, int times) {
+        CacheStrategy decided = strategy;
+        for (int i = 0; i < times; i++) {
+            decided = policy.recordAndAdjust(key, strategy);
+        }
+        return decided;
+    }
+
+    /**
+     * hot: 8회, warm: 4회, cold: 2회 미만
+     */
+    private AdaptiveCacheStrategyPolicy policy(boolean enabled, long minSamples) {
+        ProductCacheProperties properties = new ProductCacheProperties(
+                new ProductCacheProperties.Local(false, 1000, 500, Duration.ofSeconds(30)),
+                new ProductCacheProperties.Invalidation("product:cache:invalidation"),
+                new ProductCacheProperties.Ranking(false),
+                new ProductCacheProperties.Lease(false, Duration.ofSeconds(3), Duration.ofMillis(500), Duration.ofMillis(20)),
+                new ProductCacheProperties.Expiration(
+                        Duration.ofMinutes(30), 0.1, Duration.ofMinutes(10), 0.2, 1.0, Duration.ofMillis(20)),
+                new ProductCacheProperties.Codec(1024),
+                new ProductCacheProperties.Metrics(false, Duration.ofMinutes(1), 1000),
+                new ProductCacheProperties.Adaptive(enabled, 1024, 100_000, 8, 4, 2, minSamples)
+        );
+        return new AdaptiveCacheStrategyPolicy(properties, meterRegistry);
+    }
+}
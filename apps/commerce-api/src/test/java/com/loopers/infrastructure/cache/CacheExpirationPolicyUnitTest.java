@@ -0,0 +1,83 @@
+package com.loopers.infrastructure.cache;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+/**
+ * @author hyunjikoh
+ * @since 2025. 12. 5.
+ */
+@DisplayName("CacheExpirationPolicy 단위 테스트")
+class CacheExpirationPolicyUnitTest {
+
+    private static final Instant NOW = Instant.parse("2025-12-05T00:00:00Z");
+
+    private CacheExpirationPolicy policy;
+
+    @BeforeEach
+    void setUp() {
+        policy = new CacheExpirationPolicy(properties(1.0), Clock.fixed(NOW, ZoneOffset.UTC));
+    }
+
+    @Test
+    @DisplayName("TTL은 설정값을 넘지 않고 지터 범위 안에서 분산된다")
+    void TTL은_설정값을_넘지_않고_지터_범위_안에서_분산된다() {
+        for (int i = 0; i < 100; i++) {
+            assertThat(policy.ttl(CacheStrategy.HOT))
+                    .isLessThanOrEqualTo(Duration.ofMinutes(30))
+                    .isGreaterThan(Duration.ofMinutes(27));
+            assertThat(policy.ttl(CacheStrategy.WARM))
+                    .isLessThanOrEqualTo(Duration.ofMinutes(10))
+                    .isGreaterThan(Duration.ofMinutes(8));
+        }
+    }
+
+    @Test
+    @DisplayName("만료까지 충분히 남은 값은 조기 갱신하지 않는다")
+    void 만료까지_충분히_남은_값은_조기_갱신하지_않는다() {
+        CacheEntry<List<Long>> entry = new CacheEntry<>(List.of(1L), 50, NOW.plus(Duration.ofMinutes(10)).toEpochMilli());
+
+        for (int i = 0; i < 100; i++) {
+            assertThat(policy.shouldRefreshEarly(entry)).isFalse();
+        }
+    }
+
+    @Test
+    @DisplayName("만료 시각이 지난 값은 항상 조기 갱신한다")
+    void 만료_시각이_지난_값은_항상_조기_갱신한다() {
+        CacheEntry<List<Long>> entry = new CacheEntry<>(List.of(1L), 50, NOW.toEpochMilli());
+
+        assertThat(policy.shouldRefreshEarly(entry)).isTrue();
+    }
+
+    @Test
+    @DisplayName("beta가 0이면 조기 갱신하지 않는다")
+    void beta가_0이면_조기_갱신하지_않는다() {
+        CacheExpirationPolicy disabled = new CacheExpirationPolicy(properties(0), Clock.fixed(NOW, ZoneOffset.UTC));
+        CacheEntry<List<Long>> entry = new CacheEntry<>(List.of(1L), 50, NOW.toEpochMilli());
+
+        assertThat(disabled.shouldRefreshEarly(entry)).isFalse();
+    }
+
+    private static ProductCacheProperties properties(double beta) {
+        return new ProductCacheProperties(
+                new ProductCacheProperties.Local(false, 1000, 500, Duration.ofSeconds(30)),
+                new ProductCacheProperties.Invalidation("product:cache:invalidation"),
+                new ProductCacheProperties.Ranking(false),
+                new ProductCacheProperties.Lease(false, Duration.ofSeconds(3), Duration.ofMillis(500), Duration.ofMillis(20)),
+                new ProductCacheProperties.Expiration(
+                        Duration.ofMinutes(30), 0.1, Duration.ofMinutes(10), 0.2, beta, Duration.ofMillis(20)),
+                new ProductCacheProperties.Codec(1024),
+                new ProductCacheProperties.Metrics(false, Duration.ofMinutes(1), 1000),
+                new ProductCacheProperties.Adaptive(false, 8192, 81920, 32, 8, 2, 10000)
+        );
+    }
+}
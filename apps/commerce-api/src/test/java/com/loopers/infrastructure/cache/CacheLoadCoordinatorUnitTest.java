@@ -0,0 +1,120 @@
+package com.loopers.infrastructure.cache;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.mock;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.core.RedisTemplate;
+
+import com.loopers.support.error.CoreException;
+import com.loopers.support.error.ErrorType;
+
+/**
+ * @author hyunjikoh
+ * @since 2025. 12. 5.
+ */
+@DisplayName("CacheLoadCoordinator 단위 테스트")
+class CacheLoadCoordinatorUnitTest {
+
+    private static final String CACHE_KEY = "product:detail:1";
+
+    private CacheLoadCoordinator coordinator;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() {
+        ProductCacheProperties properties = new ProductCacheProperties(
+                new ProductCacheProperties.Local(false, 1000, 500, Duration.ofSeconds(30)),
+                new ProductCacheProperties.Invalidation("product:cache:invalidation"),
+                new ProductCacheProperties.Ranking(false),
+                new ProductCacheProperties.Lease(false, Duration.ofSeconds(3), Duration.ofMillis(500), Duration.ofMillis(20)),
+                new ProductCacheProperties.Expiration(
+                        Duration.ofMinutes(30), 0.1, Duration.ofMinutes(10), 0.2, 1.0, Duration.ofMillis(20)),
+                new ProductCacheProperties.Codec(1024),
+                new ProductCacheProperties.Metrics(false, Duration.ofMinutes(1), 1000),
+                new ProductCacheProperties.Adaptive(false, 8192, 81920, 32, 8, 2, 10000)
+        );
+        coordinator = new CacheLoadCoordinator(mock(RedisTemplate.class), properties);
+    }
+
+    @Test
+    @DisplayName("같은 키에 대한 동시 미스는 로더를 한 번만 실행하고 결과를 공유한다")
+    void 같은_키에_대한_동시_미스는_로더를_한_번만_실행하고_결과를_공유한다() throws Exception {
+        // given
+        int threadCount = 10;
+        AtomicInteger loadCount = new AtomicInteger();
+        CountDownLatch loaderStarted = new CountDownLatch(1);
+        CountDownLatch releaseLoader = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(threadCount);
+
+        // when
+        List<Future<String>> results = new ArrayList<>();
+        for (int i = 0; i < threadCount; i++) {
+            results.add(executor.submit(() -> coordinator.load(CACHE_KEY, Optional::empty, () -> {
+                loadCount.incrementAndGet();
+                loaderStarted.countDown();
+                await(releaseLoader);
+                return "loaded";
+            })));
+        }
+        loaderStarted.await(1, TimeUnit.SECONDS);
+        Thread.sleep(100); // 나머지 요청이 진행 중인 적재에 합류할 시간
+        releaseLoader.countDown();
+
+        // then
+        for (Future<String> result : results) {
+            assertThat(result.get(1, TimeUnit.SECONDS)).isEqualTo("loaded");
+        }
+        assertThat(loadCount.get()).isEqualTo(1);
+        executor.shutdown();
+    }
+
+    @Test
+    @DisplayName("적재 직전에 캐시가 채워졌으면 로더를 실행하지 않는다")
+    void 적재_직전에_캐시가_채워졌으면_로더를_실행하지_않는다() {
+        // given
+        AtomicInteger loadCount = new AtomicInteger();
+
+        // when
+        String result = coordinator.load(CACHE_KEY, () -> Optional.of("cached"), () -> {
+            loadCount.incrementAndGet();
+            return "loaded";
+        });
+
+        // then
+        assertThat(result).isEqualTo("cached");
+        assertThat(loadCount.get()).isZero();
+    }
+
+    @Test
+    @DisplayName("로더 예외는 호출자에게 그대로 전달되고 다음 요청은 다시 적재한다")
+    void 로더_예외는_호출자에게_그대로_전달되고_다음_요청은_다시_적재한다() {
+        // when & then
+        assertThatThrownBy(() -> coordinator.load(CACHE_KEY, Optional::empty, () -> {
+            throw new CoreException(ErrorType.NOT_FOUND_PRODUCT);
+        })).isInstanceOf(CoreException.class);
+
+        assertThat(coordinator.load(CACHE_KEY, Optional::empty, () -> "loaded")).isEqualTo("loaded");
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(1, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
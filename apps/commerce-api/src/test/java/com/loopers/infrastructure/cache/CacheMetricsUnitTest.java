@@ -0,0 +1,75 @@
+package com.loopers.infrastructure.cache;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+/**
+ * @author hyunjikoh
+ * @since 2025. 12. 9.
+ */
+@DisplayName("CacheMetrics 단위 테스트")
+class CacheMetricsUnitTest {
+
+    private SimpleMeterRegistry meterRegistry;
+    private CacheMetrics cacheMetrics;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        cacheMetrics = new CacheMetrics(meterRegistry);
+    }
+
+    @Test
+    @DisplayName("조회 결과는 레벨, 패밀리, 캐시 전략별로 집계된다")
+    void 조회_결과는_레벨_패밀리_캐시_전략별로_집계된다() {
+        // when
+        cacheMetrics.hit(CacheMetrics.LEVEL_REDIS, CacheMetrics.FAMILY_IDS, CacheStrategy.HOT);
+        cacheMetrics.hit(CacheMetrics.LEVEL_REDIS, CacheMetrics.FAMILY_IDS, CacheStrategy.HOT);
+        cacheMetrics.miss(CacheMetrics.LEVEL_REDIS, CacheMetrics.FAMILY_IDS, CacheStrategy.WARM);
+
+        // then
+        assertThat(meterRegistry.get("product.cache.requests")
+                .tags("level", "l2", "family", "ids", "strategy", "hot", "result", "hit")
+                .counter().count()).isEqualTo(2.0);
+        assertThat(meterRegistry.get("product.cache.requests")
+                .tags("strategy", "warm", "result", "miss")
+                .counter().count()).isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("Redis 연산 지연은 패밀리와 연산별 타이머로 기록된다")
+    void Redis_연산_지연은_패밀리와_연산별_타이머로_기록된다() {
+        // given
+        Timer.Sample sample = cacheMetrics.start();
+
+        // when
+        cacheMetrics.stopRedis(sample, CacheMetrics.FAMILY_DETAIL, CacheStrategy.HOT, CacheMetrics.OPERATION_GET);
+
+        // then
+        assertThat(meterRegistry.get("product.cache.redis.latency")
+                .tags("family", "detail", "strategy", "hot", "operation", "get")
+                .timer().count()).isEqualTo(1L);
+    }
+
+    @Test
+    @DisplayName("직렬화 시간과 값 크기가 함께 기록된다")
+    void 직렬화_시간과_값_크기가_함께_기록된다() {
+        // when
+        cacheMetrics.serialization(CacheMetrics.FAMILY_ROW, CacheStrategy.HOT, CacheMetrics.OPERATION_ENCODE,
+                1_000_000L, 512);
+
+        // then
+        assertThat(meterRegistry.get("product.cache.serialization")
+                .tags("family", "row", "operation", "encode")
+                .timer().count()).isEqualTo(1L);
+        assertThat(meterRegistry.get("product.cache.payload.size")
+                .tags("family", "row", "strategy", "hot", "operation", "encode")
+                .summary().totalAmount()).isEqualTo(512.0);
+    }
+}
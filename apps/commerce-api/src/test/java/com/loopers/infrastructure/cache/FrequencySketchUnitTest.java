@@ -0,0 +1,48 @@
+package com.loopers.infrastructure.cache;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+/**
+ * @author hyunjikoh
+ * @since 2025. 12. 9.
+ */
+@DisplayName("FrequencySketch 단위 테스트")
+class FrequencySketchUnitTest {
+
+    @Test
+    @DisplayName("기록한 횟수 이상으로 빈도를 추정한다")
+    void 기록한_횟수_이상으로_빈도를_추정한다() {
+        // given
+        FrequencySketch sketch = new FrequencySketch(1024, 100_000);
+
+        // when
+        for (int i = 0; i < 10; i++) {
+            sketch.increment("null||0|20|likeCount_desc");
+        }
+        sketch.increment("1||5|20|likeCount_desc");
+
+        // then
+        assertThat(sketch.frequency("null||0|20|likeCount_desc")).isGreaterThanOrEqualTo(10);
+        assertThat(sketch.frequency("1||5|20|likeCount_desc")).isGreaterThanOrEqualTo(1);
+        assertThat(sketch.frequency("2||9|20|likeCount_desc")).isLessThan(10);
+    }
+
+    @Test
+    @DisplayName("감쇠 주기에 도달하면 빈도가 절반으로 줄어든다")
+    void 감쇠_주기에_도달하면_빈도가_절반으로_줄어든다() {
+        // given
+        FrequencySketch sketch = new FrequencySketch(1024, 16);
+
+        // when
+        for (int i = 0; i < 16; i++) {
+            sketch.increment("hot");
+        }
+
+        // then
+        assertThat(sketch.frequency("hot")).isEqualTo(8);
+        assertThat(sketch.additions()).isEqualTo(16L);
+    }
+}
@@ -0,0 +1,106 @@
+package com.loopers.infrastructure.cache;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.List;
+import java.util.stream.LongStream;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.type.TypeFactory;
+
+/**
+ * @author hyunjikoh
+ * @since 2025. 12. 6.
+ */
+@DisplayName("SmileCacheValueCodec 단위 테스트")
+class SmileCacheValueCodecUnitTest {
+
+    private ObjectMapper objectMapper;
+    private SmileCacheValueCodec codec;
+    private JavaType idsEntryType;
+
+    @BeforeEach
+    void setUp() {
+        objectMapper = new ObjectMapper();
+        codec = new SmileCacheValueCodec(objectMapper, properties(256));
+
+        TypeFactory typeFactory = objectMapper.getTypeFactory();
+        idsEntryType = typeFactory.constructParametricType(
+                CacheEntry.class, typeFactory.constructCollectionType(List.class, Long.class));
+    }
+
+    @Test
+    @DisplayName("임계값 미만의 값은 압축 없이 인코딩하고 그대로 복원한다")
+    void 임계값_미만의_값은_압축_없이_인코딩하고_그대로_복원한다() throws IOException {
+        // given
+        CacheEntry<List<Long>> entry = new CacheEntry<>(List.of(1L, 2L, 3L), 12, 1_700_000_000_000L);
+
+        // when
+        byte[] encoded = codec.encode(entry);
+        CacheEntry<List<Long>> decoded = codec.decode(encoded, idsEntryType);
+
+        // then
+        assertThat(encoded[0]).isEqualTo((byte) 0x01);
+        assertThat(encoded.length).isLessThan(objectMapper.writeValueAsBytes(entry).length);
+        assertThat(decoded).isEqualTo(entry);
+    }
+
+    @Test
+    @DisplayName("임계값 이상의 값은 LZ4로 압축하고 그대로 복원한다")
+    void 임계값_이상의_값은_LZ4로_압축하고_그대로_복원한다() throws IOException {
+        // given
+        List<Long> productIds = LongStream.rangeClosed(1, 500).boxed().toList();
+        CacheEntry<List<Long>> entry = new CacheEntry<>(productIds, 12, 1_700_000_000_000L);
+
+        // when
+        byte[] encoded = codec.encode(entry);
+        CacheEntry<List<Long>> decoded = codec.decode(encoded, idsEntryType);
+
+        // then
+        assertThat(encoded[0]).isEqualTo((byte) 0x02);
+        assertThat(decoded).isEqualTo(entry);
+    }
+
+    @Test
+    @DisplayName("헤더가 없는 이전 형식의 JSON 문자열도 복원한다")
+    void 헤더가_없는_이전_형식의_JSON_문자열도_복원한다() throws IOException {
+        // given
+        byte[] legacy = "{\"value\":[10,20],\"computeMillis\":5,\"expiresAt\":1700000000000}"
+                .getBytes(StandardCharsets.UTF_8);
+
+        // when
+        CacheEntry<List<Long>> decoded = codec.decode(legacy, idsEntryType);
+
+        // then
+        assertThat(decoded.value()).containsExactly(10L, 20L);
+    }
+
+    @Test
+    @DisplayName("알 수 없는 형식 헤더는 예외가 발생한다")
+    void 알_수_없는_형식_헤더는_예외가_발생한다() {
+        assertThatThrownBy(() -> codec.decode(new byte[]{0x7F, 0x00}, idsEntryType))
+                .isInstanceOf(IOException.class);
+    }
+
+    private static ProductCacheProperties properties(int compressionThreshold) {
+        return new ProductCacheProperties(
+                new ProductCacheProperties.Local(false, 1000, 500, Duration.ofSeconds(30)),
+                new ProductCacheProperties.Invalidation("product:cache:invalidation"),
+                new ProductCacheProperties.Ranking(false),
+                new ProductCacheProperties.Lease(false, Duration.ofSeconds(3), Duration.ofMillis(500), Duration.ofMillis(20)),
+                new ProductCacheProperties.Expiration(
+                        Duration.ofMinutes(30), 0.1, Duration.ofMinutes(10), 0.2, 1.0, Duration.ofMillis(20)),
+                new ProductCacheProperties.Codec(compressionThreshold),
+                new ProductCacheProperties.Metrics(false, Duration.ofMinutes(1), 1000),
+                new ProductCacheProperties.Adaptive(false, 8192, 81920, 32, 8, 2, 10000)
+        );
+    }
+}
@@ -0,0 +1,88 @@
+package com.loopers.infrastructure.outbox;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.*;
+import java.time.Duration;
+import java.util.List;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import com.loopers.domain.outbox.OutboxEventService;
+import com.loopers.domain.outbox.OutboxRelayResult;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+/**
+ * @author hyunjikoh
+ * @since 2025. 12. 10.
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("OutboxRelay 단위 테스트")
+class OutboxRelayUnitTest {
+
+    private static final int BATCH_SIZE = 2;
+    private static final int MAX_ATTEMPTS = 5;
+
+    @Mock
+    private OutboxEventService outboxEventService;
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    @Test
+    @DisplayName("발행을 중단한 이벤트 수를 지표로 기록한다")
+    void 발행을_중단한_이벤트_수를_지표로_기록한다() {
+        // given
+        when(outboxEventService.relay(anyInt(), any(), anyInt()))
+                .thenReturn(new OutboxRelayResult(1, List.of(), 1, 1));
+
+        // when
+        relay().relay();
+
+        // then
+        verify(outboxEventService).relay(BATCH_SIZE, Duration.ofSeconds(1), MAX_ATTEMPTS);
+        assertThat(meterRegistry.get("outbox.relay.events")
+                .tags("topic", "all", "result", "dead_lettered")
+                .counter().count()).isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("배치의 실패가 모두 발행 중단되었으면 다음 배치를 이어서 발행한다")
+    void 배치의_실패가_모두_발행_중단되었으면_다음_배치를_이어서_발행한다() {
+        // given
+        when(outboxEventService.relay(anyInt(), any(), anyInt()))
+                .thenReturn(new OutboxRelayResult(BATCH_SIZE, List.of(), 1, 1))
+                .thenReturn(OutboxRelayResult.empty());
+
+        // when
+        relay().relay();
+
+        // then
+        verify(outboxEventService, times(2)).relay(anyInt(), any(), anyInt());
+    }
+
+    @Test
+    @DisplayName("다시 시도할 실패가 있으면 다음 주기까지 발행을 멈춘다")
+    void 다시_시도할_실패가_있으면_다음_주기까지_발행을_멈춘다() {
+        // given
+        when(outboxEventService.relay(anyInt(), any(), anyInt()))
+                .thenReturn(new OutboxRelayResult(BATCH_SIZE, List.of(), 2, 1));
+
+        // when
+        relay().relay();
+
+        // then
+        verify(outboxEventService, times(1)).relay(anyInt(), any(), anyInt());
+    }
+
+    private OutboxRelay relay() {
+        OutboxProperties properties = new OutboxProperties(true, Duration.ofMillis(500), BATCH_SIZE,
+                Duration.ofSeconds(1), MAX_ATTEMPTS, Duration.ofSeconds(10), Duration.ofDays(7));
+        return new OutboxRelay(outboxEventService, properties, meterRegistry);
+    }
+}
@@ -0,0 +1,95 @@
+package com.loopers.infrastructure.product;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.*;
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.ZonedDateTime;
+import java.util.List;
+import java.util.Optional;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.PageImpl;
+
+import com.loopers.application.product.ProductFacade;
+import com.loopers.application.product.ProductInfo;
+import com.loopers.application.product.ProductPriceInfo;
+import com.loopers.domain.brand.BrandService;
+import com.loopers.domain.product.ProductCacheService;
+import com.loopers.domain.product.ProductLikeRankingService;
+import com.loopers.domain.product.ProductMVService;
+import com.loopers.infrastructure.cache.CacheStrategy;
+
+/**
+ * @author hyunjikoh
+ * @since 2025. 12. 9.
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("ProductCacheWarmUpRunner 단위 테스트")
+class ProductCacheWarmUpRunnerUnitTest {
+
+    @Mock
+    private ProductFacade productFacade;
+
+    @Mock
+    private ProductMVService mvService;
+
+    @Mock
+    private ProductCacheService cacheService;
+
+    @Mock
+    private ProductLikeRankingService rankingService;
+
+    @Mock
+    private BrandService brandService;
+
+    @Test
+    @DisplayName("인기 상품 상세와 전체 목록 첫 페이지를 적재하고, 비어 있는 랭킹을 재구축한다")
+    void 인기_상품_상세와_전체_목록_첫_페이지를_적재하고_비어_있는_랭킹을_재구축한다() {
+        // given
+        when(brandService.getAllBrands()).thenReturn(List.of());
+        when(mvService.findBySearchFilter(any())).thenReturn(new PageImpl<>(List.of(info(1L), info(2L))));
+        when(cacheService.determineCacheStrategy(any())).thenReturn(CacheStrategy.HOT);
+        when(rankingService.isEnabled()).thenReturn(true);
+        when(rankingService.getRankingPage(isNull(), anyLong(), anyInt())).thenReturn(Optional.empty());
+
+        // when
+        runner(true).run(null);
+
+        // then
+        verify(productFacade).getProductDetail(1L, null);
+        verify(productFacade).getProductDetail(2L, null);
+        verify(mvService).getProductsByStrategy(any(), eq(CacheStrategy.HOT));
+        verify(rankingService).rebuild();
+    }
+
+    @Test
+    @DisplayName("비활성화 상태에서는 아무것도 적재하지 않는다")
+    void 비활성화_상태에서는_아무것도_적재하지_않는다() {
+        // when
+        runner(false).run(null);
+
+        // then
+        verifyNoInteractions(productFacade, mvService, rankingService, brandService);
+    }
+
+    private ProductCacheWarmUpRunner runner(boolean enabled) {
+        return new ProductCacheWarmUpRunner(
+                productFacade, mvService, cacheService, rankingService, brandService,
+                new ProductWarmUpProperties(enabled, Duration.ofSeconds(5), 100, 1, 4)
+        );
+    }
+
+    private static ProductInfo info(Long id) {
+        return new ProductInfo(id, "상품" + id, "설명" + id, 10L,
+                new ProductPriceInfo(new BigDecimal("10000"), null), 1L, ZonedDateTime.now());
+    }
+}
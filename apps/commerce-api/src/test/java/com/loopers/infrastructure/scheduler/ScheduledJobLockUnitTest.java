@@ -0,0 +1,135 @@
+package com.loopers.infrastructure.scheduler;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+import java.time.Duration;
+import java.time.ZonedDateTime;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import com.loopers.domain.scheduler.SchedulerLockRepository;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+/**
+ * @author hyunjikoh
+ * @since 2025. 12. 10.
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("ScheduledJobLock 단위 테스트")
+class ScheduledJobLockUnitTest {
+
+    private static final String JOB = "product-mv-sync";
+    private static final Duration INTERVAL = Duration.ofMinutes(10);
+
+    @Mock
+    private SchedulerLockRepository schedulerLockRepository;
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    @Test
+    @DisplayName("락을 획득하면 fencing token과 함께 작업을 실행하고 주기 동안 락을 유지한다")
+    void 락을_획득하면_fencing_token과_함께_작업을_실행하고_주기_동안_락을_유지한다() {
+        // given
+        when(schedulerLockRepository.tryAcquire(eq(JOB), anyString(), any(), any())).thenReturn(Optional.of(7L));
+        AtomicReference<Long> fencingToken = new AtomicReference<>();
+        ZonedDateTime before = ZonedDateTime.now();
+
+        // when
+        boolean ran = jobLock(true).runExclusively(JOB, INTERVAL, lease -> fencingToken.set(lease.fencingToken()));
+
+        // then
+        assertThat(ran).isTrue();
+        assertThat(fencingToken.get()).isEqualTo(7L);
+        ArgumentCaptor<ZonedDateTime> holdUntil = ArgumentCaptor.forClass(ZonedDateTime.class);
+        verify(schedulerLockRepository).updateLockUntil(eq(JOB), anyString(), eq(7L), holdUntil.capture());
+        assertThat(holdUntil.getValue()).isAfter(before.plus(INTERVAL).minusSeconds(11));
+        assertThat(meterRegistry.get("scheduler.lock.hold").tag("job", JOB).timer().count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("다른 노드가 락을 보유 중이면 작업을 건너뛰고 건너뛴 실행을 기록한다")
+    void 다른_노드가_락을_보유_중이면_작업을_건너뛰고_건너뛴_실행을_기록한다() {
+        // given
+        when(schedulerLockRepository.tryAcquire(eq(JOB), anyString(), any(), any())).thenReturn(Optional.empty());
+        Runnable job = mock(Runnable.class);
+
+        // when
+        boolean ran = jobLock(true).runExclusively(JOB, INTERVAL, lease -> job.run());
+
+        // then
+        assertThat(ran).isFalse();
+        verify(job, never()).run();
+        verify(schedulerLockRepository, never()).updateLockUntil(anyString(), anyString(), anyLong(), any());
+        assertThat(meterRegistry.get("scheduler.lock.skipped")
+                .tags("job", JOB, "reason", "held")
+                .counter().count()).isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("락 저장소 오류 시 작업을 건너뛴다")
+    void 락_저장소_오류_시_작업을_건너뛴다() {
+        // given
+        when(schedulerLockRepository.tryAcquire(eq(JOB), anyString(), any(), any()))
+                .thenThrow(new IllegalStateException("connection refused"));
+        Runnable job = mock(Runnable.class);
+
+        // when
+        boolean ran = jobLock(true).runExclusively(JOB, INTERVAL, lease -> job.run());
+
+        // then
+        assertThat(ran).isFalse();
+        verify(job, never()).run();
+        assertThat(meterRegistry.get("scheduler.lock.skipped")
+                .tags("job", JOB, "reason", "error")
+                .counter().count()).isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("작업 중 임대 연장에 실패하면 예외로 작업을 중단한다")
+    void 작업_중_임대_연장에_실패하면_예외로_작업을_중단한다() {
+        // given
+        when(schedulerLockRepository.tryAcquire(eq(JOB), anyString(), any(), any())).thenReturn(Optional.of(3L));
+        when(schedulerLockRepository.updateLockUntil(eq(JOB), anyString(), eq(3L), any())).thenReturn(false);
+
+        // when & then
+        assertThatThrownBy(() -> jobLock(true).runExclusively(JOB, INTERVAL, ScheduledJobLock.Lease::extend))
+                .isInstanceOf(IllegalStateException.class);
+        assertThat(meterRegistry.get("scheduler.lock.lost").tag("job", JOB).counter().count()).isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("비활성화하면 락 없이 fencing token 없이 실행한다")
+    void 비활성화하면_락_없이_fencing_token_없이_실행한다() {
+        // given
+        AtomicReference<Long> fencingToken = new AtomicReference<>(-1L);
+
+        // when
+        boolean ran = jobLock(false).runExclusively(JOB, INTERVAL, lease -> fencingToken.set(lease.fencingToken()));
+
+        // then
+        assertThat(ran).isTrue();
+        assertThat(fencingToken.get()).isNull();
+        verifyNoInteractions(schedulerLockRepository);
+    }
+
+    private ScheduledJobLock jobLock(boolean enabled) {
+        return new ScheduledJobLock(
+                schedulerLockRepository,
+                new SchedulerLockProperties(enabled, Duration.ofMinutes(5), Duration.ofSeconds(10)),
+                meterRegistry
+        );
+    }
+}
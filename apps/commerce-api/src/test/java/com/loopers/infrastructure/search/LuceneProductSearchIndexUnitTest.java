@@ -0,0 +1,130 @@
+package com.loopers.infrastructure.search;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.time.ZonedDateTime;
+import java.util.List;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+
+import com.loopers.domain.product.ProductMVSyncDto;
+import com.loopers.domain.product.ProductMaterializedViewEntity;
+import com.loopers.domain.product.dto.ProductSearchFilter;
+import com.loopers.domain.product.dto.ProductSearchResult;
+
+/**
+ * @author hyunjikoh
+ * @since 2025. 12. 3.
+ */
+@DisplayName("LuceneProductSearchIndex 단위 테스트")
+class LuceneProductSearchIndexUnitTest {
+
+    private LuceneProductSearchIndex searchIndex;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        searchIndex = new LuceneProductSearchIndex(new ProductSearchProperties(true, 1000));
+        searchIndex.index(List.of(
+                mv(1L, 1L, "나이키 에어맥스 90", 10L, "150000"),
+                mv(2L, 1L, "나이키 에어포스 1", 30L, "120000"),
+                mv(3L, 2L, "아디다스 울트라부스트", 20L, "200000"),
+                mv(4L, 2L, "Air Jordan 1 Retro", 5L, "250000")
+        ));
+        searchIndex.markReady();
+    }
+
+    @AfterEach
+    void tearDown() throws IOException {
+        searchIndex.close();
+    }
+
+    @Nested
+    @DisplayName("상품명 검색")
+    class 상품명_검색 {
+
+        @Test
+        @DisplayName("부분 문자열이 연속으로 일치하는 상품만 좋아요 수 내림차순으로 반환한다")
+        void 부분_문자열이_연속으로_일치하는_상품만_좋아요_수_내림차순으로_반환한다() {
+            // when
+            ProductSearchResult result = search(null, "에어", PageRequest.of(0, 20));
+
+            // then
+            assertThat(result.productIds()).containsExactly(2L, 1L);
+            assertThat(result.totalHits()).isEqualTo(2);
+        }
+
+        @Test
+        @DisplayName("글자가 모두 포함되어도 연속되지 않으면 검색되지 않는다")
+        void 글자가_모두_포함되어도_연속되지_않으면_검색되지_않는다() {
+            // when
+            ProductSearchResult result = search(null, "나맥", PageRequest.of(0, 20));
+
+            // then
+            assertThat(result.productIds()).isEmpty();
+        }
+
+        @Test
+        @DisplayName("한 글자 검색과 대소문자 구분 없는 검색을 지원한다")
+        void 한_글자_검색과_대소문자_구분_없는_검색을_지원한다() {
+            assertThat(search(null, "스", PageRequest.of(0, 20)).productIds()).containsExactlyInAnyOrder(1L, 2L, 3L);
+            assertThat(search(null, "air", PageRequest.of(0, 20)).productIds()).containsExactly(4L);
+        }
+
+        @Test
+        @DisplayName("브랜드 필터와 정렬, 페이징을 적용한다")
+        void 브랜드_필터와_정렬_페이징을_적용한다() {
+            // when
+            ProductSearchResult result = search(1L, "나이키", PageRequest.of(1, 1, Sort.by(Sort.Direction.ASC, "price")));
+
+            // then
+            assertThat(result.productIds()).containsExactly(1L);
+            assertThat(result.totalHits()).isEqualTo(2);
+        }
+    }
+
+    @Nested
+    @DisplayName("색인 갱신")
+    class 색인_갱신 {
+
+        @Test
+        @DisplayName("삭제된 상품은 검색되지 않는다")
+        void 삭제된_상품은_검색되지_않는다() {
+            // when
+            searchIndex.delete(List.of(2L));
+
+            // then
+            assertThat(search(null, "나이키", PageRequest.of(0, 20)).productIds()).containsExactly(1L);
+        }
+
+        @Test
+        @DisplayName("같은 상품을 다시 색인하면 갱신된 상품명으로 검색된다")
+        void 같은_상품을_다시_색인하면_갱신된_상품명으로_검색된다() {
+            // when
+            searchIndex.index(List.of(mv(3L, 2L, "아디다스 삼바", 20L, "200000")));
+
+            // then
+            assertThat(search(null, "울트라", PageRequest.of(0, 20)).productIds()).isEmpty();
+            assertThat(search(null, "삼바", PageRequest.of(0, 20)).productIds()).containsExactly(3L);
+            assertThat(searchIndex.size()).isEqualTo(4);
+        }
+    }
+
+    private ProductSearchResult search(Long brandId, String keyword, PageRequest pageable) {
+        return searchIndex.search(new ProductSearchFilter(brandId, keyword, pageable)).orElseThrow();
+    }
+
+    private ProductMaterializedViewEntity mv(Long productId, Long brandId, String name, Long likeCount, String price) {
+        ZonedDateTime now = ZonedDateTime.now();
+        return ProductMaterializedViewEntity.fromDto(new ProductMVSyncDto(
+                productId, name, "설명", new BigDecimal(price), null, 10, now,
+                brandId, "브랜드" + brandId, now, likeCount, now
+        ));
+    }
+}
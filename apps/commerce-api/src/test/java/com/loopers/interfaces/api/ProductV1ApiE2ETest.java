@@ -376,5 +376,129 @@ class ProductV1ApiE2ETest {
             );
         }
     }
-}
 
+    @Nested
+    @DisplayName("조건부 조회 (ETag)")
+    class ConditionalGetTest {
+
+        @Test
+        @DisplayName("상품 상세 ETag가 일치하면 본문 없이 304를 응답한다")
+        void get_product_detail_not_modified_when_etag_matches() {
+            // given
+            Long productId = testProductIds.get(0);
+            ResponseEntity<String> first = testRestTemplate.exchange(Uris.Product.GET_DETAIL,
+                    HttpMethod.GET, null, String.class, productId);
+            String etag = first.getHeaders().getETag();
+
+            HttpHeaders headers = new HttpHeaders();
+            headers.setIfNoneMatch(Objects.requireNonNull(etag));
+
+            // when
+            ResponseEntity<String> second = testRestTemplate.exchange(Uris.Product.GET_DETAIL,
+                    HttpMethod.GET, new HttpEntity<>(null, headers), String.class, productId);
+
+            // then
+            assertAll(
+                    () -> assertThat(first.getHeaders().getCacheControl()).contains("max-age"),
+                    () -> assertThat(second.getStatusCode()).isEqualTo(HttpStatus.NOT_MODIFIED),
+                    () -> assertThat(second.getBody()).isNull(),
+                    () -> assertThat(second.getHeaders().getETag()).isEqualTo(etag)
+            );
+        }
+
+        @Test
+        @DisplayName("로그인 사용자 응답은 private, 비로그인 응답은 public으로 캐시된다")
+        void get_product_detail_cache_control_depends_on_user() {
+            // given
+            Long productId = testProductIds.get(0);
+            ResponseEntity<String> anonymous = testRestTemplate.exchange(Uris.Product.GET_DETAIL,
+                    HttpMethod.GET, null, String.class, productId);
+
+            HttpHeaders headers = new HttpHeaders();
+            headers.set("X-USER-ID", testUsername);
+
+            // when
+            ResponseEntity<String> personalized = testRestTemplate.exchange(Uris.Product.GET_DETAIL,
+                    HttpMethod.GET, new HttpEntity<>(null, headers), String.class, productId);
+
+            // then
+            assertAll(
+                    () -> assertThat(personalized.getHeaders().getCacheControl()).contains("private"),
+                    () -> assertThat(personalized.getHeaders().getVary()).contains("X-USER-ID"),
+                    () -> assertThat(anonymous.getHeaders().getCacheControl()).contains("public")
+            );
+        }
+
+        @Test
+        @DisplayName("상품 목록 ETag가 일치하면 304를 응답하고, 목록이 무효화되면 다시 200을 응답한다")
+        void get_products_not_modified_until_list_generation_changes() {
+            // given
+            String url = Uris.Product.GET_LIST + "?page=0&size=3";
+            ResponseEntity<String> first = testRestTemplate.exchange(url, HttpMethod.GET, null, String.class);
+            HttpHeaders headers = new HttpHeaders();
+            headers.setIfNoneMatch(Objects.requireNonNull(first.getHeaders().getETag()));
+
+            // when
+            ResponseEntity<String> notModified = testRestTemplate.exchange(url,
+                    HttpMethod.GET, new HttpEntity<>(null, headers), String.class);
+
+            productService.registerProduct(ProductTestFixture.createRequest(
+                    testBrandId, "신규상품", "목록 무효화 확인용", new BigDecimal("50000"), new BigDecimal("40000"), 100));
+            productMVService.syncMaterializedView();
+
+            ResponseEntity<String> modified = testRestTemplate.exchange(url,
+                    HttpMethod.GET, new HttpEntity<>(null, headers), String.class);
+
+            // then
+            assertAll(
+                    () -> assertThat(notModified.getStatusCode()).isEqualTo(HttpStatus.NOT_MODIFIED),
+                    () -> assertThat(modified.getStatusCode()).isEqualTo(HttpStatus.OK),
+                    () -> assertThat(modified.getHeaders().getETag()).isNotEqualTo(first.getHeaders().getETag())
+            );
+        }
+    }
+
+    @Nested
+    @DisplayName("렌더링된 Hot 목록 응답 캐시")
+    class RenderedListCacheTest {
+
+        @Test
+        @DisplayName("같은 Hot 목록을 다시 조회하면 동일한 본문을 응답한다")
+        void get_products_returns_same_body_from_rendered_cache() {
+            // given
+            String url = Uris.Product.GET_LIST + "?page=0&size=3&sort=likeCount,desc";
+            ResponseEntity<String> first = testRestTemplate.exchange(url, HttpMethod.GET, null, String.class);
+
+            // when
+            ResponseEntity<String> second = testRestTemplate.exchange(url, HttpMethod.GET, null, String.class);
+
+            // then
+            assertAll(
+                    () -> assertThat(second.getStatusCode()).isEqualTo(HttpStatus.OK),
+                    () -> assertThat(second.getHeaders().getContentType()).isEqualTo(MediaType.APPLICATION_JSON),
+                    () -> assertThat(second.getBody()).isEqualTo(first.getBody()),
+                    () -> assertThat(second.getHeaders().getETag()).isEqualTo(first.getHeaders().getETag())
+            );
+        }
+
+        @Test
+        @DisplayName("상품이 삭제되면 렌더링된 목록 대신 새 목록을 응답한다")
+        void get_products_excludes_deleted_product_after_rendered_cache() {
+            // given
+            ParameterizedTypeReference<ApiResponse<PageResponse<ProductV1Dtos.ProductListResponse>>> responseType =
+                    new ParameterizedTypeReference<>() {
+                    };
+            testRestTemplate.exchange(Uris.Product.GET_LIST, HttpMethod.GET, null, responseType);
+
+            // when
+            productFacade.deletedProduct(testProductIds.get(0));
+            ResponseEntity<ApiResponse<PageResponse<ProductV1Dtos.ProductListResponse>>> response =
+                    testRestTemplate.exchange(Uris.Product.GET_LIST, HttpMethod.GET, null, responseType);
+
+            // then
+            assertThat(Objects.requireNonNull(response.getBody()).data().content())
+                    .extracting(ProductV1Dtos.ProductListResponse::productId)
+                    .doesNotContain(testProductIds.get(0));
+        }
+    }
+}
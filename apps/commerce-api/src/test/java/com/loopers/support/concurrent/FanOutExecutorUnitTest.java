@@ -0,0 +1,152 @@
+package com.loopers.support.concurrent;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import com.loopers.support.error.CoreException;
+import com.loopers.support.error.ErrorType;
+
+/**
+ * @author hyunjikoh
+ * @since 2025. 12. 7.
+ */
+@DisplayName("FanOutExecutor 단위 테스트")
+class FanOutExecutorUnitTest {
+
+    private FanOutExecutor fanOutExecutor;
+
+    @BeforeEach
+    void setUp() {
+        fanOutExecutor = new FanOutExecutor(new FanOutProperties(Duration.ofMillis(500)));
+    }
+
+    @AfterEach
+    void tearDown() {
+        fanOutExecutor.close();
+    }
+
+    @Test
+    @DisplayName("독립적인 작업은 병렬로 실행되어 가장 느린 작업 시간에 가깝게 끝난다")
+    void 독립적인_작업은_병렬로_실행되어_가장_느린_작업_시간에_가깝게_끝난다() {
+        // given
+        FanOutExecutor.Scope scope = fanOutExecutor.scope();
+        long startTime = System.nanoTime();
+
+        // when
+        CompletableFuture<String> first = scope.fork(() -> sleepAndReturn(200, "first"));
+        CompletableFuture<String> second = scope.fork(() -> sleepAndReturn(200, "second"));
+        String result = scope.join(first) + scope.join(second);
+
+        // then
+        assertThat(result).isEqualTo("firstsecond");
+        assertThat(Duration.ofNanos(System.nanoTime() - startTime)).isLessThan(Duration.ofMillis(380));
+    }
+
+    @Test
+    @DisplayName("작업에서 발생한 예외는 원래 예외 그대로 전달된다")
+    void 작업에서_발생한_예외는_원래_예외_그대로_전달된다() {
+        // given
+        FanOutExecutor.Scope scope = fanOutExecutor.scope();
+
+        // when
+        CompletableFuture<String> failed = scope.fork(() -> {
+            throw new CoreException(ErrorType.NOT_FOUND_PRODUCT);
+        });
+
+        // then
+        assertThatThrownBy(() -> scope.join(failed))
+                .isInstanceOf(CoreException.class)
+                .extracting("errorType")
+                .isEqualTo(ErrorType.NOT_FOUND_PRODUCT);
+    }
+
+    @Test
+    @DisplayName("시간 예산을 넘기면 TIMEOUT 예외가 발생한다")
+    void 시간_예산을_넘기면_TIMEOUT_예외가_발생한다() {
+        // given
+        FanOutExecutor.Scope scope = fanOutExecutor.scope();
+
+        // when
+        CompletableFuture<String> slow = scope.fork(() -> sleepAndReturn(2_000, "slow"));
+
+        // then
+        assertThatThrownBy(() -> scope.join(slow))
+                .isInstanceOf(CoreException.class)
+                .extracting("errorType")
+                .isEqualTo(ErrorType.TIMEOUT);
+    }
+
+    @Test
+    @DisplayName("작업이 실패하면 아직 실행 중인 다른 작업을 취소한다")
+    void 작업이_실패하면_아직_실행_중인_다른_작업을_취소한다() throws InterruptedException {
+        // given
+        FanOutExecutor.Scope scope = fanOutExecutor.scope();
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch interrupted = new CountDownLatch(1);
+        CompletableFuture<String> slow = scope.fork(() -> awaitInterrupt(started, interrupted));
+        started.await();
+        CompletableFuture<String> failed = scope.fork(() -> {
+            throw new CoreException(ErrorType.NOT_FOUND_PRODUCT);
+        });
+
+        // when & then
+        assertThatThrownBy(() -> scope.join(failed))
+                .isInstanceOf(CoreException.class)
+                .extracting("errorType")
+                .isEqualTo(ErrorType.NOT_FOUND_PRODUCT);
+        assertThat(slow).isCancelled();
+        assertThat(interrupted.await(1, TimeUnit.SECONDS)).isTrue();
+    }
+
+    @Test
+    @DisplayName("시간 예산을 넘기면 기다리지 않은 작업까지 모두 취소한다")
+    void 시간_예산을_넘기면_기다리지_않은_작업까지_모두_취소한다() throws InterruptedException {
+        // given
+        FanOutExecutor.Scope scope = fanOutExecutor.scope();
+        CountDownLatch started = new CountDownLatch(2);
+        CountDownLatch interrupted = new CountDownLatch(2);
+        CompletableFuture<String> first = scope.fork(() -> awaitInterrupt(started, interrupted));
+        CompletableFuture<String> second = scope.fork(() -> awaitInterrupt(started, interrupted));
+        started.await();
+
+        // when & then
+        assertThatThrownBy(() -> scope.join(first))
+                .isInstanceOf(CoreException.class)
+                .extracting("errorType")
+                .isEqualTo(ErrorType.TIMEOUT);
+        assertThat(second).isCancelled();
+        assertThat(interrupted.await(1, TimeUnit.SECONDS)).isTrue();
+        assertThatThrownBy(() -> scope.join(second))
+                .isInstanceOf(CoreException.class)
+                .extracting("errorType")
+                .isEqualTo(ErrorType.TIMEOUT);
+    }
+
+    private static String awaitInterrupt(CountDownLatch started, CountDownLatch interrupted) {
+        started.countDown();
+        try {
+            Thread.sleep(10_000);
+        } catch (InterruptedException e) {
+            interrupted.countDown();
+        }
+        return "interrupted";
+    }
+
+    private static String sleepAndReturn(long millis, String value) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        return value;
+    }
+}
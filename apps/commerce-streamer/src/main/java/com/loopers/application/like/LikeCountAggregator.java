@@ -0,0 +1,79 @@
+package com.loopers.application.like;
+
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.loopers.domain.event.EventHandledRepository;
+import com.loopers.domain.like.LikeCountDelta;
+import com.loopers.domain.like.ProductLikeCountRepository;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 좋아요 수 집계기
+ *
+ * 한 번의 poll로 받은 좋아요 변경 이벤트를 상품별 변화량으로 합친 뒤 상품당 한 행만 갱신합니다.
+ * 인기 상품에 좋아요 1,000건이 몰려도 배치당 UPDATE 1회로 반영됩니다.
+ *
+ * 이미 처리한 이벤트(재전달)는 제외하고, 처리한 이벤트 ID를 같은 트랜잭션에서 기록합니다.
+ *
+ * @author hyunjikoh
+ * @since 2025. 12. 10.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class LikeCountAggregator {
+
+    private final ProductLikeCountRepository likeCountRepository;
+    private final EventHandledRepository eventHandledRepository;
+
+    /**
+     * @param events poll 1회분 좋아요 변경 이벤트
+     * @return 반영 결과
+     */
+    @Transactional
+    public AggregationResult apply(List<LikeCountDelta> events) {
+        // 배치 안의 중복 제거 (같은 이벤트가 한 poll에 두 번 들어온 경우)
+        Map<String, LikeCountDelta> unique = new LinkedHashMap<>();
+        events.forEach(event -> unique.putIfAbsent(event.eventId(), event));
+
+        Set<String> handled = eventHandledRepository.findHandledIn(unique.keySet());
+        unique.keySet().removeAll(handled);
+
+        Map<Long, Long> deltas = fold(unique.values());
+        likeCountRepository.applyDeltas(deltas);
+        eventHandledRepository.saveAll(unique.keySet());
+
+        log.debug("좋아요 수 집계 반영 - 수신: {}건, 중복: {}건, 갱신 상품: {}개",
+                events.size(), events.size() - unique.size(), deltas.size());
+        return new AggregationResult(events.size(), unique.size(), deltas.size());
+    }
+
+    /**
+     * 상품별 변화량으로 합칩니다. (합이 0인 상품은 갱신하지 않음)
+     */
+    static Map<Long, Long> fold(Iterable<LikeCountDelta> events) {
+        Map<Long, Long> deltas = new HashMap<>();
+        for (LikeCountDelta event : events) {
+            deltas.merge(event.productId(), event.delta(), Long::sum);
+        }
+        deltas.values().removeIf(delta -> delta == 0L);
+        return deltas;
+    }
+
+    /**
+     * @param received        수신 이벤트 수
+     * @param applied         반영한 이벤트 수 (중복 제외)
+     * @param updatedProducts 갱신한 상품 수
+     */
+    public record AggregationResult(int received, int applied, int updatedProducts) {
+    }
+}
@@ -0,0 +1,35 @@
+package com.loopers.domain.event;
+
+import java.time.ZonedDateTime;
+
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+
+/**
+ * 처리 완료 이벤트
+ *
+ * 이벤트 ID가 PK이므로, 같은 이벤트를 두 컨슈머가 동시에 반영하면 한쪽 트랜잭션이 실패하고 재처리됩니다.
+ * 기록은 배치 INSERT로 처리하며({@link EventHandledRepository}), 엔티티는 스키마 정의용입니다.
+ *
+ * @author hyunjikoh
+ * @since 2025. 12. 10.
+ */
+@Entity
+@Table(name = "event_handled")
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class EventHandledEntity {
+
+    @Id
+    @Column(name = "event_id", length = 36)
+    private String eventId;
+
+    @Column(name = "handled_at", nullable = false)
+    private ZonedDateTime handledAt;
+}
@@ -0,0 +1,25 @@
+package com.loopers.domain.event;
+
+import java.util.Collection;
+import java.util.Set;
+
+/**
+ * 처리 완료 이벤트 리포지토리
+ *
+ * at-least-once로 재전달된 이벤트를 다시 반영하지 않도록, 반영과 같은 트랜잭션에서 이벤트 ID를 기록합니다.
+ *
+ * @author hyunjikoh
+ * @since 2025. 12. 10.
+ */
+public interface EventHandledRepository {
+
+    /**
+     * 주어진 이벤트 중 이미 처리한 이벤트 ID를 조회합니다.
+     */
+    Set<String> findHandledIn(Collection<String> eventIds);
+
+    /**
+     * 이벤트 ID를 처리 완료로 기록합니다.
+     */
+    void saveAll(Collection<String> eventIds);
+}
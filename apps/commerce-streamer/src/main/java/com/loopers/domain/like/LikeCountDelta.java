@@ -0,0 +1,17 @@
+package com.loopers.domain.like;
+
+/**
+ * 좋아요 변경 이벤트 1건 (commerce-api 아웃박스의 PRODUCT_LIKED / PRODUCT_UNLIKED)
+ *
+ * @param eventId   아웃박스 이벤트 ID (중복 수신 제거용)
+ * @param productId 상품 ID
+ * @param delta     좋아요 수 변화량 (+1 / -1)
+ * @author hyunjikoh
+ * @since 2025. 12. 10.
+ */
+public record LikeCountDelta(
+        String eventId,
+        Long productId,
+        long delta
+) {
+}
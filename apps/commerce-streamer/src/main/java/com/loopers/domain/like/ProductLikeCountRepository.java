@@ -0,0 +1,21 @@
+package com.loopers.domain.like;
+
+import java.util.Map;
+
+/**
+ * 상품 MV 좋아요 수 리포지토리
+ *
+ * @author hyunjikoh
+ * @since 2025. 12. 10.
+ */
+public interface ProductLikeCountRepository {
+
+    /**
+     * 상품별 좋아요 수 변화량을 한 번의 배치 UPDATE로 반영합니다.
+     * (like_count = like_count + delta, 0 미만으로 내려가지 않음)
+     *
+     * @param deltas 상품 ID → 변화량 (0인 항목 제외)
+     * @return 갱신된 행 수 (드라이버가 배치 결과를 알려주지 않으면 0)
+     */
+    int applyDeltas(Map<Long, Long> deltas);
+}
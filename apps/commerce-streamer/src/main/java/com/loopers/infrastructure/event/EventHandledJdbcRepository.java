@@ -0,0 +1,52 @@
+package com.loopers.infrastructure.event;
+
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import com.loopers.domain.event.EventHandledRepository;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * @author hyunjikoh
+ * @since 2025. 12. 10.
+ */
+@Component
+@RequiredArgsConstructor
+public class EventHandledJdbcRepository implements EventHandledRepository {
+
+    private static final String FIND_HANDLED = "SELECT event_id FROM event_handled WHERE event_id IN (:eventIds)";
+    private static final String INSERT = "INSERT INTO event_handled (event_id, handled_at) VALUES (?, ?)";
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+
+    @Override
+    public Set<String> findHandledIn(Collection<String> eventIds) {
+        if (eventIds.isEmpty()) {
+            return Set.of();
+        }
+        List<String> handled = jdbcTemplate.queryForList(
+                FIND_HANDLED, new MapSqlParameterSource("eventIds", eventIds), String.class);
+        return new HashSet<>(handled);
+    }
+
+    @Override
+    public void saveAll(Collection<String> eventIds) {
+        if (eventIds.isEmpty()) {
+            return;
+        }
+        Timestamp now = Timestamp.from(Instant.now());
+        List<Object[]> args = eventIds.stream()
+                .map(eventId -> new Object[]{eventId, now})
+                .toList();
+        jdbcTemplate.getJdbcTemplate().batchUpdate(INSERT, args);
+    }
+}
@@ -0,0 +1,53 @@
+package com.loopers.infrastructure.like;
+
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import com.loopers.domain.like.ProductLikeCountRepository;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 상품 MV 좋아요 수 증분 갱신 (JDBC 배치)
+ *
+ * 상품 ID 오름차순으로 갱신하여, 파티션이 다른 컨슈머가 같은 상품 집합을 갱신해도 교착 상태가 생기지 않게 합니다.
+ *
+ * @author hyunjikoh
+ * @since 2025. 12. 10.
+ */
+@Component
+@RequiredArgsConstructor
+public class ProductLikeCountJdbcRepository implements ProductLikeCountRepository {
+
+    private static final String APPLY_DELTA = """
+            UPDATE product_materialized_view
+               SET like_count = GREATEST(like_count + ?, 0),
+                   like_updated_at = ?,
+                   last_updated_at = ?
+             WHERE product_id = ?
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Override
+    public int applyDeltas(Map<Long, Long> deltas) {
+        if (deltas.isEmpty()) {
+            return 0;
+        }
+
+        Timestamp now = Timestamp.from(Instant.now());
+        List<Object[]> args = new TreeMap<>(deltas).entrySet().stream()
+                .map(entry -> new Object[]{entry.getValue(), now, now, entry.getKey()})
+                .toList();
+
+        int[] updated = jdbcTemplate.batchUpdate(APPLY_DELTA, args);
+        return Arrays.stream(updated).map(count -> Math.max(count, 0)).sum();
+    }
+}
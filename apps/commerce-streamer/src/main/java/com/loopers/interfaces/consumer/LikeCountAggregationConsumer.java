@@ -0,0 +1,98 @@
+package com.loopers.interfaces.consumer;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.springframework.kafka.annotation.KafkaListener;
+import org.springframework.kafka.support.Acknowledgment;
+import org.springframework.stereotype.Component;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.loopers.application.like.LikeCountAggregator;
+import com.loopers.confg.kafka.KafkaConfig;
+import com.loopers.domain.like.LikeCountDelta;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 좋아요 변경 이벤트 배치 컨슈머
+ *
+ * poll 1회(최대 {@link KafkaConfig#MAX_POLLING_SIZE}건)의 좋아요/좋아요 취소 이벤트를 모아 MV 좋아요 수에 반영하고,
+ * DB 커밋 이후에 오프셋을 커밋합니다. 반영에 실패하면 커밋하지 않으므로 같은 배치를 다시 받습니다.
+ *
+ * 메시지 본문은 commerce-api 아웃박스 형식입니다.
+ * { eventId, eventType, aggregateType, aggregateId, occurredAt, payload: { productId, delta, ... } }
+ * 값은 이 리스너에만 byte[]로 역직렬화하며, 공통 컨슈머 설정(kafka.yml)은 바꾸지 않습니다.
+ *
+ * like-count-aggregation.enabled 가 true일 때만 구독을 시작합니다. (기본 false)
+ * commerce-api의 product-mv-sync.like-count-from-stream 과 함께 켜야 좋아요 수가 한 곳에서만 반영됩니다.
+ *
+ * @author hyunjikoh
+ * @since 2025. 12. 10.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class LikeCountAggregationConsumer {
+
+    private final LikeCountAggregator aggregator;
+    private final ObjectMapper objectMapper;
+
+    @KafkaListener(
+            topics = {"${like-count-aggregation.topic}"},
+            groupId = "${like-count-aggregation.group-id}",
+            containerFactory = KafkaConfig.BATCH_LISTENER,
+            autoStartup = "${like-count-aggregation.enabled:false}",
+            properties = {"value.deserializer=org.apache.kafka.common.serialization.ByteArrayDeserializer"}
+    )
+    public void consume(List<ConsumerRecord<Object, Object>> records, Acknowledgment acknowledgment) {
+        List<LikeCountDelta> events = new ArrayList<>(records.size());
+        for (ConsumerRecord<Object, Object> record : records) {
+            LikeCountDelta event = parse(record);
+            if (event != null) {
+                events.add(event);
+            }
+        }
+
+        LikeCountAggregator.AggregationResult result = aggregator.apply(events);
+        acknowledgment.acknowledge();
+
+        log.info("좋아요 수 배치 반영 - 수신: {}건, 반영: {}건, 갱신 상품: {}개",
+                records.size(), result.applied(), result.updatedProducts());
+    }
+
+    /**
+     * 메시지를 좋아요 변화량으로 변환합니다. 형식이 맞지 않는 메시지는 건너뜁니다.
+     */
+    private LikeCountDelta parse(ConsumerRecord<Object, Object> record) {
+        try {
+            JsonNode message = readTree(record.value());
+            JsonNode payload = message.path("payload");
+            if (!message.hasNonNull("eventId") || !payload.hasNonNull("productId") || !payload.hasNonNull("delta")) {
+                log.warn("좋아요 이벤트 형식 오류, 건너뜀 - partition: {}, offset: {}", record.partition(), record.offset());
+                return null;
+            }
+            return new LikeCountDelta(
+                    message.get("eventId").asText(),
+                    payload.get("productId").asLong(),
+                    payload.get("delta").asLong()
+            );
+        } catch (IOException e) {
+            log.warn("좋아요 이벤트 역직렬화 실패, 건너뜀 - partition: {}, offset: {}, error: {}",
+                    record.partition(), record.offset(), e.getMessage());
+            return null;
+        }
+    }
+
+    private JsonNode readTree(Object value) throws IOException {
+        if (value instanceof byte[] bytes) {
+            return objectMapper.readTree(bytes);
+        }
+        return objectMapper.readTree(String.valueOf(value).getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,156 @@
+package com.loopers.application.like;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.UUID;
+
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.kafka.support.Acknowledgment;
+
+import com.loopers.domain.like.LikeCountDelta;
+import com.loopers.interfaces.consumer.LikeCountAggregationConsumer;
+import com.loopers.utils.DatabaseCleanUp;
+
+/**
+ * 좋아요 수 집계 통합 테스트
+ *
+ * product_materialized_view 는 commerce-api 가 소유한 테이블이므로, 집계에 필요한 컬럼만 가진 테이블을 만들어 검증합니다.
+ *
+ * @author hyunjikoh
+ * @since 2025. 12. 10.
+ */
+@SpringBootTest
+@DisplayName("좋아요 수 집계 통합 테스트")
+class LikeCountAggregatorIntegrationTest {
+
+    @Autowired
+    private DatabaseCleanUp databaseCleanUp;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private LikeCountAggregator aggregator;
+
+    @Autowired
+    private LikeCountAggregationConsumer consumer;
+
+    @BeforeEach
+    void setUp() {
+        jdbcTemplate.execute("""
+                CREATE TABLE IF NOT EXISTS product_materialized_view (
+                    product_id BIGINT NOT NULL PRIMARY KEY,
+                    like_count BIGINT NOT NULL,
+                    like_updated_at DATETIME(6),
+                    last_updated_at DATETIME(6)
+                )
+                """);
+        jdbcTemplate.update("INSERT INTO product_materialized_view (product_id, like_count) VALUES (1, 10), (2, 1), (3, 0)");
+    }
+
+    @AfterEach
+    void tearDown() {
+        jdbcTemplate.execute("TRUNCATE TABLE product_materialized_view");
+        databaseCleanUp.truncateAllTables();
+    }
+
+    @Test
+    @DisplayName("상품별로 합산한 변화량을 반영하고 처리한 이벤트를 기록한다")
+    void 상품별로_합산한_변화량을_반영하고_처리한_이벤트를_기록한다() {
+        // given
+        List<LikeCountDelta> events = List.of(
+                like(1L, 1), like(1L, 1), like(1L, 1),
+                like(2L, -1),
+                like(3L, 1), like(3L, -1)
+        );
+
+        // when
+        LikeCountAggregator.AggregationResult result = aggregator.apply(events);
+
+        // then
+        assertThat(result).isEqualTo(new LikeCountAggregator.AggregationResult(6, 6, 2));
+        assertThat(likeCount(1L)).isEqualTo(13L);
+        assertThat(likeCount(2L)).isZero();
+        assertThat(likeCount(3L)).isZero();
+        assertThat(handledCount()).isEqualTo(6);
+    }
+
+    @Test
+    @DisplayName("다시 전달된 배치는 좋아요 수에 반영하지 않는다")
+    void 다시_전달된_배치는_좋아요_수에_반영하지_않는다() {
+        // given
+        List<LikeCountDelta> events = List.of(like(1L, 1), like(1L, 1));
+        aggregator.apply(events);
+
+        // when
+        LikeCountAggregator.AggregationResult result = aggregator.apply(events);
+
+        // then
+        assertThat(result.applied()).isZero();
+        assertThat(likeCount(1L)).isEqualTo(12L);
+        assertThat(handledCount()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("좋아요 수는 0 미만으로 내려가지 않는다")
+    void 좋아요_수는_0_미만으로_내려가지_않는다() {
+        // given
+        List<LikeCountDelta> events = List.of(like(2L, -1), like(2L, -1), like(2L, -1));
+
+        // when
+        aggregator.apply(events);
+
+        // then
+        assertThat(likeCount(2L)).isZero();
+    }
+
+    @Test
+    @DisplayName("반영 중 실패하면 좋아요 수와 처리 기록을 롤백하고 오프셋을 커밋하지 않는다")
+    void 반영_중_실패하면_좋아요_수와_처리_기록을_롤백하고_오프셋을_커밋하지_않는다() {
+        // given - event_id 컬럼(36자)보다 긴 이벤트 ID는 처리 기록 INSERT에서 실패한다
+        Acknowledgment acknowledgment = mock(Acknowledgment.class);
+        List<ConsumerRecord<Object, Object>> records = List.of(
+                record(0, UUID.randomUUID().toString(), 1L, 1),
+                record(1, "x".repeat(40), 1L, 1)
+        );
+
+        // when & then
+        assertThatThrownBy(() -> consumer.consume(records, acknowledgment)).isInstanceOf(RuntimeException.class);
+        verify(acknowledgment, never()).acknowledge();
+        assertThat(likeCount(1L)).isEqualTo(10L);
+        assertThat(handledCount()).isZero();
+    }
+
+    private LikeCountDelta like(Long productId, long delta) {
+        return new LikeCountDelta(UUID.randomUUID().toString(), productId, delta);
+    }
+
+    private ConsumerRecord<Object, Object> record(long offset, String eventId, Long productId, long delta) {
+        String message = """
+                {"eventId":"%s","payload":{"productId":%d,"delta":%d}}
+                """.formatted(eventId, productId, delta);
+        return new ConsumerRecord<>("like-events-v1", 0, offset, String.valueOf(productId),
+                message.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private Long likeCount(Long productId) {
+        return jdbcTemplate.queryForObject(
+                "SELECT like_count FROM product_materialized_view WHERE product_id = ?", Long.class, productId);
+    }
+
+    private Integer handledCount() {
+        return jdbcTemplate.queryForObject("SELECT COUNT(*) FROM event_handled", Integer.class);
+    }
+}
@@ -0,0 +1,151 @@
+package com.loopers.application.like;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import com.loopers.domain.event.EventHandledRepository;
+import com.loopers.domain.like.LikeCountDelta;
+import com.loopers.domain.like.ProductLikeCountRepository;
+
+/**
+ * @author hyunjikoh
+ * @since 2025. 12. 10.
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("LikeCountAggregator 단위 테스트")
+class LikeCountAggregatorUnitTest {
+
+    @Mock
+    private ProductLikeCountRepository likeCountRepository;
+
+    @Mock
+    private EventHandledRepository eventHandledRepository;
+
+    @Nested
+    @DisplayName("상품별 합산")
+    class Fold {
+
+        @Test
+        @DisplayName("같은 상품의 변화량을 합친다")
+        void 같은_상품의_변화량을_합친다() {
+            // given
+            List<LikeCountDelta> events = List.of(
+                    new LikeCountDelta("e1", 1L, 1),
+                    new LikeCountDelta("e2", 1L, 1),
+                    new LikeCountDelta("e3", 2L, -1),
+                    new LikeCountDelta("e4", 1L, 1)
+            );
+
+            // when
+            Map<Long, Long> deltas = LikeCountAggregator.fold(events);
+
+            // then
+            assertThat(deltas).containsExactlyInAnyOrderEntriesOf(Map.of(1L, 3L, 2L, -1L));
+        }
+
+        @Test
+        @DisplayName("합이 0인 상품은 갱신 대상에서 제외한다")
+        void 합이_0인_상품은_갱신_대상에서_제외한다() {
+            // given
+            List<LikeCountDelta> events = List.of(
+                    new LikeCountDelta("e1", 1L, 1),
+                    new LikeCountDelta("e2", 1L, -1),
+                    new LikeCountDelta("e3", 2L, 1)
+            );
+
+            // when
+            Map<Long, Long> deltas = LikeCountAggregator.fold(events);
+
+            // then
+            assertThat(deltas).containsExactly(Map.entry(2L, 1L));
+        }
+    }
+
+    @Nested
+    @DisplayName("배치 반영")
+    class Apply {
+
+        @Test
+        @DisplayName("한 배치 안에서 같은 이벤트가 중복되면 한 번만 반영한다")
+        void 한_배치_안에서_같은_이벤트가_중복되면_한_번만_반영한다() {
+            // given
+            when(eventHandledRepository.findHandledIn(anyCollection())).thenReturn(Set.of());
+            List<LikeCountDelta> events = List.of(
+                    new LikeCountDelta("e1", 1L, 1),
+                    new LikeCountDelta("e1", 1L, 1),
+                    new LikeCountDelta("e2", 1L, 1)
+            );
+
+            // when
+            LikeCountAggregator.AggregationResult result = aggregator().apply(events);
+
+            // then
+            assertThat(result).isEqualTo(new LikeCountAggregator.AggregationResult(3, 2, 1));
+            verify(likeCountRepository).applyDeltas(Map.of(1L, 2L));
+            assertThat(savedEventIds()).containsExactly("e1", "e2");
+        }
+
+        @Test
+        @DisplayName("이미 처리한 이벤트는 반영하지도 다시 기록하지도 않는다")
+        void 이미_처리한_이벤트는_반영하지도_다시_기록하지도_않는다() {
+            // given
+            when(eventHandledRepository.findHandledIn(anyCollection())).thenReturn(Set.of("e1"));
+            List<LikeCountDelta> events = List.of(
+                    new LikeCountDelta("e1", 1L, 1),
+                    new LikeCountDelta("e2", 2L, 1)
+            );
+
+            // when
+            LikeCountAggregator.AggregationResult result = aggregator().apply(events);
+
+            // then
+            assertThat(result.applied()).isEqualTo(1);
+            verify(likeCountRepository).applyDeltas(Map.of(2L, 1L));
+            assertThat(savedEventIds()).containsExactly("e2");
+        }
+
+        @Test
+        @DisplayName("합이 0이 된 상품은 갱신하지 않지만 이벤트는 처리 완료로 기록한다")
+        void 합이_0이_된_상품은_갱신하지_않지만_이벤트는_처리_완료로_기록한다() {
+            // given
+            when(eventHandledRepository.findHandledIn(anyCollection())).thenReturn(Set.of());
+            List<LikeCountDelta> events = List.of(
+                    new LikeCountDelta("e1", 1L, 1),
+                    new LikeCountDelta("e2", 1L, -1)
+            );
+
+            // when
+            LikeCountAggregator.AggregationResult result = aggregator().apply(events);
+
+            // then
+            assertThat(result.updatedProducts()).isZero();
+            verify(likeCountRepository).applyDeltas(Map.of());
+            assertThat(savedEventIds()).containsExactly("e1", "e2");
+        }
+    }
+
+    private LikeCountAggregator aggregator() {
+        return new LikeCountAggregator(likeCountRepository, eventHandledRepository);
+    }
+
+    @SuppressWarnings("unchecked")
+    private List<String> savedEventIds() {
+        ArgumentCaptor<Collection<String>> captor = ArgumentCaptor.forClass(Collection.class);
+        verify(eventHandledRepository).saveAll(captor.capture());
+        return List.copyOf(captor.getValue());
+    }
+}
@@ -0,0 +1,133 @@
+package com.loopers.interfaces.consumer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.kafka.support.Acknowledgment;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.loopers.application.like.LikeCountAggregator;
+import com.loopers.domain.like.LikeCountDelta;
+
+/**
+ * @author hyunjikoh
+ * @since 2025. 12. 10.
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("LikeCountAggregationConsumer 단위 테스트")
+class LikeCountAggregationConsumerUnitTest {
+
+    private static final String TOPIC = "like-events-v1";
+
+    @Mock
+    private LikeCountAggregator aggregator;
+
+    @Mock
+    private Acknowledgment acknowledgment;
+
+    @Test
+    @DisplayName("byte[]와 문자열 메시지를 모두 좋아요 변화량으로 변환한다")
+    void byte_배열과_문자열_메시지를_모두_좋아요_변화량으로_변환한다() {
+        // given
+        when(aggregator.apply(anyList())).thenReturn(new LikeCountAggregator.AggregationResult(2, 2, 2));
+        List<ConsumerRecord<Object, Object>> records = List.of(
+                record(0, message("e1", 1L, 1).getBytes(StandardCharsets.UTF_8)),
+                record(1, message("e2", 2L, -1))
+        );
+
+        // when
+        consumer().consume(records, acknowledgment);
+
+        // then
+        assertThat(appliedEvents()).containsExactly(
+                new LikeCountDelta("e1", 1L, 1),
+                new LikeCountDelta("e2", 2L, -1)
+        );
+        verify(acknowledgment).acknowledge();
+    }
+
+    @Test
+    @DisplayName("형식이 맞지 않는 메시지는 건너뛰고 나머지를 반영한다")
+    void 형식이_맞지_않는_메시지는_건너뛰고_나머지를_반영한다() {
+        // given
+        when(aggregator.apply(anyList())).thenReturn(new LikeCountAggregator.AggregationResult(4, 1, 1));
+        List<ConsumerRecord<Object, Object>> records = List.of(
+                record(0, "not-json".getBytes(StandardCharsets.UTF_8)),
+                record(1, "{\"payload\":{\"productId\":1,\"delta\":1}}".getBytes(StandardCharsets.UTF_8)),
+                record(2, "{\"eventId\":\"e2\",\"payload\":{\"productId\":1}}".getBytes(StandardCharsets.UTF_8)),
+                record(3, message("e3", 3L, 1).getBytes(StandardCharsets.UTF_8))
+        );
+
+        // when
+        consumer().consume(records, acknowledgment);
+
+        // then
+        assertThat(appliedEvents()).containsExactly(new LikeCountDelta("e3", 3L, 1));
+        verify(acknowledgment).acknowledge();
+    }
+
+    @Test
+    @DisplayName("반영이 끝난 뒤에 오프셋을 커밋한다")
+    void 반영이_끝난_뒤에_오프셋을_커밋한다() {
+        // given
+        when(aggregator.apply(anyList())).thenReturn(new LikeCountAggregator.AggregationResult(1, 1, 1));
+
+        // when
+        consumer().consume(List.of(record(0, message("e1", 1L, 1).getBytes(StandardCharsets.UTF_8))), acknowledgment);
+
+        // then
+        InOrder inOrder = inOrder(aggregator, acknowledgment);
+        inOrder.verify(aggregator).apply(anyList());
+        inOrder.verify(acknowledgment).acknowledge();
+    }
+
+    @Test
+    @DisplayName("반영에 실패하면 오프셋을 커밋하지 않는다")
+    void 반영에_실패하면_오프셋을_커밋하지_않는다() {
+        // given
+        when(aggregator.apply(anyList())).thenThrow(new IllegalStateException("db down"));
+
+        // when & then
+        assertThatThrownBy(() -> consumer().consume(
+                List.of(record(0, message("e1", 1L, 1).getBytes(StandardCharsets.UTF_8))), acknowledgment))
+                .isInstanceOf(IllegalStateException.class);
+        verify(acknowledgment, never()).acknowledge();
+    }
+
+    private LikeCountAggregationConsumer consumer() {
+        return new LikeCountAggregationConsumer(aggregator, new ObjectMapper());
+    }
+
+    @SuppressWarnings("unchecked")
+    private List<LikeCountDelta> appliedEvents() {
+        ArgumentCaptor<List<LikeCountDelta>> captor = ArgumentCaptor.forClass(List.class);
+        verify(aggregator).apply(captor.capture());
+        return captor.getValue();
+    }
+
+    private static ConsumerRecord<Object, Object> record(long offset, Object value) {
+        return new ConsumerRecord<>(TOPIC, 0, offset, "key", value);
+    }
+
+    private static String message(String eventId, Long productId, long delta) {
+        return """
+                {"eventId":"%s","eventType":"PRODUCT_LIKED","aggregateType":"PRODUCT","aggregateId":"%d",
+                 "payload":{"productId":%d,"delta":%d}}
+                """.formatted(eventId, productId, productId, delta);
+    }
+}
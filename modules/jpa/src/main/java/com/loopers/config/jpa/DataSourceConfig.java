@@ -4,11 +4,16 @@ import com.zaxxer.hikari.HikariConfig;
 import com.zaxxer.hikari.HikariDataSource;
 import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import javax.sql.DataSource;
 
 @Configuration
+@EnableConfigurationProperties(MySqlReplicaProperties.class)
 class DataSourceConfig {
     @Bean
     @ConfigurationProperties(prefix = "datasource.mysql-jpa.main")
@@ -16,9 +21,34 @@ class DataSourceConfig {
         return new HikariConfig();
     }
 
-    @Primary
     @Bean
     HikariDataSource mySqlMainDataSource(@Qualifier("mySqlMainHikariConfig") HikariConfig hikariConfig) {
         return new HikariDataSource(hikariConfig);
     }
+
+    @Bean
+    ReplicaRoutingDataSource mySqlReplicaRoutingDataSource(
+            @Qualifier("mySqlMainDataSource") HikariDataSource mainDataSource,
+            MySqlReplicaProperties replicaProperties
+    ) {
+        return new ReplicaRoutingDataSource(mainDataSource, replicaProperties);
+    }
+
+    /**
+     * 커넥션을 첫 쿼리 시점까지 미뤄 트랜잭션의 readOnly 여부로 풀을 고른다.
+     * - 쓰기 트랜잭션: main
+     * - 읽기 전용 트랜잭션: replica (replica 가 없으면 main)
+     */
+    @Primary
+    @Bean
+    DataSource mySqlDataSource(
+            @Qualifier("mySqlMainDataSource") HikariDataSource mainDataSource,
+            @Qualifier("mySqlReplicaRoutingDataSource") ReplicaRoutingDataSource replicaRoutingDataSource
+    ) {
+        LazyConnectionDataSourceProxy dataSource = new LazyConnectionDataSourceProxy(mainDataSource);
+        if (replicaRoutingDataSource.hasReplicas()) {
+            dataSource.setReadOnlyDataSource(replicaRoutingDataSource);
+        }
+        return dataSource;
+    }
 }
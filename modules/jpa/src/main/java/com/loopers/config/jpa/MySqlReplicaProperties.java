@@ -0,0 +1,42 @@
+package com.loopers.config.jpa;
+
+import com.zaxxer.hikari.HikariConfig;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * 읽기 전용 복제본(replica) 설정
+ *
+ * replicas 가 비어 있으면 모든 트랜잭션이 main 으로 간다.
+ * 각 replica 는 main 과 같은 HikariCP 설정 형식을 사용한다.
+ */
+@ConfigurationProperties("datasource.mysql-jpa")
+public record MySqlReplicaProperties(
+        List<HikariConfig> replicas,
+        @DefaultValue Routing routing
+) {
+    public MySqlReplicaProperties {
+        replicas = replicas != null ? replicas : List.of();
+    }
+
+    /**
+     * @param selection           replica 선택 방식 (round-robin: 순서대로, least-busy: 사용 중 커넥션이 가장 적은 풀)
+     * @param healthCheckInterval replica 상태/복제 지연 확인 주기
+     * @param maxReplicationLag   이보다 지연된 replica 는 읽기 대상에서 제외
+     * @param checkLag            복제 지연 확인 여부 (SHOW REPLICA STATUS, REPLICATION CLIENT 권한 필요)
+     */
+    public record Routing(
+            @DefaultValue("round-robin") ReplicaSelection selection,
+            @DefaultValue("5s") Duration healthCheckInterval,
+            @DefaultValue("10s") Duration maxReplicationLag,
+            @DefaultValue("true") boolean checkLag
+    ) { }
+
+    public enum ReplicaSelection {
+        ROUND_ROBIN,
+        LEAST_BUSY
+    }
+}
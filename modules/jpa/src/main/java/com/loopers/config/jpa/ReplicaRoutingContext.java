@@ -0,0 +1,54 @@
+package com.loopers.config.jpa;
+
+import java.time.Duration;
+import java.util.function.Supplier;
+
+/**
+ * 읽기 전용 트랜잭션의 허용 지연(bounded staleness) 지정
+ *
+ * 기본적으로 읽기 전용 트랜잭션은 maxReplicationLag 이내의 replica 에서 읽는다.
+ * 방금 쓴 데이터를 바로 읽어야 하는 흐름(read-your-writes)은 이 컨텍스트로 더 짧은 허용 지연을 지정하거나 main 으로 고정한다.
+ * - 지연을 확인할 수 없는 replica 는 허용 지연이 지정된 읽기에 사용하지 않는다.
+ * - 허용 지연이 0 이면 항상 main 에서 읽는다.
+ *
+ * 커넥션은 트랜잭션의 첫 쿼리 시점에 결정되므로, @Transactional 메서드 안에서 첫 조회 전에 감싸도 적용된다.
+ * 스레드 로컬 값이므로 다른 스레드(가상 스레드 fan-out 등)로 전파되지 않는다.
+ */
+public final class ReplicaRoutingContext {
+
+    private static final ThreadLocal<Duration> MAX_STALENESS = new ThreadLocal<>();
+
+    private ReplicaRoutingContext() {
+    }
+
+    /**
+     * main 에서 읽는다.
+     */
+    public static <T> T readFromPrimary(Supplier<T> action) {
+        return withMaxStaleness(Duration.ZERO, action);
+    }
+
+    /**
+     * 복제 지연이 maxStaleness 이하인 replica 에서만 읽는다. (없으면 main)
+     */
+    public static <T> T withMaxStaleness(Duration maxStaleness, Supplier<T> action) {
+        Duration previous = MAX_STALENESS.get();
+        MAX_STALENESS.set(previous != null && previous.compareTo(maxStaleness) < 0 ? previous : maxStaleness);
+        try {
+            return action.get();
+        } finally {
+            if (previous != null) {
+                MAX_STALENESS.set(previous);
+            } else {
+                MAX_STALENESS.remove();
+            }
+        }
+    }
+
+    /**
+     * 현재 스레드에 지정된 허용 지연 (지정되지 않았으면 null)
+     */
+    static Duration currentMaxStaleness() {
+        return MAX_STALENESS.get();
+    }
+}
@@ -0,0 +1,208 @@
+package com.loopers.config.jpa;
+
+import com.zaxxer.hikari.HikariConfig;
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.HikariPoolMXBean;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.datasource.AbstractDataSource;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.SQLFeatureNotSupportedException;
+import java.sql.Statement;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 읽기 전용 커넥션을 replica 풀로 분배하는 DataSource
+ *
+ * 읽기 전용 트랜잭션의 커넥션 요청만 들어온다. (LazyConnectionDataSourceProxy 의 readOnlyDataSource)
+ * - 정상이고 복제 지연이 허용 범위 이내인 replica 중 하나를 round-robin / least-busy 로 선택한다.
+ * - 사용할 replica 가 없거나 커넥션 획득에 실패하면 main 에서 읽는다.
+ * - 주기적으로 각 replica 의 상태와 복제 지연을 확인하고, 실패한 replica 는 다음 확인에서 정상일 때까지 제외한다.
+ */
+@Slf4j
+public class ReplicaRoutingDataSource extends AbstractDataSource implements AutoCloseable {
+
+    private static final int VALIDATION_TIMEOUT_SECONDS = 2;
+
+    private final DataSource primary;
+    private final List<Replica> replicas;
+    private final MySqlReplicaProperties.Routing routing;
+    private final AtomicInteger roundRobin = new AtomicInteger();
+    private final ScheduledExecutorService healthChecker;
+
+    public ReplicaRoutingDataSource(DataSource primary, MySqlReplicaProperties properties) {
+        this(primary, createPools(properties.replicas()), properties.routing());
+    }
+
+    ReplicaRoutingDataSource(DataSource primary, List<HikariDataSource> replicaPools, MySqlReplicaProperties.Routing routing) {
+        this.primary = primary;
+        this.routing = routing;
+        this.replicas = replicaPools.stream()
+                .map(pool -> new Replica(pool.getPoolName(), pool))
+                .toList();
+
+        if (replicas.isEmpty()) {
+            this.healthChecker = null;
+            return;
+        }
+
+        this.healthChecker = Executors.newSingleThreadScheduledExecutor(Thread.ofPlatform()
+                .name("mysql-replica-health-check")
+                .daemon(true)
+                .factory());
+        long intervalMillis = routing.healthCheckInterval().toMillis();
+        healthChecker.scheduleWithFixedDelay(this::checkHealth, 0, intervalMillis, TimeUnit.MILLISECONDS);
+        log.info("MySQL replica 라우팅 활성화 - replica: {}개, 선택: {}", replicas.size(), routing.selection());
+    }
+
+    private static List<HikariDataSource> createPools(List<HikariConfig> replicaConfigs) {
+        List<HikariDataSource> pools = new ArrayList<>();
+        for (int i = 0; i < replicaConfigs.size(); i++) {
+            HikariConfig config = replicaConfigs.get(i);
+            if (config.getPoolName() == null) {
+                config.setPoolName("mysql-replica-" + (i + 1) + "-pool");
+            }
+            config.setReadOnly(true);
+            pools.add(new HikariDataSource(config));
+        }
+        return pools;
+    }
+
+    public boolean hasReplicas() {
+        return !replicas.isEmpty();
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        Replica replica = select(ReplicaRoutingContext.currentMaxStaleness());
+        if (replica == null) {
+            return primary.getConnection();
+        }
+
+        try {
+            return replica.dataSource.getConnection();
+        } catch (SQLException e) {
+            replica.healthy = false;
+            log.warn("replica 커넥션 획득 실패, main 으로 대체 - pool: {}, error: {}", replica.name, e.getMessage());
+            return primary.getConnection();
+        }
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        throw new SQLFeatureNotSupportedException("replica 라우팅은 풀에 설정된 계정만 지원합니다.");
+    }
+
+    /**
+     * 허용 지연 조건을 만족하는 replica 를 선택한다. (없으면 null)
+     *
+     * @param maxStaleness 호출 흐름이 지정한 허용 지연 (null 이면 maxReplicationLag 만 적용)
+     */
+    private Replica select(Duration maxStaleness) {
+        if (replicas.isEmpty() || Duration.ZERO.equals(maxStaleness)) {
+            return null;
+        }
+
+        Duration bound = maxStaleness != null && maxStaleness.compareTo(routing.maxReplicationLag()) < 0
+                ? maxStaleness
+                : routing.maxReplicationLag();
+
+        List<Replica> candidates = replicas.stream()
+                .filter(replica -> replica.isReadable(bound, maxStaleness != null))
+                .toList();
+        if (candidates.isEmpty()) {
+            return null;
+        }
+
+        return switch (routing.selection()) {
+            case ROUND_ROBIN -> candidates.get(Math.floorMod(roundRobin.getAndIncrement(), candidates.size()));
+            case LEAST_BUSY -> candidates.stream()
+                    .min(Comparator.comparingInt(Replica::activeConnections))
+                    .orElseThrow();
+        };
+    }
+
+    private void checkHealth() {
+        for (Replica replica : replicas) {
+            boolean wasHealthy = replica.healthy;
+            try (Connection connection = replica.dataSource.getConnection()) {
+                replica.healthy = connection.isValid(VALIDATION_TIMEOUT_SECONDS);
+                replica.lag = routing.checkLag() ? replicationLag(connection) : null;
+            } catch (Exception e) {
+                replica.healthy = false;
+                log.debug("replica 상태 확인 실패 - pool: {}, error: {}", replica.name, e.getMessage());
+            }
+
+            if (wasHealthy != replica.healthy) {
+                log.warn("replica 상태 변경 - pool: {}, healthy: {}", replica.name, replica.healthy);
+            }
+        }
+    }
+
+    /**
+     * 복제 지연 (확인할 수 없으면 null)
+     */
+    private Duration replicationLag(Connection connection) {
+        try (Statement statement = connection.createStatement();
+             ResultSet resultSet = statement.executeQuery("SHOW REPLICA STATUS")) {
+            if (!resultSet.next()) {
+                return null;
+            }
+            long seconds = resultSet.getLong("Seconds_Behind_Source");
+            return resultSet.wasNull() ? null : Duration.ofSeconds(seconds);
+        } catch (SQLException e) {
+            log.debug("replica 복제 지연 확인 실패 - error: {}", e.getMessage());
+            return null;
+        }
+    }
+
+    @Override
+    public void close() {
+        if (healthChecker != null) {
+            healthChecker.shutdownNow();
+        }
+        replicas.forEach(replica -> replica.dataSource.close());
+    }
+
+    private static final class Replica {
+        private final String name;
+        private final HikariDataSource dataSource;
+        private volatile boolean healthy = true;
+        private volatile Duration lag;
+
+        private Replica(String name, HikariDataSource dataSource) {
+            this.name = name;
+            this.dataSource = dataSource;
+        }
+
+        /**
+         * @param bound          허용 지연
+         * @param requireKnownLag 지연을 확인할 수 없는 replica 를 제외할지 여부 (흐름이 허용 지연을 지정한 경우)
+         */
+        private boolean isReadable(Duration bound, boolean requireKnownLag) {
+            if (!healthy) {
+                return false;
+            }
+            Duration currentLag = lag;
+            if (currentLag == null) {
+                return !requireKnownLag;
+            }
+            return currentLag.compareTo(bound) <= 0;
+        }
+
+        private int activeConnections() {
+            HikariPoolMXBean pool = dataSource.getHikariPoolMXBean();
+            return pool != null ? pool.getActiveConnections() : 0;
+        }
+    }
+}
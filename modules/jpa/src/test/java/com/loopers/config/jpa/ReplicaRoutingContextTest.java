@@ -0,0 +1,69 @@
+package com.loopers.config.jpa;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("ReplicaRoutingContext 단위 테스트")
+class ReplicaRoutingContextTest {
+
+    @Test
+    @DisplayName("지정하지 않으면 허용 지연이 없다")
+    void 지정하지_않으면_허용_지연이_없다() {
+        // when & then
+        assertThat(ReplicaRoutingContext.currentMaxStaleness()).isNull();
+    }
+
+    @Test
+    @DisplayName("readFromPrimary 안에서는 허용 지연이 0 이고 끝나면 해제된다")
+    void readFromPrimary_안에서는_허용_지연이_0_이고_끝나면_해제된다() {
+        // when
+        Duration inside = ReplicaRoutingContext.readFromPrimary(ReplicaRoutingContext::currentMaxStaleness);
+
+        // then
+        assertThat(inside).isEqualTo(Duration.ZERO);
+        assertThat(ReplicaRoutingContext.currentMaxStaleness()).isNull();
+    }
+
+    @Test
+    @DisplayName("중첩되면 더 엄격한 허용 지연을 유지하고 바깥 값으로 복원한다")
+    void 중첩되면_더_엄격한_허용_지연을_유지하고_바깥_값으로_복원한다() {
+        // when
+        Duration[] observed = ReplicaRoutingContext.withMaxStaleness(Duration.ofSeconds(3), () -> new Duration[]{
+                ReplicaRoutingContext.withMaxStaleness(Duration.ofSeconds(5), ReplicaRoutingContext::currentMaxStaleness),
+                ReplicaRoutingContext.readFromPrimary(ReplicaRoutingContext::currentMaxStaleness),
+                ReplicaRoutingContext.currentMaxStaleness()
+        });
+
+        // then
+        assertThat(observed).containsExactly(Duration.ofSeconds(3), Duration.ZERO, Duration.ofSeconds(3));
+        assertThat(ReplicaRoutingContext.currentMaxStaleness()).isNull();
+    }
+
+    @Test
+    @DisplayName("readFromPrimary 안의 느슨한 허용 지연은 main 고정을 풀지 않는다")
+    void readFromPrimary_안의_느슨한_허용_지연은_main_고정을_풀지_않는다() {
+        // when
+        Duration inside = ReplicaRoutingContext.readFromPrimary(() ->
+                ReplicaRoutingContext.withMaxStaleness(Duration.ofSeconds(5), ReplicaRoutingContext::currentMaxStaleness));
+
+        // then
+        assertThat(inside).isEqualTo(Duration.ZERO);
+    }
+
+    @Test
+    @DisplayName("작업이 실패해도 허용 지연이 해제된다")
+    void 작업이_실패해도_허용_지연이_해제된다() {
+        // when
+        assertThatThrownBy(() -> ReplicaRoutingContext.readFromPrimary(() -> {
+            throw new IllegalStateException("boom");
+        })).isInstanceOf(IllegalStateException.class);
+
+        // then
+        assertThat(ReplicaRoutingContext.currentMaxStaleness()).isNull();
+    }
+}
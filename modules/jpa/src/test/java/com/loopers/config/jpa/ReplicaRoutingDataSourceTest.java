@@ -0,0 +1,187 @@
+package com.loopers.config.jpa;
+
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.HikariPoolMXBean;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.SQLFeatureNotSupportedException;
+import java.time.Duration;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+@DisplayName("ReplicaRoutingDataSource 단위 테스트")
+class ReplicaRoutingDataSourceTest {
+
+    private final DataSource primary = mock(DataSource.class);
+    private final Connection primaryConnection = mock(Connection.class);
+    private ReplicaRoutingDataSource dataSource;
+
+    @AfterEach
+    void tearDown() {
+        if (dataSource != null) {
+            dataSource.close();
+        }
+    }
+
+    @Nested
+    @DisplayName("라우팅")
+    class Routing {
+
+        @Test
+        @DisplayName("replica 가 없으면 main 에서 읽는다")
+        void replica_가_없으면_main_에서_읽는다() throws SQLException {
+            // given
+            when(primary.getConnection()).thenReturn(primaryConnection);
+            dataSource = new ReplicaRoutingDataSource(primary, List.of(), routing(MySqlReplicaProperties.ReplicaSelection.ROUND_ROBIN));
+
+            // when
+            Connection connection = dataSource.getConnection();
+
+            // then
+            assertThat(dataSource.hasReplicas()).isFalse();
+            assertThat(connection).isSameAs(primaryConnection);
+        }
+
+        @Test
+        @DisplayName("round-robin 이면 replica 를 순서대로 사용한다")
+        void round_robin_이면_replica_를_순서대로_사용한다() throws SQLException {
+            // given
+            Connection first = healthyConnection();
+            Connection second = healthyConnection();
+            dataSource = new ReplicaRoutingDataSource(primary,
+                    List.of(replicaPool(first, 0), replicaPool(second, 0)),
+                    routing(MySqlReplicaProperties.ReplicaSelection.ROUND_ROBIN));
+
+            // when
+            List<Connection> connections = List.of(dataSource.getConnection(), dataSource.getConnection(), dataSource.getConnection());
+
+            // then
+            assertThat(connections).containsExactly(first, second, first);
+        }
+
+        @Test
+        @DisplayName("least-busy 이면 사용 중 커넥션이 가장 적은 replica 를 사용한다")
+        void least_busy_이면_사용_중_커넥션이_가장_적은_replica_를_사용한다() throws SQLException {
+            // given
+            Connection busy = healthyConnection();
+            Connection idle = healthyConnection();
+            dataSource = new ReplicaRoutingDataSource(primary,
+                    List.of(replicaPool(busy, 8), replicaPool(idle, 1)),
+                    routing(MySqlReplicaProperties.ReplicaSelection.LEAST_BUSY));
+
+            // when
+            Connection connection = dataSource.getConnection();
+
+            // then
+            assertThat(connection).isSameAs(idle);
+        }
+
+        @Test
+        @DisplayName("readFromPrimary 안에서는 replica 가 있어도 main 에서 읽는다")
+        void readFromPrimary_안에서는_replica_가_있어도_main_에서_읽는다() throws SQLException {
+            // given
+            when(primary.getConnection()).thenReturn(primaryConnection);
+            dataSource = new ReplicaRoutingDataSource(primary,
+                    List.of(replicaPool(healthyConnection(), 0)),
+                    routing(MySqlReplicaProperties.ReplicaSelection.ROUND_ROBIN));
+
+            // when
+            Connection connection = ReplicaRoutingContext.readFromPrimary(this::connect);
+
+            // then
+            assertThat(connection).isSameAs(primaryConnection);
+        }
+
+        @Test
+        @DisplayName("허용 지연이 지정되면 복제 지연을 확인할 수 없는 replica 는 사용하지 않는다")
+        void 허용_지연이_지정되면_복제_지연을_확인할_수_없는_replica_는_사용하지_않는다() throws SQLException {
+            // given
+            when(primary.getConnection()).thenReturn(primaryConnection);
+            dataSource = new ReplicaRoutingDataSource(primary,
+                    List.of(replicaPool(healthyConnection(), 0)),
+                    routing(MySqlReplicaProperties.ReplicaSelection.ROUND_ROBIN));
+
+            // when
+            Connection connection = ReplicaRoutingContext.withMaxStaleness(Duration.ofSeconds(1), this::connect);
+
+            // then
+            assertThat(connection).isSameAs(primaryConnection);
+        }
+
+        private Connection connect() {
+            try {
+                return dataSource.getConnection();
+            } catch (SQLException e) {
+                throw new IllegalStateException(e);
+            }
+        }
+    }
+
+    @Nested
+    @DisplayName("대체")
+    class Fallback {
+
+        @Test
+        @DisplayName("replica 커넥션 획득에 실패하면 main 에서 읽고 이후 요청도 main 으로 보낸다")
+        void replica_커넥션_획득에_실패하면_main_에서_읽고_이후_요청도_main_으로_보낸다() throws SQLException {
+            // given
+            when(primary.getConnection()).thenReturn(primaryConnection);
+            HikariDataSource broken = mock(HikariDataSource.class);
+            when(broken.getConnection()).thenThrow(new SQLException("connection refused"));
+            dataSource = new ReplicaRoutingDataSource(primary, List.of(broken),
+                    routing(MySqlReplicaProperties.ReplicaSelection.ROUND_ROBIN));
+
+            // when
+            Connection first = dataSource.getConnection();
+            Connection second = dataSource.getConnection();
+
+            // then
+            assertThat(first).isSameAs(primaryConnection);
+            assertThat(second).isSameAs(primaryConnection);
+        }
+
+        @Test
+        @DisplayName("계정을 지정한 커넥션 요청은 지원하지 않는다")
+        void 계정을_지정한_커넥션_요청은_지원하지_않는다() {
+            // given
+            dataSource = new ReplicaRoutingDataSource(primary, List.of(),
+                    routing(MySqlReplicaProperties.ReplicaSelection.ROUND_ROBIN));
+
+            // when & then
+            assertThatThrownBy(() -> dataSource.getConnection("user", "password"))
+                    .isInstanceOf(SQLFeatureNotSupportedException.class);
+        }
+    }
+
+    private static MySqlReplicaProperties.Routing routing(MySqlReplicaProperties.ReplicaSelection selection) {
+        // 복제 지연 확인을 끄고 상태 확인은 테스트 동안 한 번만 돌도록 주기를 길게 둔다.
+        return new MySqlReplicaProperties.Routing(selection, Duration.ofHours(1), Duration.ofSeconds(10), false);
+    }
+
+    private static Connection healthyConnection() throws SQLException {
+        Connection connection = mock(Connection.class);
+        lenient().when(connection.isValid(anyInt())).thenReturn(true);
+        return connection;
+    }
+
+    private static HikariDataSource replicaPool(Connection connection, int activeConnections) throws SQLException {
+        HikariDataSource pool = mock(HikariDataSource.class);
+        HikariPoolMXBean poolMXBean = mock(HikariPoolMXBean.class);
+        lenient().when(pool.getConnection()).thenReturn(connection);
+        lenient().when(pool.getHikariPoolMXBean()).thenReturn(poolMXBean);
+        lenient().when(poolMXBean.getActiveConnections()).thenReturn(activeConnections);
+        return pool;
+    }
+}
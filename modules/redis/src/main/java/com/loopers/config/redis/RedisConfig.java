@@ -11,6 +11,7 @@ import org.springframework.data.redis.connection.RedisStaticMasterReplicaConfigu
 import org.springframework.data.redis.connection.lettuce.LettuceClientConfiguration;
 import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
 import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.serializer.RedisSerializer;
 import org.springframework.data.redis.serializer.StringRedisSerializer;
 
 import java.util.List;
@@ -19,8 +20,9 @@ import java.util.function.Consumer;
 @Configuration
 @EnableConfigurationProperties(RedisProperties.class)
 public class RedisConfig{
-    private static final String CONNECTION_MASTER = "redisConnectionMaster";
+    public static final String CONNECTION_MASTER = "redisConnectionMaster";
     public static final String REDIS_TEMPLATE_MASTER = "redisTemplateMaster";
+    public static final String REDIS_TEMPLATE_BINARY = "redisTemplateBinary";
 
     private final RedisProperties redisProperties;
 
@@ -68,6 +70,19 @@ public class RedisConfig{
         return defaultRedisTemplate(redisTemplate, lettuceConnectionFactory);
     }
 
+    @Qualifier(REDIS_TEMPLATE_BINARY)
+    @Bean
+    public RedisTemplate<String, byte[]> binaryRedisTemplate(LettuceConnectionFactory lettuceConnectionFactory) {
+        RedisTemplate<String, byte[]> redisTemplate = new RedisTemplate<>();
+        StringRedisSerializer s = new StringRedisSerializer();
+        redisTemplate.setKeySerializer(s);
+        redisTemplate.setValueSerializer(RedisSerializer.byteArray());
+        redisTemplate.setHashKeySerializer(s);
+        redisTemplate.setHashValueSerializer(RedisSerializer.byteArray());
+        redisTemplate.setConnectionFactory(lettuceConnectionFactory);
+        return redisTemplate;
+    }
+
 
     private LettuceConnectionFactory lettuceConnectionFactory(
             int database,
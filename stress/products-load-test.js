@@ -79,6 +79,20 @@ export default function () {
     p95Duration.add(res7.timings.duration);
     counter.add(1, { endpoint: 'large-page' });
 
+    // 8. 커서 기반 연속 페이지 (OFFSET 없이 keyset 탐색)
+    let cursor = '';
+    for (let i = 0; i < 3; i++) {
+        let res8 = http.get(`${BASE_URL}?brandId=${brandId}&size=20&cursor=${encodeURIComponent(cursor)}&sort=likeCount,desc`);
+        check(res8, { 'cursor-page-200': (r) => r.status === 200 });
+        successRate.add(res8.status === 200);
+        p95Duration.add(res8.timings.duration);
+        counter.add(1, { endpoint: 'cursor-page' });
+        if (res8.status !== 200 || !res8.json('data.hasNext')) {
+            break;
+        }
+        cursor = res8.json('data.nextCursor');
+    }
+
     sleep(0.1); // 100ms 간격
 }
 